@@ -0,0 +1,114 @@
+package com.example.readmegenerator.adapter.analyzer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Pattern;
+
+public class FileContentGuard {
+
+    public enum Verdict {
+        TEXT, BINARY, OVERSIZED, GENERATED, MINIFIED, UNREADABLE
+    }
+
+    public static final long DEFAULT_MAX_FILE_SIZE = 1024 * 1024;
+
+    private static final int SAMPLE_SIZE = 4096;
+    private static final int MAX_AVERAGE_LINE_LENGTH = 300;
+
+    // The established markers: @generated, Go's "Code generated ... DO NOT EDIT." line and .NET's <auto-generated>.
+    private static final Pattern GENERATED_MARKER = Pattern.compile(
+            "@generated\\b|Code generated .*DO NOT EDIT\\.|<auto-generated\\b");
+
+    private final long maxFileSize;
+
+    public FileContentGuard() {
+        this(DEFAULT_MAX_FILE_SIZE);
+    }
+
+    public FileContentGuard(long maxFileSize) {
+        this.maxFileSize = maxFileSize;
+    }
+
+    /**
+     * Decides from the file size and its first 4 KB whether the content is worth summarizing, without decoding
+     * the whole file.
+     */
+    public Verdict inspect(Path file, String fileName) {
+        long size;
+        byte[] sample;
+        int length;
+        try {
+            size = Files.size(file);
+            if (size > maxFileSize) {
+                return Verdict.OVERSIZED;
+            }
+
+            sample = new byte[(int) Math.min(SAMPLE_SIZE, size)];
+            try (InputStream in = Files.newInputStream(file)) {
+                length = in.readNBytes(sample, 0, sample.length);
+            }
+        } catch (IOException e) {
+            return Verdict.UNREADABLE;
+        }
+
+        int newlines = 0;
+        for (int i = 0; i < length; i++) {
+            if (sample[i] == 0) {
+                return Verdict.BINARY;
+            }
+            if (sample[i] == '\n') {
+                newlines++;
+            }
+        }
+
+        if (fileName.contains(".min.")) {
+            return Verdict.MINIFIED;
+        }
+
+        String head = new String(sample, 0, length, StandardCharsets.UTF_8);
+        if (GENERATED_MARKER.matcher(leadingComments(head)).find()) {
+            return Verdict.GENERATED;
+        }
+
+        // A partial last line is counted as a line, so short files are never judged minified by accident.
+        if (length / (newlines + 1) > MAX_AVERAGE_LINE_LENGTH) {
+            return Verdict.MINIFIED;
+        }
+
+        return Verdict.TEXT;
+    }
+
+    /**
+     * Returns the comment block the file opens with, up to the first line of code. A PHP open tag or an XML
+     * declaration may precede it.
+     */
+    static String leadingComments(String head) {
+        StringBuilder comments = new StringBuilder();
+        String blockEnd = null;
+        for (String line : head.split("\n")) {
+            String trimmed = line.strip();
+            if (blockEnd != null) {
+                comments.append(trimmed).append('\n');
+                if (trimmed.contains(blockEnd)) {
+                    blockEnd = null;
+                }
+            } else if (trimmed.isEmpty() || trimmed.startsWith("<?php") || trimmed.startsWith("<?xml")) {
+                continue;
+            } else if (trimmed.startsWith("//") || trimmed.startsWith("#") || trimmed.startsWith("--")) {
+                comments.append(trimmed).append('\n');
+            } else if (trimmed.startsWith("/*") || trimmed.startsWith("<!--")) {
+                String end = trimmed.startsWith("/*") ? "*/" : "-->";
+                comments.append(trimmed).append('\n');
+                if (!trimmed.substring(2).contains(end)) {
+                    blockEnd = end;
+                }
+            } else {
+                break;
+            }
+        }
+        return comments.toString();
+    }
+}
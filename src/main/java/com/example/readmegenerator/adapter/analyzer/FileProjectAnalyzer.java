@@ -1,24 +1,45 @@
 package com.example.readmegenerator.adapter.analyzer;
 
+import com.example.readmegenerator.adapter.index.FileSystemFragmentCache;
+import com.example.readmegenerator.domain.model.CiWorkflow;
+import com.example.readmegenerator.domain.model.ComposeService;
+import com.example.readmegenerator.domain.model.FileDescriptor;
+import com.example.readmegenerator.domain.model.GradleBuild;
+import com.example.readmegenerator.domain.model.PomModel;
+import com.example.readmegenerator.domain.model.ProjectIndex;
+import com.example.readmegenerator.domain.model.SummarySection;
 import com.example.readmegenerator.domain.port.ProjectAnalyzerPort;
-import com.example.readmegenerator.domain.service.DependencyExtractor;
+import com.example.readmegenerator.domain.service.CiWorkflowReader;
+import com.example.readmegenerator.domain.service.CodeFileRanker;
+import com.example.readmegenerator.domain.service.DockerComposeReader;
+import com.example.readmegenerator.domain.service.EffectivePomResolver;
+import com.example.readmegenerator.domain.service.GradleScriptReader;
+import com.example.readmegenerator.domain.service.ManifestCache;
+import com.example.readmegenerator.domain.service.ProjectIndexer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.yaml.snakeyaml.Yaml;
-
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
 import java.io.Reader;
-import java.nio.file.DirectoryStream;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -27,200 +48,657 @@ public class FileProjectAnalyzer implements ProjectAnalyzerPort {
 
     private static final Logger logger = LoggerFactory.getLogger(FileProjectAnalyzer.class);
 
-    private static final Set<String> TEXT_BASED_FILES = Set.of(
-            "cmakelists.txt", "makefile"
-    );
+    // Per-instance memo of file summaries, so repeated analyze calls (watch mode) only re-summarize touched files.
+    // Each run drops the entries of files it was not given, so deleted and renamed files do not pile up.
+    private final Map<Path, CachedFragment> fragmentCache = new ConcurrentHashMap<>();
+
+    // Bump whenever the fragment format changes, so stale entries in the persistent cache are never reused.
+    static final String SUMMARY_FORMAT_VERSION = "1";
+
+    // Code files beyond this count are ranked by import centrality and only the most central ones are summarized.
+    static final int MAX_CODE_FILES = 20;
+
+    private static final int MAX_LISTED_SIMILAR_FILES = 5;
+    private static final int MAX_LISTED_COMMANDS = 3;
+
+    private final FileContentGuard contentGuard;
+    private final int parallelism;
+    private final FileSystemFragmentCache persistentCache;
+    private final ManifestCache manifestCache;
+    private final boolean ownsManifestCache;
+    private volatile Map<String, Integer> lastSkippedFiles = Map.of();
+
+    public FileProjectAnalyzer() {
+        this(new FileContentGuard(), 1);
+    }
+
+    public FileProjectAnalyzer(int parallelism) {
+        this(new FileContentGuard(), parallelism);
+    }
+
+    public FileProjectAnalyzer(FileContentGuard contentGuard) {
+        this(contentGuard, 1);
+    }
+
+    public FileProjectAnalyzer(FileContentGuard contentGuard, int parallelism) {
+        this(contentGuard, parallelism, null);
+    }
 
-    private static final Set<String> BUILD_FILES = Set.of(
-            "pom.xml", "build.gradle", "package.json", "requirements.txt", "docker-compose.yml"
-    );
+    /**
+     * @param parallelism     number of files summarized concurrently; 1 keeps the analysis on the calling thread
+     * @param persistentCache content-addressed fragment cache shared across runs, or null to disable it
+     */
+    public FileProjectAnalyzer(FileContentGuard contentGuard, int parallelism, FileSystemFragmentCache persistentCache) {
+        this(contentGuard, parallelism, persistentCache, null);
+    }
 
-    private static final Set<String> DEPENDENCY_FILES = Set.of(
-            "composer.json", "package.json", "requirements.txt", "pyproject.toml"
-    );
+    /**
+     * @param manifestCache parsed poms and Gradle scripts shared with the rest of the service, whose runs the service
+     *                      starts; null gives the analyzer a cache of its own that starts a run with every analysis
+     */
+    public FileProjectAnalyzer(FileContentGuard contentGuard, int parallelism, FileSystemFragmentCache persistentCache,
+                               ManifestCache manifestCache) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        this.contentGuard = contentGuard;
+        this.parallelism = parallelism;
+        this.persistentCache = persistentCache;
+        this.ownsManifestCache = manifestCache == null;
+        this.manifestCache = ownsManifestCache ? new ManifestCache() : manifestCache;
+    }
 
-    private static final Set<String> CODE_EXTENSIONS = Set.of(
-            ".java", ".php", ".js", ".py", ".cpp", ".c", ".h", ".hpp", ".ts"
-    );
+    @Override
+    public String fingerprint() {
+        return "file-summary:" + SUMMARY_FORMAT_VERSION + ":" + MAX_CODE_FILES;
+    }
 
-    private static final Set<String> CI_CD_PATTERNS = Set.of(
-            ".github/workflows/",
-            "gitlab-ci.yml",
-            ".azure-pipelines/",
-            "jenkinsfile",
-            "circle.yml",
-            ".travis.yml",
-            "docker-compose.yml"
-    );
+    @Override
+    public void invalidate(Collection<Path> changedFiles) {
+        fragmentCache.keySet().removeAll(changedFiles);
+        if (ownsManifestCache) {
+            manifestCache.invalidate(changedFiles);
+        }
+    }
 
     @Override
-    public String analyze(List<Path> files) throws IOException {
+    public String analyze(List<FileDescriptor> files) throws IOException {
         logger.debug("Starting analysis of {} files", files.size());
 
-        StringBuilder sb = new StringBuilder();
-        List<Path> ciCdFiles = new ArrayList<>();
+        AnalysisRun run = startRun(files);
+        Set<FileDescriptor> selectedCode = new HashSet<>(selectCodeFiles(filter(run.descriptors, FileDescriptor::isCodeFile)));
+        List<FileDescriptor> descriptors = filter(run.descriptors, d -> !d.isCodeFile() || selectedCode.contains(d));
+        return renderStructure(run) + renderFragments(run, descriptors, Integer.MAX_VALUE)
+                + renderCiCd(run, Integer.MAX_VALUE);
+    }
 
-        Path root = findCommonRoot(files);
+    @Override
+    public List<SummarySection> analyzeSections(List<FileDescriptor> files) {
+        logger.debug("Preparing summary sections for {} files", files.size());
+
+        // Files arrive classified; reading and summarizing them waits until a section is rendered.
+        AnalysisRun run = startRun(files);
+        List<FileDescriptor> configFiles = filter(run.descriptors, d -> !d.isCodeFile());
+        List<FileDescriptor> codeFiles = filter(run.descriptors, FileDescriptor::isCodeFile);
+
+        List<SummarySection> sections = new ArrayList<>();
+        sections.add(new SummarySection("Project structure", SummarySection.PRIORITY_STRUCTURE, 0.05,
+                limit -> renderStructure(run)));
+        sections.add(new SummarySection("Build configuration", SummarySection.PRIORITY_BUILD, 0.25,
+                limit -> renderFragments(run, configFiles, limit)));
+        sections.add(new SummarySection("CI/CD", SummarySection.PRIORITY_CI_CD, 0.10,
+                limit -> renderCiCd(run, limit)));
+        sections.add(new SummarySection("Code", SummarySection.PRIORITY_CODE, 0.45,
+                limit -> renderFragments(run, selectCodeFiles(codeFiles), limit)));
+        return sections;
+    }
+
+    private AnalysisRun startRun(List<FileDescriptor> files) {
+        List<Path> paths = files.stream().map(FileDescriptor::getPath).collect(Collectors.toList());
+        Path root = findCommonRoot(paths);
         if (root != null) {
             logger.debug("Detected root directory: {}", root);
-            List<String> subprojects = detectSubprojects(root);
-
-            if (subprojects.size() > 1) {
-                sb.append("This project appears to be a monorepo containing the following services:\n");
-                for (String service : subprojects) {
-                    sb.append("- ").append(service).append("\n");
-                }
-                sb.append("\n");
-            }
         } else {
             logger.debug("Could not detect root directory. Analysis might be less precise.");
         }
 
-        for (Path file : files) {
-            String normalizedFullPath = file.normalize().toString().toLowerCase().replace("\\", "/");
-            String fileName = file.getFileName().toString().toLowerCase();
-            logger.debug("Inspecting file: {}", normalizedFullPath);
+        if (ownsManifestCache) {
+            manifestCache.startRun(paths);
+        }
+        AnalysisRun run = new AnalysisRun(root, manifestCache.pomResolver());
+        fragmentCache.keySet().retainAll(new HashSet<>(paths));
+        for (FileDescriptor descriptor : files) {
+            logger.debug("Inspecting file: {}", descriptor.getPath());
+            Path dir = descriptor.getPath().getParent();
+            if (descriptor.isBuildFile() && root != null && dir != null && root.equals(dir.getParent())) {
+                run.moduleDirectories.add(dir);
+            }
 
-            if (fileName.contains("test")) {
-                logger.debug("Skipping test file: {}", fileName);
+            if (descriptor.hasTestName()) {
+                logger.debug("Skipping test file: {}", descriptor.getFileName());
                 continue;
             }
 
-            if (isCiCdFile(normalizedFullPath, fileName)) {
-                ciCdFiles.add(file);
-                logger.debug("Identified CI/CD file for processing: {}", normalizedFullPath);
+            // Manifests and lockfiles are parsed once per run for the dependency summary, not per analyzer section.
+            if (descriptor.isDependencyFile()) {
+                logger.debug("Leaving dependency file to the dependency summary: {}", descriptor.getFileName());
+                continue;
             }
 
-            if ("pom.xml".equals(fileName)) {
-                appendMavenProjectSummary(sb, file);
-            }
-            else if ("docker-compose.yml".equals(fileName)) {
-                appendDockerComposeSummary(sb, file);
+            if (descriptor.getCiCdTool() != null) {
+                run.ciCdFiles.add(descriptor);
+                logger.debug("Identified CI/CD file for processing: {}", descriptor.getPath());
             }
-            else if (TEXT_BASED_FILES.contains(fileName)) {
-                appendTextFileSummary(sb, fileName, file);
+            run.descriptors.add(descriptor);
+        }
+        lastSkippedFiles = Map.of();
+        return run;
+    }
+
+    private String renderStructure(AnalysisRun run) throws IOException {
+        if (run.root == null) {
+            return "";
+        }
+
+        StringBuilder sb = new StringBuilder();
+        List<String> subprojects = detectSubprojects(run);
+        if (subprojects.size() > 1) {
+            sb.append("This project appears to be a monorepo containing the following services:\n");
+            for (String service : subprojects) {
+                sb.append("- ").append(service).append("\n");
             }
+            sb.append("\n");
+        }
+        return sb.toString();
+    }
 
-            else if (DEPENDENCY_FILES.contains(fileName)) {
-                logger.debug("Found dependency file: {}", fileName);
-                String extracted = DependencyExtractor.extractDependencies(file);
-                if (!extracted.isBlank()) {
-                    sb.append("### Detected Dependencies from ").append(fileName).append(":\n");
-                    sb.append(extracted).append("\n\n");
+    /**
+     * Summarizes the files in order, a batch at a time, until the rendered fragments fill {@code limit}; files that
+     * would only be trimmed away are never read.
+     */
+    private String renderFragments(AnalysisRun run, List<FileDescriptor> descriptors, int limit) throws IOException {
+        long cacheHits = persistentCache != null ? persistentCache.getHits() : 0;
+        long cacheMisses = persistentCache != null ? persistentCache.getMisses() : 0;
+
+        List<CachedFragment> summaries = new ArrayList<>(descriptors.size());
+        String rendered = null;
+        ExecutorService executor = parallelism > 1 && descriptors.size() > 1
+                ? Executors.newFixedThreadPool(Math.min(parallelism, descriptors.size()))
+                : null;
+        try {
+            long summarizedLength = 0;
+            while (rendered == null && summaries.size() < descriptors.size()) {
+                int from = summaries.size();
+                List<FileDescriptor> batch = descriptors.subList(from, Math.min(from + parallelism, descriptors.size()));
+                for (CachedFragment summary : summarizeAll(batch, run.pomResolver, executor)) {
+                    summaries.add(summary);
+                    summarizedLength += summary.fragment.length();
+                }
+                // Near-duplicates collapse into a note, so only the joined text tells whether the limit is reached.
+                if (summarizedLength >= limit) {
+                    String joined = joinFragments(descriptors.subList(0, summaries.size()), summaries);
+                    if (joined.length() >= limit) {
+                        rendered = joined;
+                    }
                 }
             }
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+        }
+        if (rendered == null) {
+            rendered = joinFragments(descriptors, summaries);
+        } else if (summaries.size() < descriptors.size()) {
+            logger.debug("Section budget filled after summarizing {} of {} files", summaries.size(), descriptors.size());
+        }
 
-            else if (hasCodeExtension(fileName)) {
-                appendCodeFileSummary(sb, fileName, file);
+        Map<FileContentGuard.Verdict, Integer> skippedFiles = new EnumMap<>(FileContentGuard.Verdict.class);
+        for (CachedFragment summary : summaries) {
+            if (summary.skipReason != null) {
+                skippedFiles.merge(summary.skipReason, 1, Integer::sum);
             }
         }
+        skippedFiles.forEach((verdict, count) -> run.skippedFiles.merge(verdict, count, Integer::sum));
+        Map<String, Integer> skippedByReason = new LinkedHashMap<>();
+        run.skippedFiles.forEach((verdict, count) -> skippedByReason.put(verdict.name().toLowerCase(Locale.ROOT), count));
+        lastSkippedFiles = Collections.unmodifiableMap(skippedByReason);
+        if (persistentCache != null) {
+            logger.info("Fragment cache: {} hit(s), {} miss(es)", persistentCache.getHits() - cacheHits,
+                    persistentCache.getMisses() - cacheMisses);
+        }
+        if (!skippedFiles.isEmpty()) {
+            logger.debug("Skipped files not worth summarizing: {}", skippedFiles);
+        }
+        return rendered;
+    }
 
-        if (!ciCdFiles.isEmpty()) {
-            sb.append("---").append("\n");
-            sb.append("### Detected CI/CD Tools and Configuration Files:\n\n");
-            sb.append("The project utilizes the following CI/CD tools and configuration files:\n");
-            sb.append("<ul>\n");
+    private static String joinFragments(List<FileDescriptor> descriptors, List<CachedFragment> summaries) {
+        int[] representatives = groupNearDuplicates(descriptors, summaries);
+        Map<Integer, List<String>> similarFiles = new HashMap<>();
+        for (int i = 0; i < representatives.length; i++) {
+            if (representatives[i] != i) {
+                similarFiles.computeIfAbsent(representatives[i], k -> new ArrayList<>())
+                        .add(descriptors.get(i).getPath().getFileName().toString());
+            }
+        }
 
-            for (Path ciCdFile : ciCdFiles) {
-                String ciCdDisplayPath = root != null ? root.relativize(ciCdFile).toString() : ciCdFile.getFileName().toString();
-                ciCdDisplayPath = ciCdDisplayPath.replace("\\", "/");
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < summaries.size(); i++) {
+            if (representatives[i] != i) {
+                continue;
+            }
+            CachedFragment summary = summaries.get(i);
+            List<String> similar = similarFiles.get(i);
+            if (similar == null) {
+                sb.append(summary.fragment);
+            } else {
+                sb.append(summary.fragment.stripTrailing()).append("\n");
+                appendSimilarFilesNote(sb, similar);
+            }
+        }
+        return sb.toString();
+    }
 
-                String toolName = getCiCdToolName(ciCdFile); // Nowa metoda pomocnicza
-                sb.append("  <li>**").append(toolName).append("**: `").append(ciCdDisplayPath).append("`</li>\n");
+    // Only code summaries are compared; the signatures are memoized with the fragments, so warm runs only hash.
+    private static int[] groupNearDuplicates(List<FileDescriptor> descriptors, List<CachedFragment> summaries) {
+        List<long[]> signatures = new ArrayList<>(summaries.size());
+        int candidates = 0;
+        for (int i = 0; i < summaries.size(); i++) {
+            CachedFragment summary = summaries.get(i);
+            long[] signature = descriptors.get(i).isCodeFile() ? summary.signature() : null;
+            signatures.add(signature);
+            if (signature != null) {
+                candidates++;
             }
-            sb.append("</ul>\n\n");
+        }
+        if (candidates < 2) {
+            int[] identity = new int[summaries.size()];
+            Arrays.setAll(identity, i -> i);
+            return identity;
+        }
+        return NearDuplicateGrouper.group(signatures);
+    }
+
+    private static void appendSimilarFilesNote(StringBuilder sb, List<String> similar) {
+        sb.append("  (and ").append(similar.size()).append(similar.size() == 1 ? " similar file: " : " similar files: ");
+        StringJoiner names = new StringJoiner(", ");
+        similar.stream().limit(MAX_LISTED_SIMILAR_FILES).forEach(name -> names.add("`" + name + "`"));
+        if (similar.size() > MAX_LISTED_SIMILAR_FILES) {
+            names.add("...");
+        }
+        sb.append(names).append(")\n\n");
+    }
+
+    private String renderCiCd(AnalysisRun run, int limit) {
+        if (run.ciCdFiles.isEmpty()) {
+            return "";
         }
 
+        StringBuilder sb = new StringBuilder();
+        sb.append("---").append("\n");
+        sb.append("### Detected CI/CD Tools and Configuration Files:\n\n");
+        sb.append("The project utilizes the following CI/CD tools and configuration files:\n");
+        sb.append("<ul>\n");
+
+        for (FileDescriptor ciCdFile : run.ciCdFiles) {
+            Path ciCdPath = ciCdFile.getPath();
+            String ciCdDisplayPath = run.root != null ? run.root.relativize(ciCdPath).toString() : ciCdPath.getFileName().toString();
+            ciCdDisplayPath = ciCdDisplayPath.replace("\\", "/");
+
+            String toolName = ciCdFile.getCiCdTool();
+            sb.append("  <li>**").append(toolName).append("**: `").append(ciCdDisplayPath).append("`</li>\n");
+        }
+        sb.append("</ul>\n\n");
+
+        StringBuilder table = new StringBuilder();
+        for (FileDescriptor ciCdFile : run.ciCdFiles) {
+            if (sb.length() + table.length() >= limit) {
+                break;
+            }
+            String rows = summarizeWorkflow(run, ciCdFile);
+            String displayPath = run.root != null ? run.root.relativize(ciCdFile.getPath()).toString() : ciCdFile.getPath().getFileName().toString();
+            for (String row : rows.lines().toList()) {
+                table.append("| `").append(displayPath.replace("\\", "/")).append("` ").append(row).append("\n");
+            }
+        }
+        if (table.length() > 0) {
+            sb.append("| File | Job | Matrix | Actions / Images | Commands |\n");
+            sb.append("|---|---|---|---|---|\n");
+            sb.append(table).append("\n");
+        }
         return sb.toString();
     }
 
-    private void appendMavenProjectSummary(StringBuilder sb, Path filePath) {
+    /**
+     * Returns one table row per job, without the file column, or an empty string when the file cannot be read.
+     * Rows are cached under the hash of the tool and the file content, for the run and in the persistent cache.
+     */
+    private String summarizeWorkflow(AnalysisRun run, FileDescriptor ciCdFile) {
+        String tool = ciCdFile.getCiCdTool();
+        if (!CiWorkflowReader.supports(tool)
+                || contentGuard.inspect(ciCdFile.getPath(), ciCdFile.getFileName()) != FileContentGuard.Verdict.TEXT) {
+            return "";
+        }
+
+        byte[] content;
+        try {
+            content = Files.readAllBytes(ciCdFile.getPath());
+        } catch (IOException e) {
+            logger.debug("Could not read CI/CD file {}: {}", ciCdFile.getPath(), e.getMessage());
+            return "";
+        }
+        MessageDigest digest = ProjectIndex.sha256();
+        digest.update(("ci\0" + SUMMARY_FORMAT_VERSION + "\0" + tool + "\0").getBytes(StandardCharsets.UTF_8));
+        String key = HexFormat.of().formatHex(digest.digest(content));
+
+        return run.workflowRows.computeIfAbsent(key, k -> {
+            if (persistentCache != null) {
+                Optional<String> cached = persistentCache.get(k);
+                if (cached.isPresent()) {
+                    return cached.get();
+                }
+            }
+            String rows;
+            try (Reader reader = new InputStreamReader(new ByteArrayInputStream(content), StandardCharsets.UTF_8)) {
+                rows = renderWorkflowRows(CiWorkflowReader.read(reader, tool));
+            } catch (IOException e) {
+                logger.debug("Could not parse CI/CD file {}: {}", ciCdFile.getPath(), e.getMessage());
+                return "";
+            }
+            if (persistentCache != null) {
+                persistentCache.put(k, rows);
+            }
+            return rows;
+        });
+    }
+
+    private static String renderWorkflowRows(CiWorkflow workflow) {
+        StringBuilder rows = new StringBuilder();
+        for (CiWorkflow.Job job : workflow.getJobs()) {
+            List<String> commands = job.getCommands();
+            String shownCommands = commands.stream().limit(MAX_LISTED_COMMANDS).map(command -> "`" + command + "`")
+                    .collect(Collectors.joining("; ")) + (commands.size() > MAX_LISTED_COMMANDS ? "; ..." : "");
+            rows.append("| ").append(tableCell(job.getName()))
+                    .append(" | ").append(tableCell(String.join(", ", job.getMatrix())))
+                    .append(" | ").append(tableCell(String.join(", ", job.getUses())))
+                    .append(" | ").append(tableCell(shownCommands))
+                    .append(" |\n");
+        }
+        return rows.toString();
+    }
+
+    private static String tableCell(String text) {
+        return text.replace("|", "\\|");
+    }
+
+    /**
+     * Returns the code files to summarize, most central first; small projects keep every file in input order and
+     * never pay for reading the import graph.
+     */
+    private static List<FileDescriptor> selectCodeFiles(List<FileDescriptor> codeFiles) {
+        if (codeFiles.size() <= MAX_CODE_FILES) {
+            return codeFiles;
+        }
+        List<FileDescriptor> ranked = CodeFileRanker.rank(codeFiles);
+        logger.info("Summarizing the {} most central of {} code files", MAX_CODE_FILES, codeFiles.size());
+        return ranked.subList(0, MAX_CODE_FILES);
+    }
+
+    private static List<FileDescriptor> filter(List<FileDescriptor> descriptors, Predicate<FileDescriptor> predicate) {
+        return descriptors.stream().filter(predicate).collect(Collectors.toList());
+    }
+
+    @Override
+    public Map<String, Integer> getLastSkippedFiles() {
+        return lastSkippedFiles;
+    }
+
+    int memoizedFragments() {
+        return fragmentCache.size();
+    }
+
+    // Summaries are returned in input order whatever the parallelism, so the prompt is identical to a sequential run.
+    private List<CachedFragment> summarizeAll(List<FileDescriptor> descriptors, EffectivePomResolver pomResolver,
+                                              ExecutorService executor) throws IOException {
+        List<CachedFragment> summaries = new ArrayList<>(descriptors.size());
+        if (executor == null || descriptors.size() < 2) {
+            for (FileDescriptor descriptor : descriptors) {
+                summaries.add(summarizeFile(descriptor, pomResolver));
+            }
+            return summaries;
+        }
+
+        try {
+            List<Future<CachedFragment>> futures = new ArrayList<>(descriptors.size());
+            for (FileDescriptor descriptor : descriptors) {
+                futures.add(executor.submit(() -> summarizeFile(descriptor, pomResolver)));
+            }
+            for (Future<CachedFragment> future : futures) {
+                summaries.add(future.get());
+            }
+            return summaries;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while analyzing files");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException("File analysis failed", cause);
+        }
+    }
+
+    private CachedFragment summarizeFile(FileDescriptor descriptor, EffectivePomResolver pomResolver) throws IOException {
+        Path file = descriptor.getPath();
+        // A pom's summary also depends on its parents, so it is rebuilt from the run's shared effective models.
+        if ("pom.xml".equals(descriptor.getFileName())) {
+            return buildFileSummary(descriptor, pomResolver, 0, 0, 0);
+        }
+
+        BasicFileAttributes attrs;
+        try {
+            attrs = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (IOException e) {
+            return buildFileSummary(descriptor, pomResolver, 0, 0, 0);
+        }
+
+        long size = attrs.size();
+        long lastModified = attrs.lastModifiedTime().toMillis();
+        CachedFragment cached = fragmentCache.get(file);
+        if (cached != null && cached.size == size && cached.lastModified == lastModified
+                && !ProjectIndexer.isRacilyClean(lastModified, cached.summarizedAt)) {
+            logger.debug("Reusing summary of unchanged file: {}", file);
+            return cached;
+        }
+
+        long summarizedAt = System.currentTimeMillis();
+        CachedFragment summary = buildFileSummary(descriptor, pomResolver, size, lastModified, summarizedAt);
+        if (summary.complete) {
+            fragmentCache.put(file, summary);
+        }
+        return summary;
+    }
+
+    private CachedFragment buildFileSummary(FileDescriptor descriptor, EffectivePomResolver pomResolver, long size,
+                                            long lastModified, long summarizedAt) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        Path file = descriptor.getPath();
+        String fileName = descriptor.getFileName();
+
+        if (descriptor.isTextBasedFile() || descriptor.isCodeFile()) {
+            FileContentGuard.Verdict verdict = contentGuard.inspect(file, fileName);
+            if (verdict != FileContentGuard.Verdict.TEXT) {
+                logger.debug("Skipping {} file: {}", verdict.name().toLowerCase(), file);
+                return new CachedFragment(size, lastModified, summarizedAt, "", verdict,
+                        verdict != FileContentGuard.Verdict.UNREADABLE);
+            }
+        }
+
+        boolean summarized = "pom.xml".equals(fileName) || GradleScriptReader.isGradleScript(fileName) || descriptor.isDockerCompose()
+                || descriptor.isTextBasedFile() || descriptor.isCodeFile();
+        String cacheKey = persistentCache != null && summarized ? fragmentKey(descriptor, pomResolver) : null;
+        if (cacheKey != null) {
+            Optional<String> cached = persistentCache.get(cacheKey);
+            if (cached.isPresent()) {
+                return new CachedFragment(size, lastModified, summarizedAt, cached.get(), null, true);
+            }
+        }
+
+        // A fragment that only carries a parse error is shown but never cached, so a transient failure is retried.
+        boolean complete = true;
+        if ("pom.xml".equals(fileName)) {
+            complete = appendMavenProjectSummary(sb, file, pomResolver);
+        }
+        else if (GradleScriptReader.isGradleScript(fileName)) {
+            complete = appendGradleSummary(sb, file);
+        }
+        else if (descriptor.isDockerCompose()) {
+            complete = appendDockerComposeSummary(sb, file);
+        }
+        else if (descriptor.isTextBasedFile()) {
+            appendTextFileSummary(sb, fileName, file);
+        }
+
+        else if (descriptor.isCodeFile()) {
+            appendCodeFileSummary(sb, fileName, file);
+        }
+
+        if (cacheKey != null && complete) {
+            persistentCache.put(cacheKey, sb.toString());
+        }
+        return new CachedFragment(size, lastModified, summarizedAt, sb.toString(), null, complete);
+    }
+
+    /**
+     * Hashes the format version, the file name and the content of every file the fragment is derived from (a pom
+     * and its local parents), or returns null when the sources cannot be read.
+     */
+    private String fragmentKey(FileDescriptor descriptor, EffectivePomResolver pomResolver) {
+        MessageDigest digest = ProjectIndex.sha256();
+        digest.update((SUMMARY_FORMAT_VERSION + "\0" + descriptor.getPath().getFileName() + "\0")
+                .getBytes(StandardCharsets.UTF_8));
+        try {
+            List<Path> sources = "pom.xml".equals(descriptor.getFileName())
+                    ? pomResolver.lineage(descriptor.getPath())
+                    : List.of(descriptor.getPath());
+            byte[] buffer = new byte[8192];
+            for (Path source : sources) {
+                try (InputStream in = Files.newInputStream(source)) {
+                    int read;
+                    while ((read = in.read(buffer)) > 0) {
+                        digest.update(buffer, 0, read);
+                    }
+                }
+                digest.update((byte) 0);
+            }
+        } catch (IOException e) {
+            logger.debug("Not caching summary of {}: {}", descriptor.getPath(), e.getMessage());
+            return null;
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private boolean appendMavenProjectSummary(StringBuilder sb, Path filePath, EffectivePomResolver pomResolver) {
         sb.append("### Maven Project Configuration (pom.xml):\n");
+        boolean parsed = true;
         try {
-            DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-            dbf.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-            DocumentBuilder db = dbf.newDocumentBuilder();
-            Document doc = db.parse(filePath.toFile());
-            doc.getDocumentElement().normalize();
-
-            String groupId = getTagValue("groupId", doc.getDocumentElement());
-            String artifactId = getTagValue("artifactId", doc.getDocumentElement());
-            String version = getTagValue("version", doc.getDocumentElement());
-            String name = getTagValue("name", doc.getDocumentElement());
-            String description = getTagValue("description", doc.getDocumentElement());
-            String javaVersion = getProperty("java.version", doc.getDocumentElement());
+            PomModel pom = pomResolver.resolve(filePath);
+
+            String groupId = pom.getGroupId();
+            String version = pom.getVersion();
+            String name = pom.getName();
+            String description = pom.getDescription();
+            String javaVersion = pom.getProperties().get("java.version");
 
             if (name != null && !name.isBlank()) sb.append("  - Name: ").append(name).append("\n");
             if (groupId != null && !groupId.isBlank()) sb.append("  - Group ID: ").append(groupId).append("\n");
-            if (artifactId != null && !artifactId.isBlank()) sb.append("  - Artifact ID: ").append(artifactId).append("\n");
+            if (pom.getArtifactId() != null && !pom.getArtifactId().isBlank()) sb.append("  - Artifact ID: ").append(pom.getArtifactId()).append("\n");
             if (version != null && !version.isBlank()) sb.append("  - Version: ").append(version).append("\n");
             if (javaVersion != null && !javaVersion.isBlank()) sb.append("  - Java Version: ").append(javaVersion).append("\n");
             if (description != null && !description.isBlank()) sb.append("  - Description: ").append(description).append("\n");
 
             sb.append("  - Key Dependencies:\n");
-            NodeList dependencyNodes = doc.getElementsByTagName("dependency");
             int count = 0;
-            for (int i = 0; i < dependencyNodes.getLength() && count < 10; i++) {
-                Node node = dependencyNodes.item(i);
-                if (node.getNodeType() == Node.ELEMENT_NODE) {
-                    Element element = (Element) node;
-                    String depGroupId = getTagValue("groupId", element);
-                    String depArtifactId = getTagValue("artifactId", element);
-                    String depVersion = getTagValue("version", element);
-                    String scope = getTagValue("scope", element);
-
-                    if (scope != null && scope.toLowerCase().contains("test")) {
-                        continue;
-                    }
-
-                    sb.append("    - ");
-                    if (depGroupId != null) sb.append(depGroupId).append(":");
-                    if (depArtifactId != null) sb.append(depArtifactId);
-                    if (depVersion != null) sb.append(":").append(depVersion);
-                    sb.append("\n");
-                    count++;
+            for (PomModel.Dependency dependency : pom.getDependencies()) {
+                if (count >= 10) {
+                    break;
+                }
+                String scope = dependency.getScope();
+                if (scope != null && scope.toLowerCase().contains("test")) {
+                    continue;
                 }
+
+                sb.append("    - ");
+                if (dependency.getGroupId() != null) sb.append(dependency.getGroupId()).append(":");
+                if (dependency.getArtifactId() != null) sb.append(dependency.getArtifactId());
+                if (dependency.getVersion() != null) sb.append(":").append(dependency.getVersion());
+                sb.append("\n");
+                count++;
             }
         } catch (Exception e) {
             logger.error("Error parsing pom.xml at {}: {}", filePath, e.getMessage());
             sb.append("  (Error parsing pom.xml: ").append(e.getMessage()).append(")\n");
+            parsed = false;
+        }
+        sb.append("\n");
+        return parsed;
+    }
+
+    private boolean appendGradleSummary(StringBuilder sb, Path filePath) {
+        sb.append("### Gradle Project Configuration (").append(filePath.getFileName()).append("):\n");
+        boolean parsed = true;
+        try {
+            GradleBuild build = manifestCache.gradleBuild(filePath);
+
+            if (build.getName() != null && !build.getName().isBlank()) sb.append("  - Name: ").append(build.getName()).append("\n");
+            if (build.getGroup() != null && !build.getGroup().isBlank()) sb.append("  - Group: ").append(build.getGroup()).append("\n");
+            if (build.getVersion() != null && !build.getVersion().isBlank()) sb.append("  - Version: ").append(build.getVersion()).append("\n");
+            if (build.getJavaVersion() != null) sb.append("  - Java Version: ").append(build.getJavaVersion()).append("\n");
+            if (build.getDescription() != null && !build.getDescription().isBlank()) sb.append("  - Description: ").append(build.getDescription()).append("\n");
+            if (!build.getPlugins().isEmpty()) sb.append("  - Plugins: ").append(String.join(", ", build.getPlugins())).append("\n");
+            if (!build.getIncludedProjects().isEmpty()) sb.append("  - Included Projects: ").append(String.join(", ", build.getIncludedProjects())).append("\n");
+
+            List<GradleBuild.Dependency> dependencies = build.getDependencies().stream()
+                    .filter(dependency -> !dependency.getConfiguration().toLowerCase().contains("test"))
+                    .limit(10)
+                    .collect(Collectors.toList());
+            if (!dependencies.isEmpty()) {
+                sb.append("  - Key Dependencies:\n");
+                for (GradleBuild.Dependency dependency : dependencies) {
+                    sb.append("    - ").append(dependency.getNotation())
+                            .append(" (").append(dependency.getConfiguration()).append(")\n");
+                }
+            }
+        } catch (Exception e) {
+            logger.error("Error reading Gradle script at {}: {}", filePath, e.getMessage());
+            sb.append("  (Error reading Gradle script: ").append(e.getMessage()).append(")\n");
+            parsed = false;
         }
         sb.append("\n");
+        return parsed;
     }
 
-    private void appendDockerComposeSummary(StringBuilder sb, Path filePath) {
+    private boolean appendDockerComposeSummary(StringBuilder sb, Path filePath) {
         sb.append("### Docker Compose Configuration (").append(filePath.getFileName()).append("):\n");
-        try (Reader reader = Files.newBufferedReader(filePath)) {
-            Yaml yaml = new Yaml();
-            Map<String, Object> data = yaml.load(reader);
+        boolean parsed = true;
+        try {
+            List<ComposeService> services = DockerComposeReader.read(filePath);
 
-            if (data != null && data.containsKey("services")) {
+            if (!services.isEmpty()) {
                 sb.append("  - Defined Services:\n");
-                Map<String, Object> services = (Map<String, Object>) data.get("services");
-                for (Map.Entry<String, Object> entry : services.entrySet()) {
-                    String serviceName = entry.getKey();
-                    Map<String, Object> serviceConfig = (Map<String, Object>) entry.getValue();
-                    String image = (String) serviceConfig.get("image");
-                    Object buildConfig = serviceConfig.get("build");
-
-                    sb.append("    - ").append(serviceName);
-                    if (image != null) {
-                        sb.append(" (Image: `").append(image).append("`)");
-                    } else if (buildConfig != null) {
-                        if (buildConfig instanceof String) {
-                            sb.append(" (Build Context: `").append(buildConfig).append("`)");
-                        } else if (buildConfig instanceof Map) {
-                            Map<String, Object> buildMap = (Map<String, Object>) buildConfig;
-                            String context = (String) buildMap.get("context");
-                            if (context != null) {
-                                sb.append(" (Build Context: `").append(context).append("`)");
-                            } else {
-                                String dockerfile = (String) buildMap.get("dockerfile");
-                                if (dockerfile != null) {
-                                    sb.append(" (Dockerfile: `").append(dockerfile).append("`)");
-                                }
-                            }
-                        }
+                for (ComposeService service : services) {
+                    sb.append("    - ").append(service.getName());
+                    if (service.getImage() != null) {
+                        sb.append(" (Image: `").append(service.getImage()).append("`)");
+                    } else if (service.getBuildContext() != null) {
+                        sb.append(" (Build Context: `").append(service.getBuildContext()).append("`)");
+                    } else if (service.getDockerfile() != null) {
+                        sb.append(" (Dockerfile: `").append(service.getDockerfile()).append("`)");
                     }
                     sb.append("\n");
                 }
@@ -228,13 +706,15 @@ public class FileProjectAnalyzer implements ProjectAnalyzerPort {
         } catch (Exception e) {
             logger.error("Error parsing docker-compose.yml at {}: {}", filePath, e.getMessage());
             sb.append("  (Error parsing docker-compose.yml: ").append(e.getMessage()).append(")\n");
+            parsed = false;
         }
         sb.append("\n");
+        return parsed;
     }
 
     private void appendTextFileSummary(StringBuilder sb, String label, Path file) throws IOException {
         sb.append("### Content Summary of ").append(label).append(":\n");
-        try (Stream<String> lines = Files.lines(file)) {
+        try (BufferedReader reader = newLenientReader(file); Stream<String> lines = reader.lines()) {
             List<String> meaningfulLines = lines
                     .filter(line -> !line.trim().isEmpty() && !line.trim().startsWith("#")) // Pomiń puste linie i komentarze
                     .limit(10)
@@ -253,58 +733,29 @@ public class FileProjectAnalyzer implements ProjectAnalyzerPort {
 
     private void appendCodeFileSummary(StringBuilder sb, String fileName, Path file) throws IOException {
         sb.append("### Code File Summary: `").append(file.getFileName()).append("`\n");
-        List<String> lines = Files.readAllLines(file);
-
-        Predicate<String> filter = getLanguageLineFilter(fileName);
+        SignatureLexer.Result scan;
+        try (BufferedReader reader = newLenientReader(file)) {
+            scan = SignatureLexer.forFile(fileName).scan(reader, 5, 3);
+        }
 
-        String summaryContent = lines.stream()
-                .filter(filter)
-                .map(String::trim)
-                .limit(5)
-                .collect(Collectors.joining("\n"));
+        String summaryContent = String.join("\n", scan.getSignatures());
 
         if (!summaryContent.isBlank()) {
             sb.append("```").append(getExtensionWithoutDot(fileName)).append("\n");
             sb.append(summaryContent).append("\n");
             sb.append("```\n");
         } else {
-            sb.append("  (General code file, key structure: ").append(lines.stream().limit(3).collect(Collectors.joining(" "))).append("...)\n");
+            sb.append("  (General code file, key structure: ").append(String.join(" ", scan.getHeadLines())).append("...)\n");
         }
         sb.append("\n");
     }
 
-    private String getProperty(String propertyName, Element rootElement) {
-        NodeList propertiesList = rootElement.getElementsByTagName("properties");
-        if (propertiesList.getLength() > 0) {
-            Element propertiesElement = (Element) propertiesList.item(0);
-            NodeList propertyNodes = propertiesElement.getElementsByTagName(propertyName);
-            if (propertyNodes.getLength() > 0) {
-                return propertyNodes.item(0).getTextContent().trim();
-            }
-        }
-        return null;
-    }
-
-    private String getCiCdToolName(Path ciCdFile) {
-        String fileName = ciCdFile.getFileName().toString().toLowerCase();
-        String fullPathNormalized = ciCdFile.normalize().toString().toLowerCase().replace("\\", "/");
-
-        if (fullPathNormalized.contains(".github/workflows/")) {
-            return "GitHub Actions";
-        } else if (fileName.equals("gitlab-ci.yml")) {
-            return "GitLab CI";
-        } else if (fullPathNormalized.contains(".azure-pipelines/")) {
-            return "Azure Pipelines";
-        } else if (fileName.equals("jenkinsfile")) {
-            return "Jenkins Pipeline";
-        } else if (fileName.equals("circle.yml")) {
-            return "CircleCI";
-        } else if (fileName.equals(".travis.yml")) {
-            return "Travis CI";
-        } else if (fileName.equals("docker-compose.yml")) {
-            return "Docker Compose"; // Uproszczona nazwa dla Readme
-        }
-        return "Unknown CI/CD Tool";
+    // Replaces undecodable bytes instead of throwing, so one Latin-1 source file cannot abort the whole analysis.
+    private BufferedReader newLenientReader(Path file) throws IOException {
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        return new BufferedReader(new InputStreamReader(Files.newInputStream(file), decoder));
     }
 
     private String getExtensionWithoutDot(String fileName) {
@@ -315,48 +766,33 @@ public class FileProjectAnalyzer implements ProjectAnalyzerPort {
         return "";
     }
 
-    private boolean isCiCdFile(String normalizedFullPath, String fileName) {
-        if (CI_CD_PATTERNS.contains(fileName)) {
-            return true;
-        }
-        for (String pattern : CI_CD_PATTERNS) {
-            if (pattern.endsWith("/") && normalizedFullPath.contains(pattern)) {
-                return true;
-            }
+    // Top-level directories with a build file of their own, taken from the run's files rather than the disk so that
+    // ignored and excluded directories do not count.
+    private List<String> detectSubprojects(AnalysisRun run) {
+        List<String> subprojects = new ArrayList<>();
+        for (Path dir : run.moduleDirectories) {
+            subprojects.add(dir.getFileName().toString() + describeModule(dir.resolve("pom.xml"), run.pomResolver));
         }
-        return false;
+        return subprojects;
     }
 
-    private Predicate<String> getLanguageLineFilter(String fileName) {
-        if (fileName.endsWith(".cpp") || fileName.endsWith(".c") || fileName.endsWith(".h") || fileName.endsWith(".hpp")) {
-            return line -> line.matches("^\\s*(#include|#define|class\\s+\\w+|\\w+\\s+\\w+\\s*\\([^)]*\\)\\s*\\{).*");
-        } else if (fileName.endsWith(".java")) {
-            return line -> line.matches("^\\s*(public|protected|private)?\\s*(abstract|final|static)?\\s*(class|interface|enum)\\s+\\w+.*") ||
-                    line.matches("^\\s*(public|protected|private)?\\s*(static|final)?\\s*\\w+\\s+\\w+\\s*\\(.*\\).*");
-        } else if (fileName.endsWith(".py")) {
-            return line -> line.matches("^\\s*(class|def)\\s+\\w+.*");
-        } else if (fileName.endsWith(".js") || fileName.endsWith(".ts")) { // TypeScript też
-            return line -> line.matches("^\\s*(class|function|const\\s+\\w+\\s*=|let\\s+\\w+\\s*=|var\\s+\\w+\\s*=|export).*");
-        } else if (fileName.endsWith(".php")) {
-            return line -> line.matches("^\\s*(class|interface|trait|function)\\s+\\w+.*");
+    private String describeModule(Path pom, EffectivePomResolver pomResolver) {
+        if (!Files.isRegularFile(pom)) {
+            return "";
         }
-        return line -> false;
-    }
-
-    private List<String> detectSubprojects(Path root) throws IOException {
-        List<String> subprojects = new ArrayList<>();
-        try (DirectoryStream<Path> stream = Files.newDirectoryStream(root)) {
-            for (Path path : stream) {
-                if (Files.isDirectory(path)) {
-                    boolean hasBuildFile = Files.list(path)
-                            .anyMatch(p -> BUILD_FILES.contains(p.getFileName().toString().toLowerCase()));
-                    if (hasBuildFile) {
-                        subprojects.add(path.getFileName().toString());
-                    }
+        try {
+            PomModel model = pomResolver.resolve(pom);
+            StringJoiner coordinates = new StringJoiner(":", " (`", "`)").setEmptyValue("");
+            for (String part : new String[]{model.getGroupId(), model.getArtifactId(), model.getVersion()}) {
+                if (part != null && !part.isBlank()) {
+                    coordinates.add(part);
                 }
             }
+            return coordinates.toString();
+        } catch (IOException e) {
+            logger.debug("Could not resolve module pom {}: {}", pom, e.getMessage());
+            return "";
         }
-        return subprojects;
     }
 
     private Path findCommonRoot(List<Path> files) {
@@ -371,16 +807,54 @@ public class FileProjectAnalyzer implements ProjectAnalyzerPort {
         return commonRoot;
     }
 
-    private String getTagValue(String tag, Element element) {
-        NodeList nodeList = element.getElementsByTagName(tag);
-        if (nodeList.getLength() > 0) {
-            return nodeList.item(0).getTextContent().trim();
+    // State shared by the sections of one analysis; the effective pom models are resolved once per run.
+    private static class AnalysisRun {
+        private final Path root;
+        private final List<FileDescriptor> descriptors = new ArrayList<>();
+        private final List<FileDescriptor> ciCdFiles = new ArrayList<>();
+        private final Set<Path> moduleDirectories = new TreeSet<>();
+        private final EffectivePomResolver pomResolver;
+        // Workflow table rows keyed by content hash; reusable workflows copied across services are parsed once.
+        private final Map<String, String> workflowRows = new ConcurrentHashMap<>();
+        private final Map<FileContentGuard.Verdict, Integer> skippedFiles = new EnumMap<>(FileContentGuard.Verdict.class);
+
+        private AnalysisRun(Path root, EffectivePomResolver pomResolver) {
+            this.root = root;
+            this.pomResolver = pomResolver;
         }
-        return null;
     }
 
-    private boolean hasCodeExtension(String fileName) {
-        String lowerCaseFileName = fileName.toLowerCase();
-        return CODE_EXTENSIONS.stream().anyMatch(lowerCaseFileName::endsWith);
+    private static class CachedFragment {
+        private final long size;
+        private final long lastModified;
+        // When the file was read; a file modified close to it may have changed since without its attributes moving.
+        private final long summarizedAt;
+        private final String fragment;
+        private final FileContentGuard.Verdict skipReason;
+        // False when the fragment only records a read or parse failure; such fragments are never memoized.
+        private final boolean complete;
+        private long[] signature;
+        private boolean signed;
+
+        private CachedFragment(long size, long lastModified, long summarizedAt, String fragment,
+                               FileContentGuard.Verdict skipReason, boolean complete) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.summarizedAt = summarizedAt;
+            this.fragment = fragment;
+            this.skipReason = skipReason;
+            this.complete = complete;
+        }
+
+        // Computed on first use and kept with the memoized fragment; the header line is left out because it only
+        // carries the file name.
+        private synchronized long[] signature() {
+            if (!signed) {
+                int body = fragment.indexOf('\n');
+                signature = skipReason == null && body >= 0 ? NearDuplicateGrouper.signature(fragment.substring(body + 1)) : null;
+                signed = true;
+            }
+            return signature;
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,21 +1,16 @@
 package com.example.readmegenerator.adapter.analyzer;
 
+import com.example.readmegenerator.domain.model.FileDescriptor;
 import com.example.readmegenerator.domain.port.TestAnalyzerPort;
 
-import java.nio.file.Path;
 import java.util.List;
 
 public class FileTestAnalyzer implements TestAnalyzerPort {
 
     @Override
-    public String analyzeTests(List<Path> allFiles) {
+    public String analyzeTests(List<FileDescriptor> allFiles) {
         boolean hasTests = allFiles.stream()
-                .anyMatch(path -> {
-                    String filePath = path.toString().toLowerCase();
-                    return filePath.contains("/test/") ||
-                            filePath.contains("\\test\\") ||
-                            filePath.contains("test");
-                });
+                .anyMatch(FileDescriptor::hasTestPath);
 
         return hasTests
                 ? "🧪 This project contains test files."
@@ -0,0 +1,150 @@
+package com.example.readmegenerator.adapter.analyzer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Finds near-duplicate code summaries with MinHash signatures over token shingles and locality-sensitive hashing
+ * on bands of the signature, so grouping stays linear in the number of files instead of comparing every pair.
+ */
+class NearDuplicateGrouper {
+
+    static final double SIMILARITY_THRESHOLD = 0.6;
+
+    private static final int BANDS = 16;
+    private static final int ROWS = 4;
+    private static final int NUM_HASHES = BANDS * ROWS;
+    private static final int SHINGLE_SIZE = 2;
+    private static final int MIN_TOKENS = 6;
+
+    private static final long[] SEEDS = new SplittableRandom(0x5EEDL).longs(NUM_HASHES).toArray();
+
+    private NearDuplicateGrouper() {
+    }
+
+    /**
+     * MinHash signature of the text's words, ignoring punctuation and splitting identifiers at camel case so
+     * {@code UserController} and {@code OrderController} share a token; null when the text is too short to compare.
+     */
+    static long[] signature(String text) {
+        List<String> tokens = tokenize(text);
+        if (tokens.size() < MIN_TOKENS) {
+            return null;
+        }
+
+        long[] signature = new long[NUM_HASHES];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (int i = 0; i + SHINGLE_SIZE <= tokens.size(); i++) {
+            long shingle = 0;
+            for (int j = 0; j < SHINGLE_SIZE; j++) {
+                shingle = shingle * 31 + tokens.get(i + j).hashCode();
+            }
+            for (int h = 0; h < NUM_HASHES; h++) {
+                long value = mix(shingle ^ SEEDS[h]);
+                if (value < signature[h]) {
+                    signature[h] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    static double similarity(long[] a, long[] b) {
+        int equal = 0;
+        for (int i = 0; i < NUM_HASHES; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / NUM_HASHES;
+    }
+
+    /**
+     * Returns, for every signature, the index of its group's representative: the earliest member. Null signatures
+     * are never grouped.
+     */
+    static int[] group(List<long[]> signatures) {
+        int[] parent = new int[signatures.size()];
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = i;
+        }
+
+        for (int band = 0; band < BANDS; band++) {
+            Map<Long, List<Integer>> buckets = new HashMap<>();
+            for (int i = 0; i < signatures.size(); i++) {
+                long[] signature = signatures.get(i);
+                if (signature == null) {
+                    continue;
+                }
+                long key = band;
+                for (int row = band * ROWS; row < (band + 1) * ROWS; row++) {
+                    key = key * 1_000_003L + signature[row];
+                }
+                List<Integer> bucket = buckets.computeIfAbsent(key, k -> new ArrayList<>());
+                for (int other : bucket) {
+                    if (find(parent, other) != find(parent, i)
+                            && similarity(signatures.get(other), signature) >= SIMILARITY_THRESHOLD) {
+                        union(parent, other, i);
+                        break;
+                    }
+                }
+                bucket.add(i);
+            }
+        }
+
+        int[] representatives = new int[parent.length];
+        for (int i = 0; i < parent.length; i++) {
+            representatives[i] = find(parent, i);
+        }
+        return representatives;
+    }
+
+    private static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            boolean boundary = !Character.isLetterOrDigit(c)
+                    || (Character.isUpperCase(c) && word.length() > 0
+                    && !Character.isUpperCase(word.charAt(word.length() - 1)));
+            if (boundary && word.length() > 0) {
+                tokens.add(word.toString().toLowerCase(Locale.ROOT));
+                word.setLength(0);
+            }
+            if (Character.isLetterOrDigit(c)) {
+                word.append(c);
+            }
+        }
+        return tokens;
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    // The smaller index becomes the root, so each group is represented by its first file in input order.
+    private static void union(int[] parent, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        parent[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+    }
+
+    // Finalizer of the 64-bit MurmurHash3, used to derive independent hash functions from one seed each.
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb93fe53a87b5L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
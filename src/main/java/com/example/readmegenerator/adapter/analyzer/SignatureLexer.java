@@ -0,0 +1,637 @@
+package com.example.readmegenerator.adapter.analyzer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Hand-written tokenizer that extracts type and function declarations from Java, JS/TS, PHP, C/C++ and Python in a
+ * single pass over a fixed char buffer. Comments and string contents never produce declarations, annotations and
+ * decorators are skipped, and declarations spanning several lines are joined into one. Text is only copied into
+ * two reusable, length-capped builders, so no per-line strings are allocated and reading stops as soon as enough
+ * declarations have been found.
+ */
+class SignatureLexer {
+
+    static final int MAX_SIGNATURE_LENGTH = 500;
+
+    enum Syntax {
+        JAVA, C_FAMILY, JAVASCRIPT, PHP, PYTHON, NONE
+    }
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_DECLARATION_DEPTH = 2;
+
+    private static final Set<String> CONTROL_KEYWORDS = Set.of(
+            "if", "else", "elseif", "for", "foreach", "while", "do", "switch", "case", "catch", "try", "finally",
+            "synchronized", "return", "throw", "with", "sizeof", "new", "await", "yield"
+    );
+    private static final Set<String> JS_METHOD_PREFIXES = Set.of("", "async", "static", "static async", "get", "set");
+    private static final Set<String> C_TRAILING_QUALIFIERS = Set.of("const", "noexcept", "override", "final");
+
+    private final Syntax syntax;
+
+    private SignatureLexer(Syntax syntax) {
+        this.syntax = syntax;
+    }
+
+    static SignatureLexer forFile(String fileName) {
+        return new SignatureLexer(syntaxOf(fileName));
+    }
+
+    static Syntax syntaxOf(String fileName) {
+        if (fileName.endsWith(".cpp") || fileName.endsWith(".c") || fileName.endsWith(".h") || fileName.endsWith(".hpp")) {
+            return Syntax.C_FAMILY;
+        } else if (fileName.endsWith(".java")) {
+            return Syntax.JAVA;
+        } else if (fileName.endsWith(".py")) {
+            return Syntax.PYTHON;
+        } else if (fileName.endsWith(".js") || fileName.endsWith(".ts")) {
+            return Syntax.JAVASCRIPT;
+        } else if (fileName.endsWith(".php")) {
+            return Syntax.PHP;
+        }
+        return Syntax.NONE;
+    }
+
+    /**
+     * Returns up to {@code maxSignatures} declarations together with the first {@code headLines} raw lines of the
+     * input, which callers use as a fallback when no declaration is found.
+     */
+    Result scan(Reader reader, int maxSignatures, int headLines) throws IOException {
+        Scanner scanner = new Scanner(reader, maxSignatures, headLines);
+        switch (syntax) {
+            case PYTHON -> scanner.scanPython();
+            case NONE -> scanner.scanHeadLines();
+            default -> scanner.scanBraces();
+        }
+        return new Result(scanner.signatures, scanner.headLines);
+    }
+
+    private final class Scanner {
+        private final Reader reader;
+        private final char[] buffer = new char[BUFFER_SIZE];
+        private int position;
+        private int limit;
+
+        private final int maxSignatures;
+        private final int maxHeadLines;
+        private final List<String> signatures = new ArrayList<>();
+        private final List<String> headLines = new ArrayList<>();
+        private final StringBuilder rawLine = new StringBuilder();
+
+        // Significant text of the current statement head, with comments removed and whitespace collapsed.
+        private final StringBuilder head = new StringBuilder();
+        // Declaration being completed with the rest of its line.
+        private final StringBuilder signature = new StringBuilder();
+        private boolean capturingSignature;
+        private boolean pendingSpace;
+
+        private int braceDepth;
+        private int parenDepth;
+        // Bit n is set when the brace at depth n opened a type body, where bodiless method declarations may appear.
+        private long typeBodies;
+        private boolean atLineStart = true;
+
+        private Scanner(Reader reader, int maxSignatures, int maxHeadLines) {
+            this.reader = reader;
+            this.maxSignatures = maxSignatures;
+            this.maxHeadLines = maxHeadLines;
+        }
+
+        private void scanHeadLines() throws IOException {
+            while (headLines.size() < maxHeadLines && next() >= 0) {
+                // only the raw line capture in next() matters here
+            }
+        }
+
+        private void scanBraces() throws IOException {
+            int c;
+            while (signatures.size() < maxSignatures && (c = next()) >= 0) {
+                if (c == '\n') {
+                    endSignature();
+                    atLineStart = true;
+                    pendingSpace = true;
+                    continue;
+                }
+                if (Character.isWhitespace(c)) {
+                    pendingSpace = true;
+                    continue;
+                }
+                boolean lineStart = atLineStart;
+                atLineStart = false;
+
+                if (c == '/' && peek() == '/') {
+                    skipLineComment();
+                } else if (c == '/' && peek() == '*') {
+                    skipBlockComment();
+                } else if (c == '#' && syntax == Syntax.C_FAMILY && lineStart) {
+                    directive();
+                } else if (c == '#' && syntax == Syntax.PHP) {
+                    skipLineComment();
+                } else if (c == '<' && syntax == Syntax.PHP && peek() == '?') {
+                    skipPhpOpenTag();
+                } else if (c == '"' || c == '\'' || (c == '`' && syntax == Syntax.JAVASCRIPT)) {
+                    string((char) c);
+                } else if (c == '@' && syntax == Syntax.JAVA && head.length() == 0 && !Character.isWhitespace(peek())) {
+                    skipAnnotation();
+                } else if (c == '(') {
+                    parenDepth++;
+                    append('(');
+                } else if (c == ')') {
+                    parenDepth = Math.max(0, parenDepth - 1);
+                    append(')');
+                } else if (c == '{') {
+                    if (parenDepth == 0) {
+                        if (braceDepth <= MAX_DECLARATION_DEPTH && isDeclaration()) {
+                            if (isTypeDeclaration()) {
+                                typeBodies |= 1L << braceDepth;
+                            }
+                            startSignature('{');
+                        } else {
+                            append('{');
+                        }
+                        head.setLength(0);
+                    } else {
+                        append('{');
+                    }
+                    braceDepth++;
+                } else if (c == '}') {
+                    braceDepth = Math.max(0, braceDepth - 1);
+                    if (braceDepth < Long.SIZE) {
+                        typeBodies &= ~(1L << braceDepth);
+                    }
+                    append('}');
+                    if (parenDepth == 0) {
+                        head.setLength(0);
+                    }
+                } else if (c == ';' && parenDepth == 0) {
+                    // Bodiless methods in interfaces and abstract classes
+                    if (syntax == Syntax.JAVA && braceDepth >= 1 && braceDepth <= MAX_DECLARATION_DEPTH
+                            && (typeBodies & 1L << (braceDepth - 1)) != 0 && isMethodDeclaration()) {
+                        startSignature(';');
+                    } else {
+                        append(';');
+                    }
+                    head.setLength(0);
+                } else {
+                    append((char) c);
+                }
+            }
+            endSignature();
+        }
+
+        private void scanPython() throws IOException {
+            int c;
+            while (signatures.size() < maxSignatures && (c = next()) >= 0) {
+                if (c == '\n') {
+                    if (parenDepth == 0) {
+                        endLogicalLine();
+                    } else {
+                        pendingSpace = true;
+                    }
+                } else if (c == '\\' && peek() == '\n') {
+                    next();
+                    pendingSpace = true;
+                } else if (Character.isWhitespace(c)) {
+                    pendingSpace = true;
+                } else if (c == '#') {
+                    skipLineComment();
+                } else if (c == '"' || c == '\'') {
+                    pythonString((char) c);
+                } else {
+                    if (c == '(' || c == '[' || c == '{') {
+                        parenDepth++;
+                    } else if (c == ')' || c == ']' || c == '}') {
+                        parenDepth = Math.max(0, parenDepth - 1);
+                    }
+                    append((char) c);
+                }
+            }
+            if (signatures.size() < maxSignatures) {
+                endLogicalLine();
+            }
+        }
+
+        private void endLogicalLine() {
+            if (startsWith(head, "class ") || startsWith(head, "def ") || startsWith(head, "async def ")) {
+                signatures.add(head.toString());
+            }
+            head.setLength(0);
+            pendingSpace = false;
+        }
+
+        private boolean isDeclaration() {
+            String text = head.toString();
+            return switch (syntax) {
+                case JAVA -> isJavaDeclaration(text);
+                case C_FAMILY -> isCDeclaration(text);
+                case JAVASCRIPT -> isJavaScriptDeclaration(text);
+                case PHP -> isPhpDeclaration(text);
+                default -> false;
+            };
+        }
+
+        private boolean isTypeDeclaration() {
+            String text = head.toString();
+            return syntax == Syntax.JAVA && (containsWord(text, "class") || containsWord(text, "interface")
+                    || containsWord(text, "enum") || containsWord(text, "record"));
+        }
+
+        private boolean isMethodDeclaration() {
+            String text = head.toString();
+            String[] call = methodCall(stripThrows(text));
+            return call != null && !call[1].isEmpty() && !CONTROL_KEYWORDS.contains(call[0])
+                    && !hasAssignment(text) && !containsWord(text, "new");
+        }
+
+        private void startSignature(char terminator) {
+            endSignature();
+            if (signatures.size() >= maxSignatures) {
+                return;
+            }
+            signature.setLength(0);
+            signature.append(head);
+            if (pendingSpace && signature.length() > 0) {
+                signature.append(' ');
+            }
+            signature.append(terminator);
+            pendingSpace = false;
+            capturingSignature = true;
+        }
+
+        private void endSignature() {
+            if (capturingSignature) {
+                signatures.add(signature.toString().trim());
+                capturingSignature = false;
+            }
+        }
+
+        private void append(char c) {
+            if (pendingSpace) {
+                if (needsSpace(head, c)) {
+                    head.append(' ');
+                }
+                if (capturingSignature && needsSpace(signature, c)) {
+                    signature.append(' ');
+                }
+                pendingSpace = false;
+            }
+            if (head.length() < MAX_SIGNATURE_LENGTH) {
+                head.append(c);
+            }
+            if (capturingSignature && signature.length() < MAX_SIGNATURE_LENGTH) {
+                signature.append(c);
+            }
+        }
+
+        private boolean needsSpace(StringBuilder text, char next) {
+            int length = text.length();
+            return length > 0 && length < MAX_SIGNATURE_LENGTH && text.charAt(length - 1) != '(' && next != ')';
+        }
+
+        private void directive() throws IOException {
+            StringBuilder text = new StringBuilder("#");
+            int c;
+            while ((c = peek()) >= 0 && c != '\n') {
+                next();
+                if (text.length() < MAX_SIGNATURE_LENGTH) {
+                    text.append((char) c);
+                }
+            }
+            String directive = text.toString().trim();
+            if (directive.startsWith("#include") || directive.startsWith("#define")) {
+                signatures.add(directive);
+            }
+        }
+
+        private void skipLineComment() throws IOException {
+            int c;
+            while ((c = peek()) >= 0 && c != '\n') {
+                next();
+            }
+        }
+
+        private void skipPhpOpenTag() throws IOException {
+            int c;
+            while ((c = peek()) >= 0 && !Character.isWhitespace(c)) {
+                next();
+            }
+            head.setLength(0);
+        }
+
+        private void skipBlockComment() throws IOException {
+            next();
+            int previous = 0;
+            int c;
+            while ((c = next()) >= 0) {
+                if (c == '\n') {
+                    endSignature();
+                } else if (previous == '*' && c == '/') {
+                    break;
+                }
+                previous = c;
+            }
+            pendingSpace = true;
+        }
+
+        private void skipAnnotation() throws IOException {
+            int nameLength = 0;
+            boolean isInterface = true;
+            int c;
+            while ((c = peek()) >= 0 && (Character.isJavaIdentifierPart(c) || c == '.')) {
+                next();
+                isInterface &= nameLength < "interface".length() && "interface".charAt(nameLength) == c;
+                nameLength++;
+            }
+            if (isInterface && nameLength == "interface".length()) {
+                for (char ch : "@interface".toCharArray()) {
+                    append(ch);
+                }
+                return;
+            }
+            if (c == '(') {
+                next();
+                int depth = 1;
+                while (depth > 0 && (c = next()) >= 0) {
+                    if (c == '"' || c == '\'') {
+                        skipQuoted((char) c);
+                    } else if (c == '(') {
+                        depth++;
+                    } else if (c == ')') {
+                        depth--;
+                    }
+                }
+            }
+            pendingSpace = false;
+        }
+
+        private void skipQuoted(char quote) throws IOException {
+            int c;
+            while ((c = next()) >= 0 && c != quote && c != '\n') {
+                if (c == '\\') {
+                    next();
+                }
+            }
+        }
+
+        private void string(char quote) throws IOException {
+            append(quote);
+            int c;
+            while ((c = peek()) >= 0) {
+                if (c == '\n' && quote != '`') {
+                    return;
+                }
+                next();
+                append((char) c);
+                if (c == '\\') {
+                    int escaped = next();
+                    if (escaped >= 0) {
+                        append((char) escaped);
+                    }
+                } else if (c == quote) {
+                    return;
+                }
+            }
+        }
+
+        // Triple-quoted strings (docstrings) are skipped entirely; only an empty literal is kept in the head.
+        private void pythonString(char quote) throws IOException {
+            if (peek() == quote) {
+                next();
+                if (peek() != quote) {
+                    append(quote);
+                    append(quote);
+                    return;
+                }
+                next();
+                int run = 0;
+                int c;
+                while (run < 3 && (c = next()) >= 0) {
+                    if (c == '\\') {
+                        next();
+                        run = 0;
+                    } else {
+                        run = c == quote ? run + 1 : 0;
+                    }
+                }
+                append(quote);
+                append(quote);
+                return;
+            }
+            string(quote);
+        }
+
+        private int next() throws IOException {
+            if (position == limit && !fill()) {
+                return -1;
+            }
+            char c = buffer[position++];
+            if (headLines.size() < maxHeadLines) {
+                if (c == '\n') {
+                    headLines.add(rawLine.toString());
+                    rawLine.setLength(0);
+                } else if (c != '\r' && rawLine.length() < MAX_SIGNATURE_LENGTH) {
+                    rawLine.append(c);
+                }
+            }
+            return c == '\r' ? ' ' : c;
+        }
+
+        private int peek() throws IOException {
+            if (position == limit && !fill()) {
+                return -1;
+            }
+            return buffer[position];
+        }
+
+        private boolean fill() throws IOException {
+            int read = reader.read(buffer, 0, buffer.length);
+            if (read <= 0) {
+                if (rawLine.length() > 0 && headLines.size() < maxHeadLines) {
+                    headLines.add(rawLine.toString());
+                    rawLine.setLength(0);
+                }
+                return false;
+            }
+            position = 0;
+            limit = read;
+            return true;
+        }
+    }
+
+    private static boolean isJavaDeclaration(String head) {
+        if (hasAssignment(head) || containsWord(head, "new") || head.contains("->")) {
+            return false;
+        }
+        if (containsWord(head, "class") || containsWord(head, "interface") || containsWord(head, "enum")
+                || containsWord(head, "record")) {
+            return true;
+        }
+        String[] call = methodCall(stripThrows(head));
+        return call != null && !call[1].isEmpty() && !CONTROL_KEYWORDS.contains(call[0]);
+    }
+
+    private static boolean isCDeclaration(String head) {
+        if (hasAssignment(head)) {
+            return false;
+        }
+        if (containsWord(head, "class") || containsWord(head, "struct")) {
+            return true;
+        }
+        String trimmed = head;
+        for (String last = lastWord(trimmed); C_TRAILING_QUALIFIERS.contains(last); last = lastWord(trimmed)) {
+            trimmed = trimmed.substring(0, trimmed.length() - last.length()).trim();
+        }
+        String[] call = methodCall(trimmed);
+        return call != null && !call[1].isEmpty() && !CONTROL_KEYWORDS.contains(call[0]);
+    }
+
+    private static boolean isJavaScriptDeclaration(String head) {
+        if (startsWith(head, "export")) {
+            return true;
+        }
+        if (containsWord(head, "class") || containsWord(head, "function")) {
+            return true;
+        }
+        if ((startsWith(head, "const ") || startsWith(head, "let ") || startsWith(head, "var ")) && head.endsWith("=>")) {
+            return true;
+        }
+        if (hasAssignment(head)) {
+            return false;
+        }
+        String[] call = methodCall(head);
+        return call != null && JS_METHOD_PREFIXES.contains(call[1]) && !CONTROL_KEYWORDS.contains(call[0]);
+    }
+
+    private static boolean isPhpDeclaration(String head) {
+        if (hasAssignment(head)) {
+            return false;
+        }
+        return containsWord(head, "class") || containsWord(head, "interface") || containsWord(head, "trait")
+                || containsWord(head, "function");
+    }
+
+    /**
+     * For a head ending in a parenthesized argument list, returns the called name and the text before it, or null.
+     */
+    private static String[] methodCall(String head) {
+        int end = head.length() - 1;
+        if (end < 0 || head.charAt(end) != ')') {
+            return null;
+        }
+        int depth = 0;
+        int open = -1;
+        for (int i = end; i >= 0; i--) {
+            char c = head.charAt(i);
+            if (c == ')') {
+                depth++;
+            } else if (c == '(' && --depth == 0) {
+                open = i;
+                break;
+            }
+        }
+        if (open <= 0) {
+            return null;
+        }
+        int nameEnd = open;
+        while (nameEnd > 0 && head.charAt(nameEnd - 1) == ' ') {
+            nameEnd--;
+        }
+        int nameStart = nameEnd;
+        while (nameStart > 0 && isNameChar(head.charAt(nameStart - 1))) {
+            nameStart--;
+        }
+        if (nameStart == nameEnd || (nameStart > 0 && head.charAt(nameStart - 1) == '.')) {
+            return null;
+        }
+        return new String[]{head.substring(nameStart, nameEnd), head.substring(0, nameStart).trim()};
+    }
+
+    // An assignment outside parentheses, so default parameter values do not count.
+    private static boolean hasAssignment(String head) {
+        int depth = 0;
+        for (int i = 0; i < head.length(); i++) {
+            char c = head.charAt(i);
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == '=' && depth == 0) {
+                char before = i > 0 ? head.charAt(i - 1) : ' ';
+                char after = i + 1 < head.length() ? head.charAt(i + 1) : ' ';
+                if (after != '=' && after != '>' && "=!<>".indexOf(before) < 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String stripThrows(String head) {
+        int index = indexOfWord(head, "throws");
+        return index > 0 ? head.substring(0, index).trim() : head;
+    }
+
+    private static String lastWord(String text) {
+        int start = text.length();
+        while (start > 0 && isNameChar(text.charAt(start - 1))) {
+            start--;
+        }
+        return text.substring(start);
+    }
+
+    private static boolean containsWord(String text, String word) {
+        return indexOfWord(text, word) >= 0;
+    }
+
+    private static int indexOfWord(String text, String word) {
+        int index = text.indexOf(word);
+        while (index >= 0) {
+            int end = index + word.length();
+            boolean startsWord = index == 0 || !isNameChar(text.charAt(index - 1));
+            boolean endsWord = end == text.length() || !isNameChar(text.charAt(end));
+            if (startsWord && endsWord) {
+                return index;
+            }
+            index = text.indexOf(word, index + 1);
+        }
+        return -1;
+    }
+
+    private static boolean startsWith(CharSequence text, String prefix) {
+        if (text.length() < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (text.charAt(i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isNameChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$' || c == ':' || c == '~';
+    }
+
+    static class Result {
+        private final List<String> signatures;
+        private final List<String> headLines;
+
+        Result(List<String> signatures, List<String> headLines) {
+            this.signatures = signatures;
+            this.headLines = headLines;
+        }
+
+        List<String> getSignatures() {
+            return signatures;
+        }
+
+        List<String> getHeadLines() {
+            return headLines;
+        }
+    }
+}
@@ -1,44 +1,82 @@
 package com.example.readmegenerator.adapter.cli;
 
+import com.example.readmegenerator.adapter.analyzer.FileContentGuard;
 import com.example.readmegenerator.adapter.analyzer.FileProjectAnalyzer;
 import com.example.readmegenerator.adapter.analyzer.FileTestAnalyzer;
 import com.example.readmegenerator.adapter.detector.DefaultLanguageDetector;
+import com.example.readmegenerator.adapter.detector.SamplingLanguageDetector;
 import com.example.readmegenerator.adapter.file.FileSystemReadmeWriter;
+import com.example.readmegenerator.adapter.index.FileSystemFragmentCache;
+import com.example.readmegenerator.adapter.index.FileSystemProjectIndexStore;
 import com.example.readmegenerator.adapter.llm.GroqLLMClient;
 import com.example.readmegenerator.adapter.prompt.DefaultPromptBuilder;
 import com.example.readmegenerator.app.ReadmeGenerationService;
 import com.example.readmegenerator.domain.model.ReadmeGenerationConfig;
 import com.example.readmegenerator.domain.port.*;
+import com.example.readmegenerator.domain.service.ManifestCache;
+import com.example.readmegenerator.domain.service.ProjectFileWalker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Set;
 
 public class CliRunner {
     private static final Logger logger = LoggerFactory.getLogger(CliRunner.class);
 
+    private static final long WATCH_DEBOUNCE_MILLIS = 500;
+
     public static void main(String[] args) throws Exception {
-        int exitCode = run(args, new FileProjectAnalyzer(), new GroqLLMClient(), new FileSystemReadmeWriter(),
-                new DefaultLanguageDetector(), new DefaultPromptBuilder(), new FileTestAnalyzer());
+        boolean incremental = Arrays.asList(args).contains("--incremental");
+        ManifestCache manifestCache = new ManifestCache();
+        FileProjectAnalyzer analyzer = new FileProjectAnalyzer(new FileContentGuard(), Math.max(1, parseThreads(args)),
+                incremental ? new FileSystemFragmentCache() : null, manifestCache);
+        LanguageDetectorPort languageDetector = parseLanguageDetector(args);
+        if (languageDetector == null) {
+            logger.error("❌ Invalid value for --sample-languages or --sample-confidence. Expected a margin in "
+                    + "percentage points and a confidence between 0 and 1");
+            System.exit(1);
+        }
+        int exitCode = run(args, analyzer, new GroqLLMClient(), new FileSystemReadmeWriter(),
+                languageDetector, new DefaultPromptBuilder(), new FileTestAnalyzer(), manifestCache);
         System.exit(exitCode);
     }
 
     static int run(String[] args, ProjectAnalyzerPort analyzer, LLMClientPort client, ReadmeWriterPort writer,
                    LanguageDetectorPort languageDetector, PromptBuilderPort promptBuilder, TestAnalyzerPort testAnalyzer)
             throws Exception {
+        return run(args, analyzer, client, writer, languageDetector, promptBuilder, testAnalyzer, new ManifestCache());
+    }
+
+    static int run(String[] args, ProjectAnalyzerPort analyzer, LLMClientPort client, ReadmeWriterPort writer,
+                   LanguageDetectorPort languageDetector, PromptBuilderPort promptBuilder, TestAnalyzerPort testAnalyzer,
+                   ManifestCache manifestCache) throws Exception {
         if (args.length == 0) {
             logger.error("Use: java -jar readmegenerator.jar /path/to/project");
             return 1;
         }
 
         Path projectDir = Paths.get(args[0]);
+        if (!Files.isDirectory(projectDir)) {
+            logger.error("❌ Project directory not found: {}", projectDir);
+            return 1;
+        }
         boolean dryRun = Arrays.asList(args).contains("--dry-run");
         boolean showPrompt = Arrays.asList(args).contains("--show-prompt");
+        boolean respectIgnoreFiles = !Arrays.asList(args).contains("--no-ignore-files");
+        boolean incremental = Arrays.asList(args).contains("--incremental");
+        boolean watch = Arrays.asList(args).contains("--watch");
 
         ReadmeGenerationConfig.HeaderAlignment alignment = ReadmeGenerationConfig.HeaderAlignment.LEFT;
         ReadmeGenerationConfig.ListStyle listStyle = ReadmeGenerationConfig.ListStyle.BULLET;
+        int threads = parseThreads(args);
+        if (threads < 1) {
+            logger.error("❌ Invalid value for --threads. Expected a positive number");
+            return 1;
+        }
 
         for (String arg : args) {
             if (arg.startsWith("--header-align=")) {
@@ -62,11 +100,72 @@ public class CliRunner {
 
         ReadmeGenerationConfig config = new ReadmeGenerationConfig(alignment, listStyle);
 
+        ProjectFileWalker fileWalker = new ProjectFileWalker(ProjectFileWalker.DEFAULT_EXCLUDED_DIRECTORIES,
+                respectIgnoreFiles, threads);
+
         ReadmeGenerationService service = new ReadmeGenerationService(analyzer, client, writer, languageDetector,
-                promptBuilder, testAnalyzer, dryRun, showPrompt);
+                promptBuilder, testAnalyzer, fileWalker, incremental ? new FileSystemProjectIndexStore() : null,
+                manifestCache, dryRun, showPrompt);
         service.generate(projectDir, config);
 
         logger.info("✅ README.md wygenerowany!");
+
+        if (watch) {
+            try (ProjectWatcher watcher = new ProjectWatcher(projectDir, fileWalker, WATCH_DEBOUNCE_MILLIS,
+                    Set.of(projectDir.resolve("README.md")))) {
+                logger.info("👀 Watching {} for changes (Ctrl+C to stop)", projectDir);
+                watcher.watch(changedPaths -> {
+                    service.regenerate(projectDir, config, changedPaths);
+                    logger.info("✅ README.md wygenerowany!");
+                });
+            }
+        }
         return 0;
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns the --threads value (1 when absent), or -1 when it is not a valid number.
+     */
+    static int parseThreads(String[] args) {
+        int threads = 1;
+        for (String arg : args) {
+            if (arg.startsWith("--threads=")) {
+                threads = parsePositiveInt(arg.substring("--threads=".length()));
+            }
+        }
+        return threads;
+    }
+
+    /**
+     * Returns a sampling detector when --sample-languages[=margin] is given, optionally with --sample-confidence,
+     * the exact detector otherwise, or null when a value is invalid.
+     */
+    static LanguageDetectorPort parseLanguageDetector(String[] args) {
+        boolean sampling = false;
+        double margin = SamplingLanguageDetector.DEFAULT_MARGIN_PERCENT;
+        double confidence = SamplingLanguageDetector.DEFAULT_CONFIDENCE;
+        try {
+            for (String arg : args) {
+                if (arg.equals("--sample-languages")) {
+                    sampling = true;
+                } else if (arg.startsWith("--sample-languages=")) {
+                    sampling = true;
+                    margin = Double.parseDouble(arg.substring("--sample-languages=".length()));
+                } else if (arg.startsWith("--sample-confidence=")) {
+                    confidence = Double.parseDouble(arg.substring("--sample-confidence=".length()));
+                }
+            }
+            return sampling ? new SamplingLanguageDetector(margin, confidence) : new DefaultLanguageDetector();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static int parsePositiveInt(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.readmegenerator.adapter.cli;
+
+import com.example.readmegenerator.domain.service.ProjectFileWalker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+public class ProjectWatcher implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectWatcher.class);
+
+    @FunctionalInterface
+    public interface ChangeListener {
+        void onChange(Set<Path> changedPaths) throws Exception;
+    }
+
+    private final Path projectDir;
+    private final ProjectFileWalker fileWalker;
+    private final long debounceMillis;
+    private final Set<Path> ignoredPaths;
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> watchedDirectories = new HashMap<>();
+
+    /**
+     * @param ignoredPaths files whose changes never trigger a run, e.g. the README the listener itself writes
+     */
+    public ProjectWatcher(Path projectDir, ProjectFileWalker fileWalker, long debounceMillis, Set<Path> ignoredPaths)
+            throws IOException {
+        this.projectDir = projectDir;
+        this.fileWalker = fileWalker;
+        this.debounceMillis = debounceMillis;
+        this.ignoredPaths = Set.copyOf(ignoredPaths);
+        this.watchService = projectDir.getFileSystem().newWatchService();
+        registerTree(projectDir);
+    }
+
+    /**
+     * Blocks until {@link #close()} is called, invoking the listener once per burst of file system events. A burst
+     * ends when no new event arrives within the debounce window.
+     */
+    public void watch(ChangeListener listener) throws InterruptedException {
+        try {
+            while (true) {
+                Set<Path> changed = new LinkedHashSet<>();
+                collectEvents(watchService.take(), changed);
+
+                WatchKey next;
+                while ((next = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS)) != null) {
+                    collectEvents(next, changed);
+                }
+
+                changed.removeAll(ignoredPaths);
+                if (changed.isEmpty()) {
+                    continue;
+                }
+
+                logger.info("Detected {} changed paths, regenerating README", changed.size());
+                try {
+                    listener.onChange(changed);
+                } catch (InterruptedException e) {
+                    throw e;
+                } catch (Exception e) {
+                    logger.error("README regeneration failed: {}", e.getMessage(), e);
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            logger.debug("Watch service closed, stopping watch mode");
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+    private void collectEvents(WatchKey key, Set<Path> changed) {
+        Path dir = watchedDirectories.get(key);
+
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                changed.add(dir != null ? dir : projectDir);
+                continue;
+            }
+            if (dir == null) {
+                continue;
+            }
+
+            Path path = dir.resolve((Path) event.context());
+            boolean directory = Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS)
+                    || watchedDirectories.containsValue(path);
+            if (fileWalker.isSkipped(projectDir, path, directory)) {
+                continue;
+            }
+            if (event.kind() == ENTRY_CREATE && Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS)) {
+                try {
+                    registerTree(path);
+                } catch (IOException e) {
+                    logger.warn("Could not watch new directory {}: {}", path, e.getMessage());
+                }
+            }
+            changed.add(path);
+        }
+
+        if (!key.reset()) {
+            watchedDirectories.remove(key);
+        }
+    }
+
+    // Registers the directories the walker would descend into, so excluded and ignored output never triggers a run.
+    private void registerTree(Path start) throws IOException {
+        fileWalker.visitDirectories(projectDir, start, dir -> {
+            WatchKey key = dir.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+            watchedDirectories.put(key, dir);
+        });
+    }
+}
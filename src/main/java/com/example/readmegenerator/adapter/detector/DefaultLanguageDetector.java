@@ -1,56 +1,171 @@
 package com.example.readmegenerator.adapter.detector;
 
+import com.example.readmegenerator.domain.model.FileDescriptor;
+import com.example.readmegenerator.domain.model.LanguageBreakdown;
 import com.example.readmegenerator.domain.port.LanguageDetectorPort;
+import com.example.readmegenerator.domain.service.FileClassifier;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
+/**
+ * Ranks languages by the bytes of their source files. Languages come from the {@link FileClassifier} descriptors the
+ * files arrive with, and extensionless scripts are recognized by their shebang line.
+ */
 public class DefaultLanguageDetector implements LanguageDetectorPort {
 
-    private static final Map<String, String> EXT_TO_LANGUAGE = Map.ofEntries(
-            Map.entry(".blade.php", "PHP (Blade)"),
-            Map.entry(".php", "PHP"),
-            Map.entry(".js", "JavaScript"),
-            Map.entry(".ts", "TypeScript"),
-            Map.entry(".vue", "Vue"),
-            Map.entry(".scss", "SCSS"),
-            Map.entry(".css", "CSS"),
-            Map.entry(".html", "HTML"),
-            Map.entry(".java", "Java"),
-            Map.entry(".py", "Python"),
-            Map.entry(".go", "Go"),
-            Map.entry(".rb", "Ruby"),
-            Map.entry(".kt", "Kotlin"),
-            Map.entry(".cs", "C#"),
-            Map.entry(".cpp", "C++"),
-            Map.entry(".c", "C"),
-            Map.entry(".h", "C/C++ Header")
+    // Languages below this share of the recognized bytes are noise such as a stray script or a vendored file.
+    static final double MIN_SHARE_PERCENT = 1.0;
+
+    private static final int SNIFF_BYTES = 128;
+    static final int NO_LANGUAGE = -1;
+
+    private static final Map<String, String> INTERPRETERS = Map.ofEntries(
+            Map.entry("python", "Python"), Map.entry("node", "JavaScript"), Map.entry("nodejs", "JavaScript"),
+            Map.entry("deno", "TypeScript"), Map.entry("php", "PHP"), Map.entry("ruby", "Ruby"),
+            Map.entry("perl", "Perl"), Map.entry("sh", "Shell"), Map.entry("bash", "Shell"),
+            Map.entry("zsh", "Shell"), Map.entry("dash", "Shell"), Map.entry("ksh", "Shell")
     );
 
+    // Every language a file can be attributed to, by classification or by sniffing; ids index this list and the
+    // per-run counters. Both tables are fixed up front, so lookups need no locking and nothing grows per file.
+    private static final List<String> LANGUAGES;
+    private static final Map<String, Integer> LANGUAGE_IDS;
+
+    static {
+        Set<String> languages = new LinkedHashSet<>(FileClassifier.languages());
+        languages.add("PHP");
+        languages.addAll(new TreeSet<>(INTERPRETERS.values()));
+        LANGUAGES = List.copyOf(languages);
+
+        Map<String, Integer> ids = new HashMap<>();
+        for (int id = 0; id < LANGUAGES.size(); id++) {
+            ids.put(LANGUAGES.get(id), id);
+        }
+        LANGUAGE_IDS = Map.copyOf(ids);
+    }
+
     @Override
-    public Set<String> detectLanguages(List<Path> files) {
-        Map<String, Integer> languageCounts = new HashMap<>();
-
-        List<Map.Entry<String, String>> sortedExtensions = EXT_TO_LANGUAGE.entrySet().stream()
-                .sorted((e1, e2) -> Integer.compare(e2.getKey().length(), e1.getKey().length()))
-                .toList();
-
-        for (Path file : files) {
-            String name = file.getFileName().toString().toLowerCase();
-            for (Map.Entry<String, String> entry : sortedExtensions) {
-                if (name.endsWith(entry.getKey())) {
-                    String lang = entry.getValue();
-                    languageCounts.put(lang, languageCounts.getOrDefault(lang, 0) + 1);
-                    break;
-                }
+    public LanguageBreakdown detectLanguages(List<FileDescriptor> files) {
+        Tally tally = new Tally();
+        for (FileDescriptor file : files) {
+            tally.add(file);
+        }
+        return tally.toBreakdown();
+    }
+
+    static int languageOf(FileDescriptor file) {
+        if (file.getLanguage() != null) {
+            return idOf(file.getLanguage());
+        }
+        return file.getExtension().isEmpty() ? idOf(sniff(file.getPath())) : NO_LANGUAGE;
+    }
+
+    private static int idOf(String language) {
+        return language != null ? LANGUAGE_IDS.get(language) : NO_LANGUAGE;
+    }
+
+    static String languageName(int id) {
+        return LANGUAGES.get(id);
+    }
+
+    /**
+     * Reads the interpreter from a {@code #!} line, e.g. {@code #!/usr/bin/env python3}, or recognizes a PHP open
+     * tag; returns null for anything else.
+     */
+    static String sniff(Path file) {
+        byte[] head;
+        try (InputStream in = Files.newInputStream(file)) {
+            head = in.readNBytes(SNIFF_BYTES);
+        } catch (IOException e) {
+            return null;
+        }
+        String text = new String(head, StandardCharsets.UTF_8);
+        if (text.startsWith("<?php")) {
+            return "PHP";
+        }
+        if (!text.startsWith("#!")) {
+            return null;
+        }
+
+        int end = text.indexOf('\n');
+        String[] words = text.substring(2, end >= 0 ? end : text.length()).trim().split("\\s+");
+        String interpreter = words[0].substring(words[0].lastIndexOf('/') + 1);
+        if (interpreter.equals("env")) {
+            interpreter = Arrays.stream(words).skip(1).filter(word -> !word.startsWith("-")).findFirst().orElse("");
+        }
+        // python3.12 and the like name the same language as python.
+        return INTERPRETERS.get(interpreter.replaceAll("[0-9.]+$", ""));
+    }
+
+    /**
+     * Size from the descriptor, so a walked tree is not stat-ed a second time; files listed without attributes are
+     * sized here, and an unreadable one counts as empty.
+     */
+    static long sizeOf(FileDescriptor file) {
+        if (file.getSize() != FileDescriptor.UNKNOWN_SIZE) {
+            return file.getSize();
+        }
+        try {
+            return Files.size(file.getPath());
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static class Tally {
+        private long[] bytes = new long[16];
+        private int[] files = new int[16];
+
+        private void add(FileDescriptor file) {
+            int id = languageOf(file);
+            if (id == NO_LANGUAGE) {
+                return;
+            }
+            if (id >= bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(id + 1, bytes.length * 2));
+                files = Arrays.copyOf(files, bytes.length);
             }
+            files[id]++;
+            bytes[id] += sizeOf(file);
         }
 
-        return languageCounts.entrySet().stream()
-                .filter(e -> e.getValue() >= 3)
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toSet());
+        private LanguageBreakdown toBreakdown() {
+            long totalBytes = 0;
+            long totalFiles = 0;
+            for (int id = 0; id < bytes.length; id++) {
+                totalBytes += bytes[id];
+                totalFiles += files[id];
+            }
+            // Only empty or unreadable files: fall back to counting files.
+            boolean byBytes = totalBytes > 0;
+            long total = byBytes ? totalBytes : totalFiles;
+
+            List<LanguageBreakdown.Share> shares = new ArrayList<>();
+            for (int id = 0; id < bytes.length; id++) {
+                if (files[id] == 0) {
+                    continue;
+                }
+                double percentage = 100.0 * (byBytes ? bytes[id] : files[id]) / total;
+                if (percentage >= MIN_SHARE_PERCENT) {
+                    shares.add(new LanguageBreakdown.Share(languageName(id), bytes[id], files[id], percentage));
+                }
+            }
+            shares.sort(Comparator.comparingDouble(LanguageBreakdown.Share::getPercentage).reversed()
+                    .thenComparing(LanguageBreakdown.Share::getLanguage));
+            return new LanguageBreakdown(shares);
+        }
     }
 }
-
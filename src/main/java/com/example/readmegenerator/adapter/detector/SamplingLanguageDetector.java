@@ -0,0 +1,354 @@
+package com.example.readmegenerator.adapter.detector;
+
+import com.example.readmegenerator.domain.model.FileDescriptor;
+import com.example.readmegenerator.domain.model.LanguageBreakdown;
+import com.example.readmegenerator.domain.port.LanguageDetectorPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import static com.example.readmegenerator.adapter.detector.DefaultLanguageDetector.MIN_SHARE_PERCENT;
+import static com.example.readmegenerator.adapter.detector.DefaultLanguageDetector.NO_LANGUAGE;
+
+/**
+ * Estimates the language breakdown of very large trees from a sample instead of sizing every file. Each top-level
+ * directory is a stratum with a reservoir of the files whose path hashes are smallest, a uniform sample that does not
+ * depend on the order the walk delivers files in. Stratum totals are scaled up by how many files each stratum has.
+ * <p>
+ * Once every language's share is known within the margin at the configured confidence, files of strata with a full
+ * reservoir are only counted; smaller strata keep being sampled, so a directory reached late is still represented.
+ * Languages that never enter a reservoir are not reported, which only matters for shares far below the margin.
+ */
+public class SamplingLanguageDetector implements LanguageDetectorPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(SamplingLanguageDetector.class);
+
+    public static final double DEFAULT_MARGIN_PERCENT = 2.0;
+    public static final double DEFAULT_CONFIDENCE = 0.95;
+    static final int DEFAULT_STRATUM_CAPACITY = 512;
+
+    // The normal approximation behind the confidence interval is not trusted on fewer sampled files.
+    private static final int MIN_SAMPLED_FILES = 200;
+    private static final int CHECK_INTERVAL = 256;
+
+    private final double marginPercent;
+    private final double confidence;
+    private final double z;
+    private final int stratumCapacity;
+
+    public SamplingLanguageDetector() {
+        this(DEFAULT_MARGIN_PERCENT, DEFAULT_CONFIDENCE);
+    }
+
+    /**
+     * @param marginPercent largest accepted half-width of a share's confidence interval, in percentage points
+     * @param confidence    confidence level of that interval, e.g. 0.95
+     */
+    public SamplingLanguageDetector(double marginPercent, double confidence) {
+        this(marginPercent, confidence, DEFAULT_STRATUM_CAPACITY);
+    }
+
+    SamplingLanguageDetector(double marginPercent, double confidence, int stratumCapacity) {
+        if (!(marginPercent > 0 && marginPercent < 100)) {
+            throw new IllegalArgumentException("Margin must be between 0 and 100 percentage points, got "
+                    + marginPercent);
+        }
+        if (!(confidence > 0 && confidence < 1)) {
+            throw new IllegalArgumentException("Confidence must be between 0 and 1, got " + confidence);
+        }
+        if (stratumCapacity < 2) {
+            throw new IllegalArgumentException("Stratum capacity must be at least 2, got " + stratumCapacity);
+        }
+        this.marginPercent = marginPercent;
+        this.confidence = confidence;
+        this.z = zScore(confidence);
+        this.stratumCapacity = stratumCapacity;
+    }
+
+    @Override
+    public LanguageBreakdown detectLanguages(List<FileDescriptor> files) {
+        Sampler sampler = new Sampler(commonRoot(files));
+        files.forEach(sampler);
+        return sampler.finish();
+    }
+
+    @Override
+    public Detection startDetection(Path projectDir) {
+        return new Sampler(projectDir);
+    }
+
+    @Override
+    public String fingerprint() {
+        return "sampling:" + marginPercent + ":" + confidence + ":" + stratumCapacity;
+    }
+
+    /** Two-sided critical value of the standard normal distribution, e.g. 1.96 for 0.95. */
+    static double zScore(double confidence) {
+        double target = (1 + confidence) / 2;
+        double low = 0;
+        double high = 10;
+        for (int i = 0; i < 60; i++) {
+            double mid = (low + high) / 2;
+            if (normalCdf(mid) < target) {
+                low = mid;
+            } else {
+                high = mid;
+            }
+        }
+        return (low + high) / 2;
+    }
+
+    // Abramowitz and Stegun 7.1.26 for erf, accurate to about 1e-7; only called with x >= 0.
+    private static double normalCdf(double x) {
+        double u = x / Math.sqrt(2);
+        double t = 1 / (1 + 0.3275911 * u);
+        double polynomial = t * (0.254829592 + t * (-0.284496736 + t * (1.421413741
+                + t * (-1.453152027 + t * 1.061405429))));
+        return (2 - polynomial * Math.exp(-u * u)) / 2;
+    }
+
+    private static Path commonRoot(List<FileDescriptor> files) {
+        Path root = null;
+        for (FileDescriptor file : files) {
+            Path parent = file.getPath().getParent();
+            if (parent == null) {
+                continue;
+            }
+            if (root == null) {
+                root = parent;
+            }
+            while (root != null && !parent.startsWith(root)) {
+                root = root.getParent();
+            }
+        }
+        return root;
+    }
+
+    // FNV-1a followed by the MurmurHash3 finalizer, so that similar paths land far apart.
+    private static long priority(String path) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < path.length(); i++) {
+            hash ^= path.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    class Sampler implements Detection {
+        private final Path root;
+        private final Map<String, Stratum> strata = new HashMap<>();
+        private int languageCount;
+        private long seenFiles;
+        private long sizedFiles;
+        private int sampledSinceCheck;
+        private boolean settled;
+
+        private Sampler(Path root) {
+            this.root = root;
+        }
+
+        // Hashing the path and reading the language and size, which may sniff the file, happen before the lock is
+        // taken, so walker threads only contend for the reservoir update.
+        @Override
+        public void accept(FileDescriptor file) {
+            Path path = file.getPath();
+            Path relative = root != null && path.startsWith(root) ? root.relativize(path) : path;
+            String stratumName = relative.getNameCount() > 1 ? relative.getName(0).toString() : "";
+            offer(stratumName, measure(file, priority(relative.toString())));
+        }
+
+        private synchronized void offer(String stratumName, Sample candidate) {
+            Stratum stratum = strata.computeIfAbsent(stratumName, name -> new Stratum());
+            stratum.seen++;
+            seenFiles++;
+
+            boolean full = stratum.sample.size() >= stratumCapacity;
+            if (settled && full) {
+                return;
+            }
+            if (full && candidate.priority >= stratum.sample.peek().priority) {
+                return;
+            }
+            if (full) {
+                stratum.sample.poll();
+            }
+            stratum.sample.add(candidate);
+            sizedFiles++;
+            if (candidate.language != NO_LANGUAGE) {
+                languageCount = Math.max(languageCount, candidate.language + 1);
+            }
+
+            if (!settled && ++sampledSinceCheck >= CHECK_INTERVAL) {
+                sampledSinceCheck = 0;
+                Estimate estimate = estimate();
+                settled = sampledFiles() >= MIN_SAMPLED_FILES && !estimate.isEmpty()
+                        && estimate.maxHalfWidth() * 100 <= marginPercent;
+                if (settled) {
+                    logger.debug("Language shares settled after sizing {} of {} files", sizedFiles, seenFiles);
+                }
+            }
+        }
+
+        @Override
+        public synchronized LanguageBreakdown finish() {
+            Estimate estimate = estimate();
+            logger.debug("Sized {} of {} files for language detection; shares within ±{} points at {}% confidence",
+                    sizedFiles, seenFiles, String.format(Locale.ROOT, "%.2f", estimate.maxHalfWidth() * 100), confidence * 100);
+
+            List<LanguageBreakdown.Share> shares = new ArrayList<>();
+            for (int id = 0; id < languageCount; id++) {
+                double percentage = 100 * estimate.shares[id];
+                if (estimate.files[id] > 0 && percentage >= MIN_SHARE_PERCENT) {
+                    shares.add(new LanguageBreakdown.Share(DefaultLanguageDetector.languageName(id),
+                            Math.round(estimate.bytes[id]), (int) Math.round(estimate.files[id]), percentage));
+                }
+            }
+            shares.sort(Comparator.comparingDouble(LanguageBreakdown.Share::getPercentage).reversed()
+                    .thenComparing(LanguageBreakdown.Share::getLanguage));
+            return new LanguageBreakdown(shares);
+        }
+
+        synchronized boolean isSettled() {
+            return settled;
+        }
+
+        /** Files taken into a reservoir, whose language and size count, rather than only counted. */
+        synchronized long sizedFiles() {
+            return sizedFiles;
+        }
+
+        private Sample measure(FileDescriptor file, long priority) {
+            int language = DefaultLanguageDetector.languageOf(file);
+            long bytes = language != NO_LANGUAGE ? DefaultLanguageDetector.sizeOf(file) : 0;
+            return new Sample(priority, language, bytes);
+        }
+
+        private int sampledFiles() {
+            return strata.values().stream().mapToInt(stratum -> stratum.sample.size()).sum();
+        }
+
+        private Estimate estimate() {
+            boolean byBytes = strata.values().stream()
+                    .flatMap(stratum -> stratum.sample.stream())
+                    .anyMatch(sample -> sample.bytes > 0);
+
+            // Stratified totals: each sampled file stands for seen / sampled files of its stratum.
+            Estimate estimate = new Estimate(languageCount);
+            double[] measures = new double[languageCount];
+            double total = 0;
+            for (Stratum stratum : strata.values()) {
+                double weight = (double) stratum.seen / stratum.sample.size();
+                for (Sample sample : stratum.sample) {
+                    if (sample.language == NO_LANGUAGE) {
+                        continue;
+                    }
+                    estimate.bytes[sample.language] += weight * sample.bytes;
+                    estimate.files[sample.language] += weight;
+                    measures[sample.language] += weight * sample.measure(byBytes);
+                    total += weight * sample.measure(byBytes);
+                }
+            }
+            if (total == 0) {
+                return estimate;
+            }
+            for (int id = 0; id < languageCount; id++) {
+                estimate.shares[id] = measures[id] / total;
+            }
+
+            // Linearized variance of each share, a ratio of two estimated totals: the sum over strata of
+            // N^2 (1 - n/N) s^2 / n, where s^2 is the sample variance of d = y - share * x.
+            double[] variances = new double[languageCount];
+            for (Stratum stratum : strata.values()) {
+                int n = stratum.sample.size();
+                if (n == stratum.seen) {
+                    continue;
+                }
+                for (int id = 0; id < languageCount; id++) {
+                    double sum = 0;
+                    double sumOfSquares = 0;
+                    for (Sample sample : stratum.sample) {
+                        double x = sample.language == NO_LANGUAGE ? 0 : sample.measure(byBytes);
+                        double d = (sample.language == id ? x : 0) - estimate.shares[id] * x;
+                        sum += d;
+                        sumOfSquares += d * d;
+                    }
+                    double sampleVariance = (sumOfSquares - sum * sum / n) / (n - 1);
+                    variances[id] += (double) stratum.seen * stratum.seen * (1 - (double) n / stratum.seen)
+                            * sampleVariance / n;
+                }
+            }
+            for (int id = 0; id < languageCount; id++) {
+                estimate.halfWidths[id] = z * Math.sqrt(variances[id]) / total;
+            }
+            return estimate;
+        }
+    }
+
+    private static class Stratum {
+        private long seen;
+        // Largest priority on top, so the head is the file to evict.
+        private final PriorityQueue<Sample> sample =
+                new PriorityQueue<>(Comparator.comparingLong((Sample s) -> s.priority).reversed());
+    }
+
+    private static class Sample {
+        private final long priority;
+        private final int language;
+        private final long bytes;
+
+        private Sample(long priority, int language, long bytes) {
+            this.priority = priority;
+            this.language = language;
+            this.bytes = bytes;
+        }
+
+        // Bytes, or one per file when no sampled file has any bytes.
+        private double measure(boolean byBytes) {
+            return byBytes ? bytes : 1;
+        }
+    }
+
+    private static class Estimate {
+        private final double[] shares;
+        private final double[] halfWidths;
+        private final double[] bytes;
+        private final double[] files;
+
+        private Estimate(int languageCount) {
+            shares = new double[languageCount];
+            halfWidths = new double[languageCount];
+            bytes = new double[languageCount];
+            files = new double[languageCount];
+        }
+
+        private boolean isEmpty() {
+            for (double share : shares) {
+                if (share > 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private double maxHalfWidth() {
+            double max = 0;
+            for (double halfWidth : halfWidths) {
+                max = Math.max(max, halfWidth);
+            }
+            return max;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.readmegenerator.adapter.index;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Content-addressed store of summary fragments. Entries are keyed by a caller-computed hash, so a changed file
+ * simply misses; the least recently used entries are evicted once the cache grows past its size limit.
+ */
+public class FileSystemFragmentCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileSystemFragmentCache.class);
+
+    public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+    private final Path cacheDir;
+    private final long maxBytes;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final Object evictionLock = new Object();
+    private AtomicLong totalBytes;
+
+    public FileSystemFragmentCache() {
+        this(FileSystemProjectIndexStore.defaultCacheDir().resolve("fragments"), DEFAULT_MAX_BYTES);
+    }
+
+    public FileSystemFragmentCache(Path cacheDir, long maxBytes) {
+        this.cacheDir = cacheDir;
+        this.maxBytes = maxBytes;
+    }
+
+    public Optional<String> get(String key) {
+        Path entry = entryFor(key);
+        try {
+            String fragment = Files.readString(entry, StandardCharsets.UTF_8);
+            // The modification time doubles as the last access time for LRU eviction.
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+            hits.incrementAndGet();
+            return Optional.of(fragment);
+        } catch (IOException e) {
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+    }
+
+    public void put(String key, String fragment) {
+        Path entry = entryFor(key);
+        try {
+            Files.createDirectories(entry.getParent());
+            Path tempFile = Files.createTempFile(entry.getParent(), "fragment", ".tmp");
+            Files.writeString(tempFile, fragment, StandardCharsets.UTF_8);
+            long previousSize = Files.exists(entry) ? Files.size(entry) : 0;
+            Files.move(tempFile, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            long size = currentSize().addAndGet(Files.size(entry) - previousSize);
+            if (size > maxBytes) {
+                evict();
+            }
+        } catch (IOException e) {
+            logger.warn("Could not store summary fragment {}: {}", key, e.getMessage());
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    Path entryFor(String key) {
+        return cacheDir.resolve(key.substring(0, 2)).resolve(key + ".md");
+    }
+
+    private AtomicLong currentSize() throws IOException {
+        synchronized (evictionLock) {
+            if (totalBytes == null) {
+                long size = 0;
+                for (Entry entry : listEntries()) {
+                    size += entry.size;
+                }
+                totalBytes = new AtomicLong(size);
+            }
+            return totalBytes;
+        }
+    }
+
+    // Deletes the least recently used entries until the cache is back under 90% of its limit.
+    private void evict() throws IOException {
+        synchronized (evictionLock) {
+            List<Entry> entries = listEntries();
+            entries.sort(Comparator.comparingLong(entry -> entry.lastAccess));
+
+            long size = entries.stream().mapToLong(entry -> entry.size).sum();
+            long target = maxBytes / 10 * 9;
+            int evicted = 0;
+            for (Entry entry : entries) {
+                if (size <= target) {
+                    break;
+                }
+                if (Files.deleteIfExists(entry.path)) {
+                    size -= entry.size;
+                    evicted++;
+                }
+            }
+            totalBytes.set(size);
+            logger.debug("Evicted {} summary fragment(s) from {}", evicted, cacheDir);
+        }
+    }
+
+    private List<Entry> listEntries() throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        if (!Files.isDirectory(cacheDir)) {
+            return entries;
+        }
+        try (Stream<Path> paths = Files.walk(cacheDir, 2)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                if (!path.getFileName().toString().endsWith(".md")) {
+                    continue;
+                }
+                try {
+                    BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+                    entries.add(new Entry(path, attrs.size(), attrs.lastModifiedTime().toMillis()));
+                } catch (IOException e) {
+                    logger.debug("Skipping vanished fragment {}", path);
+                }
+            }
+        }
+        return entries;
+    }
+
+    private static class Entry {
+        private final Path path;
+        private final long size;
+        private final long lastAccess;
+
+        private Entry(Path path, long size, long lastAccess) {
+            this.path = path;
+            this.size = size;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
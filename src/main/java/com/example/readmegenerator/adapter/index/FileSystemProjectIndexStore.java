@@ -0,0 +1,110 @@
+package com.example.readmegenerator.adapter.index;
+
+import com.example.readmegenerator.domain.model.ProjectIndex;
+import com.example.readmegenerator.domain.port.ProjectIndexStorePort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+
+public class FileSystemProjectIndexStore implements ProjectIndexStorePort {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileSystemProjectIndexStore.class);
+
+    private static final String HEADER = "# readme-generator project index v1";
+
+    private final Path indexDir;
+
+    public FileSystemProjectIndexStore() {
+        this(defaultCacheDir().resolve("index"));
+    }
+
+    public FileSystemProjectIndexStore(Path indexDir) {
+        this.indexDir = indexDir;
+    }
+
+    public static Path defaultCacheDir() {
+        String xdgCache = System.getenv("XDG_CACHE_HOME");
+        Path base = xdgCache != null && !xdgCache.isBlank()
+                ? Paths.get(xdgCache)
+                : Paths.get(System.getProperty("user.home"), ".cache");
+        return base.resolve("readme-generator");
+    }
+
+    @Override
+    public Optional<ProjectIndex> load(Path projectDir) {
+        Path indexFile = indexFileFor(projectDir);
+        if (!Files.isRegularFile(indexFile)) {
+            return Optional.empty();
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(indexFile, StandardCharsets.UTF_8)) {
+            if (!HEADER.equals(reader.readLine())) {
+                logger.debug("Ignoring index with unknown format: {}", indexFile);
+                return Optional.empty();
+            }
+
+            String configFingerprint = null;
+            long indexedAt = 0;
+            Map<String, ProjectIndex.FileEntry> files = new HashMap<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("C\t")) {
+                    configFingerprint = line.substring(2);
+                } else if (line.startsWith("T\t")) {
+                    indexedAt = Long.parseLong(line.substring(2));
+                } else if (line.startsWith("F\t")) {
+                    String[] parts = line.split("\t", 5);
+                    files.put(parts[4], new ProjectIndex.FileEntry(
+                            Long.parseLong(parts[1]), Long.parseLong(parts[2]), parts[3]));
+                }
+            }
+            return Optional.of(new ProjectIndex(configFingerprint, indexedAt, files));
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not read project index {}: {}", indexFile, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void save(Path projectDir, ProjectIndex index) throws IOException {
+        Files.createDirectories(indexDir);
+        Path indexFile = indexFileFor(projectDir);
+        Path tempFile = Files.createTempFile(indexDir, "index", ".tmp");
+
+        try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            if (index.getConfigFingerprint() != null) {
+                writer.write("C\t" + index.getConfigFingerprint());
+                writer.newLine();
+            }
+            writer.write("T\t" + index.getIndexedAt());
+            writer.newLine();
+            for (Map.Entry<String, ProjectIndex.FileEntry> entry : index.getFiles().entrySet()) {
+                ProjectIndex.FileEntry file = entry.getValue();
+                writer.write("F\t" + file.getSize() + "\t" + file.getLastModified() + "\t" + file.getHash()
+                        + "\t" + entry.getKey());
+                writer.newLine();
+            }
+        }
+        Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    Path indexFileFor(Path projectDir) {
+        String key = projectDir.toAbsolutePath().normalize().toString();
+        byte[] digest = ProjectIndex.sha256().digest(key.getBytes(StandardCharsets.UTF_8));
+        return indexDir.resolve(HexFormat.of().formatHex(digest, 0, 16) + ".idx");
+    }
+}
@@ -38,6 +38,11 @@ public class GroqLLMClient implements LLMClientPort {
         this.temperature = Double.parseDouble(props.getProperty("groq.api.temperature", "0.7"));
     }
 
+    @Override
+    public String fingerprint() {
+        return "groq:" + model + "@" + temperature;
+    }
+
     @Override
     public String generateReadme(String prompt) throws IOException, InterruptedException {
         JSONObject json = new JSONObject();
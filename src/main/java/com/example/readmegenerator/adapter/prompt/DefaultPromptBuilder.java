@@ -2,9 +2,18 @@ package com.example.readmegenerator.adapter.prompt;
 
 import com.example.readmegenerator.domain.model.ReadmeGenerationConfig;
 import com.example.readmegenerator.domain.port.PromptBuilderPort;
+import com.example.readmegenerator.domain.service.BuiltWithBadges;
 
 public class DefaultPromptBuilder implements PromptBuilderPort {
 
+    // Bump whenever the prompt wording or layout changes, so READMEs written from the old prompt are regenerated.
+    static final String PROMPT_FORMAT_VERSION = "1";
+
+    @Override
+    public String fingerprint() {
+        return "default-prompt:" + PROMPT_FORMAT_VERSION;
+    }
+
     @Override
     public String build(String summary, String projectName, ReadmeGenerationConfig config) {
         if (summary.length() > 10000) {
@@ -44,12 +53,9 @@ public class DefaultPromptBuilder implements PromptBuilderPort {
                 "```\n\n" +
                 "- Use the following section structure:\n" +
                 "  - `<h2 align=\"" + alignAttr + "\" id=\"overview\">🚀 Overview</h2>` + `<p align=\"" + alignAttr + "\">...</p>` + `<" + listTag + " align=\"" + alignAttr + "\">`\n" +
-                "- In the `<h2 align=\"" + alignAttr + "\" id=\"built-with\">📦 Built With</h2>` section, instead of a list, generate a `<div align=\"" + alignAttr + "\">` containing badges for each technology, framework, library, CI/CD tool, etc. Use shields.io badge format, e.g.:\n" +
-                "  `<img src=\"https://img.shields.io/badge/Java-007396?logo=java&logoColor=white&style=for-the-badge\" height=\"30\" alt=\"Java logo\" />`\n" +
-                "  `<img src=\"https://img.shields.io/badge/Kubernetes-326CE5?logo=kubernetes&logoColor=white&style=for-the-badge\" height=\"30\" alt=\"Kubernetes logo\" />`\n" +
-                "  ...\n" +
-                "  All badges should be placed inside the `<div align=\"" + alignAttr + "\">` block.\n" +
-                "  `<p align=\"" + alignAttr + "\">This project is built using the following core technologies, frameworks, libraries, and **CI/CD tools and configurations**:</p>` + " +
+                "- In the `<h2 align=\"" + alignAttr + "\" id=\"built-with\">📦 Built With</h2>` section, do not write a list or any technology badges yourself: " +
+                "put the line `" + BuiltWithBadges.PLACEHOLDER + "` directly after the heading, where the badges are inserted automatically, followed by\n" +
+                "  `<p align=\"" + alignAttr + "\">This project is built using the following core technologies, frameworks, libraries, and **CI/CD tools and configurations**:</p>`\n" +
                 "  - `<h2 align=\"" + alignAttr + "\" id=\"table-of-contents\">📚 Table of Contents</h2>`\n" +
                 "    `<p align=\"" + alignAttr + "\">This README is organized into the following sections:</p>`\n" +
                 "    `<" + listTag + " align=\"" + alignAttr + "\">\n" +
@@ -1,41 +1,113 @@
 package com.example.readmegenerator.app;
 
+import com.example.readmegenerator.domain.model.Badge;
+import com.example.readmegenerator.domain.model.DependencyReport;
+import com.example.readmegenerator.domain.model.FileDescriptor;
+import com.example.readmegenerator.domain.model.FileWalkResult;
+import com.example.readmegenerator.domain.model.LanguageBreakdown;
+import com.example.readmegenerator.domain.model.ProjectIndex;
 import com.example.readmegenerator.domain.model.ReadmeGenerationConfig;
+import com.example.readmegenerator.domain.model.SummarySection;
 import com.example.readmegenerator.domain.port.*;
+import com.example.readmegenerator.domain.service.BadgeCatalog;
+import com.example.readmegenerator.domain.service.BuiltWithBadges;
 import com.example.readmegenerator.domain.service.DependencyExtractor;
+import com.example.readmegenerator.domain.service.FileClassifier;
+import com.example.readmegenerator.domain.service.GradleScriptReader;
+import com.example.readmegenerator.domain.service.ManifestCache;
+import com.example.readmegenerator.domain.service.ProjectFileWalker;
+import com.example.readmegenerator.domain.service.ProjectIndexer;
+import com.example.readmegenerator.domain.service.SummaryAssembler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 public class ReadmeGenerationService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ReadmeGenerationService.class);
+
+    private static final String README_FILE = "README.md";
+    private static final int SUMMARY_BUDGET_CHARS = 10_000;
+    // Bump whenever the summary assembly or the badge block changes, so READMEs written by older versions are
+    // regenerated by incremental runs.
+    static final String OUTPUT_FORMAT_VERSION = "1";
+
     private final ProjectAnalyzerPort analyzer;
     private final LLMClientPort client;
     private final ReadmeWriterPort writer;
     private final LanguageDetectorPort languageDetector;
     private final PromptBuilderPort promptBuilder;
     private final TestAnalyzerPort testAnalyzer;
+    private final ProjectFileWalker fileWalker;
+    private final ProjectIndexStorePort indexStore;
     private final boolean dryRun;
     private final boolean showPrompt;
+    private final ManifestCache manifestCache;
 
-    private static final Set<String> CI_CD_PATTERNS = Set.of(
-            ".github/workflows/",
-            "gitlab-ci.yml",
-            ".azure-pipelines/",
-            "jenkinsfile",
-            "circle.yml",
-            ".travis.yml"
-    );
+    private String lastPrompt;
+    private String lastReadme;
+    // Listing and index of the latest run, patched by regenerate() instead of walking the project again.
+    private Path lastProjectDir;
+    private List<FileDescriptor> lastFiles;
+    private ProjectIndex lastIndex;
 
     public ReadmeGenerationService(
             ProjectAnalyzerPort analyzer, LLMClientPort client,
             ReadmeWriterPort writer, LanguageDetectorPort languageDetector,
             PromptBuilderPort promptBuilder, TestAnalyzerPort testAnalyzer,
             boolean dryRun, boolean showPrompt
+    ) {
+        this(analyzer, client, writer, languageDetector, promptBuilder, testAnalyzer,
+                new ProjectFileWalker(), dryRun, showPrompt);
+    }
+
+    public ReadmeGenerationService(
+            ProjectAnalyzerPort analyzer, LLMClientPort client,
+            ReadmeWriterPort writer, LanguageDetectorPort languageDetector,
+            PromptBuilderPort promptBuilder, TestAnalyzerPort testAnalyzer,
+            ProjectFileWalker fileWalker, boolean dryRun, boolean showPrompt
+    ) {
+        this(analyzer, client, writer, languageDetector, promptBuilder, testAnalyzer,
+                fileWalker, null, dryRun, showPrompt);
+    }
+
+    /**
+     * @param indexStore persistent project index used to skip regeneration when nothing changed since the last
+     *                   written README; {@code null} disables incremental runs
+     */
+    public ReadmeGenerationService(
+            ProjectAnalyzerPort analyzer, LLMClientPort client,
+            ReadmeWriterPort writer, LanguageDetectorPort languageDetector,
+            PromptBuilderPort promptBuilder, TestAnalyzerPort testAnalyzer,
+            ProjectFileWalker fileWalker, ProjectIndexStorePort indexStore,
+            boolean dryRun, boolean showPrompt
+    ) {
+        this(analyzer, client, writer, languageDetector, promptBuilder, testAnalyzer, fileWalker, indexStore,
+                new ManifestCache(), dryRun, showPrompt);
+    }
+
+    /**
+     * @param manifestCache parsed manifests, poms and Gradle scripts, shared with the analyzer so that each is
+     *                      parsed once per run; the service starts a run on it after every walk
+     */
+    public ReadmeGenerationService(
+            ProjectAnalyzerPort analyzer, LLMClientPort client,
+            ReadmeWriterPort writer, LanguageDetectorPort languageDetector,
+            PromptBuilderPort promptBuilder, TestAnalyzerPort testAnalyzer,
+            ProjectFileWalker fileWalker, ProjectIndexStorePort indexStore,
+            ManifestCache manifestCache, boolean dryRun, boolean showPrompt
     ) {
         this.analyzer = analyzer;
         this.client = client;
@@ -43,21 +115,108 @@ public class ReadmeGenerationService {
         this.languageDetector = languageDetector;
         this.promptBuilder = promptBuilder;
         this.testAnalyzer = testAnalyzer;
+        this.fileWalker = fileWalker;
+        this.indexStore = indexStore;
+        this.manifestCache = manifestCache;
         this.dryRun = dryRun;
         this.showPrompt = showPrompt;
     }
 
     public void generate(Path projectDir, ReadmeGenerationConfig config) throws Exception {
-        List<Path> allFiles = listProjectFiles(projectDir);
+        // Detection runs alongside the walk so that a sampling detector can settle before the listing is complete.
+        LanguageDetectorPort.Detection detection = languageDetector.startDetection(projectDir);
+        List<FileDescriptor> allFiles = listProjectFiles(projectDir, detection);
+        manifestCache.startRun(paths(allFiles));
+
+        ProjectIndex previous = null;
+        ProjectIndex index = null;
+        if (indexStore != null) {
+            previous = indexStore.load(projectDir).orElse(null);
+            index = buildIndex(projectDir, paths(allFiles), previous, config);
+        }
+        generate(projectDir, config, allFiles, detection, previous, index);
+    }
+
+    /**
+     * Regenerates the README after a watch cycle in which only {@code changedPaths} changed. The listing of the
+     * previous run is patched instead of walking the project again, and only the summaries, manifests and index
+     * entries of the changed files are recomputed. Falls back to a full {@link #generate} before the first run and
+     * when a directory or an ignore file changed, since those can change which files a walk accepts.
+     */
+    public void regenerate(Path projectDir, ReadmeGenerationConfig config, Set<Path> changedPaths) throws Exception {
+        if (lastFiles == null || !projectDir.equals(lastProjectDir) || changesListing(changedPaths)) {
+            generate(projectDir, config);
+            return;
+        }
+
+        Map<Path, FileDescriptor> files = new LinkedHashMap<>();
+        lastFiles.forEach(file -> files.put(file.getPath(), file));
+        for (Path path : changedPaths) {
+            if (Files.isRegularFile(path) && !fileWalker.isSkipped(projectDir, path, false)) {
+                files.put(path, FileClassifier.classify(path, Files.size(path)));
+            } else {
+                files.remove(path);
+            }
+        }
+        analyzer.invalidate(changedPaths);
+        manifestCache.invalidate(changedPaths);
+
+        List<FileDescriptor> allFiles = new ArrayList<>(files.values());
+        manifestCache.startRun(paths(allFiles));
+        LanguageDetectorPort.Detection detection = languageDetector.startDetection(projectDir);
+        allFiles.forEach(detection);
+
+        ProjectIndex previous = null;
+        ProjectIndex index = null;
+        if (indexStore != null) {
+            previous = indexStore.load(projectDir).orElse(null);
+            index = lastIndex != null && lastIndex.getConfigFingerprint().equals(configFingerprint(config))
+                    ? ProjectIndexer.update(projectDir, lastIndex, withoutReadme(projectDir, changedPaths))
+                    : buildIndex(projectDir, paths(allFiles), previous, config);
+        }
+        generate(projectDir, config, allFiles, detection, previous, index);
+    }
 
-        Set<String> detectedLanguages = languageDetector.detectLanguages(allFiles);
+    // A created or deleted directory, an overflow reported as a directory, or an edited ignore file.
+    private boolean changesListing(Set<Path> changedPaths) {
+        Set<Path> knownFiles = lastFiles.stream().map(FileDescriptor::getPath).collect(Collectors.toSet());
+        for (Path path : changedPaths) {
+            if (ProjectFileWalker.isIgnoreFile(path) || Files.isDirectory(path)
+                    || (!knownFiles.contains(path) && !Files.isRegularFile(path))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void generate(Path projectDir, ReadmeGenerationConfig config, List<FileDescriptor> allFiles,
+                          LanguageDetectorPort.Detection detection, ProjectIndex previous, ProjectIndex index)
+            throws Exception {
+        lastProjectDir = projectDir;
+        lastFiles = allFiles;
+        lastIndex = index;
+
+        if (index != null) {
+            if (index.isUnchangedSince(previous) && Files.exists(projectDir.resolve(README_FILE))) {
+                System.out.println("No changes since the last README generation. Skipping.");
+                return;
+            }
+            if (previous != null) {
+                logger.info("{} files changed since the last README generation", index.changedSince(previous).size());
+            }
+        }
+
+        LanguageBreakdown languages = detection.finish();
+        Set<String> detectedLanguages = languages.getLanguages();
         if (detectedLanguages.isEmpty()) {
             System.out.println("No core programming languages detected. Proceeding to check for CI/CD files.");
+        } else {
+            logger.info("Detected languages: {}", languages.describe());
         }
 
-        List<Path> relevantFiles = allFiles.stream()
+        List<FileDescriptor> relevantFiles = allFiles.stream()
                 .filter(file -> isRelevant(file, detectedLanguages))
-                .filter(file -> isCoreDomainFile(file) || isCiCdFile(file))
+                .filter(file -> isSummaryCandidate(file) || file.isCiCdPipeline())
                 .collect(Collectors.toList());
 
         if (relevantFiles.isEmpty()) {
@@ -66,25 +225,52 @@ public class ReadmeGenerationService {
         }
 
         String projectName = projectDir.getFileName().toString();
-        String summary = analyzer.analyze(relevantFiles);
-
-        String testSummary = testAnalyzer.analyzeTests(allFiles);
-        if (testSummary != null && !testSummary.isBlank()) {
-            summary += "\n\n" + testSummary;
-        }
-
-        String dependencies = DependencyExtractor.extractDependencies(relevantFiles);
-        if (!dependencies.isBlank()) {
-            summary += "\n\n" + dependencies;
+        List<SummarySection> sections = new ArrayList<>(analyzer.analyzeSections(relevantFiles));
+        // The test note is a single line with no share of its own; it fits in whatever the sections before it leave.
+        sections.add(new SummarySection("Tests", SummarySection.PRIORITY_TESTS, 0.0,
+                limit -> testAnalyzer.analyzeTests(allFiles)));
+        Dependencies dependencies = new Dependencies(projectDir, paths(relevantFiles), manifestCache);
+        sections.add(new SummarySection("Dependencies", SummarySection.PRIORITY_DEPENDENCIES, 0.15,
+                limit -> DependencyExtractor.render(dependencies.get())));
+        String summary = SummaryAssembler.assemble(sections, SUMMARY_BUDGET_CHARS);
+        Map<String, Integer> skippedFiles = analyzer.getLastSkippedFiles();
+        if (!skippedFiles.isEmpty()) {
+            System.out.println("Skipped " + skippedFiles.values().stream().mapToInt(Integer::intValue).sum()
+                    + " file(s) not worth summarizing: " + skippedFiles.entrySet().stream()
+                    .map(entry -> entry.getKey() + " " + entry.getValue())
+                    .collect(Collectors.joining(", ")));
         }
 
         String prompt = promptBuilder.build(summary, projectName, config);
 
-        if (showPrompt) {
-            System.out.println("📤 [PROMPT]:\n" + prompt);
+        boolean unchanged = prompt.equals(lastPrompt);
+        if (unchanged && (dryRun || isOnDisk(projectDir, lastReadme))) {
+            System.out.println("Project summary unchanged since the previous run. README is up to date.");
+            if (!dryRun && index != null) {
+                indexStore.save(projectDir, index);
+            }
+            return;
         }
 
-        String readme = client.generateReadme(prompt);
+        String readme;
+        if (unchanged) {
+            // The README was deleted or edited since it was written; the summary still matches, so no new call.
+            System.out.println("Project summary unchanged since the previous run. Restoring the generated README.");
+            readme = lastReadme;
+        } else {
+            if (showPrompt) {
+                System.out.println("📤 [PROMPT]:\n" + prompt);
+            }
+
+            readme = client.generateReadme(prompt);
+
+            // Badges come from the built-in catalog rather than the model, which tends to get colors and logos wrong.
+            List<Badge> badges = BuiltWithBadges.collect(BadgeCatalog.builtIn(), detectedLanguages,
+                    dependencies.get(), relevantFiles, manifestCache);
+            readme = BuiltWithBadges.splice(readme, BuiltWithBadges.render(badges, config.getHeaderAlignment()));
+            lastPrompt = prompt;
+            lastReadme = readme;
+        }
 
         if (dryRun) {
             System.out.println("\n📄 [README PREVIEW]:\n" + readme);
@@ -92,78 +278,124 @@ public class ReadmeGenerationService {
         }
 
         writer.write(projectDir, readme);
+
+        if (index != null) {
+            indexStore.save(projectDir, index);
+        }
+    }
+
+    private static boolean isOnDisk(Path projectDir, String readme) {
+        try {
+            return readme.equals(Files.readString(projectDir.resolve(README_FILE)));
+        } catch (IOException e) {
+            return false;
+        }
     }
 
-    private boolean isProjectFile(Path path) {
-        String normalized = path.normalize().toString().toLowerCase().replace("\\", "/");
+    private ProjectIndex buildIndex(Path projectDir, List<Path> allFiles, ProjectIndex previous,
+                                    ReadmeGenerationConfig config) {
+        return ProjectIndexer.build(projectDir, withoutReadme(projectDir, allFiles), previous,
+                configFingerprint(config));
+    }
 
-        return !normalized.contains("/node_modules/") &&
-                !normalized.contains("/.git/") &&
-                !normalized.contains("/vendor/") &&
-                !normalized.contains("/build/") &&
-                !normalized.contains("/dist/") &&
-                !normalized.contains("/target/") &&
-                !normalized.contains("/out/") &&
-                !normalized.contains("/.idea/");
+    private String configFingerprint(ReadmeGenerationConfig config) {
+        return String.join("/", config.getHeaderAlignment().name(),
+                config.getListStyle().name(), "output:" + OUTPUT_FORMAT_VERSION, fileWalker.fingerprint(),
+                languageDetector.fingerprint(), analyzer.fingerprint(), promptBuilder.fingerprint(),
+                client.fingerprint());
     }
 
-    private boolean isRelevant(Path path, Set<String> langs) {
-        String name = path.getFileName().toString().toLowerCase();
+    private static List<Path> withoutReadme(Path projectDir, Collection<Path> files) {
+        Path readme = projectDir.resolve(README_FILE);
+        return files.stream()
+                .filter(file -> !file.equals(readme))
+                .collect(Collectors.toList());
+    }
 
-        if (isCiCdFile(path)) {
+    // A file is relevant when it belongs to any detected language, so a few stray files of a minor language never
+    // push the sources of the dominant one out of the summary.
+    private boolean isRelevant(FileDescriptor file, Set<String> langs) {
+        if (file.isCiCdPipeline()) {
             return true;
         }
-
-        if (langs.contains("PHP")) {
-            return name.endsWith(".php") || name.equals("composer.json");
-        } else if (langs.contains("Java")) {
-            return name.endsWith(".java") || name.equals("pom.xml") || name.equals("build.gradle");
-        } else if (langs.contains("JavaScript") || langs.contains("TypeScript")) {
-            return name.endsWith(".js") || name.endsWith(".ts") || name.equals("package.json") || name.equals("angular.json");
-        } else if (langs.contains("Python")) {
-            return name.endsWith(".py") || name.equals("requirements.txt") || name.equals("pyproject.toml");
-        } else if (langs.contains("C/C++") || langs.contains("C/C++ Header")) {
-            return name.endsWith(".cpp") || name.endsWith(".c") || name.endsWith(".h") || name.endsWith(".hpp") ||
-                    name.equals("cmakelists.txt") || name.equals("makefile");
+        for (String language : langs) {
+            if (belongsTo(file, language)) {
+                return true;
+            }
         }
-
         return false;
     }
 
-    protected List<Path> listProjectFiles(Path projectDir) throws IOException {
-        return Files.walk(projectDir)
-                .filter(Files::isRegularFile)
-                .filter(this::isProjectFile)
+    private static boolean belongsTo(FileDescriptor file, String language) {
+        String name = file.getFileName();
+        String extension = file.getExtension();
+
+        return switch (language) {
+            case "PHP" -> extension.equals(".php") || name.equals("composer.json") || name.equals("composer.lock");
+            case "Java" -> extension.equals(".java") || name.equals("pom.xml") || GradleScriptReader.isGradleScript(name);
+            case "JavaScript", "TypeScript" -> extension.equals(".js") || extension.equals(".ts")
+                    || name.equals("package.json") || name.equals("package-lock.json") || name.equals("angular.json");
+            case "Python" -> extension.equals(".py") || name.equals("requirements.txt") || name.equals("pyproject.toml");
+            case "C", "C++", "C/C++ Header" -> extension.equals(".cpp") || extension.equals(".c")
+                    || extension.equals(".h") || extension.equals(".hpp")
+                    || name.equals("cmakelists.txt") || name.equals("makefile");
+            default -> false;
+        };
+    }
+
+    /**
+     * Walks the project and classifies each file once, as it is found; every later step works on these
+     * descriptors instead of classifying the paths again.
+     */
+    protected List<FileDescriptor> listProjectFiles(Path projectDir, Consumer<FileDescriptor> onFile)
+            throws IOException {
+        Map<Path, FileDescriptor> descriptors = new ConcurrentHashMap<>();
+        FileWalkResult result = fileWalker.walk(projectDir, (file, attrs) -> {
+            FileDescriptor descriptor = FileClassifier.classify(file,
+                    attrs.isRegularFile() ? attrs.size() : FileDescriptor.UNKNOWN_SIZE);
+            descriptors.put(file, descriptor);
+            onFile.accept(descriptor);
+        });
+        logger.debug("Listed {} project files, pruned {} excluded directories, skipped {} ignored entries",
+                result.getFiles().size(), result.getPrunedDirectories(), result.getIgnoredEntries());
+        return result.getFiles().stream()
+                .map(descriptors::get)
                 .collect(Collectors.toList());
     }
 
-    private boolean isCoreDomainFile(Path path) {
-        if (isCiCdFile(path)) {
+    private static List<Path> paths(List<FileDescriptor> files) {
+        return files.stream().map(FileDescriptor::getPath).collect(Collectors.toList());
+    }
+
+    // Every code file is a candidate; the analyzer ranks them by import centrality and keeps the most central ones.
+    // Dependency manifests and lockfiles are always kept for the dependency summary.
+    private boolean isSummaryCandidate(FileDescriptor file) {
+        if (file.isCiCdPipeline()) {
             return false;
         }
 
-        String name = path.getFileName().toString().toLowerCase();
-        return name.equals("pom.xml") ||
-                name.contains("controller") ||
-                name.contains("service") ||
-                name.contains("application") ||
-                name.contains("model") ||
-                name.contains("entity") ||
-                name.contains("domain");
+        return file.getFileName().equals("pom.xml") || GradleScriptReader.isGradleScript(file.getFileName())
+                || file.isDependencyFile() || file.isCodeFile() || file.hasCoreDomainName();
     }
 
-    private boolean isCiCdFile(Path path) {
-        String fileName = path.getFileName().toString().toLowerCase();
-        String normalizedFullPath = path.normalize().toString().toLowerCase().replace("\\", "/");
+    // Read on first use, by the dependency section when it gets budget and by the badges otherwise.
+    private static class Dependencies {
+        private final Path projectDir;
+        private final List<Path> files;
+        private final ManifestCache manifestCache;
+        private DependencyReport report;
 
-        for (String pattern : CI_CD_PATTERNS) {
-            if (pattern.endsWith("/") && normalizedFullPath.contains(pattern)) {
-                return true;
-            }
-            else if (fileName.equals(pattern)) {
-                return true;
+        private Dependencies(Path projectDir, List<Path> files, ManifestCache manifestCache) {
+            this.projectDir = projectDir;
+            this.files = files;
+            this.manifestCache = manifestCache;
+        }
+
+        private DependencyReport get() {
+            if (report == null) {
+                report = DependencyExtractor.read(projectDir, files, manifestCache);
             }
+            return report;
         }
-        return false;
     }
-}
\ No newline at end of file
+}
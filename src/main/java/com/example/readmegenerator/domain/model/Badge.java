@@ -0,0 +1,31 @@
+package com.example.readmegenerator.domain.model;
+
+/**
+ * A shields.io badge for one technology.
+ */
+public class Badge {
+
+    private final String label;
+    private final String color;
+    private final String logo;
+
+    public Badge(String label, String color, String logo) {
+        this.label = label;
+        this.color = color;
+        this.logo = logo;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /** Background color as six hex digits, without {@code #}. */
+    public String getColor() {
+        return color;
+    }
+
+    /** simple-icons slug, e.g. {@code springboot}. */
+    public String getLogo() {
+        return logo;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.readmegenerator.domain.model;
+
+import java.util.List;
+
+/**
+ * The jobs of one CI/CD pipeline file, reduced to what they run.
+ */
+public class CiWorkflow {
+
+    private final List<Job> jobs;
+
+    public CiWorkflow(List<Job> jobs) {
+        this.jobs = jobs;
+    }
+
+    public List<Job> getJobs() {
+        return jobs;
+    }
+
+    public static class Job {
+        private final String name;
+        private final List<String> matrix;
+        private final List<String> uses;
+        private final List<String> commands;
+
+        public Job(String name, List<String> matrix, List<String> uses, List<String> commands) {
+            this.name = name;
+            this.matrix = matrix;
+            this.uses = uses;
+            this.commands = commands;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /** Names of the matrix dimensions the job is expanded over, e.g. {@code java} or {@code os}. */
+        public List<String> getMatrix() {
+            return matrix;
+        }
+
+        /** Actions, tasks and container images the job relies on, in order of appearance. */
+        public List<String> getUses() {
+            return uses;
+        }
+
+        /** Shell commands the job runs, one per line of its scripts. */
+        public List<String> getCommands() {
+            return commands;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.readmegenerator.domain.model;
+
+/**
+ * A service declared in a docker-compose file, reduced to where its container image comes from.
+ */
+public class ComposeService {
+
+    private final String name;
+    private final String image;
+    private final String buildContext;
+    private final String dockerfile;
+
+    public ComposeService(String name, String image, String buildContext, String dockerfile) {
+        this.name = name;
+        this.image = image;
+        this.buildContext = buildContext;
+        this.dockerfile = dockerfile;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /** The {@code image} value, or null. */
+    public String getImage() {
+        return image;
+    }
+
+    /** {@code build} when given as a string, otherwise {@code build.context}; null when absent. */
+    public String getBuildContext() {
+        return buildContext;
+    }
+
+    /** {@code build.dockerfile}, or null. */
+    public String getDockerfile() {
+        return dockerfile;
+    }
+}
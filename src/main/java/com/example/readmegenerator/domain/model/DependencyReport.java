@@ -0,0 +1,99 @@
+package com.example.readmegenerator.domain.model;
+
+import java.util.List;
+
+/**
+ * Dependencies declared by every manifest and lockfile of one run, grouped by ecosystem. A package declared with
+ * the same version and scope by several manifests, e.g. by the modules of a monorepo, appears once.
+ */
+public class DependencyReport {
+
+    private final List<Section> sections;
+    private final List<String> unreadableManifests;
+
+    public DependencyReport(List<Section> sections, List<String> unreadableManifests) {
+        this.sections = sections;
+        this.unreadableManifests = unreadableManifests;
+    }
+
+    public List<Section> getSections() {
+        return sections;
+    }
+
+    /** Manifests that could not be parsed, as listed in {@link Dependency#getManifests()}. */
+    public List<String> getUnreadableManifests() {
+        return unreadableManifests;
+    }
+
+    public static class Section {
+        private final String heading;
+        private final List<String> manifests;
+        private final List<Dependency> dependencies;
+        private final int omitted;
+
+        public Section(String heading, List<String> manifests, List<Dependency> dependencies, int omitted) {
+            this.heading = heading;
+            this.manifests = manifests;
+            this.dependencies = dependencies;
+            this.omitted = omitted;
+        }
+
+        /** E.g. {@code Built With (JavaScript)} or {@code Resolved Versions (package-lock.json)}. */
+        public String getHeading() {
+            return heading;
+        }
+
+        public List<String> getManifests() {
+            return manifests;
+        }
+
+        public List<Dependency> getDependencies() {
+            return dependencies;
+        }
+
+        /** Lockfile packages left out once the listing cap was reached. */
+        public int getOmitted() {
+            return omitted;
+        }
+    }
+
+    public static class Dependency {
+        private final String name;
+        private final String version;
+        private final String scope;
+        private final String declaration;
+        private final List<String> manifests;
+
+        public Dependency(String name, String version, String scope, String declaration, List<String> manifests) {
+            this.name = name;
+            this.version = version;
+            this.scope = scope;
+            this.declaration = declaration;
+            this.manifests = manifests;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /** Version or version constraint as declared; empty when none is given. */
+        public String getVersion() {
+            return version;
+        }
+
+        /** E.g. {@code dev}, {@code extra: test} or {@code group: lint}; null for runtime dependencies. */
+        public String getScope() {
+            return scope;
+        }
+
+        /** The dependency in its ecosystem's notation, e.g. {@code express ^4.18.2} or {@code flask==2.0.1}. */
+        public String getDeclaration() {
+            return declaration;
+        }
+
+        /** Paths, relative to the project, of the manifests that declare it. */
+        public List<String> getManifests() {
+            return manifests;
+        }
+    }
+}
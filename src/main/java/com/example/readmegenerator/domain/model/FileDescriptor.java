@@ -0,0 +1,112 @@
+package com.example.readmegenerator.domain.model;
+
+import java.nio.file.Path;
+
+public class FileDescriptor {
+
+    public static final int CODE_FILE = 1;
+    public static final int BUILD_FILE = 1 << 1;
+    public static final int DEPENDENCY_FILE = 1 << 2;
+    public static final int TEXT_BASED_FILE = 1 << 3;
+    public static final int CI_CD_PIPELINE = 1 << 4;
+    public static final int DOCKER_COMPOSE = 1 << 5;
+    public static final int CORE_DOMAIN_NAME = 1 << 6;
+    public static final int TEST_NAME = 1 << 7;
+    public static final int TEST_PATH = 1 << 8;
+
+    /** Size of a file the walk did not read the attributes of. */
+    public static final long UNKNOWN_SIZE = -1;
+
+    private final Path path;
+    private final String fileName;
+    private final String extension;
+    private final String language;
+    private final String ciCdTool;
+    private final int flags;
+    private final long size;
+
+    public FileDescriptor(Path path, String fileName, String extension, String language, String ciCdTool, int flags) {
+        this(path, fileName, extension, language, ciCdTool, flags, UNKNOWN_SIZE);
+    }
+
+    public FileDescriptor(Path path, String fileName, String extension, String language, String ciCdTool, int flags,
+                          long size) {
+        this.path = path;
+        this.fileName = fileName;
+        this.extension = extension;
+        this.language = language;
+        this.ciCdTool = ciCdTool;
+        this.flags = flags;
+        this.size = size;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /** Lower-cased file name. */
+    public String getFileName() {
+        return fileName;
+    }
+
+    /** Lower-cased text from the last dot of the file name, e.g. {@code ".php"}; empty when there is none. */
+    public String getExtension() {
+        return extension;
+    }
+
+    /** Language of the longest matching extension (so {@code .blade.php} wins over {@code .php}), or null. */
+    public String getLanguage() {
+        return language;
+    }
+
+    /** CI/CD or orchestration tool the file configures, or null. */
+    public String getCiCdTool() {
+        return ciCdTool;
+    }
+
+    /** Size in bytes from the attributes the walk read, or {@link #UNKNOWN_SIZE}. */
+    public long getSize() {
+        return size;
+    }
+
+    public boolean isCodeFile() {
+        return has(CODE_FILE);
+    }
+
+    public boolean isBuildFile() {
+        return has(BUILD_FILE);
+    }
+
+    public boolean isDependencyFile() {
+        return has(DEPENDENCY_FILE);
+    }
+
+    public boolean isTextBasedFile() {
+        return has(TEXT_BASED_FILE);
+    }
+
+    /** True for CI/CD pipeline definitions; docker-compose files are reported separately. */
+    public boolean isCiCdPipeline() {
+        return has(CI_CD_PIPELINE);
+    }
+
+    public boolean isDockerCompose() {
+        return has(DOCKER_COMPOSE);
+    }
+
+    public boolean hasCoreDomainName() {
+        return has(CORE_DOMAIN_NAME);
+    }
+
+    public boolean hasTestName() {
+        return has(TEST_NAME);
+    }
+
+    public boolean hasTestPath() {
+        return has(TEST_PATH);
+    }
+
+    private boolean has(int flag) {
+        return (flags & flag) != 0;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.readmegenerator.domain.model;
+
+import java.nio.file.Path;
+import java.util.List;
+
+public class FileWalkResult {
+
+    private final List<Path> files;
+    private final int prunedDirectories;
+    private final int ignoredEntries;
+
+    public FileWalkResult(List<Path> files, int prunedDirectories, int ignoredEntries) {
+        this.files = List.copyOf(files);
+        this.prunedDirectories = prunedDirectories;
+        this.ignoredEntries = ignoredEntries;
+    }
+
+    public List<Path> getFiles() {
+        return files;
+    }
+
+    public int getPrunedDirectories() {
+        return prunedDirectories;
+    }
+
+    public int getIgnoredEntries() {
+        return ignoredEntries;
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.readmegenerator.domain.model;
+
+import java.util.List;
+
+/**
+ * What a single Gradle build or settings script declares, as read from the file (the build is never evaluated).
+ */
+public class GradleBuild {
+
+    private final String name;
+    private final String group;
+    private final String version;
+    private final String description;
+    private final String javaVersion;
+    private final List<String> plugins;
+    private final List<Dependency> dependencies;
+    private final List<String> includedProjects;
+
+    public GradleBuild(String name, String group, String version, String description, String javaVersion,
+                       List<String> plugins, List<Dependency> dependencies, List<String> includedProjects) {
+        this.name = name;
+        this.group = group;
+        this.version = version;
+        this.description = description;
+        this.javaVersion = javaVersion;
+        this.plugins = plugins;
+        this.dependencies = dependencies;
+        this.includedProjects = includedProjects;
+    }
+
+    /** {@code rootProject.name} from a settings script, or null. */
+    public String getName() {
+        return name;
+    }
+
+    public String getGroup() {
+        return group;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /** Toolchain language version, falling back to {@code sourceCompatibility}; null when neither is declared. */
+    public String getJavaVersion() {
+        return javaVersion;
+    }
+
+    /** Plugin ids, each followed by its version when one is declared. */
+    public List<String> getPlugins() {
+        return plugins;
+    }
+
+    /** Dependencies declared in {@code dependencies} blocks; buildscript classpath entries are not included. */
+    public List<Dependency> getDependencies() {
+        return dependencies;
+    }
+
+    /** Projects listed by {@code include} in a settings script. */
+    public List<String> getIncludedProjects() {
+        return includedProjects;
+    }
+
+    public static class Dependency {
+        private final String configuration;
+        private final String notation;
+
+        public Dependency(String configuration, String notation) {
+            this.configuration = configuration;
+            this.notation = notation;
+        }
+
+        /** E.g. {@code implementation} or {@code testImplementation}. */
+        public String getConfiguration() {
+            return configuration;
+        }
+
+        /** {@code group:name:version}, a project path such as {@code project :core}, or a version catalog alias. */
+        public String getNotation() {
+            return notation;
+        }
+    }
+}
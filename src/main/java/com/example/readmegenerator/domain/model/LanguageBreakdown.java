@@ -0,0 +1,70 @@
+package com.example.readmegenerator.domain.model;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The languages of a project ranked by how much of its source they make up, largest first.
+ */
+public class LanguageBreakdown {
+
+    private final List<Share> shares;
+
+    public LanguageBreakdown(List<Share> shares) {
+        this.shares = shares;
+    }
+
+    public List<Share> getShares() {
+        return shares;
+    }
+
+    /** Language names in rank order. */
+    public Set<String> getLanguages() {
+        return shares.stream().map(Share::getLanguage).collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    public boolean isEmpty() {
+        return shares.isEmpty();
+    }
+
+    /** E.g. {@code Java 81.5%, JavaScript 18.5%}. */
+    public String describe() {
+        return shares.stream()
+                .map(share -> share.getLanguage() + " " + String.format(Locale.ROOT, "%.1f%%", share.getPercentage()))
+                .collect(Collectors.joining(", "));
+    }
+
+    public static class Share {
+        private final String language;
+        private final long bytes;
+        private final int files;
+        private final double percentage;
+
+        public Share(String language, long bytes, int files, double percentage) {
+            this.language = language;
+            this.bytes = bytes;
+            this.files = files;
+            this.percentage = percentage;
+        }
+
+        public String getLanguage() {
+            return language;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+
+        public int getFiles() {
+            return files;
+        }
+
+        /** Share of the bytes of all recognized source files, between 0 and 100. */
+        public double getPercentage() {
+            return percentage;
+        }
+    }
+}
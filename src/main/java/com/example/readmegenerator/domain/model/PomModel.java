@@ -0,0 +1,127 @@
+package com.example.readmegenerator.domain.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Top-level content of a single pom.xml, as written in the file (no inheritance or interpolation applied).
+ */
+public class PomModel {
+
+    private final String groupId;
+    private final String artifactId;
+    private final String version;
+    private final String name;
+    private final String description;
+    private final Parent parent;
+    private final Map<String, String> properties;
+    private final List<Dependency> dependencies;
+
+    public PomModel(String groupId, String artifactId, String version, String name, String description,
+                    Parent parent, Map<String, String> properties, List<Dependency> dependencies) {
+        this.groupId = groupId;
+        this.artifactId = artifactId;
+        this.version = version;
+        this.name = name;
+        this.description = description;
+        this.parent = parent;
+        this.properties = properties;
+        this.dependencies = dependencies;
+    }
+
+    public String getGroupId() {
+        return groupId;
+    }
+
+    public String getArtifactId() {
+        return artifactId;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /** The {@code <parent>} reference, or null. */
+    public Parent getParent() {
+        return parent;
+    }
+
+    /** Top-level {@code <properties>}, in declaration order. */
+    public Map<String, String> getProperties() {
+        return properties;
+    }
+
+    /** Direct {@code <dependencies>}; managed and plugin dependencies are not included. */
+    public List<Dependency> getDependencies() {
+        return dependencies;
+    }
+
+    public static class Parent {
+        private final String groupId;
+        private final String artifactId;
+        private final String version;
+        private final String relativePath;
+
+        public Parent(String groupId, String artifactId, String version, String relativePath) {
+            this.groupId = groupId;
+            this.artifactId = artifactId;
+            this.version = version;
+            this.relativePath = relativePath;
+        }
+
+        public String getGroupId() {
+            return groupId;
+        }
+
+        public String getArtifactId() {
+            return artifactId;
+        }
+
+        public String getVersion() {
+            return version;
+        }
+
+        /** Declared relative path, or null when the element is absent. */
+        public String getRelativePath() {
+            return relativePath;
+        }
+    }
+
+    public static class Dependency {
+        private final String groupId;
+        private final String artifactId;
+        private final String version;
+        private final String scope;
+
+        public Dependency(String groupId, String artifactId, String version, String scope) {
+            this.groupId = groupId;
+            this.artifactId = artifactId;
+            this.version = version;
+            this.scope = scope;
+        }
+
+        public String getGroupId() {
+            return groupId;
+        }
+
+        public String getArtifactId() {
+            return artifactId;
+        }
+
+        public String getVersion() {
+            return version;
+        }
+
+        public String getScope() {
+            return scope;
+        }
+    }
+}
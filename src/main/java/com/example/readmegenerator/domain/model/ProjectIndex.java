@@ -0,0 +1,155 @@
+package com.example.readmegenerator.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+public class ProjectIndex {
+
+    private static final String ROOT = "";
+
+    private final String configFingerprint;
+    private final long indexedAt;
+    private final Map<String, FileEntry> files;
+    private final Map<String, SortedSet<String>> children = new HashMap<>();
+    private final Map<String, String> directoryHashes = new HashMap<>();
+
+    public ProjectIndex(String configFingerprint, Map<String, FileEntry> files) {
+        this(configFingerprint, 0, files);
+    }
+
+    /**
+     * @param indexedAt time in epoch milliseconds at which the files were first examined for this index; 0 when
+     *                  unknown, which makes every entry racily clean
+     */
+    public ProjectIndex(String configFingerprint, long indexedAt, Map<String, FileEntry> files) {
+        this.configFingerprint = configFingerprint;
+        this.indexedAt = indexedAt;
+        this.files = Map.copyOf(files);
+
+        children.put(ROOT, new TreeSet<>());
+        for (String path : this.files.keySet()) {
+            String child = path;
+            String parent = parentOf(child);
+            while (children.computeIfAbsent(parent, p -> new TreeSet<>()).add(child) && !parent.equals(ROOT)) {
+                child = parent;
+                parent = parentOf(child);
+            }
+        }
+        computeDirectoryHash(ROOT);
+    }
+
+    public String getConfigFingerprint() {
+        return configFingerprint;
+    }
+
+    public long getIndexedAt() {
+        return indexedAt;
+    }
+
+    public Map<String, FileEntry> getFiles() {
+        return files;
+    }
+
+    public String getRootHash() {
+        return directoryHashes.get(ROOT);
+    }
+
+    public String getDirectoryHash(String relativePath) {
+        return directoryHashes.get(relativePath);
+    }
+
+    public boolean isUnchangedSince(ProjectIndex previous) {
+        return previous != null
+                && Objects.equals(configFingerprint, previous.configFingerprint)
+                && getRootHash().equals(previous.getRootHash());
+    }
+
+    /**
+     * Lists added, modified and removed files. Subtrees whose rolled-up hash matches the previous index are
+     * skipped without being visited, so the cost is proportional to the number of changed entries.
+     */
+    public List<String> changedSince(ProjectIndex previous) {
+        List<String> changed = new ArrayList<>();
+        if (previous == null) {
+            changed.addAll(new TreeSet<>(files.keySet()));
+            return changed;
+        }
+        collectChanges(ROOT, previous, changed);
+        return changed;
+    }
+
+    private void collectChanges(String dir, ProjectIndex previous, List<String> changed) {
+        if (Objects.equals(directoryHashes.get(dir), previous.directoryHashes.get(dir))) {
+            return;
+        }
+
+        SortedSet<String> entries = new TreeSet<>(children.getOrDefault(dir, Collections.emptySortedSet()));
+        entries.addAll(previous.children.getOrDefault(dir, Collections.emptySortedSet()));
+
+        for (String entry : entries) {
+            boolean isDirectory = children.containsKey(entry) || previous.children.containsKey(entry);
+            if (isDirectory) {
+                collectChanges(entry, previous, changed);
+            } else {
+                FileEntry current = files.get(entry);
+                FileEntry before = previous.files.get(entry);
+                if (current == null || before == null || !current.getHash().equals(before.getHash())) {
+                    changed.add(entry);
+                }
+            }
+        }
+    }
+
+    private String computeDirectoryHash(String dir) {
+        MessageDigest digest = sha256();
+        for (String child : children.get(dir)) {
+            String hash = children.containsKey(child) ? computeDirectoryHash(child) : files.get(child).getHash();
+            digest.update(child.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(hash.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+        }
+        String hash = HexFormat.of().formatHex(digest.digest());
+        directoryHashes.put(dir, hash);
+        return hash;
+    }
+
+    private static String parentOf(String path) {
+        int slash = path.lastIndexOf('/');
+        return slash < 0 ? ROOT : path.substring(0, slash);
+    }
+
+    public static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public static class FileEntry {
+        private final long size;
+        private final long lastModified;
+        private final String hash;
+
+        public FileEntry(long size, long lastModified, String hash) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.hash = hash;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public long getLastModified() {
+            return lastModified;
+        }
+
+        public String getHash() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.readmegenerator.domain.model;
+
+import java.io.IOException;
+
+/**
+ * A lazily rendered part of the project summary. Sections are filled in priority order (lowest value first), each
+ * with a guaranteed share of the summary budget; a section is only rendered when there is budget left for it, and a
+ * section without a share only gets what the sections before it left unused.
+ */
+public class SummarySection {
+
+    public static final int PRIORITY_STRUCTURE = 0;
+    public static final int PRIORITY_BUILD = 10;
+    public static final int PRIORITY_CI_CD = 20;
+    public static final int PRIORITY_TESTS = 30;
+    public static final int PRIORITY_DEPENDENCIES = 40;
+    public static final int PRIORITY_CODE = 50;
+
+    @FunctionalInterface
+    public interface Content {
+        /**
+         * @param limit characters the section may take; anything beyond is trimmed, so producers should stop once
+         *              they have written this much
+         */
+        String render(int limit) throws IOException;
+    }
+
+    private final String name;
+    private final int priority;
+    private final double share;
+    private final Content content;
+
+    /**
+     * @param share fraction of the budget reserved for this section, between 0 and 1
+     */
+    public SummarySection(String name, int priority, double share, Content content) {
+        if (share < 0 || share > 1) {
+            throw new IllegalArgumentException("Share must be between 0 and 1");
+        }
+        this.name = name;
+        this.priority = priority;
+        this.share = share;
+        this.content = content;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public double getShare() {
+        return share;
+    }
+
+    public String render(int limit) throws IOException {
+        return content.render(limit);
+    }
+}
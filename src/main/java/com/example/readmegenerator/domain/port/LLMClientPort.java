@@ -4,4 +4,9 @@ import java.io.IOException;
 
 public interface LLMClientPort {
     String generateReadme(String prompt) throws IOException, InterruptedException;
+
+    /** Identifies the model and settings behind the output; a change invalidates the project index. */
+    default String fingerprint() {
+        return getClass().getName();
+    }
 }
@@ -1,10 +1,43 @@
 package com.example.readmegenerator.domain.port;
 
+import com.example.readmegenerator.domain.model.FileDescriptor;
+import com.example.readmegenerator.domain.model.LanguageBreakdown;
+
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Set;
+import java.util.function.Consumer;
 
 public interface LanguageDetectorPort {
-    Set<String> detectLanguages(List<Path> files);
-}
+    LanguageBreakdown detectLanguages(List<FileDescriptor> files);
+
+    /**
+     * Starts a detection that is fed file by file while the project is still being walked. The default collects the
+     * files and hands them to {@link #detectLanguages(List)} once the walk is over.
+     */
+    default Detection startDetection(Path projectDir) {
+        List<FileDescriptor> files = Collections.synchronizedList(new ArrayList<>());
+        return new Detection() {
+            @Override
+            public void accept(FileDescriptor file) {
+                files.add(file);
+            }
 
+            @Override
+            public LanguageBreakdown finish() {
+                return detectLanguages(new ArrayList<>(files));
+            }
+        };
+    }
+
+    /** Identifies the detector and its settings; a change invalidates the project index. */
+    default String fingerprint() {
+        return getClass().getName();
+    }
+
+    /** Receives files from any thread of the walk; {@link #finish()} is called once, after the last file. */
+    interface Detection extends Consumer<FileDescriptor> {
+        LanguageBreakdown finish();
+    }
+}
@@ -1,10 +1,40 @@
 package com.example.readmegenerator.domain.port;
 
+import com.example.readmegenerator.domain.model.FileDescriptor;
+import com.example.readmegenerator.domain.model.SummarySection;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface ProjectAnalyzerPort {
-    String analyze(List<Path> files) throws IOException;
-}
+    String analyze(List<FileDescriptor> files) throws IOException;
+
+    /**
+     * Splits the analysis into lazily rendered sections so that only what fits the summary budget is computed.
+     * The default treats the whole {@link #analyze(List)} output as a single section.
+     */
+    default List<SummarySection> analyzeSections(List<FileDescriptor> files) {
+        return List.of(new SummarySection("Project analysis", SummarySection.PRIORITY_BUILD, 0.75,
+                limit -> analyze(files)));
+    }
 
+    /**
+     * Files the latest analysis left out as not worth summarizing (binary, generated, minified and the like), counted
+     * per lower-case reason; sections that were never rendered contribute nothing.
+     */
+    default Map<String, Integer> getLastSkippedFiles() {
+        return Map.of();
+    }
+
+    /** Drops whatever the analyzer remembers about {@code changedFiles}, which were reported changed by a watcher. */
+    default void invalidate(Collection<Path> changedFiles) {
+    }
+
+    /** Identifies the summary format; a change invalidates the project index. */
+    default String fingerprint() {
+        return getClass().getName();
+    }
+}
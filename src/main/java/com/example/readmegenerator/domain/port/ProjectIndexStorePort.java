@@ -0,0 +1,13 @@
+package com.example.readmegenerator.domain.port;
+
+import com.example.readmegenerator.domain.model.ProjectIndex;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+public interface ProjectIndexStorePort {
+    Optional<ProjectIndex> load(Path projectDir);
+
+    void save(Path projectDir, ProjectIndex index) throws IOException;
+}
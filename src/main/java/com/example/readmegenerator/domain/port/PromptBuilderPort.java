@@ -4,4 +4,9 @@ import com.example.readmegenerator.domain.model.ReadmeGenerationConfig;
 
 public interface PromptBuilderPort {
     String build(String summary, String projectName,  ReadmeGenerationConfig config);
+
+    /** Identifies the prompt format; a change invalidates the project index. */
+    default String fingerprint() {
+        return getClass().getName();
+    }
 }
@@ -1,8 +1,9 @@
 package com.example.readmegenerator.domain.port;
 
-import java.nio.file.Path;
+import com.example.readmegenerator.domain.model.FileDescriptor;
+
 import java.util.List;
 
 public interface TestAnalyzerPort {
-    String analyzeTests(List<Path> allFiles);
+    String analyzeTests(List<FileDescriptor> allFiles);
 }
@@ -0,0 +1,109 @@
+package com.example.readmegenerator.domain.service;
+
+import com.example.readmegenerator.domain.model.Badge;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Built-in mapping from technologies to badges, read from {@code badges.tsv}. Keys are held in one sorted array
+ * searched by bisection, with a parallel array of badges that entries sharing a badge point to.
+ */
+public class BadgeCatalog {
+
+    private static final String RESOURCE = "/badges.tsv";
+
+    private final String[] keys;
+    private final Badge[] badges;
+
+    private BadgeCatalog(String[] keys, Badge[] badges) {
+        this.keys = keys;
+        this.badges = badges;
+    }
+
+    /** The catalog shipped with the application, loaded on first use. */
+    public static BadgeCatalog builtIn() {
+        return BuiltIn.CATALOG;
+    }
+
+    /**
+     * Reads tab-separated lines of key, label, color and logo; blank lines and lines starting with {@code #} are
+     * ignored.
+     */
+    static BadgeCatalog load(Reader reader) throws IOException {
+        TreeMap<String, Badge> entries = new TreeMap<>();
+        Map<String, Badge> shared = new HashMap<>();
+        BufferedReader lines = new BufferedReader(reader);
+        int lineNumber = 0;
+        for (String line = lines.readLine(); line != null; line = lines.readLine()) {
+            lineNumber++;
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            String[] fields = line.split("\t");
+            if (fields.length != 4) {
+                throw new IOException("Expected key, label, color and logo on line " + lineNumber);
+            }
+            Badge badge = shared.computeIfAbsent(fields[1] + "\t" + fields[2] + "\t" + fields[3],
+                    k -> new Badge(fields[1], fields[2], fields[3]));
+            entries.put(fields[0].toLowerCase(), badge);
+        }
+        return new BadgeCatalog(entries.keySet().toArray(new String[0]), entries.values().toArray(new Badge[0]));
+    }
+
+    /**
+     * Looks up a language or tool name, a Maven coordinate ({@code groupId:artifactId}), an npm package, a PyPI
+     * package or a Composer package. Coordinates and scoped names fall back to their group, scope or vendor, and
+     * group ids to their parent groups, so {@code org.springframework.boot:spring-boot-starter-web} finds the entry
+     * for {@code org.springframework.boot}.
+     *
+     * @return the badge, or null when the technology is not in the catalog
+     */
+    public Badge find(String technology) {
+        String key = technology.trim().toLowerCase();
+        while (!key.isEmpty()) {
+            int index = Arrays.binarySearch(keys, key);
+            if (index >= 0) {
+                return badges[index];
+            }
+            int separator = Math.max(key.lastIndexOf(':'), key.lastIndexOf('/'));
+            if (separator < 0) {
+                separator = key.lastIndexOf('.');
+                // A bare top-level domain such as "org" never names a technology.
+                if (separator < 0 || key.indexOf('.') == separator) {
+                    return null;
+                }
+            }
+            key = key.substring(0, separator);
+        }
+        return null;
+    }
+
+    int size() {
+        return keys.length;
+    }
+
+    private static class BuiltIn {
+        private static final BadgeCatalog CATALOG = loadBuiltIn();
+
+        private static BadgeCatalog loadBuiltIn() {
+            try (InputStream in = BadgeCatalog.class.getResourceAsStream(RESOURCE)) {
+                if (in == null) {
+                    throw new IllegalStateException("The badge catalog " + RESOURCE + " was not found in the resources.");
+                }
+                return load(new InputStreamReader(in, StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read the badge catalog", e);
+            }
+        }
+    }
+}
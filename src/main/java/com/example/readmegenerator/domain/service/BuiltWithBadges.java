@@ -0,0 +1,151 @@
+package com.example.readmegenerator.domain.service;
+
+import com.example.readmegenerator.domain.model.Badge;
+import com.example.readmegenerator.domain.model.DependencyReport;
+import com.example.readmegenerator.domain.model.FileDescriptor;
+import com.example.readmegenerator.domain.model.GradleBuild;
+import com.example.readmegenerator.domain.model.PomModel;
+import com.example.readmegenerator.domain.model.ReadmeGenerationConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Renders the "Built With" badge block from what the project declares, so the model only has to leave a
+ * placeholder where it goes instead of writing badges itself.
+ */
+public class BuiltWithBadges {
+
+    private static final Logger logger = LoggerFactory.getLogger(BuiltWithBadges.class);
+
+    /** Marker the model is asked to emit inside its Built With section. */
+    public static final String PLACEHOLDER = "<!-- built-with-badges -->";
+
+    static final int MAX_BADGES = 24;
+
+    private static final String SECTION_ID = "id=\"built-with\"";
+
+    private BuiltWithBadges() {
+    }
+
+    /**
+     * Badges for the detected languages, the CI/CD tools and the dependencies declared by manifests, poms and Gradle
+     * scripts among {@code files}, in that order; a badge shared by several technologies appears once. Poms and
+     * scripts come from {@code models}, which the summary already parsed them into, so a pom's badges follow its
+     * effective model with inherited dependencies and interpolated coordinates.
+     */
+    public static List<Badge> collect(BadgeCatalog catalog, Collection<String> languages, DependencyReport dependencies,
+                                      List<FileDescriptor> files, ManifestCache models) {
+        Map<String, Badge> badges = new LinkedHashMap<>();
+        for (String language : languages) {
+            add(badges, catalog, language);
+        }
+
+        List<Path> builds = new ArrayList<>();
+        for (FileDescriptor file : files) {
+            String fileName = file.getFileName();
+            if (file.getCiCdTool() != null) {
+                add(badges, catalog, file.getCiCdTool());
+            }
+            if (fileName.equals("pom.xml") || GradleScriptReader.isGradleScript(fileName)) {
+                builds.add(file.getPath());
+            } else if (fileName.equals("dockerfile")) {
+                add(badges, catalog, "Docker");
+            }
+        }
+
+        for (Path build : builds) {
+            try {
+                if (build.getFileName().toString().equals("pom.xml")) {
+                    add(badges, catalog, "Maven");
+                    PomModel pom = models.pomResolver().resolve(build);
+                    if (pom.getParent() != null) {
+                        add(badges, catalog, pom.getParent().getGroupId() + ":" + pom.getParent().getArtifactId());
+                    }
+                    for (PomModel.Dependency dependency : pom.getDependencies()) {
+                        add(badges, catalog, dependency.getGroupId() + ":" + dependency.getArtifactId());
+                    }
+                } else {
+                    add(badges, catalog, "Gradle");
+                    for (GradleBuild.Dependency dependency : models.gradleBuild(build).getDependencies()) {
+                        add(badges, catalog, dependency.getNotation());
+                    }
+                }
+            } catch (IOException e) {
+                logger.debug("Could not read {} for badges: {}", build, e.getMessage());
+            }
+        }
+
+        for (DependencyReport.Section section : dependencies.getSections()) {
+            for (DependencyReport.Dependency dependency : section.getDependencies()) {
+                add(badges, catalog, dependency.getName());
+            }
+        }
+        return new ArrayList<>(badges.values());
+    }
+
+    private static void add(Map<String, Badge> badges, BadgeCatalog catalog, String technology) {
+        if (technology == null || badges.size() >= MAX_BADGES) {
+            return;
+        }
+        // Gradle notations carry a version after the artifact; only group and name identify the technology.
+        String[] parts = technology.split(":");
+        Badge badge = catalog.find(parts.length > 2 ? parts[0] + ":" + parts[1] : technology);
+        if (badge != null) {
+            badges.putIfAbsent(badge.getLabel(), badge);
+        }
+    }
+
+    public static String render(List<Badge> badges, ReadmeGenerationConfig.HeaderAlignment alignment) {
+        if (badges.isEmpty()) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("<div align=\"").append(alignment.name().toLowerCase()).append("\">\n");
+        for (Badge badge : badges) {
+            sb.append("  <img src=\"https://img.shields.io/badge/").append(shieldsText(badge.getLabel()))
+                    .append('-').append(badge.getColor())
+                    .append("?logo=").append(badge.getLogo())
+                    .append("&logoColor=white&style=for-the-badge\" height=\"30\" alt=\"")
+                    .append(badge.getLabel()).append(" logo\" />\n");
+        }
+        sb.append("</div>");
+        return sb.toString();
+    }
+
+    // shields.io reads dashes and underscores in the static badge path as separators, so they are doubled.
+    private static String shieldsText(String label) {
+        return URLEncoder.encode(label.replace("-", "--").replace("_", "__"), StandardCharsets.UTF_8)
+                .replace("+", "%20");
+    }
+
+    /**
+     * Replaces the placeholder with the badge block. When the model left the placeholder out, the block goes right
+     * after the Built With heading; without that heading the README is returned without badges.
+     */
+    public static String splice(String readme, String block) {
+        if (readme.contains(PLACEHOLDER)) {
+            return readme.replace(PLACEHOLDER, block);
+        }
+        if (block.isEmpty()) {
+            return readme;
+        }
+        int section = readme.indexOf(SECTION_ID);
+        int headingEnd = section < 0 ? -1 : readme.indexOf("</h2>", section);
+        if (headingEnd < 0) {
+            logger.debug("The generated README has no Built With section; badges are left out");
+            return readme;
+        }
+        int insertAt = headingEnd + "</h2>".length();
+        return readme.substring(0, insertAt) + "\n" + block + readme.substring(insertAt);
+    }
+}
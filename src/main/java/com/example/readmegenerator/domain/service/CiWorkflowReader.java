@@ -0,0 +1,238 @@
+package com.example.readmegenerator.domain.service;
+
+import com.example.readmegenerator.domain.model.CiWorkflow;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Extracts jobs, matrix dimensions, actions or images and script commands from CI/CD pipeline files in a single
+ * pass over the YAML events. Each supported tool only looks at the handful of paths where its syntax puts them.
+ */
+public class CiWorkflowReader {
+
+    static final int MAX_COMMANDS_PER_JOB = 10;
+
+    private static final Set<String> SUPPORTED_TOOLS = Set.of(
+            "GitHub Actions", "GitLab CI", "Azure Pipelines", "Travis CI", "CircleCI"
+    );
+
+    private static final Set<String> GITLAB_RESERVED_KEYS = Set.of(
+            "stages", "variables", "default", "include", "workflow", "image", "services", "before_script",
+            "after_script", "cache", "pages"
+    );
+
+    private static final Set<String> AZURE_SCRIPT_KEYS = Set.of("script", "bash", "powershell", "pwsh");
+    private static final Set<String> TRAVIS_MATRIX_KEYS = Set.of(
+            "jdk", "node_js", "python", "php", "ruby", "go", "os", "env", "dist", "arch"
+    );
+    private static final Set<String> TRAVIS_SCRIPT_KEYS = Set.of("before_install", "install", "before_script", "script");
+    private static final Set<String> GITLAB_SCRIPT_KEYS = Set.of("before_script", "script", "after_script");
+
+    private CiWorkflowReader() {
+    }
+
+    public static boolean supports(String ciCdTool) {
+        return SUPPORTED_TOOLS.contains(ciCdTool);
+    }
+
+    /**
+     * @param ciCdTool tool name as reported by {@link FileClassifier}
+     * @throws IOException when the YAML is invalid or exceeds the parser limits
+     */
+    public static CiWorkflow read(Reader reader, String ciCdTool) throws IOException {
+        Extraction extraction = new Extraction();
+        YamlEventWalker.walk(reader, (path, value) -> {
+            switch (ciCdTool) {
+                case "GitHub Actions" -> readGitHubActions(extraction, path, value);
+                case "GitLab CI" -> readGitLabCi(extraction, path, value);
+                case "Azure Pipelines" -> readAzurePipelines(extraction, path, value);
+                case "Travis CI" -> readTravisCi(extraction, path, value);
+                case "CircleCI" -> readCircleCi(extraction, path, value);
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        });
+        return extraction.toWorkflow();
+    }
+
+    private static void readGitHubActions(Extraction extraction, List<String> path, String value) {
+        if (path.size() < 2 || !path.get(0).equals("jobs") || path.get(1).equals(YamlEventWalker.SEQUENCE_ITEM)) {
+            return;
+        }
+        JobBuilder job = extraction.job(path.get(1));
+        List<String> rest = path.subList(2, path.size());
+        if (rest.size() == 3 && rest.get(0).equals("strategy") && rest.get(1).equals("matrix")
+                && !rest.get(2).equals("include") && !rest.get(2).equals("exclude")) {
+            job.matrix.add(rest.get(2));
+        }
+        if (value == null) {
+            return;
+        }
+        switch (String.join(".", rest)) {
+            case "name" -> job.displayName = value;
+            case "uses", "steps.-.uses", "container", "container.image" -> job.uses.add(value);
+            case "steps.-.run" -> job.addCommands(value);
+            default -> {
+            }
+        }
+    }
+
+    private static void readGitLabCi(Extraction extraction, List<String> path, String value) {
+        if (path.isEmpty()) {
+            return;
+        }
+        String key = path.get(0);
+        if (GITLAB_RESERVED_KEYS.contains(key)) {
+            if (value != null && (path.equals(List.of("image")) || path.equals(List.of("image", "name")))) {
+                extraction.defaultImage = value;
+            }
+            return;
+        }
+        if (key.startsWith(".")) {
+            // Hidden jobs are templates for extends, not jobs that run.
+            return;
+        }
+        if (path.size() == 1) {
+            if (value == null) {
+                extraction.job(key);
+            }
+            return;
+        }
+        JobBuilder job = extraction.jobs.get(key);
+        if (job == null) {
+            return;
+        }
+        List<String> rest = path.subList(1, path.size());
+        if (rest.size() == 4 && rest.get(0).equals("parallel") && rest.get(1).equals("matrix")) {
+            job.matrix.add(rest.get(3));
+        }
+        if (value == null) {
+            return;
+        }
+        if (rest.equals(List.of("image")) || rest.equals(List.of("image", "name"))) {
+            job.uses.add(value);
+        } else if (GITLAB_SCRIPT_KEYS.contains(rest.get(0)) && rest.size() <= 2) {
+            job.addCommands(value);
+        }
+    }
+
+    // Azure jobs can sit at the top level, under jobs or under stages; the innermost jobs item seen last is current.
+    private static void readAzurePipelines(Extraction extraction, List<String> path, String value) {
+        int size = path.size();
+        if (size == 0) {
+            return;
+        }
+        String last = path.get(size - 1);
+        String parent = size > 1 ? path.get(size - 2) : "";
+
+        if (value == null && last.equals(YamlEventWalker.SEQUENCE_ITEM) && parent.equals("jobs")) {
+            extraction.current = extraction.job("job " + (extraction.jobs.size() + 1));
+            return;
+        }
+        if (size > 2 && path.get(size - 3).equals("strategy") && parent.equals("matrix") && value == null) {
+            extraction.currentJob().matrix.add(last);
+        }
+        if (value == null) {
+            return;
+        }
+        if ((last.equals("job") || last.equals("deployment")) && parent.equals(YamlEventWalker.SEQUENCE_ITEM)
+                && size > 2 && path.get(size - 3).equals("jobs")) {
+            extraction.currentJob().displayName = value;
+        } else if (path.contains("steps") && parent.equals(YamlEventWalker.SEQUENCE_ITEM) && AZURE_SCRIPT_KEYS.contains(last)) {
+            extraction.currentJob().addCommands(value);
+        } else if (path.contains("steps") && parent.equals(YamlEventWalker.SEQUENCE_ITEM) && last.equals("task")) {
+            extraction.currentJob().uses.add(value);
+        } else if ((parent.equals("pool") && last.equals("vmImage")) || last.equals("container")) {
+            extraction.currentJob().uses.add(value);
+        }
+    }
+
+    private static void readTravisCi(Extraction extraction, List<String> path, String value) {
+        if (path.isEmpty() || value == null || path.size() > 2) {
+            return;
+        }
+        String key = path.get(0);
+        boolean listed = path.size() == 2 && path.get(1).equals(YamlEventWalker.SEQUENCE_ITEM);
+        JobBuilder job = extraction.currentJob();
+        if (key.equals("language") && path.size() == 1) {
+            job.displayName = value;
+        } else if (TRAVIS_MATRIX_KEYS.contains(key) && listed) {
+            job.matrix.add(key);
+        } else if (TRAVIS_SCRIPT_KEYS.contains(key) && (listed || path.size() == 1)) {
+            job.addCommands(value);
+        }
+    }
+
+    private static void readCircleCi(Extraction extraction, List<String> path, String value) {
+        if (path.size() < 3 || !path.get(0).equals("jobs") || value == null) {
+            return;
+        }
+        JobBuilder job = extraction.job(path.get(1));
+        switch (String.join(".", path.subList(2, path.size()))) {
+            case "docker.-.image" -> job.uses.add(value);
+            case "steps.-.run", "steps.-.run.command" -> job.addCommands(value);
+            default -> {
+            }
+        }
+    }
+
+    private static class Extraction {
+        private final Map<String, JobBuilder> jobs = new LinkedHashMap<>();
+        private JobBuilder current;
+        private String defaultImage;
+
+        private JobBuilder job(String id) {
+            return jobs.computeIfAbsent(id, JobBuilder::new);
+        }
+
+        // Pipelines without explicit jobs (Travis, single-job Azure) collect everything under one job.
+        private JobBuilder currentJob() {
+            if (current == null) {
+                current = job("build");
+            }
+            return current;
+        }
+
+        private CiWorkflow toWorkflow() {
+            List<CiWorkflow.Job> result = new ArrayList<>(jobs.size());
+            for (JobBuilder job : jobs.values()) {
+                if (job.uses.isEmpty() && defaultImage != null) {
+                    job.uses.add(defaultImage);
+                }
+                result.add(new CiWorkflow.Job(job.displayName != null ? job.displayName : job.id,
+                        List.copyOf(job.matrix), List.copyOf(job.uses), List.copyOf(job.commands)));
+            }
+            return new CiWorkflow(result);
+        }
+    }
+
+    private static class JobBuilder {
+        private final String id;
+        private String displayName;
+        private final Set<String> matrix = new LinkedHashSet<>();
+        private final Set<String> uses = new LinkedHashSet<>();
+        private final List<String> commands = new ArrayList<>();
+
+        private JobBuilder(String id) {
+            this.id = id;
+        }
+
+        private void addCommands(String script) {
+            for (String line : script.split("\n")) {
+                String command = line.trim();
+                if (!command.isEmpty() && !command.startsWith("#") && commands.size() < MAX_COMMANDS_PER_JOB) {
+                    commands.add(command);
+                }
+            }
+        }
+    }
+}
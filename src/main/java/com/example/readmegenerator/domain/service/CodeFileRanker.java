@@ -0,0 +1,252 @@
+package com.example.readmegenerator.domain.service;
+
+import com.example.readmegenerator.domain.model.FileDescriptor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Ranks code files by how central they are in the project's import graph. Imports, requires and includes are read
+ * from the first lines of each file, resolved to other files in the set, and scored with a PageRank whose random
+ * jumps favour files with core domain names, so heavily used files outrank isolated ones.
+ */
+public class CodeFileRanker {
+
+    static final int MAX_HEADER_LINES = 80;
+
+    private static final double DAMPING = 0.85;
+    private static final int MAX_ITERATIONS = 50;
+    private static final double TOLERANCE = 1e-9;
+    private static final double CORE_NAME_WEIGHT = 3.0;
+
+    private static final Pattern JAVA_IMPORT = Pattern.compile("^\\s*import\\s+(static\\s+)?([\\w.]+)\\s*;");
+    private static final Pattern JS_IMPORT = Pattern.compile("(?:\\bfrom\\s+|\\brequire\\s*\\(\\s*|^\\s*import\\s*\\(?\\s*)['\"]([^'\"]+)['\"]");
+    private static final Pattern PYTHON_FROM = Pattern.compile("^\\s*from\\s+(\\.*[\\w.]*)\\s+import\\b");
+    private static final Pattern PYTHON_IMPORT = Pattern.compile("^\\s*import\\s+([\\w.]+)");
+    private static final Pattern PHP_USE = Pattern.compile("^\\s*use\\s+([\\w\\\\]+)");
+    private static final Pattern PHP_REQUIRE = Pattern.compile("\\b(?:require|include)(?:_once)?\\s*\\(?\\s*['\"]([^'\"]+)['\"]");
+    private static final Pattern C_INCLUDE = Pattern.compile("^\\s*#\\s*include\\s*\"([^\"]+)\"");
+
+    private CodeFileRanker() {
+    }
+
+    /**
+     * Returns the files ordered from most to least central; ties keep their input order.
+     */
+    public static List<FileDescriptor> rank(List<FileDescriptor> files) {
+        double[] scores = scores(files);
+        Integer[] order = new Integer[files.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.<Integer>comparingDouble(i -> -scores[i]).thenComparingInt(i -> i));
+
+        List<FileDescriptor> ranked = new ArrayList<>(files.size());
+        for (int index : order) {
+            ranked.add(files.get(index));
+        }
+        return ranked;
+    }
+
+    static double[] scores(List<FileDescriptor> files) {
+        int n = files.size();
+        List<Set<Integer>> edges = buildGraph(files);
+
+        double[] jump = new double[n];
+        double jumpTotal = 0;
+        for (int i = 0; i < n; i++) {
+            jump[i] = files.get(i).hasCoreDomainName() ? CORE_NAME_WEIGHT : 1.0;
+            jumpTotal += jump[i];
+        }
+        for (int i = 0; i < n; i++) {
+            jump[i] /= jumpTotal;
+        }
+
+        double[] rank = jump.clone();
+        for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+            double[] next = new double[n];
+            double dangling = 0;
+            for (int i = 0; i < n; i++) {
+                Set<Integer> targets = edges.get(i);
+                if (targets.isEmpty()) {
+                    dangling += rank[i];
+                } else {
+                    double share = rank[i] / targets.size();
+                    for (int target : targets) {
+                        next[target] += share;
+                    }
+                }
+            }
+
+            double delta = 0;
+            for (int i = 0; i < n; i++) {
+                next[i] = (1 - DAMPING) * jump[i] + DAMPING * (next[i] + dangling * jump[i]);
+                delta += Math.abs(next[i] - rank[i]);
+            }
+            rank = next;
+            if (delta < TOLERANCE) {
+                break;
+            }
+        }
+        return rank;
+    }
+
+    // Edges point from the importing file to the imported one.
+    private static List<Set<Integer>> buildGraph(List<FileDescriptor> files) {
+        Map<String, List<Integer>> byName = new HashMap<>();
+        String[] keys = new String[files.size()];
+        for (int i = 0; i < files.size(); i++) {
+            keys[i] = moduleKey(files.get(i).getPath().toAbsolutePath().normalize());
+            byName.computeIfAbsent(lastSegment(keys[i]), name -> new ArrayList<>()).add(i);
+        }
+
+        List<Set<Integer>> edges = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            Set<Integer> targets = new LinkedHashSet<>();
+            for (String target : readImports(files.get(i))) {
+                int resolved = resolve(target, keys, byName);
+                if (resolved >= 0 && resolved != i) {
+                    targets.add(resolved);
+                }
+            }
+            edges.add(targets);
+        }
+        return edges;
+    }
+
+    /**
+     * Resolves a module path (slash separated, without extension) to a file whose key ends with it; a bare name is
+     * only linked when a single file carries it.
+     */
+    private static int resolve(String target, String[] keys, Map<String, List<Integer>> byName) {
+        List<Integer> candidates = byName.getOrDefault(lastSegment(target), List.of());
+        for (int candidate : candidates) {
+            String key = keys[candidate];
+            if (key.equals(target) || key.endsWith("/" + target)) {
+                return candidate;
+            }
+        }
+        if (!target.contains("/") && candidates.size() == 1) {
+            return candidates.get(0);
+        }
+        if (!target.endsWith("/index") && !target.endsWith("/__init__")) {
+            int index = resolve(target + "/index", keys, byName);
+            return index >= 0 ? index : resolve(target + "/__init__", keys, byName);
+        }
+        return -1;
+    }
+
+    static List<String> readImports(FileDescriptor file) {
+        Path path = file.getPath();
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        List<String> imports = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(Files.newInputStream(path), decoder))) {
+            String line;
+            for (int i = 0; i < MAX_HEADER_LINES && (line = reader.readLine()) != null; i++) {
+                extractImports(line, file.getExtension(), path.toAbsolutePath().normalize().getParent(), imports);
+            }
+        } catch (IOException | RuntimeException e) {
+            // An unreadable file simply contributes no edges.
+        }
+        return imports;
+    }
+
+    static void extractImports(String line, String extension, Path directory, List<String> imports) {
+        switch (extension) {
+            case ".java" -> {
+                Matcher matcher = JAVA_IMPORT.matcher(line);
+                if (matcher.find() && !matcher.group(2).endsWith("*")) {
+                    String name = matcher.group(2);
+                    if (matcher.group(1) != null && name.contains(".")) {
+                        name = name.substring(0, name.lastIndexOf('.'));
+                    }
+                    imports.add(name.replace('.', '/').toLowerCase(Locale.ROOT));
+                }
+            }
+            case ".js", ".ts" -> {
+                Matcher matcher = JS_IMPORT.matcher(line);
+                while (matcher.find()) {
+                    addRelative(matcher.group(1), directory, imports);
+                }
+            }
+            case ".py" -> {
+                Matcher from = PYTHON_FROM.matcher(line);
+                Matcher plain = PYTHON_IMPORT.matcher(line);
+                if (from.find()) {
+                    addPythonModule(from.group(1), directory, imports);
+                } else if (plain.find()) {
+                    addPythonModule(plain.group(1), directory, imports);
+                }
+            }
+            case ".php" -> {
+                Matcher use = PHP_USE.matcher(line);
+                Matcher require = PHP_REQUIRE.matcher(line);
+                if (use.find()) {
+                    imports.add(use.group(1).replace('\\', '/').toLowerCase(Locale.ROOT));
+                } else if (require.find()) {
+                    addRelative(require.group(1), directory, imports);
+                }
+            }
+            case ".c", ".cpp", ".h", ".hpp" -> {
+                Matcher matcher = C_INCLUDE.matcher(line);
+                if (matcher.find()) {
+                    addRelative(matcher.group(1), directory, imports);
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private static void addRelative(String specifier, Path directory, List<String> imports) {
+        if (specifier.startsWith(".") && directory != null) {
+            imports.add(moduleKey(directory.resolve(specifier).normalize()));
+        } else if (!specifier.startsWith("/")) {
+            imports.add(stripExtension(specifier.replace('\\', '/')).toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private static void addPythonModule(String module, Path directory, List<String> imports) {
+        int dots = 0;
+        while (dots < module.length() && module.charAt(dots) == '.') {
+            dots++;
+        }
+        String name = module.substring(dots).replace('.', '/').toLowerCase(Locale.ROOT);
+        if (dots == 0) {
+            imports.add(name);
+            return;
+        }
+        Path base = directory;
+        for (int i = 1; i < dots && base != null; i++) {
+            base = base.getParent();
+        }
+        if (base != null) {
+            imports.add(name.isEmpty() ? moduleKey(base) + "/__init__" : moduleKey(base.resolve(name)));
+        }
+    }
+
+    private static String moduleKey(Path path) {
+        return stripExtension(path.toString().replace('\\', '/')).toLowerCase(Locale.ROOT);
+    }
+
+    private static String stripExtension(String path) {
+        int slash = path.lastIndexOf('/');
+        int dot = path.lastIndexOf('.');
+        return dot > slash + 1 ? path.substring(0, dot) : path;
+    }
+
+    private static String lastSegment(String key) {
+        return key.substring(key.lastIndexOf('/') + 1);
+    }
+}
@@ -1,124 +1,485 @@
 package com.example.readmegenerator.domain.service;
 
-import org.json.JSONObject;
+import com.example.readmegenerator.domain.model.DependencyReport;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public class DependencyExtractor {
 
+    // Lockfiles pin every transitive package; only this many are listed, followed by a count of the rest.
+    static final int MAX_LOCKED_PACKAGES = 50;
+
+    // Manifests named next to a dependency that only some of a section's manifests declare.
+    private static final int MAX_LISTED_MANIFESTS = 3;
+
     public static String extractDependencies(List<Path> files) {
-        StringBuilder all = new StringBuilder();
+        return render(read(null, files));
+    }
+
+    public static String extractDependencies(Path file) {
+        return extractDependencies(List.of(file));
+    }
 
-        for (Path file : files) {
+    /**
+     * @param projectDir directory the manifest paths are reported relative to, or null to report file names
+     */
+    public static String extractDependencies(Path projectDir, List<Path> files) {
+        return render(read(projectDir, files));
+    }
+
+    /**
+     * Parses each manifest and lockfile among {@code files} once and merges their declarations: a package with the
+     * same version and scope in several manifests becomes a single entry listing all of them.
+     *
+     * @param projectDir directory the manifest paths are reported relative to, or null to report file names
+     */
+    public static DependencyReport read(Path projectDir, List<Path> files) {
+        return read(projectDir, files, new ManifestCache());
+    }
+
+    /**
+     * Like {@link #read(Path, List)}, reusing the manifests {@code cache} parsed in earlier runs while unchanged.
+     */
+    public static DependencyReport read(Path projectDir, List<Path> files, ManifestCache cache) {
+        Map<String, SectionBuilder> sections = new LinkedHashMap<>();
+        List<String> unreadable = new ArrayList<>();
+
+        for (Path file : new LinkedHashSet<>(files)) {
             String name = file.getFileName().toString().toLowerCase();
+            if (!name.matches("package\\.json|package-lock\\.json|composer\\.json|composer\\.lock|requirements\\.txt|pyproject\\.toml")) {
+                continue;
+            }
+
+            String label = projectDir != null && file.startsWith(projectDir)
+                    ? projectDir.relativize(file).toString().replace('\\', '/')
+                    : file.getFileName().toString();
+            Manifest manifest;
+            try {
+                manifest = cache.dependencyManifest(file);
+            } catch (Exception e) {
+                unreadable.add(label);
+                continue;
+            }
 
-            if (name.matches("package\\.json|composer\\.json|requirements\\.txt|pyproject\\.toml")) {
-                try {
-                    all.append(extractFromSingleFile(file)).append("\n");
-                } catch (Exception e) {
-                    all.append("> ⚠️ Could not parse ").append(name).append("\n");
+            manifest.sections.forEach((heading, dependencies) -> {
+                SectionBuilder section = sections.computeIfAbsent(heading, SectionBuilder::new);
+                section.manifests.add(label);
+                section.omitted += manifest.omitted.getOrDefault(heading, 0);
+                for (DependencyReport.Dependency dependency : dependencies) {
+                    section.add(dependency, label);
                 }
+            });
+        }
+
+        List<DependencyReport.Section> result = new ArrayList<>(sections.size());
+        for (SectionBuilder section : sections.values()) {
+            result.add(section.build());
+        }
+        return new DependencyReport(result, unreadable);
+    }
+
+    public static String render(DependencyReport report) {
+        StringBuilder sb = new StringBuilder();
+
+        for (DependencyReport.Section section : report.getSections()) {
+            if (section.getDependencies().isEmpty() && section.getOmitted() == 0) {
+                continue;
+            }
+            sb.append("### ").append(section.getHeading()).append("\n");
+            int manifests = section.getManifests().size();
+            if (manifests > 1) {
+                sb.append("Declared in ").append(manifests).append(" manifests: ")
+                        .append(listManifests(section.getManifests(), manifests)).append("\n");
+            }
+            for (DependencyReport.Dependency dependency : section.getDependencies()) {
+                sb.append("- ").append(dependency.getDeclaration());
+                if (dependency.getScope() != null) {
+                    sb.append(" *(").append(dependency.getScope()).append(")*");
+                }
+                // A dependency every manifest shares needs no attribution.
+                if (dependency.getManifests().size() < manifests) {
+                    sb.append(" — ").append(listManifests(dependency.getManifests(), MAX_LISTED_MANIFESTS));
+                }
+                sb.append("\n");
+            }
+            if (section.getOmitted() > 0) {
+                sb.append("- ... and ").append(section.getOmitted()).append(" more\n");
             }
+            sb.append("\n");
         }
 
-        return all.toString();
+        for (String manifest : report.getUnreadableManifests()) {
+            sb.append("> ⚠️ Could not parse ").append(manifest).append("\n");
+        }
+        return sb.toString();
     }
 
-    public static String extractDependencies(Path file) {
-        return extractDependencies(List.of(file));
+    private static String listManifests(List<String> manifests, int limit) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < Math.min(limit, manifests.size()); i++) {
+            sb.append(i > 0 ? ", " : "").append('`').append(manifests.get(i)).append('`');
+        }
+        if (manifests.size() > limit) {
+            sb.append(" and ").append(manifests.size() - limit).append(" more");
+        }
+        return sb.toString();
     }
 
-    private static String extractFromSingleFile(Path file) throws IOException {
+    static Manifest parseManifest(Path file) throws IOException {
         String fileName = file.getFileName().toString().toLowerCase();
-        String content = Files.readString(file);
-        StringBuilder sb = new StringBuilder();
+        Manifest manifest = new Manifest();
 
+        // JSON and TOML manifests are streamed; requirements.txt is small enough to read whole.
         switch (fileName) {
             case "composer.json":
-                extractFromComposerJson(sb, content);
+                try (Reader reader = Files.newBufferedReader(file)) {
+                    extractFromComposerJson(manifest.section("🧩 Built With (PHP)"), new JsonPullParser(reader));
+                }
                 break;
 
             case "package.json":
-                extractFromPackageJson(sb, content);
+                try (Reader reader = Files.newBufferedReader(file)) {
+                    extractFromPackageJson(manifest.section("🧩 Built With (JavaScript)"), new JsonPullParser(reader));
+                }
+                break;
+
+            case "package-lock.json":
+                try (Reader reader = Files.newBufferedReader(file)) {
+                    extractFromPackageLock(manifest, "🔒 Resolved Versions (package-lock.json)", new JsonPullParser(reader));
+                }
+                break;
+
+            case "composer.lock":
+                try (Reader reader = Files.newBufferedReader(file)) {
+                    extractFromComposerLock(manifest, "🔒 Resolved Versions (composer.lock)", new JsonPullParser(reader));
+                }
                 break;
 
             case "requirements.txt":
-                extractFromRequirementsTxt(sb, content);
+                extractFromRequirementsTxt(manifest.section("🧩 Built With (Python - requirements.txt)"),
+                        Files.readString(file));
                 break;
 
             case "pyproject.toml":
-                extractFromPyprojectToml(sb, content);
+                try (Reader reader = Files.newBufferedReader(file)) {
+                    extractFromPyprojectToml(manifest.section("🧩 Built With (Python - pyproject.toml)"), reader);
+                }
                 break;
         }
 
-        return sb.toString();
+        return manifest;
     }
 
-    private static void extractFromComposerJson(StringBuilder sb, String content) {
-        JSONObject json = new JSONObject(content);
-        sb.append("### 🧩 Built With (PHP)\n");
+    private static void extractFromComposerJson(List<DependencyReport.Dependency> deps, JsonPullParser json)
+            throws IOException {
+        readRootObject(json, name -> {
+            switch (name) {
+                case "require" -> addDeps(deps, json, null);
+                case "require-dev" -> addDeps(deps, json, "dev");
+                default -> json.skipValue();
+            }
+        });
+    }
 
-        if (json.has("require")) {
-            addDeps(sb, json.getJSONObject("require"), "");
-        }
-        if (json.has("require-dev")) {
-            addDeps(sb, json.getJSONObject("require-dev"), " *(dev)*");
-        }
+    private static void extractFromPackageJson(List<DependencyReport.Dependency> deps, JsonPullParser json)
+            throws IOException {
+        readRootObject(json, name -> {
+            switch (name) {
+                case "dependencies" -> addDeps(deps, json, null);
+                case "devDependencies" -> addDeps(deps, json, "dev");
+                default -> json.skipValue();
+            }
+        });
     }
 
-    private static void extractFromPackageJson(StringBuilder sb, String content) {
-        JSONObject json = new JSONObject(content);
-        sb.append("### 🧩 Built With (JavaScript)\n");
+    /**
+     * Lists the resolved versions of the project's direct dependencies. Lockfile v2/v3 declares them in the root
+     * entry of {@code packages}, which npm writes first; v1 only has the hoisted tree, listed up to the cap.
+     */
+    private static void extractFromPackageLock(Manifest manifest, String heading, JsonPullParser json)
+            throws IOException {
+        List<DependencyReport.Dependency> deps = manifest.section(heading);
+        Set<String> direct = new HashSet<>();
+        int[] omitted = {0};
+        readRootObject(json, name -> {
+            if (name.equals("packages")) {
+                readObject(json, path -> {
+                    if (path.isEmpty()) {
+                        readObject(json, field -> {
+                            if (field.equals("dependencies") || field.equals("devDependencies")
+                                    || field.equals("optionalDependencies")) {
+                                readObject(json, dependency -> {
+                                    direct.add(dependency);
+                                    json.skipValue();
+                                });
+                            } else {
+                                json.skipValue();
+                            }
+                        });
+                    } else if (path.startsWith("node_modules/") && path.indexOf("/node_modules/") < 0
+                            && direct.contains(path.substring("node_modules/".length()))) {
+                        addLockedPackage(deps, json, path.substring("node_modules/".length()), omitted);
+                    } else {
+                        json.skipValue();
+                    }
+                });
+            } else if (name.equals("dependencies") && direct.isEmpty()) {
+                readObject(json, dependency -> addLockedPackage(deps, json, dependency, omitted));
+            } else {
+                json.skipValue();
+            }
+        });
+        manifest.omitted.put(heading, omitted[0]);
+    }
 
-        if (json.has("dependencies")) {
-            addDeps(sb, json.getJSONObject("dependencies"), "");
+    private static void extractFromComposerLock(Manifest manifest, String heading, JsonPullParser json)
+            throws IOException {
+        List<DependencyReport.Dependency> deps = manifest.section(heading);
+        int[] omitted = {0};
+        readRootObject(json, name -> {
+            if (name.equals("packages") || name.equals("packages-dev")) {
+                String scope = name.equals("packages-dev") ? "dev" : null;
+                expect(json, JsonPullParser.Token.BEGIN_ARRAY);
+                while (json.next() == JsonPullParser.Token.BEGIN_OBJECT) {
+                    String[] entry = new String[2];
+                    readFields(json, field -> {
+                        if (field.equals("name") || field.equals("version")) {
+                            entry[field.equals("name") ? 0 : 1] = readScalar(json);
+                        } else {
+                            json.skipValue();
+                        }
+                    });
+                    addLocked(deps, entry[0], entry[1], scope, omitted);
+                }
+            } else {
+                json.skipValue();
+            }
+        });
+        manifest.omitted.put(heading, omitted[0]);
+    }
+
+    private static void addLockedPackage(List<DependencyReport.Dependency> deps, JsonPullParser json, String name,
+                                         int[] omitted) throws IOException {
+        String[] version = new String[1];
+        boolean[] dev = new boolean[1];
+        readObject(json, field -> {
+            if (field.equals("version")) {
+                version[0] = readScalar(json);
+            } else if (field.equals("dev")) {
+                dev[0] = "true".equals(readScalar(json));
+            } else {
+                json.skipValue();
+            }
+        });
+        addLocked(deps, name, version[0], dev[0] ? "dev" : null, omitted);
+    }
+
+    private static void addLocked(List<DependencyReport.Dependency> deps, String name, String version, String scope,
+                                  int[] omitted) {
+        if (name == null) {
+            return;
         }
-        if (json.has("devDependencies")) {
-            addDeps(sb, json.getJSONObject("devDependencies"), " *(dev)*");
+        if (deps.size() >= MAX_LOCKED_PACKAGES) {
+            omitted[0]++;
+            return;
         }
+        declare(deps, name, version, scope, " ");
     }
 
-    private static void extractFromRequirementsTxt(StringBuilder sb, String content) {
-        sb.append("### 🧩 Built With (Python - requirements.txt)\n");
-
+    private static void extractFromRequirementsTxt(List<DependencyReport.Dependency> deps, String content) {
         for (String line : content.split("\n")) {
             line = line.trim();
             if (!line.isEmpty() && !line.startsWith("#")) {
-                sb.append("- ").append(line).append("\n");
+                addRequirement(deps, line, null);
             }
         }
     }
 
-    private static void extractFromPyprojectToml(StringBuilder sb, String content) {
-        sb.append("### 🧩 Built With (Python - pyproject.toml)\n");
+    // PEP 621 and Poetry dependency tables; every other key of pyproject.toml is scanned but never stored.
+    private static boolean isPyprojectDependencyKey(List<String> key) {
+        if (key.size() >= 2 && key.get(0).equals("project")) {
+            return key.get(1).equals("dependencies") || key.get(1).equals("optional-dependencies");
+        }
+        if (key.size() >= 3 && key.get(0).equals("tool") && key.get(1).equals("poetry")) {
+            String table = key.get(2);
+            return table.equals("dependencies") || table.equals("dev-dependencies")
+                    || (table.equals("group") && key.size() >= 5 && key.get(4).equals("dependencies"));
+        }
+        return false;
+    }
 
-        boolean inDeps = false;
-        for (String line : content.split("\n")) {
-            line = line.trim();
-            if (line.equals("[tool.poetry.dependencies]") || line.equals("[project.dependencies]")) {
-                inDeps = true;
-                continue;
+    private static void extractFromPyprojectToml(List<DependencyReport.Dependency> deps, Reader reader)
+            throws IOException {
+        Map<String, Object> toml = TomlReader.read(reader, DependencyExtractor::isPyprojectDependencyKey);
+
+        Map<String, Object> project = table(toml, "project");
+        addRequirements(deps, project.get("dependencies"), null);
+        for (Map.Entry<String, Object> extra : table(project, "optional-dependencies").entrySet()) {
+            addRequirements(deps, extra.getValue(), "extra: " + extra.getKey());
+        }
+
+        Map<String, Object> poetry = table(table(toml, "tool"), "poetry");
+        addPoetryDeps(deps, table(poetry, "dependencies"), null);
+        addPoetryDeps(deps, table(poetry, "dev-dependencies"), "dev");
+        for (Map.Entry<String, Object> group : table(poetry, "group").entrySet()) {
+            if (group.getValue() instanceof Map<?, ?> groupTable) {
+                addPoetryDeps(deps, groupTable.get("dependencies"), "group: " + group.getKey());
             }
-            if (line.startsWith("[") && !line.contains("dependencies")) {
-                inDeps = false;
+        }
+    }
+
+    private static void addRequirements(List<DependencyReport.Dependency> deps, Object requirements, String scope) {
+        if (requirements instanceof List<?> list) {
+            for (Object requirement : list) {
+                if (requirement instanceof String text) {
+                    addRequirement(deps, text, scope);
+                }
+            }
+        }
+    }
+
+    // PEP 508 requirement, e.g. "requests[socks]>=2.31; python_version >= '3.8'": the name ends at the first
+    // extras bracket, version operator, marker or URL.
+    private static void addRequirement(List<DependencyReport.Dependency> deps, String requirement, String scope) {
+        int end = 0;
+        while (end < requirement.length() && "[=<>~!;@ ".indexOf(requirement.charAt(end)) < 0) {
+            end++;
+        }
+        String name = requirement.substring(0, end);
+        deps.add(new DependencyReport.Dependency(name, requirement.substring(end).trim(), scope, requirement,
+                List.of()));
+    }
+
+    // Poetry maps names to a version string or to a table such as {version = "^2.0", extras = ["socks"]}.
+    private static void addPoetryDeps(List<DependencyReport.Dependency> deps, Object table, String scope) {
+        if (!(table instanceof Map<?, ?> map)) {
+            return;
+        }
+        for (Map.Entry<?, ?> dep : map.entrySet()) {
+            Object spec = dep.getValue();
+            String version;
+            if (spec instanceof Map<?, ?> details) {
+                Object source = details.get("version") != null ? details.get("version")
+                        : details.get("git") != null ? "git " + details.get("git")
+                        : details.get("path") != null ? "path " + details.get("path") : null;
+                version = source != null ? source.toString() : null;
+            } else {
+                version = spec instanceof String text ? text : null;
             }
-            if (inDeps && line.contains("=")) {
-                sb.append("- ").append(line).append("\n");
+            declare(deps, dep.getKey().toString(), version, scope, " = ");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> table(Map<String, Object> parent, String key) {
+        Object child = parent.get(key);
+        return child instanceof Map ? (Map<String, Object>) child : Map.of();
+    }
+
+    private static void addDeps(List<DependencyReport.Dependency> deps, JsonPullParser json, String scope)
+            throws IOException {
+        readObject(json, name -> declare(deps, name, readScalar(json), scope, " "));
+    }
+
+    private static void declare(List<DependencyReport.Dependency> deps, String name, String version, String scope,
+                                String separator) {
+        String declared = version != null ? version : "unknown";
+        deps.add(new DependencyReport.Dependency(name, version != null ? version : "", scope,
+                name + separator + declared, List.of()));
+    }
+
+    private interface FieldHandler {
+        void field(String name) throws IOException;
+    }
+
+    private static void readRootObject(JsonPullParser json, FieldHandler handler) throws IOException {
+        readObject(json, handler);
+        expect(json, JsonPullParser.Token.END_DOCUMENT);
+    }
+
+    // Calls the handler for every name of the next object; the handler must consume the value.
+    private static void readObject(JsonPullParser json, FieldHandler handler) throws IOException {
+        expect(json, JsonPullParser.Token.BEGIN_OBJECT);
+        readFields(json, handler);
+    }
+
+    private static void readFields(JsonPullParser json, FieldHandler handler) throws IOException {
+        for (JsonPullParser.Token token = json.next(); token != JsonPullParser.Token.END_OBJECT; token = json.next()) {
+            handler.field(json.getText());
+        }
+    }
+
+    // Text of a string, number or literal value; nested values are skipped and yield null.
+    private static String readScalar(JsonPullParser json) throws IOException {
+        JsonPullParser.Token token = json.next();
+        if (token == JsonPullParser.Token.BEGIN_OBJECT || token == JsonPullParser.Token.BEGIN_ARRAY) {
+            for (int open = 1; open > 0; ) {
+                token = json.next();
+                if (token == JsonPullParser.Token.BEGIN_OBJECT || token == JsonPullParser.Token.BEGIN_ARRAY) {
+                    open++;
+                } else if (token == JsonPullParser.Token.END_OBJECT || token == JsonPullParser.Token.END_ARRAY) {
+                    open--;
+                }
             }
+            return null;
+        }
+        return token == JsonPullParser.Token.LITERAL && json.getText().equals("null") ? null : json.getText();
+    }
+
+    private static void expect(JsonPullParser json, JsonPullParser.Token expected) throws IOException {
+        JsonPullParser.Token token = json.next();
+        if (token != expected) {
+            throw new IOException("Expected " + expected + " but found " + token);
         }
     }
 
-    private static void addDeps(StringBuilder sb, JSONObject deps, String suffix) {
-        for (Iterator<String> it = deps.keys(); it.hasNext(); ) {
-            String name = it.next();
-            String version = deps.optString(name, "unknown");
+    // Declarations of one manifest, grouped by section heading, before they are merged with other manifests.
+    static class Manifest {
+        private final Map<String, List<DependencyReport.Dependency>> sections = new LinkedHashMap<>();
+        private final Map<String, Integer> omitted = new LinkedHashMap<>();
 
-            sb.append("- ").append(name).append(" ").append(version).append(suffix).append("\n");
+        private List<DependencyReport.Dependency> section(String heading) {
+            return sections.computeIfAbsent(heading, k -> new ArrayList<>());
         }
     }
-}
 
+    private static class SectionBuilder {
+        private final String heading;
+        private final List<String> manifests = new ArrayList<>();
+        // Keyed by name, version and scope; each entry collects the manifests that declare it.
+        private final Map<String, DependencyReport.Dependency> first = new LinkedHashMap<>();
+        private final Map<String, List<String>> declaredIn = new LinkedHashMap<>();
+        private int omitted;
+
+        private SectionBuilder(String heading) {
+            this.heading = heading;
+        }
+
+        private void add(DependencyReport.Dependency dependency, String manifest) {
+            String key = dependency.getName() + "\0" + dependency.getVersion() + "\0" + dependency.getScope();
+            first.putIfAbsent(key, dependency);
+            List<String> manifests = declaredIn.computeIfAbsent(key, k -> new ArrayList<>());
+            if (!manifests.contains(manifest)) {
+                manifests.add(manifest);
+            }
+        }
+
+        private DependencyReport.Section build() {
+            List<DependencyReport.Dependency> dependencies = new ArrayList<>(first.size());
+            first.forEach((key, dependency) -> dependencies.add(new DependencyReport.Dependency(dependency.getName(),
+                    dependency.getVersion(), dependency.getScope(), dependency.getDeclaration(),
+                    List.copyOf(declaredIn.get(key)))));
+            return new DependencyReport.Section(heading, List.copyOf(manifests), dependencies, omitted);
+        }
+    }
+}
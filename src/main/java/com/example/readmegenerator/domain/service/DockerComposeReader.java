@@ -0,0 +1,66 @@
+package com.example.readmegenerator.domain.service;
+
+import com.example.readmegenerator.domain.model.ComposeService;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the services of a docker-compose file from SnakeYAML's event stream. Only {@code services.*.image} and
+ * {@code services.*.build} are kept, and reading stops as soon as the {@code services} mapping has been read.
+ */
+public class DockerComposeReader {
+
+    private DockerComposeReader() {
+    }
+
+    public static List<ComposeService> read(Path composeFile) throws IOException {
+        try (Reader reader = Files.newBufferedReader(composeFile)) {
+            return read(reader);
+        }
+    }
+
+    /**
+     * Returns the services of the first document that declares any.
+     *
+     * @throws IOException when the YAML is invalid or exceeds the size, nesting or alias limits
+     */
+    public static List<ComposeService> read(Reader reader) throws IOException {
+        // name -> {image, build context, dockerfile}
+        Map<String, String[]> services = new LinkedHashMap<>();
+        YamlEventWalker.walk(reader, (path, value) -> {
+            if (path.isEmpty() || !path.get(0).equals("services")) {
+                // A new document or a key after services: done once any service was read.
+                return services.isEmpty();
+            }
+            String name = path.size() > 1 ? path.get(1) : null;
+            if (path.size() == 2 && value == null && !name.equals(YamlEventWalker.SEQUENCE_ITEM)) {
+                services.putIfAbsent(name, new String[3]);
+                return true;
+            }
+            String[] service = name != null ? services.get(name) : null;
+            if (service == null || value == null) {
+                return true;
+            }
+            String key = String.join(".", path.subList(2, path.size()));
+            switch (key) {
+                case "image" -> service[0] = value;
+                case "build", "build.context" -> service[1] = value;
+                case "build.dockerfile" -> service[2] = value;
+                default -> {
+                }
+            }
+            return true;
+        });
+
+        List<ComposeService> result = new ArrayList<>(services.size());
+        services.forEach((name, fields) -> result.add(new ComposeService(name, fields[0], fields[1], fields[2])));
+        return result;
+    }
+}
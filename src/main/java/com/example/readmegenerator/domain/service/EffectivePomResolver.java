@@ -0,0 +1,174 @@
+package com.example.readmegenerator.domain.service;
+
+import com.example.readmegenerator.domain.model.PomModel;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Builds effective pom models for one analysis run: local parents are resolved through their relative path,
+ * groupId, version, properties and dependencies are inherited, and {@code ${...}} references are interpolated.
+ * Every pom is read and resolved at most once, so the parent of N modules is parsed once rather than N times.
+ */
+public class EffectivePomResolver {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{([^}]+)}");
+    private static final int MAX_PARENT_DEPTH = 16;
+    private static final int MAX_INTERPOLATION_PASSES = 8;
+
+    private final Map<Path, Optional<PomModel>> models = new ConcurrentHashMap<>();
+    private final Map<Path, Path> parents = new ConcurrentHashMap<>();
+
+    public PomModel resolve(Path pom) throws IOException {
+        return resolve(pom.toAbsolutePath().normalize(), 0)
+                .orElseThrow(() -> new IOException("Could not resolve " + pom));
+    }
+
+    /**
+     * Returns the pom followed by the local parent poms its effective model was built from.
+     */
+    public List<Path> lineage(Path pom) throws IOException {
+        Path current = pom.toAbsolutePath().normalize();
+        resolve(current, 0);
+
+        List<Path> lineage = new ArrayList<>();
+        while (current != null && lineage.size() <= MAX_PARENT_DEPTH) {
+            lineage.add(current);
+            current = parents.get(current);
+        }
+        return lineage;
+    }
+
+    private Optional<PomModel> resolve(Path pom, int depth) throws IOException {
+        Optional<PomModel> cached = models.get(pom);
+        if (cached != null) {
+            return cached;
+        }
+
+        PomModel raw = MavenPomReader.read(pom);
+        PomModel parent = depth < MAX_PARENT_DEPTH ? resolveParent(pom, raw.getParent(), depth) : null;
+        Optional<PomModel> effective = Optional.of(merge(raw, parent));
+        models.putIfAbsent(pom, effective);
+        return effective;
+    }
+
+    private PomModel resolveParent(Path pom, PomModel.Parent reference, int depth) {
+        if (reference == null || "".equals(reference.getRelativePath())) {
+            return null;
+        }
+
+        Path parentPom = pom.getParent().resolve(reference.getRelativePath() != null ? reference.getRelativePath() : "..");
+        if (Files.isDirectory(parentPom)) {
+            parentPom = parentPom.resolve("pom.xml");
+        }
+        parentPom = parentPom.normalize();
+        if (!Files.isRegularFile(parentPom) || parentPom.equals(pom)) {
+            return null;
+        }
+
+        try {
+            PomModel parent = resolve(parentPom, depth + 1).orElse(null);
+            // A pom found on the relative path that is not the declared parent is ignored, as Maven does.
+            if (parent != null && Objects.equals(parent.getArtifactId(), reference.getArtifactId())) {
+                parents.put(pom, parentPom);
+                return parent;
+            }
+        } catch (IOException e) {
+            models.putIfAbsent(parentPom, Optional.empty());
+        }
+        return null;
+    }
+
+    private PomModel merge(PomModel raw, PomModel parent) {
+        PomModel.Parent reference = raw.getParent();
+        String groupId = firstNonNull(raw.getGroupId(), parent != null ? parent.getGroupId() : null,
+                reference != null ? reference.getGroupId() : null);
+        String version = firstNonNull(raw.getVersion(), parent != null ? parent.getVersion() : null,
+                reference != null ? reference.getVersion() : null);
+
+        Map<String, String> properties = new LinkedHashMap<>();
+        if (parent != null) {
+            properties.putAll(parent.getProperties());
+        }
+        properties.putAll(raw.getProperties());
+
+        Map<String, String> context = new HashMap<>(properties);
+        putIfNotNull(context, "project.groupId", groupId);
+        putIfNotNull(context, "project.artifactId", raw.getArtifactId());
+        putIfNotNull(context, "project.version", version);
+        putIfNotNull(context, "project.name", raw.getName());
+        if (reference != null) {
+            putIfNotNull(context, "project.parent.groupId", reference.getGroupId());
+            putIfNotNull(context, "project.parent.version", reference.getVersion());
+        }
+        context.replaceAll((key, value) -> interpolate(value, context));
+        properties.replaceAll((key, value) -> context.get(key));
+
+        // Dependencies are keyed by groupId:artifactId; the child's own declaration wins over an inherited one.
+        Map<String, PomModel.Dependency> dependencies = new LinkedHashMap<>();
+        if (parent != null) {
+            for (PomModel.Dependency dependency : parent.getDependencies()) {
+                dependencies.put(dependency.getGroupId() + ":" + dependency.getArtifactId(), dependency);
+            }
+        }
+        for (PomModel.Dependency dependency : raw.getDependencies()) {
+            PomModel.Dependency resolved = new PomModel.Dependency(interpolate(dependency.getGroupId(), context),
+                    interpolate(dependency.getArtifactId(), context), interpolate(dependency.getVersion(), context),
+                    dependency.getScope());
+            dependencies.put(resolved.getGroupId() + ":" + resolved.getArtifactId(), resolved);
+        }
+
+        return new PomModel(interpolate(groupId, context), interpolate(raw.getArtifactId(), context),
+                interpolate(version, context), interpolate(raw.getName(), context),
+                interpolate(raw.getDescription(), context), reference, Collections.unmodifiableMap(properties),
+                List.copyOf(dependencies.values()));
+    }
+
+    static String interpolate(String value, Map<String, String> context) {
+        if (value == null || !value.contains("${")) {
+            return value;
+        }
+
+        String current = value;
+        for (int pass = 0; pass < MAX_INTERPOLATION_PASSES && current.contains("${"); pass++) {
+            Matcher matcher = PLACEHOLDER.matcher(current);
+            StringBuilder sb = new StringBuilder();
+            boolean replaced = false;
+            while (matcher.find()) {
+                String replacement = context.get(matcher.group(1));
+                if (replacement != null && !replacement.contains("${" + matcher.group(1) + "}")) {
+                    replaced = true;
+                } else {
+                    replacement = matcher.group();
+                }
+                matcher.appendReplacement(sb, Matcher.quoteReplacement(replacement));
+            }
+            matcher.appendTail(sb);
+            current = sb.toString();
+            if (!replaced) {
+                break;
+            }
+        }
+        return current;
+    }
+
+    private static String firstNonNull(String... values) {
+        for (String value : values) {
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private static void putIfNotNull(Map<String, String> map, String key, String value) {
+        if (value != null) {
+            map.put(key, value);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.readmegenerator.domain.service;
+
+import com.example.readmegenerator.domain.model.FileDescriptor;
+
+import java.nio.file.Path;
+import java.util.*;
+
+import static com.example.readmegenerator.domain.model.FileDescriptor.*;
+
+/**
+ * Classifies a path in a single pass: every extension, file name, CI/CD and naming pattern is compiled into one
+ * Aho-Corasick automaton that is run once over the path, lower-casing and normalizing separators on the fly.
+ */
+public class FileClassifier {
+
+    private enum Kind {
+        /** Anywhere in the path. */
+        ANYWHERE,
+        /** Entire file name; the pattern text starts with a slash. */
+        NAME,
+        /** End of the file name. */
+        SUFFIX,
+        /** Anywhere inside the file name. */
+        IN_NAME
+    }
+
+    private static final List<Rule> RULES = List.of(
+            // CI/CD tools; earlier rules win when a file matches several tools
+            new Rule(".github/workflows/", Kind.ANYWHERE, CI_CD_PIPELINE, null, "GitHub Actions"),
+            new Rule(".azure-pipelines/", Kind.ANYWHERE, CI_CD_PIPELINE, null, "Azure Pipelines"),
+            new Rule("/gitlab-ci.yml", Kind.NAME, CI_CD_PIPELINE, null, "GitLab CI"),
+            new Rule("/.gitlab-ci.yml", Kind.NAME, CI_CD_PIPELINE, null, "GitLab CI"),
+            new Rule("/azure-pipelines.yml", Kind.NAME, CI_CD_PIPELINE, null, "Azure Pipelines"),
+            new Rule("/jenkinsfile", Kind.NAME, CI_CD_PIPELINE, null, "Jenkins Pipeline"),
+            new Rule("/circle.yml", Kind.NAME, CI_CD_PIPELINE, null, "CircleCI"),
+            new Rule("/.travis.yml", Kind.NAME, CI_CD_PIPELINE, null, "Travis CI"),
+            new Rule("/docker-compose.yml", Kind.NAME, DOCKER_COMPOSE | BUILD_FILE, null, "Docker Compose"),
+
+            // build, dependency and text-based configuration files
+            new Rule("/pom.xml", Kind.NAME, BUILD_FILE, null, null),
+            new Rule("/build.gradle", Kind.NAME, BUILD_FILE, null, null),
+            new Rule("/build.gradle.kts", Kind.NAME, BUILD_FILE, null, null),
+            new Rule("/settings.gradle", Kind.NAME, BUILD_FILE, null, null),
+            new Rule("/settings.gradle.kts", Kind.NAME, BUILD_FILE, null, null),
+            new Rule("/package.json", Kind.NAME, BUILD_FILE | DEPENDENCY_FILE, null, null),
+            new Rule("/requirements.txt", Kind.NAME, BUILD_FILE | DEPENDENCY_FILE, null, null),
+            new Rule("/composer.json", Kind.NAME, DEPENDENCY_FILE, null, null),
+            new Rule("/package-lock.json", Kind.NAME, DEPENDENCY_FILE, null, null),
+            new Rule("/composer.lock", Kind.NAME, DEPENDENCY_FILE, null, null),
+            new Rule("/pyproject.toml", Kind.NAME, DEPENDENCY_FILE, null, null),
+            new Rule("/cmakelists.txt", Kind.NAME, TEXT_BASED_FILE, null, null),
+            new Rule("/makefile", Kind.NAME, TEXT_BASED_FILE, null, null),
+
+            // extensions; the longest matching suffix decides the language
+            new Rule(".blade.php", Kind.SUFFIX, 0, "PHP (Blade)", null),
+            new Rule(".php", Kind.SUFFIX, CODE_FILE, "PHP", null),
+            new Rule(".js", Kind.SUFFIX, CODE_FILE, "JavaScript", null),
+            new Rule(".ts", Kind.SUFFIX, CODE_FILE, "TypeScript", null),
+            new Rule(".vue", Kind.SUFFIX, 0, "Vue", null),
+            new Rule(".scss", Kind.SUFFIX, 0, "SCSS", null),
+            new Rule(".css", Kind.SUFFIX, 0, "CSS", null),
+            new Rule(".html", Kind.SUFFIX, 0, "HTML", null),
+            new Rule(".java", Kind.SUFFIX, CODE_FILE, "Java", null),
+            new Rule(".py", Kind.SUFFIX, CODE_FILE, "Python", null),
+            new Rule(".go", Kind.SUFFIX, 0, "Go", null),
+            new Rule(".rb", Kind.SUFFIX, 0, "Ruby", null),
+            new Rule(".kt", Kind.SUFFIX, 0, "Kotlin", null),
+            new Rule(".cs", Kind.SUFFIX, 0, "C#", null),
+            new Rule(".cpp", Kind.SUFFIX, CODE_FILE, "C++", null),
+            new Rule(".c", Kind.SUFFIX, CODE_FILE, "C", null),
+            new Rule(".h", Kind.SUFFIX, CODE_FILE, "C/C++ Header", null),
+            new Rule(".hpp", Kind.SUFFIX, CODE_FILE, null, null),
+
+            // naming heuristics
+            new Rule("controller", Kind.IN_NAME, CORE_DOMAIN_NAME, null, null),
+            new Rule("service", Kind.IN_NAME, CORE_DOMAIN_NAME, null, null),
+            new Rule("application", Kind.IN_NAME, CORE_DOMAIN_NAME, null, null),
+            new Rule("model", Kind.IN_NAME, CORE_DOMAIN_NAME, null, null),
+            new Rule("entity", Kind.IN_NAME, CORE_DOMAIN_NAME, null, null),
+            new Rule("domain", Kind.IN_NAME, CORE_DOMAIN_NAME, null, null),
+            new Rule("test", Kind.IN_NAME, TEST_NAME, null, null),
+            new Rule("test", Kind.ANYWHERE, TEST_PATH, null, null)
+    );
+
+    private static final int ALPHABET = 128;
+    private static final int[][] TRANSITIONS;
+    private static final int[][] OUTPUTS;
+
+    static {
+        List<int[]> transitions = new ArrayList<>();
+        List<List<Integer>> outputs = new ArrayList<>();
+        transitions.add(newState());
+        outputs.add(new ArrayList<>());
+
+        for (int ruleId = 0; ruleId < RULES.size(); ruleId++) {
+            int state = 0;
+            for (char c : RULES.get(ruleId).text.toCharArray()) {
+                if (transitions.get(state)[c] < 0) {
+                    transitions.get(state)[c] = transitions.size();
+                    transitions.add(newState());
+                    outputs.add(new ArrayList<>());
+                }
+                state = transitions.get(state)[c];
+            }
+            outputs.get(state).add(ruleId);
+        }
+
+        int[] failure = new int[transitions.size()];
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int c = 0; c < ALPHABET; c++) {
+            int next = transitions.get(0)[c];
+            if (next < 0) {
+                transitions.get(0)[c] = 0;
+            } else {
+                failure[next] = 0;
+                queue.add(next);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            outputs.get(state).addAll(outputs.get(failure[state]));
+            for (int c = 0; c < ALPHABET; c++) {
+                int next = transitions.get(state)[c];
+                if (next < 0) {
+                    transitions.get(state)[c] = transitions.get(failure[state])[c];
+                } else {
+                    failure[next] = transitions.get(failure[state])[c];
+                    queue.add(next);
+                }
+            }
+        }
+
+        TRANSITIONS = transitions.toArray(new int[0][]);
+        OUTPUTS = outputs.stream()
+                .map(ids -> ids.stream().mapToInt(Integer::intValue).sorted().toArray())
+                .toArray(int[][]::new);
+    }
+
+    private FileClassifier() {
+    }
+
+    /** Every language {@link #classify(Path)} can report, in rule order. */
+    public static Set<String> languages() {
+        Set<String> languages = new LinkedHashSet<>();
+        for (Rule rule : RULES) {
+            if (rule.language != null) {
+                languages.add(rule.language);
+            }
+        }
+        return Collections.unmodifiableSet(languages);
+    }
+
+    public static FileDescriptor classify(Path path) {
+        return classify(path, FileDescriptor.UNKNOWN_SIZE);
+    }
+
+    /**
+     * @param size size in bytes from attributes the caller already read, kept on the descriptor so that nobody
+     *             has to stat the file again; {@link FileDescriptor#UNKNOWN_SIZE} when not known
+     */
+    public static FileDescriptor classify(Path path, long size) {
+        Path namePath = path.getFileName();
+        String fileName = namePath != null ? namePath.toString().toLowerCase() : "";
+        String fullPath = path.toString();
+        int length = fullPath.length();
+        int nameStart = length - fileName.length();
+
+        int flags = 0;
+        String language = null;
+        int languageLength = 0;
+        int toolRule = Integer.MAX_VALUE;
+
+        // The virtual leading separator lets NAME rules match paths without a directory part.
+        int state = TRANSITIONS[0]['/'];
+        for (int i = 0; i < length; i++) {
+            char c = fullPath.charAt(i);
+            c = c == '\\' ? '/' : Character.toLowerCase(c);
+            state = c < ALPHABET ? TRANSITIONS[state][c] : 0;
+
+            for (int ruleId : OUTPUTS[state]) {
+                Rule rule = RULES.get(ruleId);
+                boolean matches = switch (rule.kind) {
+                    case ANYWHERE -> true;
+                    case NAME, SUFFIX -> i == length - 1;
+                    case IN_NAME -> i - rule.text.length() + 1 >= nameStart;
+                };
+                if (!matches) {
+                    continue;
+                }
+
+                flags |= rule.flags;
+                if (rule.language != null && rule.text.length() > languageLength) {
+                    language = rule.language;
+                    languageLength = rule.text.length();
+                }
+                if (rule.ciCdTool != null && ruleId < toolRule) {
+                    toolRule = ruleId;
+                }
+            }
+        }
+
+        int dot = fileName.lastIndexOf('.');
+        String extension = dot >= 0 ? fileName.substring(dot) : "";
+        String ciCdTool = toolRule < RULES.size() ? RULES.get(toolRule).ciCdTool : null;
+
+        return new FileDescriptor(path, fileName, extension, language, ciCdTool, flags, size);
+    }
+
+    private static int[] newState() {
+        int[] state = new int[ALPHABET];
+        Arrays.fill(state, -1);
+        return state;
+    }
+
+    private static class Rule {
+        private final String text;
+        private final Kind kind;
+        private final int flags;
+        private final String language;
+        private final String ciCdTool;
+
+        private Rule(String text, Kind kind, int flags, String language, String ciCdTool) {
+            this.text = text;
+            this.kind = kind;
+            this.flags = flags;
+            this.language = language;
+            this.ciCdTool = ciCdTool;
+        }
+    }
+}
@@ -0,0 +1,441 @@
+package com.example.readmegenerator.domain.service;
+
+import com.example.readmegenerator.domain.model.GradleBuild;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Single-pass reader for Gradle build and settings scripts in both the Groovy and the Kotlin DSL. The script is
+ * tokenized once; tokens are grouped into statements and matched against the block they appear in, so only one
+ * statement is held at a time and the script is never evaluated or turned into a syntax tree.
+ */
+public class GradleScriptReader {
+
+    private static final Set<String> SCRIPT_NAMES = Set.of(
+            "build.gradle", "build.gradle.kts", "settings.gradle", "settings.gradle.kts"
+    );
+
+    // Statements in blocks that are not read can be arbitrarily long; only their first tokens are ever needed.
+    private static final int MAX_STATEMENT_TOKENS = 64;
+
+    private GradleScriptReader() {
+    }
+
+    public static boolean isGradleScript(String fileName) {
+        return SCRIPT_NAMES.contains(fileName.toLowerCase());
+    }
+
+    public static GradleBuild read(Path script) throws IOException {
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        try (Reader reader = new BufferedReader(new InputStreamReader(Files.newInputStream(script), decoder))) {
+            return read(reader);
+        }
+    }
+
+    public static GradleBuild read(Reader reader) throws IOException {
+        return new Parser(new Tokenizer(reader)).parse();
+    }
+
+    private enum TokenType {
+        WORD, STRING, SYMBOL, NEWLINE, EOF
+    }
+
+    private static class Token {
+        private final TokenType type;
+        private final String text;
+
+        private Token(TokenType type, String text) {
+            this.type = type;
+            this.text = text;
+        }
+
+        private boolean isSymbol(char symbol) {
+            return type == TokenType.SYMBOL && text.charAt(0) == symbol;
+        }
+
+        private boolean isWord(String word) {
+            return type == TokenType.WORD && text.equals(word);
+        }
+    }
+
+    private static class Parser {
+        private final Tokenizer tokenizer;
+        // Names of the open blocks, outermost first, e.g. ["subprojects", "dependencies"].
+        private final List<String> blocks = new ArrayList<>();
+        private final List<Token> statement = new ArrayList<>();
+        private String lastBlockCandidate = "";
+
+        private String name;
+        private String group;
+        private String version;
+        private String description;
+        private String toolchainVersion;
+        private String sourceCompatibility;
+        private final List<String> plugins = new ArrayList<>();
+        private final List<GradleBuild.Dependency> dependencies = new ArrayList<>();
+        private final List<String> includes = new ArrayList<>();
+
+        private Parser(Tokenizer tokenizer) {
+            this.tokenizer = tokenizer;
+        }
+
+        private GradleBuild parse() throws IOException {
+            int parens = 0;
+            for (Token token = tokenizer.next(); token.type != TokenType.EOF; token = tokenizer.next()) {
+                if (token.isSymbol('(') || token.isSymbol('[')) {
+                    parens++;
+                } else if ((token.isSymbol(')') || token.isSymbol(']')) && parens > 0) {
+                    parens--;
+                }
+
+                if (token.isSymbol('{') && parens == 0) {
+                    String blockName = statement.isEmpty() ? lastBlockCandidate : firstWord();
+                    endStatement();
+                    blocks.add(blockName);
+                } else if (token.isSymbol('}') && parens == 0) {
+                    endStatement();
+                    if (!blocks.isEmpty()) {
+                        blocks.remove(blocks.size() - 1);
+                    }
+                } else if ((token.type == TokenType.NEWLINE && parens == 0 && !continues())
+                        || (token.isSymbol(';') && parens == 0)) {
+                    lastBlockCandidate = statement.isEmpty() ? lastBlockCandidate : firstWord();
+                    endStatement();
+                } else if (token.type != TokenType.NEWLINE && statement.size() < MAX_STATEMENT_TOKENS) {
+                    statement.add(token);
+                }
+            }
+            endStatement();
+
+            String javaVersion = toolchainVersion != null ? toolchainVersion : sourceCompatibility;
+            return new GradleBuild(name, group, version, description, javaVersion, plugins, dependencies, includes);
+        }
+
+        // A trailing comma or operator carries a Groovy statement over to the next line.
+        private boolean continues() {
+            if (statement.isEmpty()) {
+                return false;
+            }
+            Token last = statement.get(statement.size() - 1);
+            return last.isSymbol(',') || last.isSymbol('=') || last.isSymbol(':') || last.isSymbol('+');
+        }
+
+        private String firstWord() {
+            for (Token token : statement) {
+                if (token.type == TokenType.WORD) {
+                    return token.text;
+                }
+            }
+            return "";
+        }
+
+        private void endStatement() {
+            if (!statement.isEmpty()) {
+                readStatement();
+                statement.clear();
+            }
+        }
+
+        private void readStatement() {
+            String block = blocks.isEmpty() ? "" : blocks.get(blocks.size() - 1);
+            String keyword = statement.get(0).type == TokenType.WORD ? statement.get(0).text : "";
+
+            if (block.equals("dependencies") && !blocks.contains("buildscript")) {
+                readDependency(keyword);
+            } else if (block.equals("plugins") && blocks.size() == 1) {
+                readPlugin(keyword);
+            } else if (keyword.equals("apply")) {
+                String plugin = valueAfter("plugin");
+                if (plugin != null) {
+                    plugins.add(plugin);
+                }
+            } else if (keyword.equals("include") && blocks.isEmpty()) {
+                statement.stream().filter(token -> token.type == TokenType.STRING).forEach(token -> includes.add(token.text));
+            } else if (keyword.endsWith("languageVersion") || keyword.endsWith("languageVersion.set")) {
+                String of = argumentOf("of");
+                toolchainVersion = of != null ? of : toolchainVersion;
+            } else if (keyword.endsWith("sourceCompatibility")) {
+                String value = assignedValue();
+                if (value != null) {
+                    sourceCompatibility = value.replace("JavaVersion.VERSION_", "").replace('_', '.');
+                }
+            } else if (blocks.isEmpty()) {
+                readProperty(keyword);
+            }
+        }
+
+        private void readProperty(String keyword) {
+            String value = assignedValue();
+            if (value == null) {
+                return;
+            }
+            switch (keyword) {
+                case "rootProject.name" -> name = value;
+                case "group" -> group = value;
+                case "version" -> version = value;
+                case "description" -> description = value;
+                default -> {
+                }
+            }
+        }
+
+        private void readPlugin(String keyword) {
+            String id;
+            if (keyword.equals("id") || keyword.equals("alias")) {
+                id = firstArgument();
+            } else if (keyword.equals("kotlin")) {
+                String module = firstArgument();
+                id = module != null ? "org.jetbrains.kotlin." + module : null;
+            } else {
+                // Core plugins in the Kotlin DSL: java, application, `java-library`
+                id = statement.size() == 1 || statement.get(0).type == TokenType.STRING ? statement.get(0).text : null;
+            }
+            if (id == null) {
+                return;
+            }
+            String pluginVersion = valueAfter("version");
+            plugins.add(pluginVersion != null ? id + " " + pluginVersion : id);
+        }
+
+        private void readDependency(String configuration) {
+            if (configuration.isEmpty() || statement.size() < 2) {
+                return;
+            }
+
+            String notation;
+            String moduleGroup = valueAfter("group");
+            String module = valueAfter("name");
+            if (module != null) {
+                String moduleVersion = valueAfter("version");
+                notation = (moduleGroup != null ? moduleGroup + ":" : "") + module
+                        + (moduleVersion != null ? ":" + moduleVersion : "");
+            } else if (argumentOf("project") != null) {
+                notation = "project " + argumentOf("project");
+            } else {
+                notation = firstArgument();
+            }
+            if (notation != null) {
+                dependencies.add(new GradleBuild.Dependency(configuration, notation));
+            }
+        }
+
+        // The first string or word after the keyword, skipping calls such as platform(...) around it.
+        private String firstArgument() {
+            for (int i = 1; i < statement.size(); i++) {
+                Token token = statement.get(i);
+                if (token.type == TokenType.STRING) {
+                    return token.text;
+                }
+                if (token.type == TokenType.WORD && !isCall(i)) {
+                    return token.text;
+                }
+            }
+            return null;
+        }
+
+        private boolean isCall(int index) {
+            return index + 1 < statement.size() && statement.get(index + 1).isSymbol('(');
+        }
+
+        // Value of `key 'x'`, `key: 'x'`, `key = "x"` or `key("x")`.
+        private String valueAfter(String key) {
+            for (int i = 0; i + 1 < statement.size(); i++) {
+                if (statement.get(i).isWord(key)) {
+                    for (int j = i + 1; j < statement.size() && j <= i + 2; j++) {
+                        Token token = statement.get(j);
+                        if (token.type == TokenType.STRING) {
+                            return token.text;
+                        }
+                        if (token.type == TokenType.WORD) {
+                            return key.equals("version") || key.equals("plugin") ? token.text : null;
+                        }
+                    }
+                }
+            }
+            return null;
+        }
+
+        // Argument of `name(...)` or `Something.name(...)`.
+        private String argumentOf(String call) {
+            for (int i = 0; i + 2 < statement.size(); i++) {
+                Token token = statement.get(i);
+                boolean named = token.isWord(call) || (token.type == TokenType.WORD && token.text.endsWith("." + call));
+                if (named && statement.get(i + 1).isSymbol('(')) {
+                    Token argument = statement.get(i + 2);
+                    return argument.type == TokenType.SYMBOL ? null : argument.text;
+                }
+            }
+            return null;
+        }
+
+        private String assignedValue() {
+            for (int i = 1; i < statement.size(); i++) {
+                Token token = statement.get(i);
+                if (token.type == TokenType.STRING || token.type == TokenType.WORD) {
+                    return token.text;
+                }
+                if (!token.isSymbol('=') && !token.isSymbol('(')) {
+                    return null;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Splits a script into words (identifiers, dotted names and numbers), string literals without their quotes,
+     * single-character symbols and newlines; comments and other whitespace are dropped.
+     */
+    private static class Tokenizer {
+        private static final Token NEWLINE = new Token(TokenType.NEWLINE, "\n");
+        private static final Token EOF = new Token(TokenType.EOF, "");
+
+        private final Reader reader;
+        private final char[] buffer = new char[8192];
+        private final StringBuilder text = new StringBuilder();
+        private int position;
+        private int limit;
+
+        private Tokenizer(Reader reader) {
+            this.reader = reader;
+        }
+
+        private Token next() throws IOException {
+            while (true) {
+                int c = read();
+                if (c < 0) {
+                    return EOF;
+                }
+                if (c == '\n') {
+                    return NEWLINE;
+                }
+                if (Character.isWhitespace(c)) {
+                    continue;
+                }
+                if (c == '/' && peek() == '/') {
+                    skipLine();
+                    return NEWLINE;
+                }
+                if (c == '/' && peek() == '*') {
+                    read();
+                    skipBlockComment();
+                    continue;
+                }
+                if (c == '"' || c == '\'' || c == '`') {
+                    return new Token(c == '`' ? TokenType.WORD : TokenType.STRING, readString((char) c));
+                }
+                if (isWordChar(c)) {
+                    text.setLength(0);
+                    text.append((char) c);
+                    while (isWordChar(peek())) {
+                        text.append((char) read());
+                    }
+                    return new Token(TokenType.WORD, text.toString());
+                }
+                return new Token(TokenType.SYMBOL, String.valueOf((char) c));
+            }
+        }
+
+        private String readString(char quote) throws IOException {
+            boolean triple = false;
+            if (quote != '`' && peek() == quote) {
+                read();
+                if (peek() != quote) {
+                    return "";
+                }
+                read();
+                triple = true;
+            }
+
+            text.setLength(0);
+            int c;
+            while ((c = read()) >= 0) {
+                if (c == '\\' && quote != '`') {
+                    int escaped = read();
+                    if (escaped >= 0) {
+                        text.append((char) escaped);
+                    }
+                } else if (c == quote && (!triple || closesTriple(quote))) {
+                    break;
+                } else if (c == '\n' && !triple) {
+                    break;
+                } else {
+                    text.append((char) c);
+                }
+            }
+            return text.toString();
+        }
+
+        private boolean closesTriple(char quote) throws IOException {
+            if (peek() != quote) {
+                return false;
+            }
+            read();
+            if (peek() != quote) {
+                text.append(quote);
+                return false;
+            }
+            read();
+            return true;
+        }
+
+        private void skipLine() throws IOException {
+            int c;
+            while ((c = read()) >= 0 && c != '\n') {
+                // skip
+            }
+        }
+
+        private void skipBlockComment() throws IOException {
+            int previous = 0;
+            int c;
+            while ((c = read()) >= 0) {
+                if (previous == '*' && c == '/') {
+                    return;
+                }
+                previous = c;
+            }
+        }
+
+        private static boolean isWordChar(int c) {
+            return c >= 0 && (Character.isLetterOrDigit(c) || c == '_' || c == '.' || c == '$');
+        }
+
+        private int read() throws IOException {
+            if (position == limit && !fill()) {
+                return -1;
+            }
+            return buffer[position++];
+        }
+
+        private int peek() throws IOException {
+            if (position == limit && !fill()) {
+                return -1;
+            }
+            return buffer[position];
+        }
+
+        private boolean fill() throws IOException {
+            int read = reader.read(buffer, 0, buffer.length);
+            if (read <= 0) {
+                return false;
+            }
+            position = 0;
+            limit = read;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.readmegenerator.domain.service;
+
+public class IgnoreMatcher {
+
+    public static final IgnoreMatcher NONE = new IgnoreMatcher(null, "", null);
+
+    private final IgnoreMatcher parent;
+    private final String prefix;
+    private final IgnoreRules rules;
+
+    private IgnoreMatcher(IgnoreMatcher parent, String prefix, IgnoreRules rules) {
+        this.parent = parent;
+        this.prefix = prefix;
+        this.rules = rules;
+    }
+
+    /**
+     * @param prefix path of the directory holding {@code rules}, relative to the walk root, with a trailing
+     *               slash (empty for the root itself)
+     */
+    public IgnoreMatcher child(String prefix, IgnoreRules rules) {
+        if (rules == null || rules.isEmpty()) {
+            return this;
+        }
+        return new IgnoreMatcher(this, prefix, rules);
+    }
+
+    public boolean isIgnored(String relativePath, String name, boolean directory) {
+        for (IgnoreMatcher matcher = this; matcher.rules != null; matcher = matcher.parent) {
+            Boolean result = matcher.rules.match(relativePath.substring(matcher.prefix.length()), name, directory);
+            if (result != null) {
+                return result;
+            }
+        }
+        return false;
+    }
+}
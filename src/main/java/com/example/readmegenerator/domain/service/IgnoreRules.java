@@ -0,0 +1,153 @@
+package com.example.readmegenerator.domain.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+public class IgnoreRules {
+
+    private final List<Rule> rules;
+
+    private IgnoreRules(List<Rule> rules) {
+        this.rules = rules;
+    }
+
+    public static IgnoreRules compile(List<String> lines) {
+        List<Rule> rules = new ArrayList<>();
+        for (String line : lines) {
+            Rule rule = parseRule(line);
+            if (rule != null) {
+                rules.add(rule);
+            }
+        }
+        return new IgnoreRules(rules);
+    }
+
+    public boolean isEmpty() {
+        return rules.isEmpty();
+    }
+
+    /**
+     * Returns {@code TRUE} when the last matching rule ignores the path, {@code FALSE} when it re-includes it
+     * and {@code null} when no rule applies, so the caller can fall back to the parent directory's rules.
+     */
+    public Boolean match(String relativePath, String name, boolean directory) {
+        for (int i = rules.size() - 1; i >= 0; i--) {
+            Rule rule = rules.get(i);
+            if (rule.directoryOnly && !directory) {
+                continue;
+            }
+            String candidate = rule.anchored ? relativePath : name;
+            if (rule.pattern.matcher(candidate).matches()) {
+                return !rule.negated;
+            }
+        }
+        return null;
+    }
+
+    private static Rule parseRule(String line) {
+        String pattern = stripTrailingSpaces(line);
+        if (pattern.isEmpty() || pattern.startsWith("#")) {
+            return null;
+        }
+
+        boolean negated = false;
+        if (pattern.startsWith("!")) {
+            negated = true;
+            pattern = pattern.substring(1);
+        } else if (pattern.startsWith("\\!") || pattern.startsWith("\\#")) {
+            pattern = pattern.substring(1);
+        }
+
+        boolean directoryOnly = false;
+        if (pattern.endsWith("/")) {
+            directoryOnly = true;
+            pattern = pattern.substring(0, pattern.length() - 1);
+        }
+
+        boolean anchored = pattern.contains("/");
+        if (pattern.startsWith("/")) {
+            pattern = pattern.substring(1);
+        }
+        if (pattern.isEmpty()) {
+            return null;
+        }
+
+        return new Rule(Pattern.compile(globToRegex(pattern)), negated, directoryOnly, anchored);
+    }
+
+    private static String stripTrailingSpaces(String line) {
+        int end = line.length();
+        while (end > 0 && Character.isWhitespace(line.charAt(end - 1))) {
+            if (end > 1 && line.charAt(end - 2) == '\\') {
+                break;
+            }
+            end--;
+        }
+        return line.substring(0, end);
+    }
+
+    static String globToRegex(String glob) {
+        StringBuilder regex = new StringBuilder();
+        int length = glob.length();
+
+        for (int i = 0; i < length; i++) {
+            char c = glob.charAt(i);
+            switch (c) {
+                case '*' -> {
+                    if (i + 1 < length && glob.charAt(i + 1) == '*') {
+                        i++;
+                        if (i + 1 < length && glob.charAt(i + 1) == '/') {
+                            i++;
+                            regex.append("(?:.*/)?");
+                        } else {
+                            regex.append(".*");
+                        }
+                    } else {
+                        regex.append("[^/]*");
+                    }
+                }
+                case '?' -> regex.append("[^/]");
+                case '[' -> {
+                    int close = glob.indexOf(']', i + 2);
+                    if (close < 0) {
+                        regex.append("\\[");
+                    } else {
+                        String body = glob.substring(i + 1, close);
+                        if (body.startsWith("!")) {
+                            body = "^" + body.substring(1);
+                        }
+                        regex.append('[').append(body.replace("\\", "\\\\")).append(']');
+                        i = close;
+                    }
+                }
+                case '\\' -> {
+                    if (i + 1 < length) {
+                        regex.append(Pattern.quote(String.valueOf(glob.charAt(++i))));
+                    }
+                }
+                default -> {
+                    if (".(){}+|^$".indexOf(c) >= 0) {
+                        regex.append('\\');
+                    }
+                    regex.append(c);
+                }
+            }
+        }
+        return regex.toString();
+    }
+
+    private static class Rule {
+        private final Pattern pattern;
+        private final boolean negated;
+        private final boolean directoryOnly;
+        private final boolean anchored;
+
+        private Rule(Pattern pattern, boolean negated, boolean directoryOnly, boolean anchored) {
+            this.pattern = pattern;
+            this.negated = negated;
+            this.directoryOnly = directoryOnly;
+            this.anchored = anchored;
+        }
+    }
+}
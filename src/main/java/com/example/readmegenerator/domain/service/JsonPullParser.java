@@ -0,0 +1,258 @@
+package com.example.readmegenerator.domain.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Minimal pull parser for JSON. The caller asks for one token at a time and can skip any value; skipped values,
+ * including their strings, are scanned without being materialized, so memory stays flat however large the
+ * document is.
+ */
+class JsonPullParser {
+
+    enum Token {
+        BEGIN_OBJECT, END_OBJECT, BEGIN_ARRAY, END_ARRAY, NAME, STRING, NUMBER, LITERAL, END_DOCUMENT
+    }
+
+    private final Reader reader;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+    private long offset;
+
+    private final StringBuilder text = new StringBuilder();
+    // One entry per open container: true for objects. Objects alternate between names and values.
+    private boolean[] containers = new boolean[32];
+    private boolean[] expectingName = new boolean[32];
+    private int depth;
+    private boolean needsSeparator;
+
+    JsonPullParser(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Returns the next token; {@link #getText()} then holds the name, string, number or literal.
+     */
+    Token next() throws IOException {
+        int c = nextNonWhitespace();
+        if (depth > 0 && (c == '}' || c == ']')) {
+            boolean object = containers[depth - 1];
+            if (object != (c == '}') || (object && !expectingName[depth - 1])) {
+                throw error("Unexpected '" + (char) c + "'");
+            }
+            depth--;
+            needsSeparator = true;
+            afterValue();
+            return object ? Token.END_OBJECT : Token.END_ARRAY;
+        }
+
+        if (depth == 0 && needsSeparator) {
+            if (c >= 0) {
+                throw error("Unexpected content after the document");
+            }
+            return Token.END_DOCUMENT;
+        }
+        if (c < 0) {
+            throw error("Unexpected end of document");
+        }
+
+        if (depth > 0 && needsSeparator) {
+            if (c != ',') {
+                throw error("Expected ','");
+            }
+            c = nextNonWhitespace();
+        }
+        needsSeparator = false;
+
+        if (depth > 0 && containers[depth - 1] && expectingName[depth - 1]) {
+            if (c != '"') {
+                throw error("Expected a name");
+            }
+            readString(true);
+            if (nextNonWhitespace() != ':') {
+                throw error("Expected ':'");
+            }
+            expectingName[depth - 1] = false;
+            return Token.NAME;
+        }
+
+        switch (c) {
+            case '{', '[' -> {
+                push(c == '{');
+                return c == '{' ? Token.BEGIN_OBJECT : Token.BEGIN_ARRAY;
+            }
+            case '"' -> {
+                readString(true);
+                endValue();
+                return Token.STRING;
+            }
+            default -> {
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    readBareWord(c);
+                    endValue();
+                    return Token.NUMBER;
+                }
+                if (c == 't' || c == 'f' || c == 'n') {
+                    readBareWord(c);
+                    String literal = text.toString();
+                    if (!literal.equals("true") && !literal.equals("false") && !literal.equals("null")) {
+                        throw error("Unexpected literal '" + literal + "'");
+                    }
+                    endValue();
+                    return Token.LITERAL;
+                }
+                throw error("Unexpected character '" + (char) c + "'");
+            }
+        }
+    }
+
+    String getText() {
+        return text.toString();
+    }
+
+    /**
+     * Skips the value that follows a name (or the next array element) without materializing its content.
+     */
+    void skipValue() throws IOException {
+        int start = depth;
+        while (true) {
+            int c = peekNonWhitespace();
+            if (depth > 0 && needsSeparator && c == ',') {
+                read();
+                needsSeparator = false;
+                continue;
+            }
+            boolean inName = depth > 0 && containers[depth - 1] && expectingName[depth - 1];
+            if (c == '"' && !inName && !needsSeparator) {
+                read();
+                readString(false);
+                endValue();
+            } else if (next() == Token.END_DOCUMENT) {
+                return;
+            }
+            if (depth <= start) {
+                return;
+            }
+        }
+    }
+
+    private void push(boolean object) {
+        if (depth == containers.length) {
+            containers = Arrays.copyOf(containers, depth * 2);
+            expectingName = Arrays.copyOf(expectingName, depth * 2);
+        }
+        containers[depth] = object;
+        expectingName[depth] = object;
+        depth++;
+    }
+
+    private void endValue() {
+        needsSeparator = true;
+        afterValue();
+    }
+
+    private void afterValue() {
+        if (depth > 0 && containers[depth - 1]) {
+            expectingName[depth - 1] = true;
+        }
+    }
+
+    private void readString(boolean keep) throws IOException {
+        text.setLength(0);
+        while (true) {
+            int c = read();
+            if (c < 0) {
+                throw error("Unterminated string");
+            }
+            if (c == '"') {
+                return;
+            }
+            if (c == '\\') {
+                int escaped = read();
+                char decoded = switch (escaped) {
+                    case 'n' -> '\n';
+                    case 't' -> '\t';
+                    case 'r' -> '\r';
+                    case 'b' -> '\b';
+                    case 'f' -> '\f';
+                    case 'u' -> (char) Integer.parseInt(readHex(), 16);
+                    case '"', '\\', '/' -> (char) escaped;
+                    default -> throw error("Invalid escape");
+                };
+                if (keep) {
+                    text.append(decoded);
+                }
+            } else if (keep) {
+                text.append((char) c);
+            }
+        }
+    }
+
+    private String readHex() throws IOException {
+        char[] hex = new char[4];
+        for (int i = 0; i < 4; i++) {
+            int c = read();
+            if (Character.digit(c, 16) < 0) {
+                throw error("Invalid unicode escape");
+            }
+            hex[i] = (char) c;
+        }
+        return new String(hex);
+    }
+
+    private void readBareWord(int first) throws IOException {
+        text.setLength(0);
+        text.append((char) first);
+        int c;
+        while ((c = peek()) >= 0 && (Character.isLetterOrDigit(c) || c == '.' || c == '-' || c == '+')) {
+            text.append((char) read());
+        }
+    }
+
+    private int nextNonWhitespace() throws IOException {
+        int c;
+        do {
+            c = read();
+        } while (c == ' ' || c == '\n' || c == '\r' || c == '\t');
+        return c;
+    }
+
+    private int peekNonWhitespace() throws IOException {
+        int c;
+        while ((c = peek()) == ' ' || c == '\n' || c == '\r' || c == '\t') {
+            read();
+        }
+        return c;
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        offset++;
+        return buffer[position++];
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        int read = reader.read(buffer, 0, buffer.length);
+        if (read <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+
+    private IOException error(String message) {
+        return new IOException(message + " at offset " + offset);
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.readmegenerator.domain.service;
+
+import com.example.readmegenerator.domain.model.GradleBuild;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Parsed dependency manifests, Gradle scripts and effective poms of one service, shared by the analyzer, the
+ * dependency summary and the badges so that each file is parsed once per run. Manifests and scripts are keyed by
+ * path and invalidated by size and modification time, so watch mode only re-parses the files that were touched; as in
+ * the project index, a file modified close to when it was parsed is parsed again, since its attributes may not show
+ * a second edit;
+ * effective poms also depend on their parents and are resolved afresh by every {@link #startRun(Collection)}.
+ */
+public class ManifestCache {
+
+    private final Map<Path, Entry<DependencyExtractor.Manifest>> manifests = new ConcurrentHashMap<>();
+    private final Map<Path, Entry<GradleBuild>> gradleBuilds = new ConcurrentHashMap<>();
+    private volatile EffectivePomResolver pomResolver = new EffectivePomResolver();
+    // Entries parsed during the current run are reused within it whatever their modification time; the run works on
+    // a single snapshot, and only later runs need to worry about a second edit hidden in the same clock tick.
+    private volatile long run;
+
+    /**
+     * Begins a run over {@code files}, typically the latest walk of the project: entries of other files are dropped
+     * and poms are resolved again.
+     */
+    public void startRun(Collection<Path> files) {
+        retainAll(files);
+        pomResolver = new EffectivePomResolver();
+        run++;
+    }
+
+    /** Effective pom models of the current run. */
+    public EffectivePomResolver pomResolver() {
+        return pomResolver;
+    }
+
+    public GradleBuild gradleBuild(Path script) throws IOException {
+        return cached(gradleBuilds, script, GradleScriptReader::read);
+    }
+
+    DependencyExtractor.Manifest dependencyManifest(Path file) throws IOException {
+        return cached(manifests, file, DependencyExtractor::parseManifest);
+    }
+
+    /** Forgets every file not among {@code files}. */
+    public void retainAll(Collection<Path> files) {
+        Set<Path> kept = new HashSet<>(files);
+        manifests.keySet().retainAll(kept);
+        gradleBuilds.keySet().retainAll(kept);
+    }
+
+    /** Forgets {@code files}, so that they are parsed again on next use whatever their attributes say. */
+    public void invalidate(Collection<Path> files) {
+        manifests.keySet().removeAll(files);
+        gradleBuilds.keySet().removeAll(files);
+    }
+
+    public int size() {
+        return manifests.size() + gradleBuilds.size();
+    }
+
+    private <T> T cached(Map<Path, Entry<T>> cache, Path file, Parser<T> parser) throws IOException {
+        BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+        long size = attrs.size();
+        long lastModified = attrs.lastModifiedTime().toMillis();
+
+        Entry<T> cached = cache.get(file);
+        if (cached != null && cached.size == size && cached.lastModified == lastModified
+                && (cached.run == run || !ProjectIndexer.isRacilyClean(lastModified, cached.parsedAt))) {
+            return cached.value;
+        }
+
+        long parsedAt = System.currentTimeMillis();
+        T value = parser.parse(file);
+        cache.put(file, new Entry<>(size, lastModified, parsedAt, run, value));
+        return value;
+    }
+
+    @FunctionalInterface
+    private interface Parser<T> {
+        T parse(Path file) throws IOException;
+    }
+
+    private static class Entry<T> {
+        private final long size;
+        private final long lastModified;
+        private final long parsedAt;
+        private final long run;
+        private final T value;
+
+        private Entry(long size, long lastModified, long parsedAt, long run, T value) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.parsedAt = parsedAt;
+            this.run = run;
+            this.value = value;
+        }
+    }
+}
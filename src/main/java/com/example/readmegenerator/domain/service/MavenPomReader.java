@@ -0,0 +1,122 @@
+package com.example.readmegenerator.domain.service;
+
+import com.example.readmegenerator.domain.model.PomModel;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single-pass StAX reader for pom.xml. Element depth is tracked so that only the project's own coordinates,
+ * top-level properties and direct dependencies are read; dependencyManagement, plugins and profiles are skipped.
+ */
+public class MavenPomReader {
+
+    private static final XMLInputFactory FACTORY = createFactory();
+
+    private MavenPomReader() {
+    }
+
+    public static PomModel read(Path pom) throws IOException {
+        try (InputStream in = Files.newInputStream(pom)) {
+            XMLStreamReader reader = FACTORY.createXMLStreamReader(in);
+            try {
+                return read(reader);
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("Invalid pom.xml: " + e.getMessage(), e);
+        }
+    }
+
+    private static PomModel read(XMLStreamReader reader) throws XMLStreamException {
+        Map<String, String> project = new LinkedHashMap<>();
+        Map<String, String> parent = null;
+        Map<String, String> properties = new LinkedHashMap<>();
+        List<PomModel.Dependency> dependencies = new ArrayList<>();
+        Map<String, String> dependency = null;
+
+        // Names of the currently open elements below <project>, e.g. ["dependencies", "dependency"].
+        List<String> path = new ArrayList<>();
+        boolean inProject = false;
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = reader.getLocalName();
+                if (!inProject) {
+                    if (!"project".equals(name)) {
+                        throw new XMLStreamException("Root element is not <project>");
+                    }
+                    inProject = true;
+                    continue;
+                }
+
+                int depth = path.size();
+                if (depth == 0 && isCoordinate(name)) {
+                    project.put(name, reader.getElementText().trim());
+                } else if (depth == 1 && "parent".equals(path.get(0))) {
+                    parent.put(name, reader.getElementText().trim());
+                } else if (depth == 1 && "properties".equals(path.get(0))) {
+                    properties.put(name, reader.getElementText().trim());
+                } else if (depth == 2 && dependency != null && isDependencyField(name)) {
+                    dependency.put(name, reader.getElementText().trim());
+                } else {
+                    if (depth == 0 && "parent".equals(name)) {
+                        parent = new LinkedHashMap<>();
+                    } else if (depth == 1 && "dependencies".equals(path.get(0)) && "dependency".equals(name)) {
+                        dependency = new LinkedHashMap<>();
+                    }
+                    path.add(name);
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT && inProject) {
+                if (path.isEmpty()) {
+                    break;
+                }
+                String closed = path.remove(path.size() - 1);
+                if ("dependency".equals(closed) && dependency != null) {
+                    dependencies.add(new PomModel.Dependency(dependency.get("groupId"), dependency.get("artifactId"),
+                            dependency.get("version"), dependency.get("scope")));
+                    dependency = null;
+                }
+            }
+        }
+
+        PomModel.Parent parentRef = parent == null ? null : new PomModel.Parent(parent.get("groupId"),
+                parent.get("artifactId"), parent.get("version"), parent.get("relativePath"));
+        return new PomModel(project.get("groupId"), project.get("artifactId"), project.get("version"),
+                project.get("name"), project.get("description"), parentRef, properties, dependencies);
+    }
+
+    private static boolean isCoordinate(String name) {
+        return switch (name) {
+            case "groupId", "artifactId", "version", "name", "description" -> true;
+            default -> false;
+        };
+    }
+
+    private static boolean isDependencyField(String name) {
+        return switch (name) {
+            case "groupId", "artifactId", "version", "scope" -> true;
+            default -> false;
+        };
+    }
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        return factory;
+    }
+}
@@ -0,0 +1,391 @@
+package com.example.readmegenerator.domain.service;
+
+import com.example.readmegenerator.domain.model.FileWalkResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.NotDirectoryException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+public class ProjectFileWalker {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectFileWalker.class);
+
+    public static final Set<String> DEFAULT_EXCLUDED_DIRECTORIES = Set.of(
+            "node_modules", ".git", "vendor", "build", "dist", "target", "out", ".idea"
+    );
+
+    private static final List<String> IGNORE_FILES = List.of(".gitignore", ".ignore");
+
+    private final Set<String> excludedDirectories;
+    private final boolean respectIgnoreFiles;
+    private final int parallelism;
+
+    public ProjectFileWalker() {
+        this(DEFAULT_EXCLUDED_DIRECTORIES, true);
+    }
+
+    public ProjectFileWalker(Set<String> excludedDirectories) {
+        this(excludedDirectories, true);
+    }
+
+    public ProjectFileWalker(Set<String> excludedDirectories, boolean respectIgnoreFiles) {
+        this(excludedDirectories, respectIgnoreFiles, 1);
+    }
+
+    public ProjectFileWalker(Set<String> excludedDirectories, boolean respectIgnoreFiles, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1, got " + parallelism);
+        }
+        this.excludedDirectories = excludedDirectories.stream()
+                .map(String::toLowerCase)
+                .collect(Collectors.toUnmodifiableSet());
+        this.respectIgnoreFiles = respectIgnoreFiles;
+        this.parallelism = parallelism;
+    }
+
+    /** Identifies which files a walk accepts; the parallelism does not change the result and is left out. */
+    public String fingerprint() {
+        return "ignore-files:" + respectIgnoreFiles + ":excluded:" + new TreeSet<>(excludedDirectories);
+    }
+
+    public FileWalkResult walk(Path root) throws IOException {
+        return walk(root, (file, attrs) -> { });
+    }
+
+    @FunctionalInterface
+    public interface FileListener {
+        /**
+         * @param attrs attributes the walk read for {@code file}; those of the link itself for a symbolic link
+         */
+        void onFile(Path file, BasicFileAttributes attrs);
+    }
+
+    /**
+     * @param onFile called for each accepted file as soon as it is found, from the walking threads, so that
+     *               consumers can start before the listing is complete and without reading its attributes again
+     * @throws IOException when {@code root} is missing, not a directory or cannot be listed; unreadable entries
+     *                     below it are skipped
+     */
+    public FileWalkResult walk(Path root, FileListener onFile) throws IOException {
+        if (!Files.isDirectory(root)) {
+            throw Files.exists(root)
+                    ? new NotDirectoryException(root.toString())
+                    : new NoSuchFileException(root.toString());
+        }
+        return parallelism > 1 ? walkParallel(root, onFile) : walkSequential(root, onFile);
+    }
+
+    /** Whether {@code file} holds ignore rules, so that changing it can change which files a walk accepts. */
+    public static boolean isIgnoreFile(Path file) {
+        Path name = file.getFileName();
+        return name != null && IGNORE_FILES.contains(name.toString());
+    }
+
+    public boolean isExcludedDirectory(Path dir) {
+        Path name = dir.getFileName();
+        return name != null && excludedDirectories.contains(name.toString().toLowerCase());
+    }
+
+    /**
+     * Whether a walk from {@code root} skips {@code path}, because it or a directory on the way is excluded or
+     * matched by an ignore file. Reads the ignore files between the root and the path.
+     */
+    public boolean isSkipped(Path root, Path path, boolean directory) {
+        if (path.equals(root)) {
+            return false;
+        }
+        DirectoryContext parent = contextOf(root, path.getParent());
+        if (parent == null) {
+            return true;
+        }
+        String name = path.getFileName().toString();
+        if (directory) {
+            return enterDirectory(parent, path, new Counters()) == null;
+        }
+        return parent.matcher.isIgnored(parent.prefix + name, name, false);
+    }
+
+    @FunctionalInterface
+    public interface DirectoryVisitor {
+        void visit(Path dir) throws IOException;
+    }
+
+    /**
+     * Visits {@code start} and the directories below it that a walk from {@code root} descends into, applying the
+     * same exclusions and ignore files. Each directory is visited before its entries are read.
+     */
+    public void visitDirectories(Path root, Path start, DirectoryVisitor visitor) throws IOException {
+        DirectoryContext startContext = contextOf(root, start);
+        if (startContext == null) {
+            return;
+        }
+        Map<Path, DirectoryContext> contexts = new HashMap<>();
+        Counters counters = new Counters();
+
+        Files.walkFileTree(start, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                DirectoryContext context = dir.equals(start)
+                        ? startContext
+                        : enterDirectory(contexts.get(dir.getParent()), dir, counters);
+                if (context == null) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                contexts.put(dir, context);
+                visitor.visit(dir);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path dir, IOException exc) {
+                contexts.remove(dir);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    // Context of a directory below the root, built by entering each directory on the way; null when one is skipped.
+    private DirectoryContext contextOf(Path root, Path dir) {
+        DirectoryContext context = rootContext(root);
+        Counters counters = new Counters();
+        Path current = root;
+        for (Path segment : root.relativize(dir)) {
+            if (segment.toString().isEmpty()) {
+                continue;
+            }
+            current = current.resolve(segment);
+            context = enterDirectory(context, current, counters);
+            if (context == null) {
+                return null;
+            }
+        }
+        return context;
+    }
+
+    private FileWalkResult walkSequential(Path root, FileListener onFile) throws IOException {
+        List<Path> files = new ArrayList<>();
+        Map<Path, DirectoryContext> contexts = new HashMap<>();
+        Counters counters = new Counters();
+
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                DirectoryContext context = dir.equals(root)
+                        ? rootContext(root)
+                        : enterDirectory(contexts.get(dir.getParent()), dir, counters);
+                if (context == null) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                contexts.put(dir, context);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (acceptFile(contexts.get(file.getParent()), file, attrs, counters)) {
+                    files.add(file);
+                    onFile.onFile(file, attrs);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException exc) throws IOException {
+                if (file.equals(root)) {
+                    throw exc;
+                }
+                logger.debug("Could not visit {}: {}", file, exc.getMessage());
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+                contexts.remove(dir);
+                if (exc != null) {
+                    // Same as the parallel walk: only a root that cannot be listed fails the walk.
+                    if (dir.equals(root)) {
+                        throw exc;
+                    }
+                    logger.debug("Could not visit {}: {}", dir, exc.getMessage());
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+
+        return new FileWalkResult(files, counters.pruned.get(), counters.ignored.get());
+    }
+
+    private FileWalkResult walkParallel(Path root, FileListener onFile) throws IOException {
+        Counters counters = new Counters();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<Path> files = pool.invoke(new DirectoryTask(root, rootContext(root), counters, onFile));
+            return new FileWalkResult(files, counters.pruned.get(), counters.ignored.get());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private DirectoryContext rootContext(Path root) {
+        return DirectoryContext.root().enter(root, "", respectIgnoreFiles);
+    }
+
+    private DirectoryContext enterDirectory(DirectoryContext parent, Path dir, Counters counters) {
+        if (isExcludedDirectory(dir)) {
+            logger.debug("Pruning excluded directory: {}", dir);
+            counters.pruned.incrementAndGet();
+            return null;
+        }
+
+        String name = dir.getFileName().toString();
+        String relativePath = parent.prefix + name;
+        if (parent.matcher.isIgnored(relativePath, name, true)) {
+            logger.debug("Pruning ignored directory: {}", dir);
+            counters.ignored.incrementAndGet();
+            return null;
+        }
+
+        return parent.enter(dir, relativePath + "/", respectIgnoreFiles);
+    }
+
+    private boolean acceptFile(DirectoryContext parent, Path file, BasicFileAttributes attrs, Counters counters) {
+        if (!attrs.isRegularFile() && !(attrs.isSymbolicLink() && Files.isRegularFile(file))) {
+            return false;
+        }
+
+        String name = file.getFileName().toString();
+        if (parent.matcher.isIgnored(parent.prefix + name, name, false)) {
+            counters.ignored.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    private static IgnoreRules readIgnoreRules(Path dir) {
+        List<String> lines = new ArrayList<>();
+        for (String ignoreFile : IGNORE_FILES) {
+            Path path = dir.resolve(ignoreFile);
+            if (!Files.isRegularFile(path)) {
+                continue;
+            }
+            try {
+                lines.addAll(Files.readAllLines(path));
+            } catch (IOException e) {
+                logger.warn("Could not read {}: {}", path, e.getMessage());
+            }
+        }
+        return lines.isEmpty() ? null : IgnoreRules.compile(lines);
+    }
+
+    private class DirectoryTask extends RecursiveTask<List<Path>> {
+        private static final long serialVersionUID = 1L;
+
+        private final Path dir;
+        private final DirectoryContext context;
+        private final Counters counters;
+        private final FileListener onFile;
+
+        private DirectoryTask(Path dir, DirectoryContext context, Counters counters, FileListener onFile) {
+            this.dir = dir;
+            this.context = context;
+            this.counters = counters;
+            this.onFile = onFile;
+        }
+
+        @Override
+        protected List<Path> compute() {
+            // Files and forked subdirectories are kept in directory-stream order, so joining them in sequence
+            // yields the same pre-order listing as Files.walkFileTree.
+            List<Object> entries = new ArrayList<>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+                for (Path entry : stream) {
+                    BasicFileAttributes attrs;
+                    try {
+                        attrs = Files.readAttributes(entry, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                    } catch (IOException e) {
+                        logger.debug("Could not visit {}: {}", entry, e.getMessage());
+                        continue;
+                    }
+
+                    if (attrs.isDirectory()) {
+                        DirectoryContext childContext = enterDirectory(context, entry, counters);
+                        if (childContext != null) {
+                            DirectoryTask task = new DirectoryTask(entry, childContext, counters, onFile);
+                            task.fork();
+                            entries.add(task);
+                        }
+                    } else if (acceptFile(context, entry, attrs, counters)) {
+                        entries.add(entry);
+                        onFile.onFile(entry, attrs);
+                    }
+                }
+            } catch (IOException e) {
+                if (context.prefix.isEmpty()) {
+                    throw new UncheckedIOException(e);
+                }
+                logger.debug("Could not visit {}: {}", dir, e.getMessage());
+            }
+
+            List<Path> files = new ArrayList<>();
+            for (Object entry : entries) {
+                if (entry instanceof DirectoryTask task) {
+                    files.addAll(task.join());
+                } else {
+                    files.add((Path) entry);
+                }
+            }
+            return files;
+        }
+    }
+
+    private static class Counters {
+        private final AtomicInteger pruned = new AtomicInteger();
+        private final AtomicInteger ignored = new AtomicInteger();
+    }
+
+    private static class DirectoryContext {
+        private final String prefix;
+        private final IgnoreMatcher matcher;
+
+        private DirectoryContext(String prefix, IgnoreMatcher matcher) {
+            this.prefix = prefix;
+            this.matcher = matcher;
+        }
+
+        private static DirectoryContext root() {
+            return new DirectoryContext("", IgnoreMatcher.NONE);
+        }
+
+        private DirectoryContext enter(Path dir, String prefix, boolean readIgnoreFiles) {
+            IgnoreMatcher childMatcher = readIgnoreFiles ? matcher.child(prefix, readIgnoreRules(dir)) : matcher;
+            return new DirectoryContext(prefix, childMatcher);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.readmegenerator.domain.service;
+
+import com.example.readmegenerator.domain.model.ProjectIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+public class ProjectIndexer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectIndexer.class);
+
+    // Coarsest modification time granularity in common use (FAT); a file written this close to the time it was
+    // indexed may change again without its size or modification time moving.
+    static final long RACY_WINDOW_MILLIS = 2000;
+
+    private ProjectIndexer() {
+    }
+
+    /**
+     * Builds the index for {@code files}, reusing the content hash of every file whose size and modification
+     * time match {@code previous}, so only new or touched files are read. Like git's racily clean entries, a file
+     * modified within {@link #RACY_WINDOW_MILLIS} of when {@code previous} was built is hashed again, since an
+     * edit in the same clock tick would have left its modification time unchanged.
+     */
+    public static ProjectIndex build(Path root, List<Path> files, ProjectIndex previous, String configFingerprint) {
+        long indexedAt = System.currentTimeMillis();
+        Map<String, ProjectIndex.FileEntry> entries = new HashMap<>();
+        int hashed = 0;
+
+        for (Path file : files) {
+            String relativePath = root.relativize(file).toString().replace('\\', '/');
+            try {
+                BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+                long size = attrs.size();
+                long lastModified = attrs.lastModifiedTime().toMillis();
+
+                ProjectIndex.FileEntry known = previous != null ? previous.getFiles().get(relativePath) : null;
+                if (known != null && known.getSize() == size && known.getLastModified() == lastModified
+                        && !isRacilyClean(lastModified, previous.getIndexedAt())) {
+                    entries.put(relativePath, known);
+                } else {
+                    entries.put(relativePath, new ProjectIndex.FileEntry(size, lastModified, hash(file)));
+                    hashed++;
+                }
+            } catch (IOException e) {
+                logger.debug("Skipping {} in project index: {}", file, e.getMessage());
+            }
+        }
+
+        logger.debug("Indexed {} files, hashed {} of them", entries.size(), hashed);
+        return new ProjectIndex(configFingerprint, indexedAt, entries);
+    }
+
+    /**
+     * Returns {@code previous} with the entries of {@code changedFiles} hashed again, or dropped when a file no longer
+     * exists; every other entry is kept without being read, so a watch cycle only costs the files it reported. The
+     * index keeps the time of {@code previous}, which makes the refreshed entries racily clean for the next
+     * {@link #build}.
+     */
+    public static ProjectIndex update(Path root, ProjectIndex previous, Collection<Path> changedFiles) {
+        Map<String, ProjectIndex.FileEntry> entries = new HashMap<>(previous.getFiles());
+        for (Path file : changedFiles) {
+            String relativePath = root.relativize(file).toString().replace('\\', '/');
+            entries.remove(relativePath);
+            try {
+                BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+                if (attrs.isRegularFile()) {
+                    entries.put(relativePath,
+                            new ProjectIndex.FileEntry(attrs.size(), attrs.lastModifiedTime().toMillis(), hash(file)));
+                }
+            } catch (IOException e) {
+                logger.debug("Dropping {} from project index: {}", file, e.getMessage());
+            }
+        }
+
+        logger.debug("Updated {} of {} index entries", changedFiles.size(), entries.size());
+        return new ProjectIndex(previous.getConfigFingerprint(), previous.getIndexedAt(), entries);
+    }
+
+    /**
+     * Whether a file last modified at {@code lastModified} may have changed again, without its size or modification
+     * time moving, after it was read at {@code recordedAt}; such an entry has to be read again.
+     */
+    public static boolean isRacilyClean(long lastModified, long recordedAt) {
+        return lastModified >= recordedAt - RACY_WINDOW_MILLIS;
+    }
+
+    static String hash(Path file) throws IOException {
+        MessageDigest digest = ProjectIndex.sha256();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.readmegenerator.domain.service;
+
+import com.example.readmegenerator.domain.model.SummarySection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Assembles summary sections within a character budget. Sections are rendered in priority order; each may use its
+ * own share plus whatever earlier sections left unused, but never the shares reserved for sections still to come.
+ * Each section is told its limit so that it can stop producing once it is full; sections that get no budget are never
+ * rendered, and the result keeps the sections in their declared order.
+ */
+public class SummaryAssembler {
+
+    private static final Logger logger = LoggerFactory.getLogger(SummaryAssembler.class);
+
+    static final String SEPARATOR = "\n\n";
+    static final String TRIM_MARKER = "\n[...section trimmed to fit the summary budget...]\n";
+    private static final String FENCE_CLOSE = "\n```";
+
+    private SummaryAssembler() {
+    }
+
+    public static String assemble(List<SummarySection> sections, int budget) throws IOException {
+        List<Integer> order = IntStream.range(0, sections.size()).boxed()
+                .sorted(Comparator.comparingInt(i -> sections.get(i).getPriority()))
+                .collect(Collectors.toList());
+
+        int reserved = 0;
+        for (SummarySection section : sections) {
+            reserved += allowance(section, budget);
+        }
+
+        List<String> rendered = new ArrayList<>(sections.size());
+        sections.forEach(section -> rendered.add(null));
+        int remaining = budget;
+
+        for (int index : order) {
+            SummarySection section = sections.get(index);
+            reserved -= allowance(section, budget);
+            int limit = remaining - Math.max(reserved, 0) - SEPARATOR.length();
+            if (limit <= TRIM_MARKER.length()) {
+                logger.debug("No summary budget left for section '{}', skipping it", section.getName());
+                continue;
+            }
+
+            String text = section.render(limit);
+            if (text == null || text.isBlank()) {
+                continue;
+            }
+            text = fit(text, limit);
+            rendered.set(index, text);
+            remaining -= text.length() + SEPARATOR.length();
+        }
+
+        return rendered.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining(SEPARATOR));
+    }
+
+    private static int allowance(SummarySection section, int budget) {
+        return (int) (section.getShare() * budget);
+    }
+
+    // Cuts at the last line break that still leaves room for the marker, so snippets are not split mid-line. A code
+    // fence left open by the cut is closed, otherwise the marker and every later section would read as code.
+    private static String fit(String text, int limit) {
+        if (text.length() <= limit) {
+            return text;
+        }
+        int cut = lineBoundary(text, limit - TRIM_MARKER.length());
+        String kept = text.substring(0, cut);
+        if (isInsideFence(kept)) {
+            kept = text.substring(0, lineBoundary(text, limit - TRIM_MARKER.length() - FENCE_CLOSE.length()));
+            if (isInsideFence(kept)) {
+                kept += FENCE_CLOSE;
+            }
+        }
+        logger.debug("Trimming summary section from {} to {} characters", text.length(), kept.length());
+        return kept + TRIM_MARKER;
+    }
+
+    private static int lineBoundary(String text, int cut) {
+        int lineEnd = text.lastIndexOf('\n', cut);
+        return lineEnd > 0 ? lineEnd : Math.max(cut, 0);
+    }
+
+    private static boolean isInsideFence(String text) {
+        boolean open = false;
+        for (String line : text.split("\n", -1)) {
+            if (line.stripLeading().startsWith("```")) {
+                open = !open;
+            }
+        }
+        return open;
+    }
+}
@@ -0,0 +1,336 @@
+package com.example.readmegenerator.domain.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Compact single-pass TOML reader. Every value is scanned, but only the keys accepted by the caller's filter are
+ * materialized into a tree of maps, lists and strings; everything else is skipped without being stored. Numbers,
+ * booleans and dates are kept as their source text.
+ */
+class TomlReader {
+
+    private final Reader reader;
+    private final Predicate<List<String>> keep;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+    private int line = 1;
+
+    private TomlReader(Reader reader, Predicate<List<String>> keep) {
+        this.reader = reader;
+        this.keep = keep;
+    }
+
+    /**
+     * @param keep decides from the full key path, e.g. {@code [project, dependencies]}, whether a value is stored
+     * @return the kept values as nested maps keyed by path segment
+     */
+    static Map<String, Object> read(Reader reader, Predicate<List<String>> keep) throws IOException {
+        return new TomlReader(reader, keep).parse();
+    }
+
+    private Map<String, Object> parse() throws IOException {
+        Map<String, Object> root = new LinkedHashMap<>();
+        List<String> table = List.of();
+
+        while (true) {
+            skipBlank(true);
+            int c = peek();
+            if (c < 0) {
+                return root;
+            }
+            if (c == '[') {
+                read();
+                boolean arrayTable = peek() == '[';
+                if (arrayTable) {
+                    read();
+                }
+                skipBlank(false);
+                table = readKey();
+                expect(']');
+                if (arrayTable) {
+                    expect(']');
+                }
+            } else {
+                List<String> key = new ArrayList<>(table);
+                key.addAll(readKey());
+                expect('=');
+                skipBlank(false);
+                boolean kept = keep.test(key);
+                Object value = readValue(kept);
+                if (kept) {
+                    put(root, key, value);
+                }
+            }
+            endLine();
+        }
+    }
+
+    private List<String> readKey() throws IOException {
+        List<String> segments = new ArrayList<>();
+        while (true) {
+            skipBlank(false);
+            int c = peek();
+            if (c == '"' || c == '\'') {
+                read();
+                segments.add(readString((char) c, true));
+            } else {
+                StringBuilder segment = new StringBuilder();
+                while ((c = peek()) >= 0 && (Character.isLetterOrDigit(c) || c == '_' || c == '-')) {
+                    segment.append((char) read());
+                }
+                if (segment.length() == 0) {
+                    throw error("Expected a key");
+                }
+                segments.add(segment.toString());
+            }
+            skipBlank(false);
+            if (peek() != '.') {
+                return segments;
+            }
+            read();
+        }
+    }
+
+    private Object readValue(boolean kept) throws IOException {
+        int c = read();
+        switch (c) {
+            case '"', '\'' -> {
+                return readString((char) c, kept);
+            }
+            case '[' -> {
+                List<Object> items = kept ? new ArrayList<>() : null;
+                while (true) {
+                    skipBlank(true);
+                    if (peek() == ']') {
+                        read();
+                        return items;
+                    }
+                    Object item = readValue(kept);
+                    if (kept) {
+                        items.add(item);
+                    }
+                    skipBlank(true);
+                    int next = read();
+                    if (next == ']') {
+                        return items;
+                    }
+                    if (next != ',') {
+                        throw error("Expected ',' or ']' in array");
+                    }
+                }
+            }
+            case '{' -> {
+                Map<String, Object> table = kept ? new LinkedHashMap<>() : null;
+                skipBlank(false);
+                if (peek() == '}') {
+                    read();
+                    return table;
+                }
+                while (true) {
+                    List<String> key = readKey();
+                    expect('=');
+                    skipBlank(false);
+                    Object value = readValue(kept);
+                    if (kept) {
+                        put(table, key, value);
+                    }
+                    skipBlank(false);
+                    int next = read();
+                    if (next == '}') {
+                        return table;
+                    }
+                    if (next != ',') {
+                        throw error("Expected ',' or '}' in inline table");
+                    }
+                }
+            }
+            default -> {
+                if (c < 0 || c == '\n' || c == ',' || c == ']' || c == '}' || c == '#') {
+                    throw error("Expected a value");
+                }
+                StringBuilder text = new StringBuilder().append((char) c);
+                while ((c = peek()) >= 0 && c != ',' && c != ']' && c != '}' && c != '#' && !Character.isWhitespace(c)) {
+                    text.append((char) read());
+                }
+                return kept ? text.toString() : null;
+            }
+        }
+    }
+
+    // Reads after the opening quote; a doubled quote that follows starts a multi-line string or is an empty one.
+    private String readString(char quote, boolean kept) throws IOException {
+        boolean multiline = false;
+        if (peek() == quote) {
+            read();
+            if (peek() != quote) {
+                return "";
+            }
+            read();
+            multiline = true;
+            if (peek() == '\r') {
+                read();
+            }
+            if (peek() == '\n') {
+                read();
+            }
+        }
+
+        StringBuilder text = kept ? new StringBuilder() : null;
+        while (true) {
+            if (!multiline && peek() == '\n') {
+                throw error("Unterminated string");
+            }
+            int c = read();
+            if (c < 0) {
+                throw error("Unterminated string");
+            }
+            if (c == quote && !multiline) {
+                return kept ? text.toString() : null;
+            }
+            if (c == quote) {
+                // Up to two quotes may directly precede the closing delimiter.
+                int quotes = 1;
+                while (quotes < 5 && peek() == quote) {
+                    read();
+                    quotes++;
+                }
+                if (kept) {
+                    text.append(String.valueOf(quote).repeat(quotes >= 3 ? quotes - 3 : quotes));
+                }
+                if (quotes >= 3) {
+                    return kept ? text.toString() : null;
+                }
+                continue;
+            }
+            if (c == '\\' && quote == '"') {
+                int escaped = read();
+                if (multiline && (escaped == '\n' || escaped == ' ' || escaped == '\t' || escaped == '\r')) {
+                    // A line-ending backslash trims the following whitespace.
+                    while ((c = peek()) == ' ' || c == '\t' || c == '\n' || c == '\r') {
+                        read();
+                    }
+                    continue;
+                }
+                String decoded = switch (escaped) {
+                    case 'n' -> "\n";
+                    case 't' -> "\t";
+                    case 'r' -> "\r";
+                    case 'b' -> "\b";
+                    case 'f' -> "\f";
+                    case '"', '\\' -> String.valueOf((char) escaped);
+                    case 'u' -> Character.toString(Integer.parseInt(readHex(4), 16));
+                    case 'U' -> Character.toString(Integer.parseInt(readHex(8), 16));
+                    default -> throw error("Invalid escape");
+                };
+                if (kept) {
+                    text.append(decoded);
+                }
+            } else if (kept) {
+                text.append((char) c);
+            }
+        }
+    }
+
+    private String readHex(int digits) throws IOException {
+        StringBuilder hex = new StringBuilder(digits);
+        for (int i = 0; i < digits; i++) {
+            int c = read();
+            if (Character.digit(c, 16) < 0) {
+                throw error("Invalid unicode escape");
+            }
+            hex.append((char) c);
+        }
+        return hex.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void put(Map<String, Object> tree, List<String> key, Object value) {
+        Map<String, Object> node = tree;
+        for (String segment : key.subList(0, key.size() - 1)) {
+            Object child = node.get(segment);
+            if (!(child instanceof Map)) {
+                child = new LinkedHashMap<String, Object>();
+                node.put(segment, child);
+            }
+            node = (Map<String, Object>) child;
+        }
+        node.put(key.get(key.size() - 1), value);
+    }
+
+    private void endLine() throws IOException {
+        skipBlank(false);
+        int c = peek();
+        if (c == '#') {
+            skipComment();
+            c = peek();
+        }
+        if (c >= 0 && c != '\n' && c != '\r') {
+            throw error("Expected end of line");
+        }
+    }
+
+    // Skips spaces and tabs, plus newlines and comments when they are allowed at this point.
+    private void skipBlank(boolean newlines) throws IOException {
+        int c;
+        while ((c = peek()) == ' ' || c == '\t' || (newlines && (c == '\n' || c == '\r' || c == '#'))) {
+            if (c == '#') {
+                skipComment();
+            } else {
+                read();
+            }
+        }
+    }
+
+    private void skipComment() throws IOException {
+        int c;
+        while ((c = peek()) >= 0 && c != '\n') {
+            read();
+        }
+    }
+
+    private void expect(char expected) throws IOException {
+        skipBlank(false);
+        if (read() != expected) {
+            throw error("Expected '" + expected + "'");
+        }
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        char c = buffer[position++];
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        int read = reader.read(buffer, 0, buffer.length);
+        if (read <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+
+    private IOException error(String message) {
+        return new IOException(message + " on line " + line);
+    }
+}
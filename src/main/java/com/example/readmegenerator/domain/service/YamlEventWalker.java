@@ -0,0 +1,145 @@
+package com.example.readmegenerator.domain.service;
+
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.events.AliasEvent;
+import org.yaml.snakeyaml.events.CollectionEndEvent;
+import org.yaml.snakeyaml.events.CollectionStartEvent;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.MappingStartEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.parser.Parser;
+import org.yaml.snakeyaml.parser.ParserImpl;
+import org.yaml.snakeyaml.reader.StreamReader;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Walks SnakeYAML's parser events and reports every node together with the path of mapping keys leading to it,
+ * without composing nodes or maps. Aliases are never expanded, and the input size, nesting depth and number of
+ * aliases are limited so that a hostile file fails fast instead of stalling the analysis.
+ */
+class YamlEventWalker {
+
+    static final int MAX_CODE_POINTS = 1024 * 1024;
+    static final int MAX_NESTING_DEPTH = 50;
+    static final int MAX_ALIASES = 50;
+
+    /** Path element used for the items of a sequence. */
+    static final String SEQUENCE_ITEM = "-";
+
+    interface Visitor {
+        /**
+         * Called for each node: {@code value} is the scalar's text, or null for a mapping or sequence whose content
+         * follows. A document's root node has an empty path. The path is only valid during the call.
+         *
+         * @return false to stop reading the input
+         */
+        boolean node(List<String> path, String value);
+    }
+
+    private YamlEventWalker() {
+    }
+
+    static void walk(Reader reader, Visitor visitor) throws IOException {
+        Parser parser = new ParserImpl(new StreamReader(reader), loaderOptions());
+        List<String> path = new ArrayList<>();
+        // One entry per open collection: the key awaiting its value in a mapping, SEQUENCE_ITEM in a sequence,
+        // or null while a mapping expects its next key.
+        List<String> pending = new ArrayList<>();
+        List<Boolean> mappings = new ArrayList<>();
+        int aliases = 0;
+
+        try {
+            for (Event event = parser.getEvent(); event != null && !event.is(Event.ID.StreamEnd); event = parser.getEvent()) {
+                int top = pending.size() - 1;
+                boolean expectingKey = top >= 0 && mappings.get(top) && pending.get(top) == null;
+
+                if (event instanceof AliasEvent) {
+                    if (++aliases > MAX_ALIASES) {
+                        throw new IOException("YAML file uses more than " + MAX_ALIASES + " aliases");
+                    }
+                    if (top >= 0 && mappings.get(top)) {
+                        pending.set(top, expectingKey ? "*" : null);
+                    }
+                } else if (event instanceof ScalarEvent scalar) {
+                    if (expectingKey) {
+                        pending.set(top, scalar.getValue());
+                        continue;
+                    }
+                    boolean inCollection = top >= 0;
+                    if (inCollection) {
+                        path.add(pending.get(top));
+                    }
+                    boolean proceed = visitor.node(path, scalar.getValue());
+                    if (inCollection) {
+                        path.remove(path.size() - 1);
+                        if (mappings.get(top)) {
+                            pending.set(top, null);
+                        }
+                    }
+                    if (!proceed) {
+                        return;
+                    }
+                } else if (event instanceof CollectionStartEvent) {
+                    if (expectingKey) {
+                        // Complex keys never name anything worth reading.
+                        skipCollection(parser);
+                        pending.set(top, "?");
+                        continue;
+                    }
+                    if (pending.size() >= MAX_NESTING_DEPTH) {
+                        throw new IOException("YAML file is nested deeper than " + MAX_NESTING_DEPTH + " levels");
+                    }
+                    if (top >= 0) {
+                        path.add(pending.get(top));
+                    }
+                    if (!visitor.node(path, null)) {
+                        return;
+                    }
+                    boolean mapping = event instanceof MappingStartEvent;
+                    pending.add(mapping ? null : SEQUENCE_ITEM);
+                    mappings.add(mapping);
+                } else if (event instanceof CollectionEndEvent) {
+                    pending.remove(top);
+                    mappings.remove(top);
+                    if (top > 0) {
+                        path.remove(path.size() - 1);
+                        if (mappings.get(top - 1)) {
+                            pending.set(top - 1, null);
+                        }
+                    }
+                }
+            }
+        } catch (YAMLException e) {
+            throw new IOException("Invalid YAML: " + e.getMessage(), e);
+        }
+    }
+
+    private static void skipCollection(Parser parser) throws IOException {
+        int open = 1;
+        while (open > 0) {
+            Event event = parser.getEvent();
+            if (event == null || event.is(Event.ID.StreamEnd)) {
+                return;
+            }
+            if (event instanceof CollectionStartEvent && ++open > MAX_NESTING_DEPTH) {
+                throw new IOException("YAML file is nested deeper than " + MAX_NESTING_DEPTH + " levels");
+            } else if (event instanceof CollectionEndEvent) {
+                open--;
+            }
+        }
+    }
+
+    private static LoaderOptions loaderOptions() {
+        LoaderOptions options = new LoaderOptions();
+        options.setCodePointLimit(MAX_CODE_POINTS);
+        options.setNestingDepthLimit(MAX_NESTING_DEPTH);
+        options.setMaxAliasesForCollections(MAX_ALIASES);
+        options.setAllowRecursiveKeys(false);
+        return options;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.readmegenerator.adapter.analyzer;
+
+import com.example.readmegenerator.adapter.analyzer.FileContentGuard.Verdict;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileContentGuardTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final FileContentGuard guard = new FileContentGuard(10_000);
+
+    @Test
+    void shouldAcceptRegularSourceFile() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("App.java"), "public class App {\n    void run() {}\n}\n");
+
+        assertEquals(Verdict.TEXT, guard.inspect(file, "app.java"));
+    }
+
+    @Test
+    void shouldRejectFileWithNulBytes() throws IOException {
+        Path file = Files.write(tempDir.resolve("data.c"), new byte[]{'i', 'n', 't', 0, 1, 2});
+
+        assertEquals(Verdict.BINARY, guard.inspect(file, "data.c"));
+    }
+
+    @Test
+    void shouldRejectOversizedFile() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("bundle.js"), "var a = 1;\n".repeat(2000));
+
+        assertEquals(Verdict.OVERSIZED, guard.inspect(file, "bundle.js"));
+    }
+
+    @Test
+    void shouldRejectGeneratedFile() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("Parser.java"), "// Code generated by ANTLR. DO NOT EDIT.\nclass Parser {}\n");
+
+        assertEquals(Verdict.GENERATED, guard.inspect(file, "parser.java"));
+    }
+
+    @Test
+    void shouldRecognizeEstablishedMarkersInLeadingCommentBlock() throws IOException {
+        Path javadoc = Files.writeString(tempDir.resolve("Messages.java"),
+                "/*\n * Protocol buffer stubs.\n * @generated by protoc\n */\npackage demo;\n");
+        Path dotnet = Files.writeString(tempDir.resolve("Resources.cs"),
+                "// <auto-generated>\n//     This code was generated by a tool.\n// </auto-generated>\nclass R {}\n");
+
+        assertEquals(Verdict.GENERATED, guard.inspect(javadoc, "messages.java"));
+        assertEquals(Verdict.GENERATED, guard.inspect(dotnet, "resources.cs"));
+    }
+
+    @Test
+    void shouldAcceptHandWrittenFilesMentioningGeneratedContent() throws IOException {
+        Path entity = Files.writeString(tempDir.resolve("Order.java"), "package shop;\n\n"
+                + "public class Order {\n    /** The auto-generated id, @generated by the database. */\n    long id;\n}\n");
+        Path config = Files.writeString(tempDir.resolve("settings.py"),
+                "# Deployment settings - do not edit this value by hand\nTIMEOUT = 30\n");
+
+        assertEquals(Verdict.TEXT, guard.inspect(entity, "order.java"));
+        assertEquals(Verdict.TEXT, guard.inspect(config, "settings.py"));
+    }
+
+    @Test
+    void shouldRejectMinifiedFileByNameOrLineLength() throws IOException {
+        Path named = Files.writeString(tempDir.resolve("app.min.js"), "var a=1;\n");
+        Path oneLiner = Files.writeString(tempDir.resolve("vendor.js"), "var a=1;".repeat(500));
+
+        assertEquals(Verdict.MINIFIED, guard.inspect(named, "app.min.js"));
+        assertEquals(Verdict.MINIFIED, guard.inspect(oneLiner, "vendor.js"));
+    }
+
+    @Test
+    void shouldReportMissingFileAsUnreadable() {
+        assertEquals(Verdict.UNREADABLE, guard.inspect(tempDir.resolve("missing.py"), "missing.py"));
+    }
+}
@@ -1,7 +1,11 @@
 package com.example.readmegenerator.adapter.analyzer;
 
+import com.example.readmegenerator.adapter.index.FileSystemFragmentCache;
+import com.example.readmegenerator.domain.model.FileDescriptor;
 import com.example.readmegenerator.domain.port.ProjectAnalyzerPort;
 import com.example.readmegenerator.domain.service.DependencyExtractor;
+import com.example.readmegenerator.domain.service.DockerComposeReader;
+import com.example.readmegenerator.domain.service.FileClassifier;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,6 +15,7 @@ import org.mockito.MockedStatic;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -46,7 +51,7 @@ class FileProjectAnalyzerTest {
     @Test
     void testAnalyzeEmptyFileListReturnsEmptyString() throws IOException {
         List<Path> emptyFiles = Collections.emptyList();
-        String result = analyzer.analyze(emptyFiles);
+        String result = analyzer.analyze(classified(emptyFiles));
         assertEquals("", result, "Empty file list should return empty string");
     }
 
@@ -71,7 +76,7 @@ class FileProjectAnalyzerTest {
             </project>
             """);
         List<Path> files = List.of(pomFile);
-        String result = analyzer.analyze(files);
+        String result = analyzer.analyze(classified(files));
 
         String expected = """
             ### Maven Project Configuration (pom.xml):
@@ -89,19 +94,14 @@ class FileProjectAnalyzerTest {
     }
 
     @Test
-    void testAnalyzeDependencyFile() throws IOException {
+    void testAnalyzeLeavesDependencyFilesToTheDependencySummary() throws IOException {
         Path packageJson = Files.writeString(tempDir.resolve("package.json"), "{\"dependencies\": {\"express\": \"^4.17.1\"}}");
         List<Path> files = List.of(packageJson);
-        String mockDependencies = "Dependencies: express@^4.17.1";
         try (MockedStatic<DependencyExtractor> mocked = mockStatic(DependencyExtractor.class)) {
-            mocked.when(() -> DependencyExtractor.extractDependencies(packageJson)).thenReturn(mockDependencies);
-            String result = analyzer.analyze(files);
-            String expected = """
-                ### Detected Dependencies from package.json:
-                Dependencies: express@^4.17.1
+            String result = analyzer.analyze(classified(files));
 
-                """;
-            assertEquals(expected, result, "Should correctly process dependency file (package.json)");
+            assertEquals("", result, "Dependency files are summarized once per run by the dependency summary");
+            mocked.verifyNoInteractions();
         }
     }
 
@@ -118,7 +118,7 @@ class FileProjectAnalyzerTest {
                 """;
         Path javaFile = Files.writeString(tempDir.resolve("Sample.java"), javaContent);
         List<Path> files = List.of(javaFile);
-        String result = analyzer.analyze(files);
+        String result = analyzer.analyze(classified(files));
         String expected = """
             ### Code File Summary: `Sample.java`
             ```java
@@ -142,7 +142,7 @@ class FileProjectAnalyzerTest {
                 """;
         Path cppFile = Files.writeString(tempDir.resolve("main.cpp"), cppContent);
         List<Path> files = List.of(cppFile);
-        String result = analyzer.analyze(files);
+        String result = analyzer.analyze(classified(files));
         String expected = """
             ### Code File Summary: `main.cpp`
             ```cpp
@@ -178,11 +178,8 @@ class FileProjectAnalyzerTest {
         Path packageJson = Files.writeString(tempDir.resolve("package.json"), "{\"dependencies\": {\"lodash\": \"^4.17.21\"}}");
         List<Path> files = List.of(pomFile, javaFile, packageJson);
 
-        String mockDependencies = "Dependencies: lodash@^4.17.21";
         try (MockedStatic<DependencyExtractor> mocked = mockStatic(DependencyExtractor.class)) {
-            mocked.when(() -> DependencyExtractor.extractDependencies(packageJson)).thenReturn(mockDependencies);
-
-            String result = analyzer.analyze(files);
+            String result = analyzer.analyze(classified(files));
 
             String expected = """
                 ### Maven Project Configuration (pom.xml):
@@ -199,28 +196,55 @@ class FileProjectAnalyzerTest {
                 public void run() {}
                 ```
                 
-                ### Detected Dependencies from package.json:
-                Dependencies: lodash@^4.17.21
-                
                 """;
             assertEquals(expected, result, "Should correctly process mixed file types with new formats");
+            mocked.verifyNoInteractions();
         }
     }
 
+    @Test
+    void testAnalyzeReusesSummaryOfUnchangedFilesAndRefreshesTouchedOnes() throws IOException {
+        Path javaFile = Files.writeString(tempDir.resolve("Main.java"), "public class Main {\n}\n");
+        List<Path> files = List.of(javaFile);
+
+        String first = analyzer.analyze(classified(files));
+        assertEquals(first, analyzer.analyze(classified(files)));
+
+        Files.writeString(javaFile, "public class Main {\n    public void run() {}\n}\n");
+        String updated = analyzer.analyze(classified(files));
+
+        assertNotEquals(first, updated);
+        assertTrue(updated.contains("public void run() {}"));
+    }
+
+    @Test
+    void testResummarizesRacilyCleanFileWhoseSizeAndModificationTimeMatch() throws IOException {
+        Path javaFile = Files.writeString(tempDir.resolve("Main.java"), "public class Main {\n    public void stop() {}\n}\n");
+        FileTime modified = Files.getLastModifiedTime(javaFile);
+        List<Path> files = List.of(javaFile);
+        analyzer.analyze(classified(files));
+
+        Files.writeString(javaFile, "public class Main {\n    public void halt() {}\n}\n");
+        Files.setLastModifiedTime(javaFile, modified);
+        String updated = analyzer.analyze(classified(files));
+
+        assertTrue(updated.contains("public void halt() {}"), updated);
+    }
+
 //    @Test
 //    void testAnalyzeThrowsIOExceptionForInvalidFile() throws IOException {
 //        Path unreadableDir = tempDir.resolve("unreadable_dir");
 //        Files.createDirectory(unreadableDir);
 //
 //        List<Path> files = List.of(unreadableDir);
-//        assertThrows(IOException.class, () -> analyzer.analyze(files), "Should throw IOException when trying to read a directory as a file");
+//        assertThrows(IOException.class, () -> analyzer.analyze(classified(files)), "Should throw IOException when trying to read a directory as a file");
 //    }
 
     @Test
     void testAnalyzeIgnoresNonRelevantFiles() throws IOException {
         Path ignoredFile = Files.writeString(tempDir.resolve("image.png"), "binary data");
         List<Path> files = List.of(ignoredFile);
-        String result = analyzer.analyze(files);
+        String result = analyzer.analyze(classified(files));
         assertEquals("", result, "Should ignore non-relevant files like images");
     }
 
@@ -239,7 +263,7 @@ class FileProjectAnalyzerTest {
                   POSTGRES_DB: mydb
             """);
         List<Path> files = List.of(dockerComposeFile);
-        String result = analyzer.analyze(files);
+        String result = analyzer.analyze(classified(files));
         String expected = """
             ### Docker Compose Configuration (docker-compose.yml):
               - Defined Services:
@@ -257,4 +281,264 @@ class FileProjectAnalyzerTest {
             """;
         assertEquals(expected, result, "Should correctly process docker-compose.yml and identify it as CI/CD");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testAnalyzeSkipsBinaryAndMinifiedFilesAndTolerantlyDecodesLatin1() throws IOException {
+        FileProjectAnalyzer fileAnalyzer = new FileProjectAnalyzer();
+        Path binary = Files.write(tempDir.resolve("blob.c"), new byte[]{'x', 0, 0, 1});
+        Path minified = Files.writeString(tempDir.resolve("vendor.js"), "var a=1;".repeat(1000));
+        Path latin1 = Files.write(tempDir.resolve("Legacy.java"),
+                "public class Legacy { // caf\u00e9\n}\n".getBytes(java.nio.charset.StandardCharsets.ISO_8859_1));
+
+        String result = fileAnalyzer.analyze(classified(List.of(binary, minified, latin1)));
+
+        assertFalse(result.contains("blob.c"));
+        assertFalse(result.contains("vendor.js"));
+        assertTrue(result.contains("public class Legacy {"));
+        assertEquals(1, fileAnalyzer.getLastSkippedFiles().get("binary"));
+        assertEquals(1, fileAnalyzer.getLastSkippedFiles().get("minified"));
+
+        fileAnalyzer.analyze(classified(List.of(binary, minified, latin1)));
+        assertEquals(2, fileAnalyzer.getLastSkippedFiles().size(), "Skips should be counted again for memoized files");
+    }
+
+    @Test
+    void testForgetsMemoizedSummariesOfFilesMissingFromTheLatestRun() throws IOException {
+        FileProjectAnalyzer fileAnalyzer = new FileProjectAnalyzer();
+        Path kept = Files.writeString(tempDir.resolve("OrderService.java"), "public class OrderService {}\n");
+        Path renamed = Files.writeString(tempDir.resolve("UserService.java"), "public class UserService {}\n");
+
+        fileAnalyzer.analyze(classified(List.of(kept, renamed)));
+        assertEquals(2, fileAnalyzer.memoizedFragments());
+
+        Path target = Files.move(renamed, tempDir.resolve("AccountService.java"));
+        fileAnalyzer.analyze(classified(List.of(kept, target)));
+        assertEquals(2, fileAnalyzer.memoizedFragments());
+    }
+
+    @Test
+    void testParallelAnalysisMatchesSequentialOutput() throws IOException {
+        List<Path> files = new java.util.ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            files.add(Files.writeString(tempDir.resolve("Service" + i + ".java"),
+                    "public class Service" + i + " {\n    public void handle" + i + "(String a" + i + ", int b" + i + ") {}\n}\n"));
+        }
+        files.add(Files.writeString(tempDir.resolve("Makefile"), "build:\n\tmvn package\n"));
+
+        String sequential = new FileProjectAnalyzer().analyze(classified(files));
+        String parallel = new FileProjectAnalyzer(4).analyze(classified(files));
+
+        assertEquals(sequential, parallel);
+        assertTrue(parallel.indexOf("Service3 {") < parallel.indexOf("Service12 {"));
+    }
+
+    @Test
+    void testRejectsNonPositiveParallelism() {
+        assertThrows(IllegalArgumentException.class, () -> new FileProjectAnalyzer(0));
+    }
+
+    @Test
+    void testMonorepoListsEffectiveModuleCoordinates() throws IOException {
+        Files.writeString(tempDir.resolve("pom.xml"),
+                "<project><groupId>com.acme</groupId><artifactId>root</artifactId><version>3.1.0</version></project>");
+        for (String module : List.of("api", "worker")) {
+            Path dir = Files.createDirectories(tempDir.resolve(module));
+            Files.writeString(dir.resolve("pom.xml"), "<project><parent><groupId>com.acme</groupId>"
+                    + "<artifactId>root</artifactId><version>3.1.0</version></parent><artifactId>" + module
+                    + "</artifactId></project>");
+        }
+
+        String result = analyzer.analyze(classified(List.of(tempDir.resolve("api/pom.xml"),
+                tempDir.resolve("worker/pom.xml"))));
+
+        assertTrue(result.contains("- api (`com.acme:api:3.1.0`)"));
+        assertTrue(result.contains("- worker (`com.acme:worker:3.1.0`)"));
+        assertTrue(result.contains("  - Version: 3.1.0"));
+    }
+
+    @Test
+    void testPersistentCacheSkipsParsingOnWarmRun() throws IOException {
+        Path cacheDir = Files.createDirectories(tempDir.resolve(".fragments"));
+        Path javaFile = Files.writeString(tempDir.resolve("Main.java"), "public class Main {\n}\n");
+        Path parentPom = Files.writeString(tempDir.resolve("pom.xml"),
+                "<project><groupId>g</groupId><artifactId>root</artifactId><version>1</version></project>");
+        Path moduleDir = Files.createDirectories(tempDir.resolve("app"));
+        Path modulePom = Files.writeString(moduleDir.resolve("pom.xml"), "<project><parent><groupId>g</groupId>"
+                + "<artifactId>root</artifactId><version>1</version></parent><artifactId>app</artifactId></project>");
+        List<Path> files = List.of(javaFile, modulePom);
+
+        String cold = new FileProjectAnalyzer(new FileContentGuard(), 1,
+                new FileSystemFragmentCache(cacheDir, 1024 * 1024)).analyze(classified(files));
+
+        FileSystemFragmentCache warmCache = new FileSystemFragmentCache(cacheDir, 1024 * 1024);
+        String warm = new FileProjectAnalyzer(new FileContentGuard(), 1, warmCache).analyze(classified(files));
+        assertEquals(cold, warm);
+        assertEquals(2, warmCache.getHits());
+        assertEquals(0, warmCache.getMisses());
+
+        Files.writeString(parentPom,
+                "<project><groupId>g</groupId><artifactId>root</artifactId><version>2</version></project>");
+        FileSystemFragmentCache changedCache = new FileSystemFragmentCache(cacheDir, 1024 * 1024);
+        String changed = new FileProjectAnalyzer(new FileContentGuard(), 1, changedCache).analyze(classified(files));
+        assertTrue(changed.contains("  - Version: 2"), "Changing a parent pom should invalidate the module summary");
+        assertEquals(1, changedCache.getMisses());
+    }
+
+    @Test
+    void testDoesNotCacheFragmentsOfFailedParses() throws IOException {
+        Path cacheDir = Files.createDirectories(tempDir.resolve(".fragments"));
+        Path compose = Files.writeString(tempDir.resolve("docker-compose.yml"),
+                "services:\n  db:\n    image: postgres:16\n");
+        Files.setLastModifiedTime(compose, FileTime.fromMillis(System.currentTimeMillis() - 60_000));
+        List<Path> files = List.of(compose);
+        FileProjectAnalyzer fileAnalyzer = new FileProjectAnalyzer(new FileContentGuard(), 1,
+                new FileSystemFragmentCache(cacheDir, 1024 * 1024));
+
+        try (MockedStatic<DockerComposeReader> reader =
+                     mockStatic(DockerComposeReader.class, CALLS_REAL_METHODS)) {
+            reader.when(() -> DockerComposeReader.read(compose))
+                    .thenThrow(new IOException("Resource temporarily unavailable"));
+            assertTrue(fileAnalyzer.analyze(classified(files)).contains("(Error parsing docker-compose.yml"));
+        }
+        assertEquals(0, fileAnalyzer.memoizedFragments());
+
+        assertTrue(fileAnalyzer.analyze(classified(files)).contains("db (Image: `postgres:16`)"));
+        String warm = new FileProjectAnalyzer(new FileContentGuard(), 1,
+                new FileSystemFragmentCache(cacheDir, 1024 * 1024)).analyze(classified(files));
+        assertTrue(warm.contains("db (Image: `postgres:16`)"), warm);
+    }
+
+    @Test
+    void testAnalyzeSectionsSplitsBuildCiCdAndCodeLazily() throws IOException {
+        Path pomFile = Files.writeString(tempDir.resolve("pom.xml"),
+                "<project><groupId>g</groupId><artifactId>app</artifactId><version>1</version></project>");
+        Path javaFile = Files.writeString(tempDir.resolve("AppService.java"), "public class AppService {\n}\n");
+        Path workflow = Files.createDirectories(tempDir.resolve(".github/workflows")).resolve("ci.yml");
+        Files.writeString(workflow, "on: push\n");
+
+        FileProjectAnalyzer fileAnalyzer = new FileProjectAnalyzer();
+        List<com.example.readmegenerator.domain.model.SummarySection> sections =
+                fileAnalyzer.analyzeSections(classified(List.of(pomFile, javaFile, workflow)));
+        Files.delete(javaFile);
+
+        assertEquals(List.of("Project structure", "Build configuration", "CI/CD", "Code"),
+                sections.stream().map(com.example.readmegenerator.domain.model.SummarySection::getName).toList());
+        assertTrue(sections.get(1).render(Integer.MAX_VALUE).contains("### Maven Project Configuration (pom.xml):"));
+        assertTrue(sections.get(2).render(Integer.MAX_VALUE).contains("**GitHub Actions**: `.github/workflows/ci.yml`"));
+        assertEquals("", sections.get(3).render(Integer.MAX_VALUE), "Code files should only be read when their section is rendered");
+        assertEquals(1, fileAnalyzer.getLastSkippedFiles().get("unreadable"));
+    }
+
+    @Test
+    void testCodeSectionStopsSummarizingOnceItsLimitIsFilled() throws IOException {
+        List<Path> files = new java.util.ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            files.add(Files.writeString(tempDir.resolve("Handler" + i + ".java"),
+                    "public class Handler" + i + " {\n    public void handle" + i + "(String request" + i + ") {}\n}\n"));
+        }
+
+        FileProjectAnalyzer fileAnalyzer = new FileProjectAnalyzer(2);
+        com.example.readmegenerator.domain.model.SummarySection code =
+                fileAnalyzer.analyzeSections(classified(files)).get(3);
+        String rendered = code.render(150);
+
+        assertTrue(rendered.length() >= 150);
+        assertTrue(rendered.contains("Handler0.java"));
+        assertFalse(rendered.contains("Handler9.java"));
+        assertTrue(fileAnalyzer.memoizedFragments() < files.size(), "Files past the limit should not be summarized");
+    }
+
+    @Test
+    void testSummarizesOnlyMostCentralCodeFilesInLargeProjects() throws IOException {
+        Path pkg = Files.createDirectories(tempDir.resolve("src/com/shop"));
+        Files.writeString(pkg.resolve("Order.java"), "package com.shop;\npublic class Order {\n}\n");
+        List<Path> files = new java.util.ArrayList<>();
+        for (int i = 0; i < FileProjectAnalyzer.MAX_CODE_FILES; i++) {
+            files.add(Files.writeString(pkg.resolve("Helper" + i + ".java"),
+                    "package com.shop;\nimport com.shop.Order;\npublic class Helper" + i + " {\n}\n"));
+        }
+        Path lonely = Files.writeString(pkg.resolve("Lonely.java"), "package com.shop;\npublic class Lonely {\n}\n");
+        files.add(pkg.resolve("Order.java"));
+        files.add(lonely);
+
+        String result = analyzer.analyze(classified(files));
+
+        assertTrue(result.contains("Order.java"), "The imported file should be kept");
+        assertFalse(result.contains("Lonely.java"), "An isolated file should be dropped once the limit is reached");
+        assertEquals(FileProjectAnalyzer.MAX_CODE_FILES, result.split("### Code File Summary: ", -1).length - 1);
+    }
+
+    @Test
+    void testSummarizesNearDuplicateCodeFilesOnce() throws IOException {
+        List<Path> files = new java.util.ArrayList<>();
+        for (String entity : List.of("User", "Order", "Invoice")) {
+            files.add(Files.writeString(tempDir.resolve(entity + "Controller.java"),
+                    "public class " + entity + "Controller {\n"
+                            + "    public List<" + entity + "Dto> findAll(int page, int size) {\n    }\n"
+                            + "    public " + entity + "Dto findById(Long id) {\n    }\n"
+                            + "    public " + entity + "Dto create(" + entity + "Dto dto) {\n    }\n"
+                            + "    public void delete(Long id) {\n    }\n}\n"));
+        }
+        files.add(Files.writeString(tempDir.resolve("Parser.java"),
+                "public class Parser {\n    public Node parseExpression(TokenStream tokens, boolean strict) {\n    }\n}\n"));
+
+        String result = analyzer.analyze(classified(files));
+
+        assertTrue(result.contains("### Code File Summary: `UserController.java`"));
+        assertFalse(result.contains("### Code File Summary: `OrderController.java`"));
+        assertTrue(result.contains("(and 2 similar files: `OrderController.java`, `InvoiceController.java`)"));
+        assertTrue(result.contains("### Code File Summary: `Parser.java`"));
+    }
+
+    @Test
+    void testSummarizesGradleBuildScripts() throws IOException {
+        Path settings = Files.writeString(tempDir.resolve("settings.gradle.kts"), "rootProject.name = \"shop\"\ninclude(\"api\")\n");
+        Path build = Files.writeString(tempDir.resolve("build.gradle.kts"), """
+                plugins { id("org.springframework.boot") version "3.2.0" }
+                dependencies {
+                    implementation("org.springframework.boot:spring-boot-starter-web")
+                    testImplementation("org.junit.jupiter:junit-jupiter")
+                }
+                """);
+
+        String result = analyzer.analyze(classified(List.of(settings, build)));
+
+        assertTrue(result.contains("### Gradle Project Configuration (settings.gradle.kts):"));
+        assertTrue(result.contains("  - Name: shop"));
+        assertTrue(result.contains("  - Included Projects: api"));
+        assertTrue(result.contains("  - Plugins: org.springframework.boot 3.2.0"));
+        assertTrue(result.contains("    - org.springframework.boot:spring-boot-starter-web (implementation)"));
+        assertFalse(result.contains("junit-jupiter"), "Test dependencies should be left out");
+    }
+
+    @Test
+    void testSummarizesWorkflowJobsAndParsesRepeatedWorkflowsOnce() throws IOException {
+        String workflow = """
+                on: push
+                jobs:
+                  build:
+                    steps:
+                      - uses: actions/checkout@v4
+                      - run: mvn -B verify
+                """;
+        List<Path> files = new java.util.ArrayList<>();
+        for (String service : List.of("orders", "billing")) {
+            Path dir = Files.createDirectories(tempDir.resolve(service).resolve(".github/workflows"));
+            files.add(Files.writeString(dir.resolve("ci.yml"), workflow));
+        }
+
+        try (MockedStatic<com.example.readmegenerator.domain.service.CiWorkflowReader> reader =
+                     mockStatic(com.example.readmegenerator.domain.service.CiWorkflowReader.class, CALLS_REAL_METHODS)) {
+            String result = analyzer.analyze(classified(files));
+
+            assertTrue(result.contains("| File | Job | Matrix | Actions / Images | Commands |"));
+            assertTrue(result.contains("| `orders/.github/workflows/ci.yml` | build |  | actions/checkout@v4 | `mvn -B verify` |"));
+            assertTrue(result.contains("| `billing/.github/workflows/ci.yml` | build |"));
+            reader.verify(() -> com.example.readmegenerator.domain.service.CiWorkflowReader.read(any(), anyString()), times(1));
+        }
+    }
+
+    private static List<FileDescriptor> classified(List<Path> files) {
+        return files.stream().map(FileClassifier::classify).toList();
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.readmegenerator.adapter.analyzer;
 
+import com.example.readmegenerator.domain.model.FileDescriptor;
+import com.example.readmegenerator.domain.service.FileClassifier;
 import org.junit.jupiter.api.Test;
 
 import java.nio.file.Path;
@@ -18,7 +20,7 @@ class FileTestAnalyzerTest {
                 Path.of("src/main/java/com/example/MyClass.java")
         );
 
-        String result = analyzer.analyzeTests(files);
+        String result = analyzer.analyzeTests(classified(files));
 
         assertEquals("🧪 This project contains test files.", result);
     }
@@ -29,7 +31,7 @@ class FileTestAnalyzerTest {
                 Path.of("src/main/java/com/example/PaymentServiceTest.java")
         );
 
-        String result = analyzer.analyzeTests(files);
+        String result = analyzer.analyzeTests(classified(files));
 
         assertEquals("🧪 This project contains test files.", result);
     }
@@ -41,7 +43,7 @@ class FileTestAnalyzerTest {
                 Path.of("README.md")
         );
 
-        String result = analyzer.analyzeTests(files);
+        String result = analyzer.analyzeTests(classified(files));
 
         assertEquals("", result);
     }
@@ -52,8 +54,12 @@ class FileTestAnalyzerTest {
                 Path.of("C:\\project\\src\\test\\java\\MyTest.java")
         );
 
-        String result = analyzer.analyzeTests(files);
+        String result = analyzer.analyzeTests(classified(files));
 
         assertEquals("🧪 This project contains test files.", result);
     }
+
+    private static List<FileDescriptor> classified(List<Path> files) {
+        return files.stream().map(FileClassifier::classify).toList();
+    }
 }
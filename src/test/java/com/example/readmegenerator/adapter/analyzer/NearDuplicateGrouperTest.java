@@ -0,0 +1,49 @@
+package com.example.readmegenerator.adapter.analyzer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NearDuplicateGrouperTest {
+
+    private static String controller(String entity) {
+        return "public class " + entity + "Controller {\n"
+                + "public ResponseEntity<List<" + entity + "Dto>> findAll(@RequestParam int page, @RequestParam int size)\n"
+                + "public ResponseEntity<" + entity + "Dto> findById(@PathVariable Long id)\n"
+                + "public ResponseEntity<" + entity + "Dto> create(@RequestBody " + entity + "Dto dto)\n"
+                + "public ResponseEntity<Void> delete(@PathVariable Long id)\n";
+    }
+
+    @Test
+    void shouldGroupNearDuplicatesUnderTheirFirstMember() {
+        List<long[]> signatures = Arrays.asList(
+                NearDuplicateGrouper.signature(controller("User")),
+                NearDuplicateGrouper.signature("def parse(tokens, strict=False)\nclass Lexer:\ndef tokenize(self, text)\n"),
+                NearDuplicateGrouper.signature(controller("Order")),
+                NearDuplicateGrouper.signature(controller("Invoice")));
+
+        assertArrayEquals(new int[]{0, 1, 0, 0}, NearDuplicateGrouper.group(signatures));
+    }
+
+    @Test
+    void shouldEstimateSimilarityFromSignatures() {
+        long[] user = NearDuplicateGrouper.signature(controller("User"));
+
+        assertEquals(1.0, NearDuplicateGrouper.similarity(user, NearDuplicateGrouper.signature(controller("User"))));
+        assertTrue(NearDuplicateGrouper.similarity(user, NearDuplicateGrouper.signature(controller("Order")))
+                >= NearDuplicateGrouper.SIMILARITY_THRESHOLD);
+        assertTrue(NearDuplicateGrouper.similarity(user,
+                NearDuplicateGrouper.signature("int main(int argc, char **argv)\nstatic void usage(void)\n")) < 0.3);
+    }
+
+    @Test
+    void shouldNeverGroupTooShortTexts() {
+        assertNull(NearDuplicateGrouper.signature("class A"));
+
+        List<long[]> signatures = Arrays.asList(null, null);
+        assertArrayEquals(new int[]{0, 1}, NearDuplicateGrouper.group(signatures));
+    }
+}
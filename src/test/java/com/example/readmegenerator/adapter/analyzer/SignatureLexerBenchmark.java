@@ -0,0 +1,131 @@
+package com.example.readmegenerator.adapter.analyzer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Microbenchmark comparing {@link SignatureLexer} with the per-line regex filters it replaced. Not run by the test
+ * suite; start it with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.example.readmegenerator.adapter.analyzer.SignatureLexerBenchmark}.
+ */
+public class SignatureLexerBenchmark {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    public static void main(String[] args) throws IOException {
+        List<Sample> samples = List.of(
+                new Sample("Service.java", javaSource()),
+                new Sample("main.cpp", cppSource()),
+                new Sample("app.js", javaScriptSource()),
+                new Sample("models.py", pythonSource()));
+
+        for (Sample sample : samples) {
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                runRegex(sample);
+                runLexer(sample);
+            }
+            long regexNanos = 0;
+            long lexerNanos = 0;
+            for (int i = 0; i < MEASURED_ROUNDS; i++) {
+                long start = System.nanoTime();
+                runRegex(sample);
+                regexNanos += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                runLexer(sample);
+                lexerNanos += System.nanoTime() - start;
+            }
+            System.out.printf("%-14s %8d KB  regex %8.3f ms  lexer %8.3f ms  speedup %5.1fx%n", sample.fileName,
+                    sample.source.length() / 1024, regexNanos / 1e6 / MEASURED_ROUNDS,
+                    lexerNanos / 1e6 / MEASURED_ROUNDS, (double) regexNanos / lexerNanos);
+        }
+    }
+
+    // The whole file is filtered because a signature near the end is only found after reading everything.
+    private static int runRegex(Sample sample) throws IOException {
+        List<String> lines;
+        try (BufferedReader reader = new BufferedReader(new StringReader(sample.source))) {
+            lines = reader.lines().collect(Collectors.toList());
+        }
+        return (int) lines.stream().filter(regexFilter(sample.fileName)).count();
+    }
+
+    private static int runLexer(Sample sample) throws IOException {
+        return SignatureLexer.forFile(sample.fileName).scan(new StringReader(sample.source), Integer.MAX_VALUE, 3)
+                .getSignatures().size();
+    }
+
+    private static Predicate<String> regexFilter(String fileName) {
+        if (fileName.endsWith(".cpp")) {
+            return line -> line.matches("^\\s*(#include|#define|class\\s+\\w+|\\w+\\s+\\w+\\s*\\([^)]*\\)\\s*\\{).*");
+        } else if (fileName.endsWith(".java")) {
+            return line -> line.matches("^\\s*(public|protected|private)?\\s*(abstract|final|static)?\\s*(class|interface|enum)\\s+\\w+.*") ||
+                    line.matches("^\\s*(public|protected|private)?\\s*(static|final)?\\s*\\w+\\s+\\w+\\s*\\(.*\\).*");
+        } else if (fileName.endsWith(".py")) {
+            return line -> line.matches("^\\s*(class|def)\\s+\\w+.*");
+        } else if (fileName.endsWith(".js")) {
+            return line -> line.matches("^\\s*(class|function|const\\s+\\w+\\s*=|let\\s+\\w+\\s*=|var\\s+\\w+\\s*=|export).*");
+        }
+        return line -> false;
+    }
+
+    private static String javaSource() {
+        StringBuilder sb = new StringBuilder("package demo;\n\nimport java.util.List;\n\n");
+        for (int i = 0; i < 2000; i++) {
+            sb.append("/** Handles request ").append(i).append(". */\n")
+                    .append("@Component\npublic class Handler").append(i).append(" extends Base {\n")
+                    .append("    private final String name = \"handler-").append(i).append("\";\n")
+                    .append("    @Override\n    public List<String> handle(String input, int attempt) {\n")
+                    .append("        if (input.isEmpty()) { return List.of(); }\n")
+                    .append("        return List.of(input.repeat(attempt));\n    }\n}\n");
+        }
+        return sb.toString();
+    }
+
+    private static String cppSource() {
+        StringBuilder sb = new StringBuilder("#include <vector>\n#include <string>\n\n");
+        for (int i = 0; i < 3000; i++) {
+            sb.append("// computes value ").append(i).append("\n")
+                    .append("int compute").append(i).append("(int a, int b) {\n")
+                    .append("    for (int j = 0; j < a; j++) { b += j; }\n")
+                    .append("    return a * b;\n}\n");
+        }
+        return sb.toString();
+    }
+
+    private static String javaScriptSource() {
+        StringBuilder sb = new StringBuilder("const express = require('express');\n");
+        for (int i = 0; i < 3000; i++) {
+            sb.append("function route").append(i).append("(req, res) {\n")
+                    .append("    const value = req.query.v").append(i).append(";\n")
+                    .append("    res.send(`value ${value}`);\n}\n");
+        }
+        return sb.toString();
+    }
+
+    private static String pythonSource() {
+        StringBuilder sb = new StringBuilder("import os\n\n");
+        for (int i = 0; i < 3000; i++) {
+            sb.append("class Model").append(i).append("(Base):\n")
+                    .append("    \"\"\"Model number ").append(i).append(".\"\"\"\n")
+                    .append("    def save(self, path=os.curdir):\n")
+                    .append("        return path  # persist\n\n");
+        }
+        return sb.toString();
+    }
+
+    private static class Sample {
+        private final String fileName;
+        private final String source;
+
+        private Sample(String fileName, String source) {
+            this.fileName = fileName;
+            this.source = source;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.readmegenerator.adapter.analyzer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SignatureLexerTest {
+
+    @Test
+    void shouldExtractJavaDeclarationsSkippingAnnotationsCommentsAndStrings() throws IOException {
+        String source = """
+                package demo;
+
+                /* public class Commented { */
+                @Service
+                @RequestMapping(value = "/users", produces = "application/json")
+                public class UserController extends Base implements Api {
+                    private final String text = "public void fake() {";
+                    // public void alsoFake() {
+                    @Override
+                    public List<User> findAll(
+                            @RequestParam String name,
+                            int page) throws IOException {
+                        if (name != null) {
+                            list.forEach(user -> {
+                            });
+                        }
+                        return new ArrayList<>() {
+                        };
+                    }
+                }
+                """;
+
+        List<String> signatures = scan("UserController.java", source);
+
+        assertEquals(List.of(
+                "public class UserController extends Base implements Api {",
+                "public List<User> findAll(@RequestParam String name, int page) throws IOException {"), signatures);
+    }
+
+    @Test
+    void shouldExtractInterfaceMethodsAndAnnotationTypes() throws IOException {
+        String source = """
+                public @interface Audited {
+                }
+                interface Repository {
+                    void save(Entity entity);
+                    int CONSTANT = compute();
+                }
+                """;
+
+        assertEquals(List.of("public @interface Audited {", "interface Repository {", "void save(Entity entity);"),
+                scan("Repository.java", source));
+    }
+
+    @Test
+    void shouldExtractCDirectivesAndFunctions() throws IOException {
+        String source = """
+                #include <iostream>
+                #pragma once
+                int main(int argc, char** argv) {
+                    for (int i = 0; i < argc; i++) {
+                    }
+                }
+                void Widget::draw() const {
+                }
+                """;
+
+        assertEquals(List.of("#include <iostream>", "int main(int argc, char** argv) {", "void Widget::draw() const {"),
+                scan("main.cpp", source));
+    }
+
+    @Test
+    void shouldExtractJavaScriptDeclarations() throws IOException {
+        String source = """
+                const express = require('express');
+                const handler = async (req, res) => {
+                };
+                export default class App {
+                    constructor(options = {}) {
+                    }
+                }
+                const template = `function notReal() {`;
+                function start(port) {
+                    app.listen(port, () => {
+                    });
+                }
+                """;
+
+        assertEquals(List.of("const handler = async (req, res) => {", "export default class App {",
+                "constructor(options = {}) {", "function start(port) {"), scan("app.js", source));
+    }
+
+    @Test
+    void shouldExtractPhpDeclarationsWithDefaultParameters() throws IOException {
+        String source = """
+                <?php
+                # function commented() {
+                class Cart {
+                    public function add(array $item = []) {
+                        $total = function () { return 1; };
+                    }
+                }
+                """;
+
+        assertEquals(List.of("class Cart {", "public function add(array $item = []) {"), scan("Cart.php", source));
+    }
+
+    @Test
+    void shouldExtractPythonDeclarationsAcrossLines() throws IOException {
+        String source = """
+                \"\"\"
+                def not_a_function():
+                \"\"\"
+                @dataclass
+                class Order(Base):
+                    def total(self,
+                              discount=0) -> float:  # comment
+                        return 0
+                async def fetch(): pass
+                """;
+
+        assertEquals(List.of("class Order(Base):", "def total(self, discount=0) -> float:", "async def fetch(): pass"),
+                scan("orders.py", source));
+    }
+
+    @Test
+    void shouldStopReadingOnceEnoughSignaturesAreFound() throws IOException {
+        CountingReader reader = new CountingReader(new StringReader("def a():\ndef b():\n" + "x = 1\n".repeat(100_000)));
+
+        SignatureLexer.Result result = SignatureLexer.forFile("app.py").scan(reader, 2, 3);
+
+        assertEquals(List.of("def a():", "def b():"), result.getSignatures());
+        assertTrue(reader.count <= 8192, "Lexer should not read past the buffer holding the last signature");
+    }
+
+    @Test
+    void shouldKeepRawHeadLinesForFallback() throws IOException {
+        SignatureLexer.Result result = SignatureLexer.forFile("script.rb").scan(new StringReader("a\r\n\r\nc\nd\n"), 5, 3);
+
+        assertTrue(result.getSignatures().isEmpty());
+        assertEquals(List.of("a", "", "c"), result.getHeadLines());
+    }
+
+    @Test
+    void shouldCapVeryLongDeclarations() throws IOException {
+        String longLine = "function minified(" + "x,".repeat(100_000) + "y) {";
+
+        SignatureLexer.Result result = SignatureLexer.forFile("bundle.js").scan(new StringReader(longLine), 5, 3);
+
+        assertTrue(result.getSignatures().get(0).length() <= SignatureLexer.MAX_SIGNATURE_LENGTH + 2);
+        assertEquals(SignatureLexer.MAX_SIGNATURE_LENGTH, result.getHeadLines().get(0).length());
+    }
+
+    private static List<String> scan(String fileName, String source) throws IOException {
+        return SignatureLexer.forFile(fileName).scan(new StringReader(source), 10, 3).getSignatures();
+    }
+
+    private static class CountingReader extends Reader {
+        private final Reader delegate;
+        private int count;
+
+        private CountingReader(Reader delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            int read = delegate.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
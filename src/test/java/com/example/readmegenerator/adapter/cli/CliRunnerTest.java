@@ -1,5 +1,9 @@
 package com.example.readmegenerator.adapter.cli;
 
+import com.example.readmegenerator.adapter.detector.DefaultLanguageDetector;
+import com.example.readmegenerator.adapter.detector.SamplingLanguageDetector;
+import com.example.readmegenerator.domain.model.FileDescriptor;
+import com.example.readmegenerator.domain.model.LanguageBreakdown;
 import com.example.readmegenerator.domain.port.*;
 
 import org.junit.jupiter.api.*;
@@ -7,10 +11,11 @@ import org.junit.jupiter.api.*;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.*;
+import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.Set;
+import java.util.List;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 class CliRunnerTest {
@@ -26,10 +31,10 @@ class CliRunnerTest {
 
     @BeforeEach
     void setUp() throws IOException {
-        analyzer = mock(ProjectAnalyzerPort.class);
+        analyzer = mock(ProjectAnalyzerPort.class, CALLS_REAL_METHODS);
         client = mock(LLMClientPort.class);
         writer = mock(ReadmeWriterPort.class);
-        languageDetector = mock(LanguageDetectorPort.class);
+        languageDetector = mock(LanguageDetectorPort.class, CALLS_REAL_METHODS);
         promptBuilder = mock(PromptBuilderPort.class);
         testAnalyzer = mock(TestAnalyzerPort.class);
 
@@ -50,7 +55,7 @@ class CliRunnerTest {
         Path coreFile = srcDir.resolve("UserService.java");
         Files.writeString(coreFile, "public class UserService {}");
 
-        when(languageDetector.detectLanguages(anyList())).thenReturn(Set.of("Java"));
+        when(languageDetector.detectLanguages(anyList())).thenReturn(languages("Java"));
         when(analyzer.analyze(anyList())).thenReturn("Summary");
         when(testAnalyzer.analyzeTests(anyList())).thenReturn("Tests summary");
         when(promptBuilder.build(any(), any(), any())).thenReturn("Prompt");
@@ -69,7 +74,7 @@ class CliRunnerTest {
     void shouldHandleDryRunAndSkipWriting() throws Exception {
         Files.writeString(tempDir.resolve("App.java"), "public class App {}");
 
-        when(languageDetector.detectLanguages(anyList())).thenReturn(Set.of("Java"));
+        when(languageDetector.detectLanguages(anyList())).thenReturn(languages("Java"));
         when(analyzer.analyze(anyList())).thenReturn("Summary");
         when(testAnalyzer.analyzeTests(anyList())).thenReturn("TestSummary");
         when(promptBuilder.build(any(), any(), any())).thenReturn("Prompt");
@@ -103,13 +108,54 @@ class CliRunnerTest {
         verifyNoInteractions(analyzer, client, writer, languageDetector, promptBuilder, testAnalyzer);
     }
 
+    @Test
+    void shouldReturnErrorOnInvalidThreads() throws Exception {
+        String[] args = { tempDir.toString(), "--threads=zero" };
+
+        int exitCode = CliRunner.run(args, analyzer, client, writer, languageDetector, promptBuilder, testAnalyzer);
+
+        assertEquals(1, exitCode);
+        verifyNoInteractions(analyzer, client, writer, languageDetector, promptBuilder, testAnalyzer);
+    }
+
+    @Test
+    void shouldReturnErrorOnMissingProjectDirectory() throws Exception {
+        String[] args = { tempDir.resolve("missing").toString() };
+
+        int exitCode = CliRunner.run(args, analyzer, client, writer, languageDetector, promptBuilder, testAnalyzer);
+
+        assertEquals(1, exitCode);
+        verifyNoInteractions(analyzer, client, writer, languageDetector, promptBuilder, testAnalyzer);
+    }
+
+    @Test
+    void shouldRunWithParallelTraversal() throws Exception {
+        Path srcDir = Files.createDirectories(tempDir.resolve("src/main/java"));
+        Files.writeString(srcDir.resolve("PaymentService.java"), "public class PaymentService {}");
+
+        when(languageDetector.detectLanguages(anyList())).thenReturn(languages("Java"));
+        when(analyzer.analyze(anyList())).thenReturn("Summary");
+        when(testAnalyzer.analyzeTests(anyList())).thenReturn("");
+        when(promptBuilder.build(any(), any(), any())).thenReturn("Prompt");
+        when(client.generateReadme(any())).thenReturn("README");
+
+        String[] args = { tempDir.toString(), "--threads=4" };
+
+        int exitCode = CliRunner.run(args, analyzer, client, writer, languageDetector, promptBuilder, testAnalyzer);
+
+        assertEquals(0, exitCode);
+        verify(analyzer).analyze(argThat(files -> files.stream().map(FileDescriptor::getPath).toList()
+                .equals(List.of(srcDir.resolve("PaymentService.java")))));
+        verify(writer).write(eq(tempDir), eq("README"));
+    }
+
     @Test
     void shouldPrintPromptWhenShowPromptFlagIsSet() throws Exception {
         Path srcDir = Files.createDirectories(tempDir.resolve("src/main/java"));
         Path coreFile = srcDir.resolve("OrderService.java");
         Files.writeString(coreFile, "public class OrderService {}");
 
-        when(languageDetector.detectLanguages(anyList())).thenReturn(Set.of("Java"));
+        when(languageDetector.detectLanguages(anyList())).thenReturn(languages("Java"));
         when(analyzer.analyze(anyList())).thenReturn("Summary");
         when(testAnalyzer.analyzeTests(anyList())).thenReturn("");
         when(promptBuilder.build(any(), any(), any())).thenReturn("THE_PROMPT");
@@ -123,4 +169,23 @@ class CliRunnerTest {
         verify(promptBuilder).build(any(), any(), any());
         verify(writer).write(eq(tempDir), eq("README"));
     }
+
+    @Test
+    void shouldChooseSamplingLanguageDetectorWhenRequested() {
+        assertInstanceOf(DefaultLanguageDetector.class, CliRunner.parseLanguageDetector(new String[]{ "." }));
+        assertInstanceOf(SamplingLanguageDetector.class,
+                CliRunner.parseLanguageDetector(new String[]{ ".", "--sample-languages" }));
+        assertInstanceOf(SamplingLanguageDetector.class,
+                CliRunner.parseLanguageDetector(new String[]{ ".", "--sample-languages=1.5", "--sample-confidence=0.99" }));
+        assertNull(CliRunner.parseLanguageDetector(new String[]{ ".", "--sample-languages=wide" }));
+        assertNull(CliRunner.parseLanguageDetector(new String[]{ ".", "--sample-languages", "--sample-confidence=1.5" }));
+    }
+
+    private static LanguageBreakdown languages(String... names) {
+        List<LanguageBreakdown.Share> shares = new ArrayList<>();
+        for (String name : names) {
+            shares.add(new LanguageBreakdown.Share(name, 100, 1, 100.0 / names.length));
+        }
+        return new LanguageBreakdown(shares);
+    }
 }
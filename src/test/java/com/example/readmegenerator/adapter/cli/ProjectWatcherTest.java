@@ -0,0 +1,98 @@
+package com.example.readmegenerator.adapter.cli;
+
+import com.example.readmegenerator.domain.service.ProjectFileWalker;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectWatcherTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldReportDebouncedBurstOfChanges() throws Exception {
+        Path readme = tempDir.resolve("README.md");
+        BlockingQueue<Set<Path>> bursts = new LinkedBlockingQueue<>();
+
+        try (ProjectWatcher watcher = new ProjectWatcher(tempDir, new ProjectFileWalker(), 300, Set.of(readme))) {
+            Thread thread = startWatching(watcher, bursts);
+
+            Path service = Files.writeString(tempDir.resolve("UserService.java"), "class UserService {}");
+            Path controller = Files.writeString(tempDir.resolve("UserController.java"), "class UserController {}");
+
+            Set<Path> burst = bursts.poll(10, TimeUnit.SECONDS);
+            assertNotNull(burst, "Expected a change notification");
+            assertTrue(burst.containsAll(Set.of(service, controller)));
+
+            watcher.close();
+            thread.join(5000);
+            assertFalse(thread.isAlive());
+        }
+    }
+
+    @Test
+    void shouldIgnoreOwnReadmeAndExcludedDirectories() throws Exception {
+        Path readme = tempDir.resolve("README.md");
+        Files.createDirectories(tempDir.resolve("target"));
+        BlockingQueue<Set<Path>> bursts = new LinkedBlockingQueue<>();
+
+        try (ProjectWatcher watcher = new ProjectWatcher(tempDir, new ProjectFileWalker(), 200, Set.of(readme))) {
+            startWatching(watcher, bursts);
+
+            Files.writeString(readme, "# README");
+            Files.writeString(tempDir.resolve("target/App.class"), "bytes");
+            assertNull(bursts.poll(1, TimeUnit.SECONDS));
+
+            Path nested = Files.createDirectories(tempDir.resolve("src/main"));
+            assertNotNull(bursts.poll(10, TimeUnit.SECONDS));
+            Path app = Files.writeString(nested.resolve("App.java"), "class App {}");
+
+            Set<Path> burst = bursts.poll(10, TimeUnit.SECONDS);
+            assertNotNull(burst, "Expected changes in a newly created directory to be watched");
+            assertTrue(burst.contains(app));
+        }
+    }
+
+    @Test
+    void shouldIgnoreChangesMatchedByIgnoreFiles() throws Exception {
+        Files.writeString(tempDir.resolve(".gitignore"), "out/\n*.log\n");
+        Files.createDirectories(tempDir.resolve("out"));
+        BlockingQueue<Set<Path>> bursts = new LinkedBlockingQueue<>();
+
+        try (ProjectWatcher watcher = new ProjectWatcher(tempDir, new ProjectFileWalker(), 200, Set.of())) {
+            startWatching(watcher, bursts);
+
+            Files.writeString(tempDir.resolve("out/App.class"), "bytes");
+            Files.writeString(tempDir.resolve("debug.log"), "started");
+            Files.createDirectories(tempDir.resolve("out/classes"));
+            assertNull(bursts.poll(1, TimeUnit.SECONDS));
+
+            Path app = Files.writeString(tempDir.resolve("App.java"), "class App {}");
+            Set<Path> burst = bursts.poll(10, TimeUnit.SECONDS);
+            assertNotNull(burst);
+            assertEquals(Set.of(app), burst);
+        }
+    }
+
+    private Thread startWatching(ProjectWatcher watcher, BlockingQueue<Set<Path>> bursts) {
+        Thread thread = new Thread(() -> {
+            try {
+                watcher.watch(bursts::add);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+}
@@ -1,8 +1,14 @@
 package com.example.readmegenerator.adapter.detector;
 
+import com.example.readmegenerator.domain.model.FileDescriptor;
+import com.example.readmegenerator.domain.model.LanguageBreakdown;
+import com.example.readmegenerator.domain.service.FileClassifier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Set;
@@ -11,6 +17,9 @@ import static org.junit.jupiter.api.Assertions.*;
 
 class DefaultLanguageDetectorTest {
 
+    @TempDir
+    Path tempDir;
+
     private DefaultLanguageDetector detector;
 
     @BeforeEach
@@ -18,83 +27,141 @@ class DefaultLanguageDetectorTest {
         detector = new DefaultLanguageDetector();
     }
 
+    private FileDescriptor file(String name, int bytes) throws IOException {
+        return file(name, "x".repeat(bytes));
+    }
+
+    private FileDescriptor file(String name, String content) throws IOException {
+        Path file = tempDir.resolve(name);
+        Files.createDirectories(file.getParent());
+        return FileClassifier.classify(Files.writeString(file, content));
+    }
+
     @Test
-    void shouldDetectSingleLanguageWithMinimumThreshold() {
-        List<Path> files = List.of(
-                Path.of("src/Main.java"),
-                Path.of("src/Util.java"),
-                Path.of("test/Test.java")
+    void shouldRankLanguagesByBytesRatherThanFileCount() throws IOException {
+        List<FileDescriptor> files = List.of(
+                file("src/Main.java", 6000),
+                file("web/a.js", 1000),
+                file("web/b.js", 1000),
+                file("web/c.js", 1000),
+                file("web/d.js", 1000)
         );
 
-        Set<String> detected = detector.detectLanguages(files);
-        assertEquals(Set.of("Java"), detected);
+        LanguageBreakdown breakdown = detector.detectLanguages(files);
+
+        assertEquals(List.of("Java", "JavaScript"), List.copyOf(breakdown.getLanguages()));
+        LanguageBreakdown.Share java = breakdown.getShares().get(0);
+        assertEquals(6000, java.getBytes());
+        assertEquals(1, java.getFiles());
+        assertEquals(60.0, java.getPercentage(), 1e-9);
+        assertEquals(4, breakdown.getShares().get(1).getFiles());
+        assertEquals("Java 60.0%, JavaScript 40.0%", breakdown.describe());
     }
 
     @Test
-    void shouldNotDetectLanguageBelowThreshold() {
-        List<Path> files = List.of(
-                Path.of("src/Main.java"),
-                Path.of("src/Util.java")
+    void shouldDropLanguagesBelowMinimumShare() throws IOException {
+        List<FileDescriptor> files = List.of(
+                file("Main.java", 10_000),
+                file("Service.java", 10_000),
+                file("tools/stray.py", 100)
         );
 
-        Set<String> detected = detector.detectLanguages(files);
-        assertTrue(detected.isEmpty());
+        LanguageBreakdown breakdown = detector.detectLanguages(files);
+
+        assertEquals(Set.of("Java"), breakdown.getLanguages());
     }
 
     @Test
-    void shouldDetectMultipleLanguagesMeetingThreshold() {
-        List<Path> files = List.of(
-                Path.of("a.java"),
-                Path.of("b.java"),
-                Path.of("c.java"),
-                Path.of("x.py"),
-                Path.of("y.py"),
-                Path.of("z.py"),
-                Path.of("extra.rb") // tylko 1 plik Ruby
+    void shouldIgnoreUnknownExtensions() throws IOException {
+        List<FileDescriptor> files = List.of(
+                file("file.unknown", 10),
+                file("anotherfile.random", 10),
+                file("README.md", 10)
         );
 
-        Set<String> detected = detector.detectLanguages(files);
-        assertEquals(Set.of("Java", "Python"), detected);
+        assertTrue(detector.detectLanguages(files).isEmpty());
     }
 
     @Test
-    void shouldIgnoreUnknownExtensions() {
-        List<Path> files = List.of(
-                Path.of("file.unknown"),
-                Path.of("anotherfile.random"),
-                Path.of("README.md")
+    void shouldBeCaseInsensitiveForExtensions() throws IOException {
+        List<FileDescriptor> files = List.of(
+                file("Index.HTML", 10),
+                file("Page.Html", 10),
+                file("template.html", 10)
         );
 
-        Set<String> detected = detector.detectLanguages(files);
-        assertTrue(detected.isEmpty());
+        assertEquals(Set.of("HTML"), detector.detectLanguages(files).getLanguages());
     }
 
     @Test
-    void shouldBeCaseInsensitiveForExtensions() {
-        List<Path> files = List.of(
-                Path.of("Index.HTML"),
-                Path.of("Page.Html"),
-                Path.of("template.html")
+    void shouldTellBladeTemplatesFromRegularPhp() throws IOException {
+        List<FileDescriptor> files = List.of(
+                file("view1.blade.php", 300),
+                file("view2.blade.php", 300),
+                file("view3.blade.php", 300),
+                file("controller.php", 100),
+                file("model.php", 100)
         );
 
-        Set<String> detected = detector.detectLanguages(files);
-        assertEquals(Set.of("HTML"), detected);
+        LanguageBreakdown breakdown = detector.detectLanguages(files);
+
+        assertEquals(List.of("PHP (Blade)", "PHP"), List.copyOf(breakdown.getLanguages()));
+        assertEquals(3, breakdown.getShares().get(0).getFiles());
+        assertEquals(2, breakdown.getShares().get(1).getFiles());
+    }
+
+    @Test
+    void shouldTakeLanguageOfLongestSuffixFromDescriptor() {
+        assertEquals("PHP (Blade)", languageOf("resources/views/home.blade.php"));
+        assertEquals("JavaScript", languageOf("dist/app.min.js"));
+        assertEquals("Java", languageOf("Main.java"));
+        assertEquals("C", languageOf("lib.c"));
+        assertNull(languageOf("archive.tar.gz"));
+        assertNull(languageOf("notes.txt"));
+    }
+
+    private static String languageOf(String path) {
+        int id = DefaultLanguageDetector.languageOf(FileClassifier.classify(Path.of(path)));
+        return id == DefaultLanguageDetector.NO_LANGUAGE ? null : DefaultLanguageDetector.languageName(id);
+    }
+
+    @Test
+    void shouldSniffShebangOfExtensionlessScripts() throws IOException {
+        List<FileDescriptor> files = List.of(
+                file("bin/deploy", "#!/usr/bin/env python3.12\nprint('deploy')\n"),
+                file("bin/serve", "#!/usr/bin/env -S node --no-warnings\nconsole.log(1)\n"),
+                file("bin/setup", "#!/bin/bash\necho setup\n"),
+                file("bin/console", "<?php\necho 'console';\n"),
+                file("LICENSE", "MIT License\n")
+        );
+
+        assertEquals(Set.of("Python", "JavaScript", "Shell", "PHP"), detector.detectLanguages(files).getLanguages());
+        assertNull(DefaultLanguageDetector.sniff(tempDir.resolve("LICENSE")));
+    }
+
+    @Test
+    void shouldTakeSizesFromDescriptorsWithoutReadingTheFiles() {
+        List<FileDescriptor> files = List.of(
+                FileClassifier.classify(tempDir.resolve("missing/Main.java"), 3000),
+                FileClassifier.classify(tempDir.resolve("missing/app.js"), 1000));
+
+        LanguageBreakdown breakdown = detector.detectLanguages(files);
+
+        assertEquals(3000, breakdown.getShares().get(0).getBytes());
+        assertEquals(75.0, breakdown.getShares().get(0).getPercentage(), 1e-9);
     }
 
     @Test
-    void shouldDetectBladePhpBeforeRegularPhp() {
-        List<Path> files = List.of(
-                Path.of("view1.blade.php"),
-                Path.of("view2.blade.php"),
-                Path.of("view3.blade.php"),
-                Path.of("controller.php"),
-                Path.of("model.php")
+    void shouldFallBackToFileCountsWhenNothingCanBeSized() {
+        List<FileDescriptor> files = List.of(
+                FileClassifier.classify(Path.of("missing/A.java")),
+                FileClassifier.classify(Path.of("missing/B.java")),
+                FileClassifier.classify(Path.of("missing/c.py"))
         );
 
-        DefaultLanguageDetector detector = new DefaultLanguageDetector();
-        Set<String> result = detector.detectLanguages(files);
+        LanguageBreakdown breakdown = detector.detectLanguages(files);
 
-        assertTrue(result.contains("PHP (Blade)"));
-        assertFalse(result.contains("PHP"));
+        assertEquals(List.of("Java", "Python"), List.copyOf(breakdown.getLanguages()));
+        assertEquals(200.0 / 3, breakdown.getShares().get(0).getPercentage(), 1e-9);
     }
 }
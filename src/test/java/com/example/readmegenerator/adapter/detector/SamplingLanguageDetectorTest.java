@@ -0,0 +1,128 @@
+package com.example.readmegenerator.adapter.detector;
+
+import com.example.readmegenerator.domain.model.FileDescriptor;
+import com.example.readmegenerator.domain.model.LanguageBreakdown;
+import com.example.readmegenerator.domain.service.FileClassifier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SamplingLanguageDetectorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private FileDescriptor file(String name, int bytes) throws IOException {
+        Path file = tempDir.resolve(name);
+        Files.createDirectories(file.getParent());
+        return FileClassifier.classify(Files.writeString(file, "x".repeat(bytes)));
+    }
+
+    // Mixed Java and Kotlin modules, a JavaScript front end and documentation the detector does not recognize.
+    private List<FileDescriptor> largeTree() throws IOException {
+        List<FileDescriptor> files = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            files.add(file("core/pkg" + i % 10 + "/Type" + i + (i % 4 == 0 ? ".kt" : ".java"), 100 + i % 13 * 20));
+        }
+        for (int i = 0; i < 3000; i++) {
+            files.add(file("web/components/c" + i + ".js", 80 + i % 7 * 10));
+        }
+        for (int i = 0; i < 1000; i++) {
+            files.add(file("docs/page" + i + ".md", 300));
+        }
+        return files;
+    }
+
+    @Test
+    void shouldMatchExactBreakdownWhenEveryStratumFitsItsReservoir() throws IOException {
+        List<FileDescriptor> files = List.of(
+                file("src/Main.java", 6000),
+                file("web/a.js", 1000),
+                file("web/b.js", 3000),
+                file("README.md", 500)
+        );
+
+        LanguageBreakdown sampled = new SamplingLanguageDetector().detectLanguages(files);
+        LanguageBreakdown exact = new DefaultLanguageDetector().detectLanguages(files);
+
+        assertEquals(exact.describe(), sampled.describe());
+        assertEquals(6000, sampled.getShares().get(0).getBytes());
+        assertEquals(2, sampled.getShares().get(1).getFiles());
+    }
+
+    @Test
+    void shouldStopSizingFilesOnceSharesSettle() throws IOException {
+        List<FileDescriptor> files = largeTree();
+        SamplingLanguageDetector detector = new SamplingLanguageDetector(5.0, 0.95, 200);
+
+        SamplingLanguageDetector.Sampler sampler = (SamplingLanguageDetector.Sampler) detector.startDetection(tempDir);
+        files.forEach(sampler);
+        LanguageBreakdown sampled = sampler.finish();
+        LanguageBreakdown exact = new DefaultLanguageDetector().detectLanguages(files);
+
+        assertTrue(sampler.isSettled());
+        assertTrue(sampler.sizedFiles() < files.size() / 8, "sized " + sampler.sizedFiles() + " files");
+        assertEquals(List.copyOf(exact.getLanguages()), List.copyOf(sampled.getLanguages()));
+        for (int i = 0; i < exact.getShares().size(); i++) {
+            assertEquals(exact.getShares().get(i).getPercentage(), sampled.getShares().get(i).getPercentage(), 5.0);
+        }
+    }
+
+    @Test
+    void shouldSampleWalkedSizesFromConcurrentThreadsWithoutReadingFiles() {
+        // Descriptors carry the sizes the walk read; the files themselves do not exist.
+        List<FileDescriptor> files = new ArrayList<>();
+        for (int i = 0; i < 4000; i++) {
+            String name = i % 2 == 0 ? "api/src/Type" + i + ".java" : "web/src/c" + i + ".ts";
+            files.add(FileClassifier.classify(tempDir.resolve(name), i % 2 == 0 ? 300 : 100));
+        }
+        SamplingLanguageDetector detector = new SamplingLanguageDetector(5.0, 0.95, 200);
+
+        SamplingLanguageDetector.Sampler sampler = (SamplingLanguageDetector.Sampler) detector.startDetection(tempDir);
+        files.parallelStream().forEach(sampler);
+        LanguageBreakdown sampled = sampler.finish();
+
+        assertEquals(List.of("Java", "TypeScript"), List.copyOf(sampled.getLanguages()));
+        assertEquals(75.0, sampled.getShares().get(0).getPercentage(), 5.0);
+        assertTrue(sampler.sizedFiles() < files.size());
+    }
+
+    @Test
+    void shouldKeepSamplingDirectoriesReachedAfterSettling() throws IOException {
+        List<FileDescriptor> files = largeTree();
+        for (int i = 0; i < 50; i++) {
+            files.add(file("tools/script" + i + ".py", 2000));
+        }
+        SamplingLanguageDetector detector = new SamplingLanguageDetector(5.0, 0.95, 200);
+
+        LanguageBreakdown sampled = detector.detectLanguages(files);
+
+        LanguageBreakdown.Share python = sampled.getShares().stream()
+                .filter(share -> share.getLanguage().equals("Python"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(50, python.getFiles());
+        assertEquals(100_000, python.getBytes());
+    }
+
+    @Test
+    void shouldComputeTwoSidedCriticalValues() {
+        assertEquals(1.645, SamplingLanguageDetector.zScore(0.90), 1e-3);
+        assertEquals(1.960, SamplingLanguageDetector.zScore(0.95), 1e-3);
+        assertEquals(2.576, SamplingLanguageDetector.zScore(0.99), 1e-3);
+    }
+
+    @Test
+    void shouldRejectInvalidBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new SamplingLanguageDetector(0, 0.95));
+        assertThrows(IllegalArgumentException.class, () -> new SamplingLanguageDetector(2.0, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new SamplingLanguageDetector(2.0, 0.95, 1));
+    }
+}
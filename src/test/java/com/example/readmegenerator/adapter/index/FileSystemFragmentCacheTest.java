@@ -0,0 +1,70 @@
+package com.example.readmegenerator.adapter.index;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileSystemFragmentCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldCountHitsAndMisses() {
+        FileSystemFragmentCache cache = new FileSystemFragmentCache(tempDir, 1024 * 1024);
+
+        assertEquals(Optional.empty(), cache.get(key('a')));
+        cache.put(key('a'), "### Fragment\n");
+
+        assertEquals(Optional.of("### Fragment\n"), cache.get(key('a')));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntriesWhenFull() throws IOException {
+        FileSystemFragmentCache cache = new FileSystemFragmentCache(tempDir, 250);
+        String fragment = "x".repeat(100);
+
+        cache.put(key('a'), fragment);
+        cache.put(key('b'), fragment);
+        Files.setLastModifiedTime(cache.entryFor(key('a')), FileTime.fromMillis(1_000));
+        Files.setLastModifiedTime(cache.entryFor(key('b')), FileTime.fromMillis(2_000));
+        assertTrue(cache.get(key('a')).isPresent(), "Reading an entry should mark it as recently used");
+
+        cache.put(key('c'), fragment);
+
+        assertTrue(Files.exists(cache.entryFor(key('a'))));
+        assertFalse(Files.exists(cache.entryFor(key('b'))));
+        assertTrue(Files.exists(cache.entryFor(key('c'))));
+    }
+
+    @Test
+    void shouldAccountForExistingEntriesFromPreviousRuns() {
+        new FileSystemFragmentCache(tempDir, 250).put(key('a'), "x".repeat(200));
+
+        FileSystemFragmentCache cache = new FileSystemFragmentCache(tempDir, 250);
+        cache.put(key('b'), "x".repeat(100));
+
+        assertEquals(1, countEntries());
+    }
+
+    private long countEntries() {
+        try (var paths = Files.walk(tempDir)) {
+            return paths.filter(p -> p.toString().endsWith(".md")).count();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String key(char c) {
+        return String.valueOf(c).repeat(64);
+    }
+}
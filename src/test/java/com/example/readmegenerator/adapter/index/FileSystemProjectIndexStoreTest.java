@@ -0,0 +1,56 @@
+package com.example.readmegenerator.adapter.index;
+
+import com.example.readmegenerator.domain.model.ProjectIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileSystemProjectIndexStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldRoundTripIndex() throws IOException {
+        FileSystemProjectIndexStore store = new FileSystemProjectIndexStore(tempDir.resolve("cache"));
+        Path projectDir = tempDir.resolve("project");
+        ProjectIndex index = new ProjectIndex("LEFT/BULLET", 1_700_000_000_000L, Map.of(
+                "src/App.java", new ProjectIndex.FileEntry(12, 1000, "abc"),
+                "pom.xml", new ProjectIndex.FileEntry(40, 2000, "def")
+        ));
+
+        store.save(projectDir, index);
+        Optional<ProjectIndex> loaded = store.load(projectDir);
+
+        assertTrue(loaded.isPresent());
+        assertEquals(index.getRootHash(), loaded.get().getRootHash());
+        assertEquals("LEFT/BULLET", loaded.get().getConfigFingerprint());
+        assertEquals(1_700_000_000_000L, loaded.get().getIndexedAt());
+        assertEquals(40, loaded.get().getFiles().get("pom.xml").getSize());
+    }
+
+    @Test
+    void shouldReturnEmptyWhenNoIndexWasSaved() {
+        FileSystemProjectIndexStore store = new FileSystemProjectIndexStore(tempDir.resolve("cache"));
+
+        assertTrue(store.load(tempDir.resolve("project")).isEmpty());
+    }
+
+    @Test
+    void shouldIgnoreCorruptIndexFile() throws IOException {
+        FileSystemProjectIndexStore store = new FileSystemProjectIndexStore(tempDir.resolve("cache"));
+        Path projectDir = tempDir.resolve("project");
+        Path indexFile = store.indexFileFor(projectDir);
+        Files.createDirectories(indexFile.getParent());
+        Files.writeString(indexFile, "not an index");
+
+        assertTrue(store.load(projectDir).isEmpty());
+    }
+}
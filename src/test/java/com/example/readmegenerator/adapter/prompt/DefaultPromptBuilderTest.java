@@ -1,6 +1,7 @@
 package com.example.readmegenerator.adapter.prompt;
 
 import com.example.readmegenerator.domain.model.ReadmeGenerationConfig;
+import com.example.readmegenerator.domain.service.BuiltWithBadges;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -25,6 +26,8 @@ class DefaultPromptBuilderTest {
         assertTrue(result.contains("<ul align=\"left\">"));
         assertTrue(result.contains(summary));
         assertTrue(result.contains("- Use `<ul>` and `<li>` for all lists"));
+        assertTrue(result.contains(BuiltWithBadges.PLACEHOLDER));
+        assertFalse(result.contains("img.shields.io/badge/"));
     }
 
     @Test
@@ -1,25 +1,49 @@
 package com.example.readmegenerator.app;
 
+import com.example.readmegenerator.adapter.analyzer.FileProjectAnalyzer;
+import com.example.readmegenerator.adapter.analyzer.FileTestAnalyzer;
+import com.example.readmegenerator.adapter.detector.DefaultLanguageDetector;
+import com.example.readmegenerator.domain.model.DependencyReport;
+import com.example.readmegenerator.domain.model.FileDescriptor;
+import com.example.readmegenerator.domain.model.LanguageBreakdown;
+import com.example.readmegenerator.domain.model.ProjectIndex;
 import com.example.readmegenerator.domain.model.ReadmeGenerationConfig;
 import com.example.readmegenerator.domain.port.*;
+import com.example.readmegenerator.domain.service.BuiltWithBadges;
 import com.example.readmegenerator.domain.service.DependencyExtractor;
+import com.example.readmegenerator.domain.service.FileClassifier;
+import com.example.readmegenerator.domain.service.ProjectFileWalker;
+import com.example.readmegenerator.domain.service.ProjectIndexer;
 import org.junit.jupiter.api.*;
 import org.mockito.*;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 class ReadmeGenerationServiceTest {
 
-    @Mock private ProjectAnalyzerPort analyzer;
+    private static final DependencyReport NO_DEPENDENCIES = new DependencyReport(List.of(), List.of());
+
+    @Mock(answer = Answers.CALLS_REAL_METHODS) private ProjectAnalyzerPort analyzer;
     @Mock private LLMClientPort client;
     @Mock private ReadmeWriterPort writer;
-    @Mock private LanguageDetectorPort languageDetector;
+    @Mock(answer = Answers.CALLS_REAL_METHODS) private LanguageDetectorPort languageDetector;
     @Mock private PromptBuilderPort promptBuilder;
     @Mock private TestAnalyzerPort testAnalyzer;
 
@@ -49,14 +73,15 @@ class ReadmeGenerationServiceTest {
         // given
         Path file = Files.writeString(tempDir.resolve("UserService.java"), "public class UserService {}");
 
-        when(languageDetector.detectLanguages(anyList())).thenReturn(Set.of("Java"));
+        when(languageDetector.detectLanguages(anyList())).thenReturn(languages("Java"));
         when(analyzer.analyze(anyList())).thenReturn("Project Summary");
         when(testAnalyzer.analyzeTests(anyList())).thenReturn("Test Summary");
         when(promptBuilder.build(any(), any(), any())).thenReturn("Prompt");
         when(client.generateReadme(anyString())).thenReturn("README");
         // mock static DependencyExtractor
         try (MockedStatic<DependencyExtractor> deps = mockStatic(DependencyExtractor.class)) {
-            deps.when(() -> DependencyExtractor.extractDependencies(anyList())).thenReturn("Dependencies");
+            deps.when(() -> DependencyExtractor.read(any(Path.class), anyList(), any())).thenReturn(NO_DEPENDENCIES);
+            deps.when(() -> DependencyExtractor.render(any())).thenReturn("Dependencies");
 
             ReadmeGenerationService service = new ReadmeGenerationService(
                     analyzer, client, writer, languageDetector,
@@ -71,18 +96,145 @@ class ReadmeGenerationServiceTest {
         }
     }
 
+    @Test
+    void shouldSummarizeDependenciesOnceAcrossAnalyzerAndDependencySection() throws Exception {
+        Files.createDirectories(tempDir.resolve("web"));
+        Files.createDirectories(tempDir.resolve("api"));
+        Files.writeString(tempDir.resolve("web/app.js"), "export function start() {}");
+        Files.writeString(tempDir.resolve("web/package.json"), "{\"dependencies\": {\"express\": \"^4.18.2\"}}");
+        Files.writeString(tempDir.resolve("api/package.json"),
+                "{\"dependencies\": {\"express\": \"^4.18.2\", \"pg\": \"^8.11.0\"}}");
+
+        when(languageDetector.detectLanguages(anyList())).thenReturn(languages("JavaScript"));
+        when(testAnalyzer.analyzeTests(anyList())).thenReturn("");
+        ArgumentCaptor<String> summary = ArgumentCaptor.forClass(String.class);
+        when(promptBuilder.build(summary.capture(), any(), any())).thenReturn("Prompt");
+        when(client.generateReadme(anyString())).thenReturn("README");
+
+        try (MockedStatic<DependencyExtractor> deps = mockStatic(DependencyExtractor.class, CALLS_REAL_METHODS)) {
+            ReadmeGenerationService service = new ReadmeGenerationService(
+                    new FileProjectAnalyzer(), client, writer, languageDetector,
+                    promptBuilder, testAnalyzer, false, false
+            );
+
+            service.generate(tempDir, config);
+
+            deps.verify(() -> DependencyExtractor.read(eq(tempDir), anyList(), any()), times(1));
+        }
+        String text = summary.getValue();
+        assertEquals(1, text.split("express", -1).length - 1, text);
+        assertTrue(text.contains("- pg ^8.11.0 — `api/package.json`"), text);
+    }
+
+    @Test
+    void shouldNotAnalyzeTestsWhenEarlierSectionsUseUpTheBudget() throws Exception {
+        Files.writeString(tempDir.resolve("UserService.java"), "public class UserService {}");
+
+        when(languageDetector.detectLanguages(anyList())).thenReturn(languages("Java"));
+        when(analyzer.analyze(anyList())).thenReturn("public void handle() {}\n".repeat(1000));
+        when(promptBuilder.build(any(), any(), any())).thenReturn("Prompt");
+        when(client.generateReadme(anyString())).thenReturn("README");
+
+        ReadmeGenerationService service = new ReadmeGenerationService(
+                analyzer, client, writer, languageDetector,
+                promptBuilder, testAnalyzer, false, false
+        );
+        service.generate(tempDir, config);
+
+        verify(testAnalyzer, never()).analyzeTests(anyList());
+        verify(writer).write(eq(tempDir), eq("README"));
+    }
+
+    @Test
+    void shouldKeepDominantLanguageSourcesWhenMinorLanguageIsPresent() throws Exception {
+        Files.createDirectories(tempDir.resolve("src/main/java"));
+        Path service = Files.writeString(tempDir.resolve("src/main/java/OrderService.java"),
+                "public class OrderService {\n" + "    void place() {}\n".repeat(200) + "}");
+        Path pom = Files.writeString(tempDir.resolve("pom.xml"), "<project><artifactId>shop</artifactId></project>");
+        Path script = Files.writeString(tempDir.resolve("healthcheck.php"), "<?php\n" + "echo 'ok';\n".repeat(20));
+
+        when(analyzer.analyze(anyList())).thenReturn("Summary");
+        when(testAnalyzer.analyzeTests(anyList())).thenReturn("");
+        when(promptBuilder.build(any(), any(), any())).thenReturn("Prompt");
+        when(client.generateReadme(anyString())).thenReturn("README");
+
+        ReadmeGenerationService readmeService = new ReadmeGenerationService(
+                analyzer, client, writer, new DefaultLanguageDetector(),
+                promptBuilder, testAnalyzer, false, false
+        );
+        readmeService.generate(tempDir, config);
+
+        ArgumentCaptor<List<FileDescriptor>> files = ArgumentCaptor.forClass(List.class);
+        verify(analyzer).analyze(files.capture());
+        List<Path> analyzed = files.getValue().stream().map(FileDescriptor::getPath).toList();
+        assertTrue(analyzed.containsAll(List.of(service, pom, script)), analyzed.toString());
+    }
+
+    @Test
+    void shouldClassifyEachFileOnceForAllPorts() throws Exception {
+        Files.createDirectories(tempDir.resolve("api/src/test"));
+        Files.createDirectories(tempDir.resolve(".github/workflows"));
+        List<Path> files = List.of(
+                Files.writeString(tempDir.resolve("api/pom.xml"), "<project><artifactId>api</artifactId></project>"),
+                Files.writeString(tempDir.resolve("api/src/OrderService.java"), "public class OrderService {}"),
+                Files.writeString(tempDir.resolve("api/src/test/OrderServiceTest.java"), "class OrderServiceTest {}"),
+                Files.writeString(tempDir.resolve(".github/workflows/ci.yml"), "on: push\n"),
+                Files.writeString(tempDir.resolve("run"), "#!/bin/sh\necho run\n"));
+
+        when(promptBuilder.build(any(), any(), any())).thenReturn("Prompt");
+        when(client.generateReadme(anyString())).thenReturn("README");
+
+        ReadmeGenerationService service = new ReadmeGenerationService(
+                new FileProjectAnalyzer(), client, writer, new DefaultLanguageDetector(),
+                promptBuilder, new FileTestAnalyzer(), false, false
+        );
+        try (MockedStatic<FileClassifier> classifier = mockStatic(FileClassifier.class, CALLS_REAL_METHODS)) {
+            service.generate(tempDir, config);
+
+            for (Path file : files) {
+                classifier.verify(() -> FileClassifier.classify(eq(file), eq(Files.size(file))), times(1));
+            }
+            classifier.verify(() -> FileClassifier.classify(any(), anyLong()), times(files.size()));
+        }
+        verify(writer).write(eq(tempDir), eq("README"));
+    }
+
+    @Test
+    void shouldSpliceLocallyRenderedBadgesIntoGeneratedReadme() throws Exception {
+        Files.writeString(tempDir.resolve("UserService.java"), "public class UserService {}");
+
+        when(languageDetector.detectLanguages(anyList())).thenReturn(languages("Java"));
+        when(testAnalyzer.analyzeTests(anyList())).thenReturn("");
+        when(promptBuilder.build(any(), any(), any())).thenReturn("Prompt");
+        when(client.generateReadme(anyString())).thenReturn(
+                "<h2 id=\"built-with\">Built With</h2>\n" + BuiltWithBadges.PLACEHOLDER + "\n<p>More</p>");
+
+        ReadmeGenerationService service = new ReadmeGenerationService(
+                analyzer, client, writer, languageDetector,
+                promptBuilder, testAnalyzer, false, false
+        );
+        service.generate(tempDir, config);
+
+        ArgumentCaptor<String> readme = ArgumentCaptor.forClass(String.class);
+        verify(writer).write(eq(tempDir), readme.capture());
+        assertTrue(readme.getValue().contains("<div align=\"left\">\n  <img src=\"https://img.shields.io/badge/Java-007396"),
+                readme.getValue());
+        assertFalse(readme.getValue().contains(BuiltWithBadges.PLACEHOLDER));
+    }
+
     @Test
     void shouldSkipWritingIfDryRunIsEnabled() throws Exception {
         Path file = Files.writeString(tempDir.resolve("MyService.java"), "public class MyService {}");
 
-        when(languageDetector.detectLanguages(anyList())).thenReturn(Set.of("Java"));
+        when(languageDetector.detectLanguages(anyList())).thenReturn(languages("Java"));
         when(analyzer.analyze(anyList())).thenReturn("Summary");
         when(testAnalyzer.analyzeTests(anyList())).thenReturn("");
         when(promptBuilder.build(any(), any(), any())).thenReturn("Prompt");
         when(client.generateReadme(anyString())).thenReturn("README");
 
         try (MockedStatic<DependencyExtractor> deps = mockStatic(DependencyExtractor.class)) {
-            deps.when(() -> DependencyExtractor.extractDependencies(anyList())).thenReturn("");
+            deps.when(() -> DependencyExtractor.read(any(Path.class), anyList(), any())).thenReturn(NO_DEPENDENCIES);
+            deps.when(() -> DependencyExtractor.render(any())).thenReturn("");
 
             ReadmeGenerationService service = new ReadmeGenerationService(
                     analyzer, client, writer, languageDetector,
@@ -98,7 +250,7 @@ class ReadmeGenerationServiceTest {
     @Test
     void shouldExitEarlyIfNoLanguagesDetected() throws Exception {
         Files.writeString(tempDir.resolve("Main.java"), "public class Main {}");
-        when(languageDetector.detectLanguages(anyList())).thenReturn(Set.of());
+        when(languageDetector.detectLanguages(anyList())).thenReturn(languages());
 
         ReadmeGenerationService service = new ReadmeGenerationService(
                 analyzer, client, writer, languageDetector,
@@ -113,7 +265,7 @@ class ReadmeGenerationServiceTest {
     @Test
     void shouldExitEarlyIfNoRelevantFiles() throws Exception {
         Files.writeString(tempDir.resolve("README.txt"), "Just a readme");
-        when(languageDetector.detectLanguages(anyList())).thenReturn(Set.of("Java"));
+        when(languageDetector.detectLanguages(anyList())).thenReturn(languages("Java"));
 
         ReadmeGenerationService service = new ReadmeGenerationService(
                 analyzer, client, writer, languageDetector,
@@ -125,18 +277,202 @@ class ReadmeGenerationServiceTest {
         verifyNoInteractions(analyzer, testAnalyzer, promptBuilder, client, writer);
     }
 
+    @Test
+    void shouldSkipRegenerationWhenProjectIndexIsUnchanged() throws Exception {
+        Files.writeString(tempDir.resolve("UserService.java"), "public class UserService {}");
+        ProjectIndexStorePort indexStore = inMemoryIndexStore();
+        doAnswer(invocation -> Files.writeString(tempDir.resolve("README.md"), "README"))
+                .when(writer).write(any(), any());
+
+        when(languageDetector.detectLanguages(anyList())).thenReturn(languages("Java"));
+        when(analyzer.analyze(anyList())).thenReturn("Summary");
+        when(testAnalyzer.analyzeTests(anyList())).thenReturn("");
+        when(promptBuilder.build(any(), any(), any())).thenReturn("Prompt", "Updated prompt");
+        when(client.generateReadme(anyString())).thenReturn("README");
+
+        try (MockedStatic<DependencyExtractor> deps = mockStatic(DependencyExtractor.class)) {
+            deps.when(() -> DependencyExtractor.read(any(Path.class), anyList(), any())).thenReturn(NO_DEPENDENCIES);
+            deps.when(() -> DependencyExtractor.render(any())).thenReturn("");
+
+            ReadmeGenerationService service = new ReadmeGenerationService(
+                    analyzer, client, writer, languageDetector,
+                    promptBuilder, testAnalyzer, new ProjectFileWalker(), indexStore, false, false
+            );
+
+            service.generate(tempDir, config);
+            service.generate(tempDir, config);
+            verify(client, times(1)).generateReadme(anyString());
+
+            Files.writeString(tempDir.resolve("UserService.java"), "public class UserService { void save() {} }");
+            service.generate(tempDir, config);
+            verify(client, times(2)).generateReadme(anyString());
+        }
+    }
+
+    @Test
+    void shouldRegenerateWhenOutputAffectingSettingsChange() throws Exception {
+        Files.writeString(tempDir.resolve("UserService.java"), "public class UserService {}");
+        ProjectIndexStorePort indexStore = inMemoryIndexStore();
+        doAnswer(invocation -> Files.writeString(tempDir.resolve("README.md"), "README"))
+                .when(writer).write(any(), any());
+
+        when(languageDetector.detectLanguages(anyList())).thenReturn(languages("Java"));
+        when(analyzer.analyze(anyList())).thenReturn("Summary");
+        when(testAnalyzer.analyzeTests(anyList())).thenReturn("");
+        when(promptBuilder.build(any(), any(), any())).thenReturn("Prompt 1", "Prompt 2", "Prompt 3");
+        when(client.fingerprint()).thenReturn("model-a");
+        when(client.generateReadme(anyString())).thenReturn("README");
+
+        try (MockedStatic<DependencyExtractor> deps = mockStatic(DependencyExtractor.class)) {
+            deps.when(() -> DependencyExtractor.read(any(Path.class), anyList(), any())).thenReturn(NO_DEPENDENCIES);
+            deps.when(() -> DependencyExtractor.render(any())).thenReturn("");
+
+            new ReadmeGenerationService(analyzer, client, writer, languageDetector, promptBuilder, testAnalyzer,
+                    new ProjectFileWalker(), indexStore, false, false).generate(tempDir, config);
+
+            ReadmeGenerationService withoutIgnoreFiles = new ReadmeGenerationService(analyzer, client, writer,
+                    languageDetector, promptBuilder, testAnalyzer,
+                    new ProjectFileWalker(ProjectFileWalker.DEFAULT_EXCLUDED_DIRECTORIES, false), indexStore,
+                    false, false);
+            withoutIgnoreFiles.generate(tempDir, config);
+            verify(client, times(2)).generateReadme(anyString());
+
+            when(client.fingerprint()).thenReturn("model-b");
+            withoutIgnoreFiles.generate(tempDir, config);
+            verify(client, times(3)).generateReadme(anyString());
+        }
+    }
+
+    @Test
+    void shouldRegenerateFromChangedPathsWithoutWalkingAgain() throws Exception {
+        Path order = Files.writeString(tempDir.resolve("OrderService.java"), "public class OrderService {}");
+        Path user = Files.writeString(tempDir.resolve("UserService.java"), "public class UserService {}");
+        doAnswer(invocation -> Files.writeString(tempDir.resolve("README.md"), "README"))
+                .when(writer).write(any(), any());
+
+        when(testAnalyzer.analyzeTests(anyList())).thenReturn("");
+        ArgumentCaptor<String> summary = ArgumentCaptor.forClass(String.class);
+        when(promptBuilder.build(summary.capture(), any(), any())).thenReturn("Prompt 1", "Prompt 2");
+        when(client.generateReadme(anyString())).thenReturn("README");
+        ProjectFileWalker walker = spy(new ProjectFileWalker());
+
+        ReadmeGenerationService service = new ReadmeGenerationService(
+                new FileProjectAnalyzer(), client, writer, new DefaultLanguageDetector(),
+                promptBuilder, testAnalyzer, walker, inMemoryIndexStore(), false, false
+        );
+        service.generate(tempDir, config);
+
+        Files.writeString(user, "public class UserService {\n    public void rename(String name) {}\n}\n");
+        Path invoice = Files.writeString(tempDir.resolve("InvoiceService.java"), "public class InvoiceService {}");
+        try (MockedStatic<FileClassifier> classifier = mockStatic(FileClassifier.class, CALLS_REAL_METHODS);
+             MockedStatic<ProjectIndexer> indexer = mockStatic(ProjectIndexer.class, CALLS_REAL_METHODS)) {
+            service.regenerate(tempDir, config, Set.of(user, invoice));
+
+            classifier.verify(() -> FileClassifier.classify(eq(order), anyLong()), never());
+            indexer.verify(() -> ProjectIndexer.build(any(), anyList(), any(), any()), never());
+            indexer.verify(() -> ProjectIndexer.update(eq(tempDir), any(), argThat(changed ->
+                    changed.size() == 2 && changed.containsAll(List.of(user, invoice)))));
+        }
+
+        verify(walker, times(1)).walk(eq(tempDir), any());
+        String text = summary.getValue();
+        assertTrue(text.contains("public void rename(String name)"), text);
+        assertTrue(text.contains("InvoiceService.java"), text);
+        assertTrue(text.contains("OrderService.java"), text);
+        verify(writer, times(2)).write(eq(tempDir), eq("README"));
+    }
+
+    @Test
+    void shouldWalkAgainWhenAnIgnoreFileChanges() throws Exception {
+        Files.writeString(tempDir.resolve("UserService.java"), "public class UserService {}");
+        when(languageDetector.detectLanguages(anyList())).thenReturn(languages("Java"));
+        when(analyzer.analyze(anyList())).thenReturn("Summary");
+        when(testAnalyzer.analyzeTests(anyList())).thenReturn("");
+        when(promptBuilder.build(any(), any(), any())).thenReturn("Prompt 1", "Prompt 2");
+        when(client.generateReadme(anyString())).thenReturn("README");
+        ProjectFileWalker walker = spy(new ProjectFileWalker());
+
+        ReadmeGenerationService service = new ReadmeGenerationService(analyzer, client, writer, languageDetector,
+                promptBuilder, testAnalyzer, walker, false, false);
+        service.generate(tempDir, config);
+        Path gitignore = Files.writeString(tempDir.resolve(".gitignore"), "generated/\n");
+        service.regenerate(tempDir, config, Set.of(gitignore));
+
+        verify(walker, times(2)).walk(eq(tempDir), any());
+    }
+
+    @Test
+    void shouldNotCallLlmAgainWhenPromptIsUnchanged() throws Exception {
+        Files.writeString(tempDir.resolve("UserService.java"), "public class UserService {}");
+        doAnswer(invocation -> Files.writeString(tempDir.resolve("README.md"), invocation.getArgument(1, String.class)))
+                .when(writer).write(any(), any());
+
+        when(languageDetector.detectLanguages(anyList())).thenReturn(languages("Java"));
+        when(analyzer.analyze(anyList())).thenReturn("Summary");
+        when(testAnalyzer.analyzeTests(anyList())).thenReturn("");
+        when(promptBuilder.build(any(), any(), any())).thenReturn("Prompt", "Prompt", "Changed prompt");
+        when(client.generateReadme(anyString())).thenReturn("README");
+
+        try (MockedStatic<DependencyExtractor> deps = mockStatic(DependencyExtractor.class)) {
+            deps.when(() -> DependencyExtractor.read(any(Path.class), anyList(), any())).thenReturn(NO_DEPENDENCIES);
+            deps.when(() -> DependencyExtractor.render(any())).thenReturn("");
+
+            ReadmeGenerationService service = new ReadmeGenerationService(
+                    analyzer, client, writer, languageDetector,
+                    promptBuilder, testAnalyzer, false, false
+            );
+
+            service.generate(tempDir, config);
+            service.generate(tempDir, config);
+            service.generate(tempDir, config);
+
+            verify(client).generateReadme("Prompt");
+            verify(client).generateReadme("Changed prompt");
+            verify(writer, times(2)).write(any(), any());
+        }
+    }
+
+    @Test
+    void shouldRestoreDeletedReadmeWithoutCallingLlmWhenPromptIsUnchanged() throws Exception {
+        Files.writeString(tempDir.resolve("UserService.java"), "public class UserService {}");
+        Path readme = tempDir.resolve("README.md");
+        doAnswer(invocation -> Files.writeString(readme, invocation.getArgument(1, String.class)))
+                .when(writer).write(any(), any());
+        ProjectIndexStorePort indexStore = spy(inMemoryIndexStore());
+
+        when(languageDetector.detectLanguages(anyList())).thenReturn(languages("Java"));
+        when(analyzer.analyze(anyList())).thenReturn("Summary");
+        when(testAnalyzer.analyzeTests(anyList())).thenReturn("");
+        when(promptBuilder.build(any(), any(), any())).thenReturn("Prompt");
+        when(client.generateReadme(anyString())).thenReturn("README");
+
+        ReadmeGenerationService service = new ReadmeGenerationService(analyzer, client, writer, languageDetector,
+                promptBuilder, testAnalyzer, new ProjectFileWalker(), indexStore, false, false);
+        service.generate(tempDir, config);
+        String generated = Files.readString(readme);
+
+        Files.delete(readme);
+        service.generate(tempDir, config);
+
+        verify(client, times(1)).generateReadme(anyString());
+        verify(writer, times(2)).write(tempDir, generated);
+        verify(indexStore, times(2)).save(eq(tempDir), any());
+        assertEquals(generated, Files.readString(readme));
+    }
+
     @Test
     void shouldPrintPromptIfFlagSet() throws Exception {
         Path file = Files.writeString(tempDir.resolve("OrderService.java"), "public class OrderService {}");
 
-        when(languageDetector.detectLanguages(anyList())).thenReturn(Set.of("Java"));
+        when(languageDetector.detectLanguages(anyList())).thenReturn(languages("Java"));
         when(analyzer.analyze(anyList())).thenReturn("Analysis");
         when(testAnalyzer.analyzeTests(anyList())).thenReturn("");
         when(promptBuilder.build(any(), any(), any())).thenReturn("PROMPT");
         when(client.generateReadme(any())).thenReturn("README");
 
         try (MockedStatic<DependencyExtractor> deps = mockStatic(DependencyExtractor.class)) {
-            deps.when(() -> DependencyExtractor.extractDependencies(anyList())).thenReturn("");
+            deps.when(() -> DependencyExtractor.read(any(Path.class), anyList(), any())).thenReturn(NO_DEPENDENCIES);
+            deps.when(() -> DependencyExtractor.render(any())).thenReturn("");
 
             ReadmeGenerationService service = new ReadmeGenerationService(
                     analyzer, client, writer, languageDetector,
@@ -148,4 +484,53 @@ class ReadmeGenerationServiceTest {
             verify(client).generateReadme("PROMPT");
         }
     }
+
+    @Test
+    void shouldReportSkippedFilesInRunOutput() throws Exception {
+        Files.writeString(tempDir.resolve("OrderService.java"), "public class OrderService {}");
+
+        when(languageDetector.detectLanguages(anyList())).thenReturn(languages("Java"));
+        when(analyzer.analyze(anyList())).thenReturn("Analysis");
+        when(analyzer.getLastSkippedFiles()).thenReturn(Map.of("binary", 2));
+        when(promptBuilder.build(any(), any(), any())).thenReturn("Prompt");
+        when(client.generateReadme(anyString())).thenReturn("README");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PrintStream original = System.out;
+        System.setOut(new PrintStream(out, true, StandardCharsets.UTF_8));
+        try {
+            new ReadmeGenerationService(
+                    analyzer, client, writer, languageDetector,
+                    promptBuilder, testAnalyzer, false, false
+            ).generate(tempDir, config);
+        } finally {
+            System.setOut(original);
+        }
+
+        assertTrue(out.toString(StandardCharsets.UTF_8)
+                .contains("Skipped 2 file(s) not worth summarizing: binary 2"), out.toString(StandardCharsets.UTF_8));
+    }
+
+    private static ProjectIndexStorePort inMemoryIndexStore() {
+        Map<Path, ProjectIndex> saved = new HashMap<>();
+        return new ProjectIndexStorePort() {
+            @Override
+            public Optional<ProjectIndex> load(Path projectDir) {
+                return Optional.ofNullable(saved.get(projectDir));
+            }
+
+            @Override
+            public void save(Path projectDir, ProjectIndex index) {
+                saved.put(projectDir, index);
+            }
+        };
+    }
+
+    private static LanguageBreakdown languages(String... names) {
+        List<LanguageBreakdown.Share> shares = new ArrayList<>();
+        for (String name : names) {
+            shares.add(new LanguageBreakdown.Share(name, 100, 1, 100.0 / names.length));
+        }
+        return new LanguageBreakdown(shares);
+    }
 }
@@ -0,0 +1,56 @@
+package com.example.readmegenerator.domain.service;
+
+import com.example.readmegenerator.domain.model.Badge;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BadgeCatalogTest {
+
+    @Test
+    void shouldLoadBuiltInCatalog() {
+        BadgeCatalog catalog = BadgeCatalog.builtIn();
+
+        assertTrue(catalog.size() > 100);
+        assertSame(catalog, BadgeCatalog.builtIn());
+        assertEquals("Java", catalog.find("Java").getLabel());
+        assertEquals("GitHub Actions", catalog.find("GitHub Actions").getLabel());
+        assertEquals("Express", catalog.find("express").getLabel());
+        assertEquals("Flask", catalog.find("flask").getLabel());
+    }
+
+    @Test
+    void shouldFallBackFromCoordinatesToGroupsScopesAndVendors() {
+        BadgeCatalog catalog = BadgeCatalog.builtIn();
+
+        assertEquals("Spring Boot", catalog.find("org.springframework.boot:spring-boot-starter-web").getLabel());
+        assertEquals("Spring", catalog.find("org.springframework.data:spring-data-jpa").getLabel());
+        assertEquals("JUnit", catalog.find("junit:junit").getLabel());
+        assertEquals("Angular", catalog.find("@angular/core").getLabel());
+        assertEquals("Laravel", catalog.find("laravel/framework").getLabel());
+        assertNull(catalog.find("org.example:unknown"));
+        assertNull(catalog.find("left-pad"));
+    }
+
+    @Test
+    void shouldShareBadgesAndRejectMalformedLines() throws IOException {
+        BadgeCatalog catalog = BadgeCatalog.load(new StringReader("""
+                # comment
+                pg\tPostgreSQL\t4169E1\tpostgresql
+
+                org.postgresql\tPostgreSQL\t4169E1\tpostgresql
+                """));
+
+        Badge badge = catalog.find("pg");
+        assertSame(badge, catalog.find("org.postgresql:postgresql"));
+        assertEquals("4169E1", badge.getColor());
+        assertEquals("postgresql", badge.getLogo());
+
+        IOException error = assertThrows(IOException.class,
+                () -> BadgeCatalog.load(new StringReader("ok\tOk\t000000\tok\nbroken\tline\n")));
+        assertTrue(error.getMessage().contains("line 2"));
+    }
+}
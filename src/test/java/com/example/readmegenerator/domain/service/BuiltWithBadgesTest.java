@@ -0,0 +1,119 @@
+package com.example.readmegenerator.domain.service;
+
+import com.example.readmegenerator.domain.model.Badge;
+import com.example.readmegenerator.domain.model.DependencyReport;
+import com.example.readmegenerator.domain.model.ReadmeGenerationConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BuiltWithBadgesTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldCollectBadgesFromLanguagesCiPomAndManifests() throws IOException {
+        Path pom = Files.writeString(tempDir.resolve("pom.xml"), """
+                <project>
+                    <parent>
+                        <groupId>org.springframework.boot</groupId>
+                        <artifactId>spring-boot-starter-parent</artifactId>
+                    </parent>
+                    <dependencies>
+                        <dependency>
+                            <groupId>org.springframework.boot</groupId>
+                            <artifactId>spring-boot-starter-web</artifactId>
+                        </dependency>
+                        <dependency>
+                            <groupId>org.postgresql</groupId>
+                            <artifactId>postgresql</artifactId>
+                        </dependency>
+                    </dependencies>
+                </project>
+                """);
+        Files.createDirectories(tempDir.resolve(".github/workflows"));
+        Path workflow = Files.writeString(tempDir.resolve(".github/workflows/ci.yml"), "on: push\n");
+        DependencyReport dependencies = new DependencyReport(List.of(new DependencyReport.Section("Built With (JavaScript)",
+                List.of("package.json"), List.of(
+                        new DependencyReport.Dependency("react", "^18.2.0", null, "react ^18.2.0", List.of("package.json")),
+                        new DependencyReport.Dependency("pg", "^8.11.0", null, "pg ^8.11.0", List.of("package.json")),
+                        new DependencyReport.Dependency("left-pad", "^1.3.0", null, "left-pad ^1.3.0", List.of("package.json"))),
+                0)), List.of());
+
+        List<Badge> badges = BuiltWithBadges.collect(BadgeCatalog.builtIn(), List.of("Java", "JavaScript"),
+                dependencies, List.of(FileClassifier.classify(pom), FileClassifier.classify(workflow)),
+                new ManifestCache());
+
+        assertEquals(List.of("Java", "JavaScript", "GitHub Actions", "Apache Maven", "Spring Boot", "PostgreSQL", "React"),
+                badges.stream().map(Badge::getLabel).toList());
+    }
+
+    @Test
+    void shouldCollectBadgesFromDependenciesInheritedFromParentPom() throws IOException {
+        Files.writeString(tempDir.resolve("pom.xml"), """
+                <project>
+                    <groupId>com.example</groupId>
+                    <artifactId>parent</artifactId>
+                    <version>1.0</version>
+                    <packaging>pom</packaging>
+                    <dependencies>
+                        <dependency>
+                            <groupId>org.postgresql</groupId>
+                            <artifactId>postgresql</artifactId>
+                        </dependency>
+                    </dependencies>
+                </project>
+                """);
+        Files.createDirectories(tempDir.resolve("api"));
+        Path module = Files.writeString(tempDir.resolve("api/pom.xml"), """
+                <project>
+                    <parent>
+                        <groupId>com.example</groupId>
+                        <artifactId>parent</artifactId>
+                        <version>1.0</version>
+                    </parent>
+                    <artifactId>api</artifactId>
+                </project>
+                """);
+
+        List<Badge> badges = BuiltWithBadges.collect(BadgeCatalog.builtIn(), List.of("Java"),
+                new DependencyReport(List.of(), List.of()), List.of(FileClassifier.classify(module)),
+                new ManifestCache());
+
+        assertEquals(List.of("Java", "Apache Maven", "PostgreSQL"), badges.stream().map(Badge::getLabel).toList());
+    }
+
+    @Test
+    void shouldRenderShieldsBadges() {
+        String block = BuiltWithBadges.render(List.of(new Badge("C++", "00599C", "cplusplus"),
+                new Badge("Tailwind CSS", "06B6D4", "tailwindcss"), new Badge("Vue-Router", "4FC08D", "vuedotjs")),
+                ReadmeGenerationConfig.HeaderAlignment.CENTER);
+
+        assertTrue(block.startsWith("<div align=\"center\">\n"));
+        assertTrue(block.contains("https://img.shields.io/badge/C%2B%2B-00599C?logo=cplusplus&logoColor=white&style=for-the-badge"));
+        assertTrue(block.contains("badge/Tailwind%20CSS-06B6D4"));
+        assertTrue(block.contains("badge/Vue--Router-4FC08D"));
+        assertTrue(block.contains("alt=\"C++ logo\""));
+        assertTrue(block.endsWith("</div>"));
+        assertEquals("", BuiltWithBadges.render(List.of(), ReadmeGenerationConfig.HeaderAlignment.LEFT));
+    }
+
+    @Test
+    void shouldSpliceBlockAtPlaceholderOrAfterBuiltWithHeading() {
+        String heading = "<h2 align=\"left\" id=\"built-with\">📦 Built With</h2>";
+
+        assertEquals(heading + "\nBADGES\n<p>text</p>",
+                BuiltWithBadges.splice(heading + "\n" + BuiltWithBadges.PLACEHOLDER + "\n<p>text</p>", "BADGES"));
+        assertEquals(heading + "\nBADGES\n<p>text</p>", BuiltWithBadges.splice(heading + "\n<p>text</p>", "BADGES"));
+        assertEquals(heading + "\n\n<p>text</p>",
+                BuiltWithBadges.splice(heading + "\n" + BuiltWithBadges.PLACEHOLDER + "\n<p>text</p>", ""));
+        assertEquals("# Plain README", BuiltWithBadges.splice("# Plain README", "BADGES"));
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.readmegenerator.domain.service;
+
+import com.example.readmegenerator.domain.model.CiWorkflow;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CiWorkflowReaderTest {
+
+    private static List<String> describe(String yaml, String tool) throws IOException {
+        CiWorkflow workflow = CiWorkflowReader.read(new StringReader(yaml), tool);
+        return workflow.getJobs().stream()
+                .map(job -> job.getName() + " " + job.getMatrix() + " " + job.getUses() + " " + job.getCommands())
+                .toList();
+    }
+
+    @Test
+    void shouldReadGitHubActionsJobs() throws IOException {
+        List<String> jobs = describe("""
+                name: CI
+                on: [push]
+                jobs:
+                  build:
+                    name: Build and test
+                    runs-on: ${{ matrix.os }}
+                    strategy:
+                      matrix:
+                        java: [17, 21]
+                        os: [ubuntu-latest, windows-latest]
+                        include:
+                          - java: 22
+                    steps:
+                      - uses: actions/checkout@v4
+                      - uses: actions/setup-java@v4
+                        with:
+                          java-version: ${{ matrix.java }}
+                      - run: |
+                          # compile everything
+                          mvn -B verify
+                          mvn -B site
+                  release:
+                    uses: org/shared/.github/workflows/release.yml@main
+                """, "GitHub Actions");
+
+        assertEquals(List.of(
+                "Build and test [java, os] [actions/checkout@v4, actions/setup-java@v4] [mvn -B verify, mvn -B site]",
+                "release [] [org/shared/.github/workflows/release.yml@main] []"), jobs);
+    }
+
+    @Test
+    void shouldReadGitLabCiJobsAndSkipTemplates() throws IOException {
+        List<String> jobs = describe("""
+                image: maven:3.9-eclipse-temurin-21
+                stages: [build, deploy]
+                .defaults: &defaults
+                  tags: [docker]
+                test:
+                  <<: *defaults
+                  stage: build
+                  script:
+                    - mvn test
+                  parallel:
+                    matrix:
+                      - DB: [postgres, mysql]
+                deploy:
+                  image:
+                    name: alpine:3.19
+                  script: ./deploy.sh
+                """, "GitLab CI");
+
+        assertEquals(List.of(
+                "test [DB] [maven:3.9-eclipse-temurin-21] [mvn test]",
+                "deploy [] [alpine:3.19] [./deploy.sh]"), jobs);
+    }
+
+    @Test
+    void shouldReadAzurePipelinesJobs() throws IOException {
+        List<String> jobs = describe("""
+                trigger: [main]
+                stages:
+                  - stage: Build
+                    jobs:
+                      - job: Linux
+                        pool:
+                          vmImage: ubuntu-latest
+                        strategy:
+                          matrix:
+                            jdk17: { version: 17 }
+                            jdk21: { version: 21 }
+                        steps:
+                          - task: Maven@4
+                          - script: mvn -B package
+                """, "Azure Pipelines");
+
+        assertEquals(List.of("Linux [jdk17, jdk21] [ubuntu-latest, Maven@4] [mvn -B package]"), jobs);
+    }
+
+    @Test
+    void shouldReadTravisBuildAsSingleJob() throws IOException {
+        List<String> jobs = describe("""
+                language: node_js
+                node_js:
+                  - 18
+                  - 20
+                install: npm ci
+                script:
+                  - npm test
+                """, "Travis CI");
+
+        assertEquals(List.of("node_js [node_js] [] [npm ci, npm test]"), jobs);
+    }
+
+    @Test
+    void shouldCapCommandsPerJob() throws IOException {
+        String script = "echo step\n".repeat(CiWorkflowReader.MAX_COMMANDS_PER_JOB + 5);
+        CiWorkflow workflow = CiWorkflowReader.read(new StringReader(
+                "jobs:\n  a:\n    steps:\n      - run: \"" + script.replace("\n", "\\n") + "\"\n"), "GitHub Actions");
+
+        assertEquals(CiWorkflowReader.MAX_COMMANDS_PER_JOB, workflow.getJobs().get(0).getCommands().size());
+        assertFalse(CiWorkflowReader.supports("Jenkins Pipeline"));
+    }
+}
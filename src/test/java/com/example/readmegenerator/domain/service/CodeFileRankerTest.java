@@ -0,0 +1,81 @@
+package com.example.readmegenerator.domain.service;
+
+import com.example.readmegenerator.domain.model.FileDescriptor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CodeFileRankerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldRankJavaFilesByHowOftenTheyAreImported() throws IOException {
+        Path pkg = Files.createDirectories(tempDir.resolve("src/com/shop"));
+        FileDescriptor a = write(pkg.resolve("A.java"), "package com.shop;\nimport com.shop.model.Money;\nclass A {}\n");
+        FileDescriptor b = write(pkg.resolve("B.java"), "package com.shop;\nimport com.shop.model.Money;\nimport static com.shop.A.run;\nclass B {}\n");
+        FileDescriptor money = write(Files.createDirectories(pkg.resolve("model")).resolve("Money.java"),
+                "package com.shop.model;\nimport java.math.BigDecimal;\nclass Money {}\n");
+
+        List<FileDescriptor> ranked = CodeFileRanker.rank(List.of(a, b, money));
+
+        assertEquals(List.of(money, a, b), ranked);
+    }
+
+    @Test
+    void shouldResolveRelativeJavaScriptAndPythonImports() throws IOException {
+        Path src = Files.createDirectories(tempDir.resolve("src"));
+        FileDescriptor app = write(src.resolve("app.js"), "import { db } from './lib/db';\nconst x = require('../config.js');\n");
+        FileDescriptor db = write(Files.createDirectories(src.resolve("lib")).resolve("db.js"), "export const db = 1;\n");
+        FileDescriptor config = write(tempDir.resolve("config.js"), "module.exports = {};\n");
+        FileDescriptor main = write(src.resolve("main.py"), "from .models import User\nimport os\n");
+        FileDescriptor models = write(src.resolve("models.py"), "class User: pass\n");
+
+        List<String> imports = CodeFileRanker.readImports(app);
+        double[] scores = CodeFileRanker.scores(List.of(app, db, config, main, models));
+
+        assertEquals(2, imports.size());
+        assertTrue(scores[1] > scores[0]);
+        assertTrue(scores[2] > scores[0]);
+        assertTrue(scores[4] > scores[3]);
+    }
+
+    @Test
+    void shouldFavourCoreDomainNamesWhenThereAreNoImports() throws IOException {
+        FileDescriptor util = write(tempDir.resolve("Util.java"), "class Util {}\n");
+        FileDescriptor service = write(tempDir.resolve("OrderService.java"), "class OrderService {}\n");
+
+        assertEquals(List.of(service, util), CodeFileRanker.rank(List.of(util, service)));
+    }
+
+    @Test
+    void shouldOnlyReadTheHeaderOfEachFile() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < CodeFileRanker.MAX_HEADER_LINES; i++) {
+            content.append("// line ").append(i).append('\n');
+        }
+        content.append("#include \"late.h\"\n");
+        FileDescriptor file = write(tempDir.resolve("main.c"), content.toString());
+
+        assertTrue(CodeFileRanker.readImports(file).isEmpty());
+    }
+
+    @Test
+    void shouldIgnoreUnreadableFiles() {
+        FileDescriptor missing = FileClassifier.classify(tempDir.resolve("Missing.java"));
+
+        assertEquals(List.of(missing), CodeFileRanker.rank(new ArrayList<>(List.of(missing))));
+    }
+
+    private static FileDescriptor write(Path path, String content) throws IOException {
+        return FileClassifier.classify(Files.writeString(path, content));
+    }
+}
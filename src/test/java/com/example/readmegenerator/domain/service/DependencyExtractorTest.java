@@ -1,13 +1,27 @@
 package com.example.readmegenerator.domain.service;
 
+import com.example.readmegenerator.adapter.analyzer.FileContentGuard;
+import com.example.readmegenerator.adapter.analyzer.FileProjectAnalyzer;
+import com.example.readmegenerator.adapter.detector.DefaultLanguageDetector;
+import com.example.readmegenerator.app.ReadmeGenerationService;
+import com.example.readmegenerator.domain.model.DependencyReport;
+import com.example.readmegenerator.domain.model.ReadmeGenerationConfig;
+import com.example.readmegenerator.domain.port.LLMClientPort;
+import com.example.readmegenerator.domain.port.PromptBuilderPort;
+import com.example.readmegenerator.domain.port.ReadmeWriterPort;
+import com.example.readmegenerator.domain.port.TestAnalyzerPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 class DependencyExtractorTest {
 
@@ -94,6 +108,141 @@ class DependencyExtractorTest {
         assertFalse(result.contains("build-system"));
     }
 
+    @Test
+    void testExtractPep621DependenciesSpreadOverSeveralLines() throws IOException {
+        Path file = createFile("pyproject.toml", """
+            [project]
+            name = "demo"
+            dependencies = [
+                "requests>=2.31",  # HTTP client
+                "pydantic[email]~=2.5",
+            ]
+
+            [project.optional-dependencies]
+            test = ["pytest>=7", "pytest-cov"]
+
+            [tool.poetry.group.lint.dependencies]
+            ruff = { version = "^0.4", optional = true }
+        """);
+
+        String result = DependencyExtractor.extractDependencies(file);
+
+        assertTrue(result.contains("- requests>=2.31\n"));
+        assertTrue(result.contains("- pydantic[email]~=2.5\n"));
+        assertTrue(result.contains("- pytest>=7 *(extra: test)*"));
+        assertTrue(result.contains("- pytest-cov *(extra: test)*"));
+        assertTrue(result.contains("- ruff = ^0.4 *(group: lint)*"));
+        assertFalse(result.contains("demo"));
+        assertFalse(result.contains("HTTP client"));
+    }
+
+    @Test
+    void testInvalidPyprojectHandledGracefully() throws IOException {
+        Path file = createFile("pyproject.toml", """
+            [project]
+            dependencies = ["requests"
+        """);
+
+        String result = DependencyExtractor.extractDependencies(file);
+
+        assertTrue(result.contains("⚠️ Could not parse pyproject.toml"));
+    }
+
+    @Test
+    void testMergesDependenciesSharedByModules() throws IOException {
+        Files.createDirectories(tempDir.resolve("web"));
+        Files.createDirectories(tempDir.resolve("api"));
+        Path web = Files.writeString(tempDir.resolve("web/package.json"), """
+            {"dependencies": {"express": "^4.18.2", "react": "^18.2.0"}}
+        """);
+        Path api = Files.writeString(tempDir.resolve("api/package.json"), """
+            {"dependencies": {"express": "^4.18.2"}, "devDependencies": {"jest": "^29.0.0"}}
+        """);
+
+        DependencyReport report = DependencyExtractor.read(tempDir, List.of(web, api));
+
+        assertEquals(1, report.getSections().size());
+        DependencyReport.Section section = report.getSections().get(0);
+        assertEquals(List.of("web/package.json", "api/package.json"), section.getManifests());
+        assertEquals(List.of("express", "react", "jest"),
+                section.getDependencies().stream().map(DependencyReport.Dependency::getName).toList());
+        assertEquals(List.of("web/package.json", "api/package.json"), section.getDependencies().get(0).getManifests());
+
+        String result = DependencyExtractor.render(report);
+        assertTrue(result.contains("Declared in 2 manifests: `web/package.json`, `api/package.json`"));
+        assertTrue(result.contains("- express ^4.18.2\n"));
+        assertTrue(result.contains("- react ^18.2.0 — `web/package.json`\n"));
+        assertTrue(result.contains("- jest ^29.0.0 *(dev)* — `api/package.json`\n"));
+    }
+
+    @Test
+    void testKeepsDifferentVersionsOfTheSamePackageApart() throws IOException {
+        Files.createDirectories(tempDir.resolve("a"));
+        Files.createDirectories(tempDir.resolve("b"));
+        Path a = Files.writeString(tempDir.resolve("a/requirements.txt"), "flask==2.0.1\n");
+        Path b = Files.writeString(tempDir.resolve("b/requirements.txt"), "flask==3.0.0\n");
+
+        String result = DependencyExtractor.extractDependencies(tempDir, List.of(a, b));
+
+        assertTrue(result.contains("- flask==2.0.1 — `a/requirements.txt`"));
+        assertTrue(result.contains("- flask==3.0.0 — `b/requirements.txt`"));
+    }
+
+    @Test
+    void testParsesEachManifestOnceAcrossAFullGeneration() throws Exception {
+        Files.createDirectories(tempDir.resolve("src"));
+        Files.createDirectories(tempDir.resolve("web"));
+        Files.writeString(tempDir.resolve("src/Main.java"), "public class Main {\n" + "    void run() {}\n".repeat(50) + "}");
+        Files.writeString(tempDir.resolve("web/app.js"), "export function start() {}\n".repeat(40));
+        Path pom = createFile("pom.xml", """
+                <project>
+                    <groupId>com.example</groupId>
+                    <artifactId>shop</artifactId>
+                    <version>1.0</version>
+                    <dependencies>
+                        <dependency><groupId>org.postgresql</groupId><artifactId>postgresql</artifactId></dependency>
+                    </dependencies>
+                </project>
+                """);
+        Path gradle = createFile("build.gradle", "dependencies {\n    implementation 'org.springframework.boot:spring-boot-starter-web:3.2.0'\n}\n");
+        Path manifest = Files.writeString(tempDir.resolve("web/package.json"), "{\"dependencies\": {\"react\": \"^18.2.0\"}}");
+
+        LLMClientPort client = mock(LLMClientPort.class);
+        ReadmeWriterPort writer = mock(ReadmeWriterPort.class);
+        PromptBuilderPort promptBuilder = mock(PromptBuilderPort.class);
+        TestAnalyzerPort testAnalyzer = mock(TestAnalyzerPort.class);
+        when(testAnalyzer.analyzeTests(anyList())).thenReturn("");
+        when(promptBuilder.build(any(), any(), any())).thenReturn("Prompt");
+        when(client.generateReadme(anyString())).thenReturn("## 📦 Built With\n" + BuiltWithBadges.PLACEHOLDER);
+
+        // A cache of its own, so parses memoized by other tests cannot hide the ones made here.
+        ManifestCache cache = new ManifestCache();
+        ReadmeGenerationService service = new ReadmeGenerationService(
+                new FileProjectAnalyzer(new FileContentGuard(), 1, null, cache), client, writer,
+                new DefaultLanguageDetector(), promptBuilder, testAnalyzer, new ProjectFileWalker(), null,
+                cache, false, false);
+
+        try (MockedStatic<DependencyExtractor> extractor = mockStatic(DependencyExtractor.class, CALLS_REAL_METHODS);
+             MockedStatic<MavenPomReader> poms = mockStatic(MavenPomReader.class, CALLS_REAL_METHODS);
+             MockedStatic<GradleScriptReader> scripts = mockStatic(GradleScriptReader.class, CALLS_REAL_METHODS)) {
+            service.generate(tempDir, new ReadmeGenerationConfig(ReadmeGenerationConfig.HeaderAlignment.LEFT,
+                    ReadmeGenerationConfig.ListStyle.BULLET));
+
+            extractor.verify(() -> DependencyExtractor.parseManifest(manifest), times(1));
+            extractor.verify(() -> DependencyExtractor.parseManifest(any()), times(1));
+            poms.verify(() -> MavenPomReader.read(any(Path.class)), times(1));
+            poms.verify(() -> MavenPomReader.read(pom.toAbsolutePath().normalize()), times(1));
+            scripts.verify(() -> GradleScriptReader.read(gradle), times(1));
+            scripts.verify(() -> GradleScriptReader.read(any(Path.class)), times(1));
+        }
+
+        ArgumentCaptor<String> readme = ArgumentCaptor.forClass(String.class);
+        verify(writer).write(eq(tempDir), readme.capture());
+        for (String badge : List.of("PostgreSQL", "Spring%20Boot", "React")) {
+            assertTrue(readme.getValue().contains("badge/" + badge + "-"), readme.getValue());
+        }
+    }
+
     @Test
     void testInvalidJsonHandledGracefully() throws IOException {
         Path file = createFile("package.json", "{ invalid json ");
@@ -103,6 +252,90 @@ class DependencyExtractorTest {
         assertTrue(result.contains("⚠️ Could not parse"));
     }
 
+    @Test
+    void testReparsesManifestAfterModification() throws IOException {
+        Path file = createFile("requirements.txt", "flask==2.0.1\n");
+        assertTrue(DependencyExtractor.extractDependencies(file).contains("flask==2.0.1"));
+
+        Files.writeString(file, "django==4.2\n");
+
+        String result = DependencyExtractor.extractDependencies(file);
+        assertTrue(result.contains("django==4.2"));
+        assertFalse(result.contains("flask"));
+    }
+
+    @Test
+    void testExtractResolvedVersionsOfDirectDependenciesFromPackageLock() throws IOException {
+        Path file = createFile("package-lock.json", """
+            {
+              "name": "shop",
+              "lockfileVersion": 3,
+              "packages": {
+                "": {
+                  "name": "shop",
+                  "dependencies": { "express": "^4.18.0" },
+                  "devDependencies": { "jest": "^29.0.0" }
+                },
+                "node_modules/express": {
+                  "version": "4.18.2",
+                  "resolved": "https://registry.npmjs.org/express/-/express-4.18.2.tgz",
+                  "dependencies": { "body-parser": "1.20.1" }
+                },
+                "node_modules/body-parser": { "version": "1.20.1" },
+                "node_modules/jest": { "version": "29.7.0", "dev": true },
+                "node_modules/jest/node_modules/express": { "version": "3.0.0" }
+              },
+              "dependencies": { "express": { "version": "4.18.2" } }
+            }
+        """);
+
+        String result = DependencyExtractor.extractDependencies(file);
+
+        assertTrue(result.contains("### 🔒 Resolved Versions (package-lock.json)"));
+        assertTrue(result.contains("- express 4.18.2\n"));
+        assertTrue(result.contains("- jest 29.7.0 *(dev)*"));
+        assertFalse(result.contains("body-parser"), "Transitive packages should be left out");
+        assertFalse(result.contains("3.0.0"));
+    }
+
+    @Test
+    void testExtractFromLegacyPackageLock() throws IOException {
+        Path file = createFile("package-lock.json", """
+            {
+              "lockfileVersion": 1,
+              "dependencies": {
+                "lodash": { "version": "4.17.21", "requires": { "x": "1" }, "dependencies": { "y": { "version": "2" } } },
+                "mocha": { "version": "10.2.0", "dev": true }
+              }
+            }
+        """);
+
+        String result = DependencyExtractor.extractDependencies(file);
+
+        assertTrue(result.contains("- lodash 4.17.21\n"));
+        assertTrue(result.contains("- mocha 10.2.0 *(dev)*"));
+        assertFalse(result.contains("- y"));
+    }
+
+    @Test
+    void testStreamsLargeComposerLockAndCapsTheListing() throws IOException {
+        StringBuilder packages = new StringBuilder();
+        for (int i = 0; i < 2_000; i++) {
+            packages.append(i == 0 ? "" : ",").append("{\"name\": \"vendor/pkg").append(i)
+                    .append("\", \"version\": \"1.").append(i).append("\", \"dist\": {\"url\": \"")
+                    .append("x".repeat(1_000)).append("\"}, \"keywords\": [\"a\", \"b\"]}");
+        }
+        Path file = createFile("composer.lock", "{\"_readme\": [\"x\"], \"packages\": [" + packages
+                + "], \"packages-dev\": [{\"name\": \"phpunit/phpunit\", \"version\": \"10.5.0\"}], \"aliases\": []}");
+
+        String result = DependencyExtractor.extractDependencies(file);
+
+        assertTrue(result.contains("### 🔒 Resolved Versions (composer.lock)"));
+        assertTrue(result.contains("- vendor/pkg0 1.0\n"));
+        assertTrue(result.contains("- ... and " + (2_001 - DependencyExtractor.MAX_LOCKED_PACKAGES) + " more"));
+        assertFalse(result.contains("xxxx"));
+    }
+
     private Path createFile(String name, String content) throws IOException {
         Path file = tempDir.resolve(name);
         Files.writeString(file, content);
@@ -0,0 +1,104 @@
+package com.example.readmegenerator.domain.service;
+
+import com.example.readmegenerator.domain.model.ComposeService;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DockerComposeReaderTest {
+
+    private static String describe(ComposeService service) {
+        return service.getName() + " image=" + service.getImage() + " context=" + service.getBuildContext()
+                + " dockerfile=" + service.getDockerfile();
+    }
+
+    @Test
+    void shouldReadImageAndBuildOfEachService() throws IOException {
+        List<ComposeService> services = DockerComposeReader.read(new StringReader("""
+                version: "3.9"
+                x-common: &common
+                  restart: always
+                  environment:
+                    - A=1
+                services:
+                  web:
+                    <<: *common
+                    build: ./web
+                    ports: ["8080:8080"]
+                  api:
+                    build:
+                      context: ./api
+                      dockerfile: Dockerfile.dev
+                      args: { VERSION: "1" }
+                  worker:
+                    extends:
+                      service: api
+                    build:
+                      dockerfile: worker.Dockerfile
+                  db:
+                    image: postgres:16
+                volumes:
+                  data: {}
+                """));
+
+        assertEquals(List.of(
+                "web image=null context=./web dockerfile=null",
+                "api image=null context=./api dockerfile=Dockerfile.dev",
+                "worker image=null context=null dockerfile=worker.Dockerfile",
+                "db image=postgres:16 context=null dockerfile=null"),
+                services.stream().map(DockerComposeReaderTest::describe).toList());
+    }
+
+    @Test
+    void shouldUseFirstDocumentDeclaringServices() throws IOException {
+        List<ComposeService> services = DockerComposeReader.read(new StringReader("""
+                name: first
+                ---
+                services:
+                  cache:
+                    image: redis
+                ---
+                services:
+                  ignored:
+                    image: nginx
+                """));
+
+        assertEquals(List.of("cache image=redis context=null dockerfile=null"),
+                services.stream().map(DockerComposeReaderTest::describe).toList());
+    }
+
+    @Test
+    void shouldStopReadingOnceServicesAreRead() throws IOException {
+        String head = "services:\n  app:\n    image: app:1\n";
+        // Everything after the services mapping is invalid YAML; it must never be parsed.
+        String tail = "volumes: [unterminated\n" + "x".repeat(YamlEventWalker.MAX_CODE_POINTS * 2);
+
+        List<ComposeService> services = DockerComposeReader.read(new StringReader(head + tail));
+
+        assertEquals("app", services.get(0).getName());
+    }
+
+    @Test
+    void shouldRejectInputsBeyondTheLimits() {
+        StringBuilder aliases = new StringBuilder("a: &a [x]\nb: [");
+        aliases.append("*a, ".repeat(YamlEventWalker.MAX_ALIASES + 1)).append("*a]\n");
+        String nested = "x: " + "[".repeat(YamlEventWalker.MAX_NESTING_DEPTH + 5)
+                + "]".repeat(YamlEventWalker.MAX_NESTING_DEPTH + 5) + "\n";
+        Reader oversized = new StringReader("x: \"" + "y".repeat(YamlEventWalker.MAX_CODE_POINTS + 10) + "\"\n");
+
+        assertThrows(IOException.class, () -> DockerComposeReader.read(new StringReader(aliases.toString())));
+        assertThrows(IOException.class, () -> DockerComposeReader.read(new StringReader(nested)));
+        assertThrows(IOException.class, () -> DockerComposeReader.read(oversized));
+        assertThrows(IOException.class, () -> DockerComposeReader.read(new StringReader("services: [\n")));
+    }
+
+    @Test
+    void shouldReturnNoServicesForEmptyFile() throws IOException {
+        assertTrue(DockerComposeReader.read(new StringReader("")).isEmpty());
+    }
+}
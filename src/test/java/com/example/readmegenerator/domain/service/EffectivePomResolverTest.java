@@ -0,0 +1,122 @@
+package com.example.readmegenerator.domain.service;
+
+import com.example.readmegenerator.domain.model.PomModel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.MockedStatic;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class EffectivePomResolverTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldInheritAndInterpolateFromLocalParent() throws IOException {
+        writeParent();
+        Path child = writeModule("api", "<version>${revision}-api</version>");
+
+        PomModel model = new EffectivePomResolver().resolve(child);
+
+        assertEquals("com.example", model.getGroupId());
+        assertEquals("api", model.getArtifactId());
+        assertEquals("1.4.0-api", model.getVersion());
+        assertEquals("17", model.getProperties().get("java.version"));
+
+        List<String> dependencies = model.getDependencies().stream()
+                .map(d -> d.getGroupId() + ":" + d.getArtifactId() + ":" + d.getVersion())
+                .toList();
+        assertEquals(List.of("org.slf4j:slf4j-api:2.0.9", "com.example:core:1.4.0-api"), dependencies);
+    }
+
+    @Test
+    void shouldReadSharedParentOnlyOnce() throws IOException {
+        Path parent = writeParent();
+        Path api = writeModule("api", "");
+        Path web = writeModule("web", "");
+        EffectivePomResolver resolver = new EffectivePomResolver();
+
+        try (MockedStatic<MavenPomReader> reader = mockStatic(MavenPomReader.class, CALLS_REAL_METHODS)) {
+            assertEquals("1.4.0", resolver.resolve(api).getVersion());
+            assertEquals("1.4.0", resolver.resolve(web).getVersion());
+            resolver.resolve(api);
+
+            reader.verify(() -> MavenPomReader.read(parent.toAbsolutePath().normalize()), times(1));
+            reader.verify(() -> MavenPomReader.read(any()), times(3));
+        }
+    }
+
+    @Test
+    void shouldIgnoreUnrelatedPomOnParentPath() throws IOException {
+        Files.writeString(tempDir.resolve("pom.xml"), """
+                <project><groupId>other</groupId><artifactId>unrelated</artifactId><version>9</version></project>
+                """);
+        Path child = writeModule("api", "");
+
+        PomModel model = new EffectivePomResolver().resolve(child);
+
+        assertEquals("com.example", model.getGroupId());
+        assertEquals("1.4.0", model.getVersion());
+        assertFalse(model.getProperties().containsKey("java.version"));
+    }
+
+    @Test
+    void shouldLeaveUnknownAndCyclicPlaceholdersUntouched() {
+        Map<String, String> context = Map.of("a", "${b}", "b", "${a}", "c", "value");
+
+        assertEquals("value-${missing}", EffectivePomResolver.interpolate("${c}-${missing}", context));
+        assertTrue(EffectivePomResolver.interpolate("${a}", context).startsWith("${"));
+    }
+
+    private Path writeParent() throws IOException {
+        return Files.writeString(tempDir.resolve("pom.xml"), """
+                <project>
+                    <groupId>com.example</groupId>
+                    <artifactId>parent</artifactId>
+                    <version>1.4.0</version>
+                    <properties>
+                        <java.version>17</java.version>
+                        <revision>${project.version}</revision>
+                        <slf4j.version>2.0.9</slf4j.version>
+                    </properties>
+                    <dependencies>
+                        <dependency>
+                            <groupId>org.slf4j</groupId>
+                            <artifactId>slf4j-api</artifactId>
+                            <version>${slf4j.version}</version>
+                        </dependency>
+                    </dependencies>
+                </project>
+                """);
+    }
+
+    private Path writeModule(String name, String version) throws IOException {
+        Path dir = Files.createDirectories(tempDir.resolve(name));
+        return Files.writeString(dir.resolve("pom.xml"), """
+                <project>
+                    <parent>
+                        <groupId>com.example</groupId>
+                        <artifactId>parent</artifactId>
+                        <version>1.4.0</version>
+                    </parent>
+                    <artifactId>%s</artifactId>
+                    %s
+                    <dependencies>
+                        <dependency>
+                            <groupId>${project.groupId}</groupId>
+                            <artifactId>core</artifactId>
+                            <version>${project.version}</version>
+                        </dependency>
+                    </dependencies>
+                </project>
+                """.formatted(name, version));
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.readmegenerator.domain.service;
+
+import com.example.readmegenerator.domain.model.FileDescriptor;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileClassifierTest {
+
+    @Test
+    void shouldClassifyCodeFileWithLanguageAndDomainName() {
+        FileDescriptor file = FileClassifier.classify(Path.of("src/main/java/com/example/UserService.java"));
+
+        assertEquals("userservice.java", file.getFileName());
+        assertEquals(".java", file.getExtension());
+        assertEquals("Java", file.getLanguage());
+        assertTrue(file.isCodeFile());
+        assertTrue(file.hasCoreDomainName());
+        assertFalse(file.hasTestName());
+        assertNull(file.getCiCdTool());
+    }
+
+    @Test
+    void shouldPreferLongestMatchingExtensionForLanguage() {
+        FileDescriptor blade = FileClassifier.classify(Path.of("resources/views/welcome.blade.php"));
+
+        assertEquals("PHP (Blade)", blade.getLanguage());
+        assertEquals(".php", blade.getExtension());
+        assertTrue(blade.isCodeFile());
+    }
+
+    @Test
+    void shouldNotConfuseSimilarExtensions() {
+        assertEquals("C#", FileClassifier.classify(Path.of("Program.cs")).getLanguage());
+        assertEquals("C++", FileClassifier.classify(Path.of("main.cpp")).getLanguage());
+        assertEquals("HTML", FileClassifier.classify(Path.of("index.HTML")).getLanguage());
+        assertNull(FileClassifier.classify(Path.of("header.hpp")).getLanguage());
+        assertTrue(FileClassifier.classify(Path.of("header.hpp")).isCodeFile());
+        assertNull(FileClassifier.classify(Path.of("notes.txt")).getLanguage());
+    }
+
+    @Test
+    void shouldRecognizeCiCdFilesAndTools() {
+        FileDescriptor workflow = FileClassifier.classify(Path.of("project/.github/workflows/build.yml"));
+        FileDescriptor travis = FileClassifier.classify(Path.of("project/.travis.yml"));
+        FileDescriptor compose = FileClassifier.classify(Path.of("project/docker-compose.yml"));
+
+        assertEquals("GitHub Actions", workflow.getCiCdTool());
+        assertTrue(workflow.isCiCdPipeline());
+        assertEquals("Travis CI", travis.getCiCdTool());
+        assertEquals("Docker Compose", compose.getCiCdTool());
+        assertEquals("GitLab CI", FileClassifier.classify(Path.of("project/.gitlab-ci.yml")).getCiCdTool());
+        assertFalse(compose.isCiCdPipeline());
+        assertTrue(compose.isDockerCompose());
+        assertTrue(compose.isBuildFile());
+    }
+
+    @Test
+    void shouldMatchFileNamesExactly() {
+        assertTrue(FileClassifier.classify(Path.of("pom.xml")).isBuildFile());
+        assertTrue(FileClassifier.classify(Path.of("api/package.json")).isDependencyFile());
+        assertTrue(FileClassifier.classify(Path.of("api/Makefile")).isTextBasedFile());
+        assertFalse(FileClassifier.classify(Path.of("api/my-pom.xml")).isBuildFile());
+        assertFalse(FileClassifier.classify(Path.of("pom.xml.bak")).isBuildFile());
+        assertTrue(FileClassifier.classify(Path.of("api/build.gradle.kts")).isBuildFile());
+        assertTrue(FileClassifier.classify(Path.of("settings.gradle")).isBuildFile());
+    }
+
+    @Test
+    void shouldDistinguishTestNameFromTestPath() {
+        FileDescriptor inTestDir = FileClassifier.classify(Path.of("src/test/java/Helper.java"));
+        FileDescriptor testClass = FileClassifier.classify(Path.of("src/main/PaymentServiceTest.java"));
+
+        assertTrue(inTestDir.hasTestPath());
+        assertFalse(inTestDir.hasTestName());
+        assertTrue(testClass.hasTestName());
+        assertTrue(testClass.hasTestPath());
+    }
+
+    @Test
+    void shouldOnlyApplyNameHeuristicsToFileName() {
+        FileDescriptor file = FileClassifier.classify(Path.of("services/domain/Helper.java"));
+
+        assertFalse(file.hasCoreDomainName());
+    }
+
+    @Test
+    void shouldNormalizeWindowsSeparators() {
+        FileDescriptor file = FileClassifier.classify(Path.of("C:\\project\\.github\\workflows\\ci.yml"));
+
+        assertEquals("GitHub Actions", file.getCiCdTool());
+    }
+}
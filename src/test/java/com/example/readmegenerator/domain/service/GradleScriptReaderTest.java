@@ -0,0 +1,137 @@
+package com.example.readmegenerator.domain.service;
+
+import com.example.readmegenerator.domain.model.GradleBuild;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GradleScriptReaderTest {
+
+    private static List<String> notations(GradleBuild build) {
+        return build.getDependencies().stream()
+                .map(dependency -> dependency.getConfiguration() + " " + dependency.getNotation())
+                .toList();
+    }
+
+    @Test
+    void shouldReadGroovyBuildScript() throws IOException {
+        GradleBuild build = GradleScriptReader.read(new StringReader("""
+                buildscript {
+                    dependencies {
+                        classpath 'org.example:gradle-plugin:1.0'
+                    }
+                }
+                plugins {
+                    id 'java'
+                    id 'org.springframework.boot' version '3.2.0'
+                }
+                group = 'com.example'
+                version = '0.0.1-SNAPSHOT'
+                sourceCompatibility = JavaVersion.VERSION_17
+
+                /* dependencies { implementation 'commented:out:1' } */
+                dependencies {
+                    implementation 'org.springframework.boot:spring-boot-starter-web' // inline comment
+                    implementation platform("org.example:bom:2.0")
+                    runtimeOnly group: 'org.postgresql', name: 'postgresql',
+                            version: '42.7.1'
+                    implementation(project(':core')) {
+                        exclude group: 'commons-logging'
+                    }
+                    testImplementation 'org.junit.jupiter:junit-jupiter'
+                }
+                """));
+
+        assertEquals("com.example", build.getGroup());
+        assertEquals("0.0.1-SNAPSHOT", build.getVersion());
+        assertEquals("17", build.getJavaVersion());
+        assertEquals(List.of("java", "org.springframework.boot 3.2.0"), build.getPlugins());
+        assertEquals(List.of(
+                "implementation org.springframework.boot:spring-boot-starter-web",
+                "implementation org.example:bom:2.0",
+                "runtimeOnly org.postgresql:postgresql:42.7.1",
+                "implementation project :core",
+                "testImplementation org.junit.jupiter:junit-jupiter"), notations(build));
+    }
+
+    @Test
+    void shouldReadKotlinBuildScript() throws IOException {
+        GradleBuild build = GradleScriptReader.read(new StringReader("""
+                plugins {
+                    `java-library`
+                    kotlin("jvm") version "1.9.22"
+                    id("io.spring.dependency-management") version "1.1.4"
+                }
+
+                java {
+                    toolchain {
+                        languageVersion.set(JavaLanguageVersion.of(21))
+                    }
+                }
+
+                dependencies {
+                    api(libs.jackson.databind)
+                    implementation("com.google.guava:guava:33.0.0-jre")
+                    testImplementation(kotlin("test"))
+                }
+
+                tasks.withType<Test> {
+                    useJUnitPlatform()
+                }
+                """));
+
+        assertEquals("21", build.getJavaVersion());
+        assertEquals(List.of("java-library", "org.jetbrains.kotlin.jvm 1.9.22",
+                "io.spring.dependency-management 1.1.4"), build.getPlugins());
+        assertEquals(List.of(
+                "api libs.jackson.databind",
+                "implementation com.google.guava:guava:33.0.0-jre",
+                "testImplementation test"), notations(build));
+    }
+
+    @Test
+    void shouldReadSettingsIncludes() throws IOException {
+        GradleBuild groovy = GradleScriptReader.read(new StringReader("""
+                rootProject.name = 'shop'
+                include ':api', ':core',
+                        ':web'
+                """));
+        GradleBuild kotlin = GradleScriptReader.read(new StringReader("""
+                rootProject.name = "shop"
+                include(
+                    "api",
+                    "core"
+                )
+                """));
+
+        assertEquals("shop", groovy.getName());
+        assertEquals(List.of(":api", ":core", ":web"), groovy.getIncludedProjects());
+        assertEquals("shop", kotlin.getName());
+        assertEquals(List.of("api", "core"), kotlin.getIncludedProjects());
+    }
+
+    @Test
+    void shouldHandleLargeScriptsWithLongStatements() throws IOException {
+        StringBuilder script = new StringBuilder("dependencies {\n");
+        for (int i = 0; i < 5_000; i++) {
+            script.append("    implementation \"org.example:lib").append(i).append(":1.0\"\n");
+        }
+        script.append("}\next.values = [").append("'x', ".repeat(10_000)).append("'y']\nversion = '2.0'\n");
+
+        GradleBuild build = GradleScriptReader.read(new StringReader(script.toString()));
+
+        assertEquals(5_000, build.getDependencies().size());
+        assertEquals("2.0", build.getVersion());
+    }
+
+    @Test
+    void shouldRecognizeScriptNames() {
+        assertTrue(GradleScriptReader.isGradleScript("build.gradle.kts"));
+        assertTrue(GradleScriptReader.isGradleScript("settings.gradle"));
+        assertFalse(GradleScriptReader.isGradleScript("gradle.properties"));
+    }
+}
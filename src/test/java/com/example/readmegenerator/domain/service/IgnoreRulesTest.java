@@ -0,0 +1,58 @@
+package com.example.readmegenerator.domain.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IgnoreRulesTest {
+
+    @Test
+    void shouldMatchNamePatternsAtAnyDepth() {
+        IgnoreRules rules = IgnoreRules.compile(List.of("*.min.js", "__pycache__/"));
+
+        assertEquals(Boolean.TRUE, rules.match("web/static/app.min.js", "app.min.js", false));
+        assertEquals(Boolean.TRUE, rules.match("src/pkg/__pycache__", "__pycache__", true));
+        assertNull(rules.match("web/static/app.js", "app.js", false));
+    }
+
+    @Test
+    void shouldApplyDirectoryOnlyRulesToDirectories() {
+        IgnoreRules rules = IgnoreRules.compile(List.of("coverage/"));
+
+        assertEquals(Boolean.TRUE, rules.match("coverage", "coverage", true));
+        assertNull(rules.match("coverage", "coverage", false));
+    }
+
+    @Test
+    void shouldAnchorPatternsContainingSlash() {
+        IgnoreRules rules = IgnoreRules.compile(List.of("/generated", "docs/api/**"));
+
+        assertEquals(Boolean.TRUE, rules.match("generated", "generated", true));
+        assertNull(rules.match("src/generated", "generated", true));
+        assertEquals(Boolean.TRUE, rules.match("docs/api/v1/index.html", "index.html", false));
+    }
+
+    @Test
+    void shouldLetLastMatchingRuleWinIncludingNegation() {
+        IgnoreRules rules = IgnoreRules.compile(List.of("*.log", "!keep.log"));
+
+        assertEquals(Boolean.TRUE, rules.match("debug.log", "debug.log", false));
+        assertEquals(Boolean.FALSE, rules.match("keep.log", "keep.log", false));
+    }
+
+    @Test
+    void shouldSkipCommentsAndBlankLines() {
+        IgnoreRules rules = IgnoreRules.compile(List.of("# comment", "", "   "));
+
+        assertTrue(rules.isEmpty());
+    }
+
+    @Test
+    void shouldTranslateDoubleStarSegments() {
+        assertEquals("(?:.*/)?logs", IgnoreRules.globToRegex("**/logs"));
+        assertEquals("a/(?:.*/)?b", IgnoreRules.globToRegex("a/**/b"));
+        assertEquals("[^/]*\\.min\\.js", IgnoreRules.globToRegex("*.min.js"));
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.readmegenerator.domain.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.readmegenerator.domain.service.JsonPullParser.Token.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonPullParserTest {
+
+    private static List<String> tokens(String json) throws IOException {
+        JsonPullParser parser = new JsonPullParser(new StringReader(json));
+        List<String> tokens = new ArrayList<>();
+        for (JsonPullParser.Token token = parser.next(); token != END_DOCUMENT; token = parser.next()) {
+            boolean hasText = token == NAME || token == STRING || token == NUMBER || token == LITERAL;
+            tokens.add(hasText ? token + ":" + parser.getText() : token.name());
+        }
+        return tokens;
+    }
+
+    @Test
+    void shouldTokenizeNestedDocument() throws IOException {
+        assertEquals(List.of("BEGIN_OBJECT", "NAME:a", "BEGIN_ARRAY", "NUMBER:1", "NUMBER:-2.5e3", "LITERAL:true",
+                        "LITERAL:null", "END_ARRAY", "NAME:b", "STRING:x\"y\u00e9\n", "NAME:c", "BEGIN_OBJECT", "END_OBJECT",
+                        "END_OBJECT"),
+                tokens("{\"a\": [1, -2.5e3, true, null], \"b\": \"x\\\"y\\u00e9\\n\", \"c\": {}}"));
+    }
+
+    @Test
+    void shouldSkipValuesOfAnyShape() throws IOException {
+        JsonPullParser parser = new JsonPullParser(new StringReader(
+                "{\"skip\": {\"a\": [1, \"two\", {\"b\": []}], \"c\": \"d\"}, \"list\": [\"x\", [1], \"y\"], \"keep\": 7}"));
+
+        assertEquals(BEGIN_OBJECT, parser.next());
+        assertEquals(NAME, parser.next());
+        parser.skipValue();
+        assertEquals(NAME, parser.next());
+        assertEquals(BEGIN_ARRAY, parser.next());
+        parser.skipValue();
+        parser.skipValue();
+        assertEquals(STRING, parser.next());
+        assertEquals("y", parser.getText());
+        assertEquals(END_ARRAY, parser.next());
+        assertEquals(NAME, parser.next());
+        assertEquals("keep", parser.getText());
+        assertEquals(NUMBER, parser.next());
+        assertEquals(END_OBJECT, parser.next());
+        assertEquals(END_DOCUMENT, parser.next());
+    }
+
+    @Test
+    void shouldRejectMalformedDocuments() {
+        for (String json : List.of("{ invalid json ", "[1,]", "{\"a\" 1}", "[1 2]", "{\"a\":}", "\"open", "{} {}", "[tru]")) {
+            assertThrows(IOException.class, () -> tokens(json), json);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.readmegenerator.domain.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.MockedStatic;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ManifestCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldReparseOnlyChangedManifests() throws IOException {
+        Path manifest = Files.writeString(tempDir.resolve("package.json"), "{\"dependencies\": {\"express\": \"^4.18.2\"}}");
+        Files.setLastModifiedTime(manifest, FileTime.fromMillis(System.currentTimeMillis() - 60_000));
+        ManifestCache cache = new ManifestCache();
+
+        try (MockedStatic<DependencyExtractor> parser = mockStatic(DependencyExtractor.class, CALLS_REAL_METHODS)) {
+            DependencyExtractor.read(tempDir, List.of(manifest), cache);
+            DependencyExtractor.read(tempDir, List.of(manifest), cache);
+            parser.verify(() -> DependencyExtractor.parseManifest(manifest), times(1));
+
+            Files.writeString(manifest, "{\"dependencies\": {\"express\": \"^5.0.0\"}}");
+            String result = DependencyExtractor.render(DependencyExtractor.read(tempDir, List.of(manifest), cache));
+            parser.verify(() -> DependencyExtractor.parseManifest(manifest), times(2));
+            assertTrue(result.contains("express ^5.0.0"), result);
+        }
+    }
+
+    @Test
+    void shouldReparseRacilyCleanManifestWhoseSizeAndModificationTimeMatch() throws IOException {
+        Path manifest = Files.writeString(tempDir.resolve("package.json"), "{\"dependencies\": {\"express\": \"^4.18.2\"}}");
+        FileTime modified = Files.getLastModifiedTime(manifest);
+        ManifestCache cache = new ManifestCache();
+        DependencyExtractor.read(tempDir, List.of(manifest), cache);
+
+        Files.writeString(manifest, "{\"dependencies\": {\"express\": \"^4.19.2\"}}");
+        Files.setLastModifiedTime(manifest, modified);
+        cache.startRun(List.of(manifest));
+        String result = DependencyExtractor.render(DependencyExtractor.read(tempDir, List.of(manifest), cache));
+
+        assertTrue(result.contains("express ^4.19.2"), result);
+    }
+
+    @Test
+    void shouldForgetManifestsMissingFromTheLatestWalk() throws IOException {
+        Path web = Files.createDirectories(tempDir.resolve("web")).resolve("package.json");
+        Path api = Files.createDirectories(tempDir.resolve("api")).resolve("package.json");
+        Files.writeString(web, "{\"dependencies\": {\"react\": \"^18.2.0\"}}");
+        Files.writeString(api, "{\"dependencies\": {\"express\": \"^4.18.2\"}}");
+        ManifestCache cache = new ManifestCache();
+        DependencyExtractor.read(tempDir, List.of(web, api), cache);
+        assertEquals(2, cache.size());
+
+        cache.retainAll(List.of(api));
+
+        assertEquals(1, cache.size());
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.readmegenerator.domain.service;
+
+import com.example.readmegenerator.domain.model.PomModel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MavenPomReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldReadOnlyTopLevelCoordinatesAndDirectDependencies() throws IOException {
+        Path pom = Files.writeString(tempDir.resolve("pom.xml"), """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                    <parent>
+                        <groupId>com.example</groupId>
+                        <artifactId>parent</artifactId>
+                        <version>2.0.0</version>
+                    </parent>
+                    <artifactId>child</artifactId>
+                    <name>Child</name>
+                    <properties>
+                        <java.version>21</java.version>
+                    </properties>
+                    <dependencyManagement>
+                        <dependencies>
+                            <dependency>
+                                <groupId>managed</groupId>
+                                <artifactId>bom</artifactId>
+                            </dependency>
+                        </dependencies>
+                    </dependencyManagement>
+                    <dependencies>
+                        <dependency>
+                            <groupId>org.slf4j</groupId>
+                            <artifactId>slf4j-api</artifactId>
+                            <version>2.0.9</version>
+                            <exclusions>
+                                <exclusion>
+                                    <groupId>ignored</groupId>
+                                    <artifactId>ignored</artifactId>
+                                </exclusion>
+                            </exclusions>
+                        </dependency>
+                        <dependency>
+                            <groupId>org.junit.jupiter</groupId>
+                            <artifactId>junit-jupiter</artifactId>
+                            <scope>test</scope>
+                        </dependency>
+                    </dependencies>
+                    <build>
+                        <plugins>
+                            <plugin>
+                                <artifactId>maven-compiler-plugin</artifactId>
+                                <version>3.11.0</version>
+                                <dependencies>
+                                    <dependency>
+                                        <groupId>plugin</groupId>
+                                        <artifactId>dependency</artifactId>
+                                    </dependency>
+                                </dependencies>
+                            </plugin>
+                        </plugins>
+                    </build>
+                    <profiles>
+                        <profile>
+                            <properties>
+                                <java.version>8</java.version>
+                            </properties>
+                        </profile>
+                    </profiles>
+                </project>
+                """);
+
+        PomModel model = MavenPomReader.read(pom);
+
+        assertNull(model.getGroupId());
+        assertEquals("child", model.getArtifactId());
+        assertNull(model.getVersion());
+        assertEquals("Child", model.getName());
+        assertEquals("com.example", model.getParent().getGroupId());
+        assertEquals("2.0.0", model.getParent().getVersion());
+        assertNull(model.getParent().getRelativePath());
+        assertEquals("21", model.getProperties().get("java.version"));
+
+        List<PomModel.Dependency> dependencies = model.getDependencies();
+        assertEquals(2, dependencies.size());
+        assertEquals("slf4j-api", dependencies.get(0).getArtifactId());
+        assertEquals("2.0.9", dependencies.get(0).getVersion());
+        assertEquals("test", dependencies.get(1).getScope());
+    }
+
+    @Test
+    void shouldRejectDoctypeDeclarations() throws IOException {
+        Path pom = Files.writeString(tempDir.resolve("pom.xml"), """
+                <?xml version="1.0"?>
+                <!DOCTYPE project [<!ENTITY xxe SYSTEM "file:///etc/passwd">]>
+                <project><artifactId>&xxe;</artifactId></project>
+                """);
+
+        assertThrows(IOException.class, () -> MavenPomReader.read(pom));
+    }
+
+    @Test
+    void shouldRejectNonPomDocuments() throws IOException {
+        Path pom = Files.writeString(tempDir.resolve("pom.xml"), "<settings><localRepository/></settings>");
+
+        assertThrows(IOException.class, () -> MavenPomReader.read(pom));
+    }
+}
@@ -0,0 +1,222 @@
+package com.example.readmegenerator.domain.service;
+
+import com.example.readmegenerator.domain.model.FileWalkResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.NotDirectoryException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectFileWalkerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldPruneDefaultExcludedDirectories() throws IOException {
+        Path source = createFile("src/main/java/App.java");
+        createFile("node_modules/lodash/index.js");
+        createFile("target/classes/App.class");
+        createFile(".git/HEAD");
+
+        FileWalkResult result = new ProjectFileWalker().walk(tempDir);
+
+        assertEquals(List.of(source), result.getFiles());
+        assertEquals(3, result.getPrunedDirectories());
+    }
+
+    @Test
+    void shouldMatchExcludedDirectoriesCaseInsensitively() throws IOException {
+        createFile("Node_Modules/pkg/index.js");
+
+        FileWalkResult result = new ProjectFileWalker().walk(tempDir);
+
+        assertTrue(result.getFiles().isEmpty());
+        assertEquals(1, result.getPrunedDirectories());
+    }
+
+    @Test
+    void shouldUseConfiguredExclusionSet() throws IOException {
+        Path nodeModulesFile = createFile("node_modules/pkg/index.js");
+        createFile("generated/Api.java");
+
+        FileWalkResult result = new ProjectFileWalker(Set.of("generated")).walk(tempDir);
+
+        assertEquals(List.of(nodeModulesFile), result.getFiles());
+        assertEquals(1, result.getPrunedDirectories());
+    }
+
+    @Test
+    void shouldNotPruneRootEvenIfItsNameIsExcluded() throws IOException {
+        Path root = Files.createDirectories(tempDir.resolve("build"));
+        Path file = Files.writeString(root.resolve("Main.java"), "class Main {}");
+
+        FileWalkResult result = new ProjectFileWalker().walk(root);
+
+        assertEquals(List.of(file), result.getFiles());
+        assertEquals(0, result.getPrunedDirectories());
+    }
+
+    @Test
+    void shouldPruneDirectoriesAndFilesListedInGitignore() throws IOException {
+        Path gitignore = Files.writeString(tempDir.resolve(".gitignore"), "coverage/\n*.min.js\n");
+        Path source = createFile("web/app.js");
+        createFile("web/app.min.js");
+        createFile("coverage/lcov.info");
+
+        FileWalkResult result = new ProjectFileWalker().walk(tempDir);
+
+        assertEquals(Set.of(gitignore, source), Set.copyOf(result.getFiles()));
+        assertEquals(2, result.getIgnoredEntries());
+    }
+
+    @Test
+    void shouldApplyNestedIgnoreFilesRelativeToTheirDirectory() throws IOException {
+        Files.writeString(tempDir.resolve(".gitignore"), "*.log\n");
+        Path nestedIgnore = createFile("service/.ignore");
+        Files.writeString(nestedIgnore, "/generated\n!keep.log\n");
+        Path kept = createFile("service/keep.log");
+        Path nestedGenerated = createFile("service/src/generated/Api.java");
+        createFile("service/generated/Client.java");
+        createFile("debug.log");
+
+        FileWalkResult result = new ProjectFileWalker().walk(tempDir);
+
+        assertTrue(result.getFiles().contains(kept));
+        assertTrue(result.getFiles().contains(nestedGenerated));
+        assertFalse(result.getFiles().contains(tempDir.resolve("debug.log")));
+        assertFalse(result.getFiles().contains(tempDir.resolve("service/generated/Client.java")));
+    }
+
+    @Test
+    void shouldIgnoreGitignoreWhenDisabled() throws IOException {
+        Files.writeString(tempDir.resolve(".gitignore"), "*.log\n");
+        Path log = createFile("debug.log");
+
+        FileWalkResult result = new ProjectFileWalker(ProjectFileWalker.DEFAULT_EXCLUDED_DIRECTORIES, false)
+                .walk(tempDir);
+
+        assertTrue(result.getFiles().contains(log));
+        assertEquals(0, result.getIgnoredEntries());
+    }
+
+    @Test
+    void parallelWalkShouldProduceSameOrderedListAsSequentialWalk() throws IOException {
+        Files.writeString(tempDir.resolve(".gitignore"), "*.log\n");
+        for (int module = 0; module < 5; module++) {
+            for (int pkg = 0; pkg < 4; pkg++) {
+                createFile("module" + module + "/src/pkg" + pkg + "/Service" + pkg + ".java");
+                createFile("module" + module + "/src/pkg" + pkg + "/debug.log");
+            }
+            createFile("module" + module + "/pom.xml");
+            createFile("module" + module + "/target/classes/App.class");
+        }
+
+        FileWalkResult sequential = new ProjectFileWalker().walk(tempDir);
+        FileWalkResult parallel = new ProjectFileWalker(ProjectFileWalker.DEFAULT_EXCLUDED_DIRECTORIES, true, 4)
+                .walk(tempDir);
+
+        assertEquals(sequential.getFiles(), parallel.getFiles());
+        assertEquals(sequential.getPrunedDirectories(), parallel.getPrunedDirectories());
+        assertEquals(sequential.getIgnoredEntries(), parallel.getIgnoredEntries());
+        assertEquals(5, parallel.getPrunedDirectories());
+    }
+
+    @Test
+    void shouldHandOutTheAttributesItReadInBothModes() throws IOException {
+        Path source = createFile("src/App.java");
+        Files.writeString(source, "class App { void run() {} }");
+        createFile("docs/guide.md");
+
+        for (int parallelism : new int[]{1, 4}) {
+            Map<Path, Long> sizes = new ConcurrentHashMap<>();
+            new ProjectFileWalker(ProjectFileWalker.DEFAULT_EXCLUDED_DIRECTORIES, true, parallelism)
+                    .walk(tempDir, (file, attrs) -> sizes.put(file, attrs.size()));
+
+            assertEquals(Files.size(source), sizes.get(source));
+            assertEquals(2, sizes.size());
+        }
+    }
+
+    @Test
+    void shouldApplyIgnoreRulesToSinglePathsAndDirectoryListings() throws IOException {
+        Files.writeString(tempDir.resolve(".gitignore"), "out/\n");
+        createFile("module/.gitignore");
+        Files.writeString(tempDir.resolve("module/.gitignore"), "*.log\n");
+        createFile("module/src/App.java");
+        createFile("out/classes/App.class");
+        createFile("target/App.class");
+        ProjectFileWalker walker = new ProjectFileWalker();
+
+        assertTrue(walker.isSkipped(tempDir, tempDir.resolve("out/classes"), true));
+        assertTrue(walker.isSkipped(tempDir, tempDir.resolve("module/src/debug.log"), false));
+        assertFalse(walker.isSkipped(tempDir, tempDir.resolve("module/src/App.java"), false));
+        List<Path> directories = new ArrayList<>();
+        walker.visitDirectories(tempDir, tempDir, directories::add);
+        assertEquals(List.of(tempDir, tempDir.resolve("module"), tempDir.resolve("module/src")),
+                directories.stream().sorted().toList());
+    }
+
+    @Test
+    void shouldReportEachAcceptedFileWhileWalking() throws IOException {
+        for (int module = 0; module < 4; module++) {
+            createFile("module" + module + "/src/App" + module + ".java");
+            createFile("module" + module + "/target/App" + module + ".class");
+        }
+        List<Path> sequentialSeen = new ArrayList<>();
+        List<Path> parallelSeen = Collections.synchronizedList(new ArrayList<>());
+
+        FileWalkResult sequential = new ProjectFileWalker().walk(tempDir, (file, attrs) -> sequentialSeen.add(file));
+        FileWalkResult parallel = new ProjectFileWalker(ProjectFileWalker.DEFAULT_EXCLUDED_DIRECTORIES, true, 4)
+                .walk(tempDir, (file, attrs) -> parallelSeen.add(file));
+
+        assertEquals(sequential.getFiles(), sequentialSeen);
+        assertEquals(Set.copyOf(parallel.getFiles()), Set.copyOf(parallelSeen));
+        assertEquals(4, parallelSeen.size());
+    }
+
+    @Test
+    void shouldFailOnMissingRootInBothModes() {
+        Path missing = tempDir.resolve("missing");
+
+        for (int parallelism : new int[]{1, 4}) {
+            ProjectFileWalker walker = new ProjectFileWalker(ProjectFileWalker.DEFAULT_EXCLUDED_DIRECTORIES, true,
+                    parallelism);
+            assertThrows(NoSuchFileException.class, () -> walker.walk(missing), "parallelism " + parallelism);
+        }
+    }
+
+    @Test
+    void shouldFailOnRootThatIsNotADirectoryInBothModes() throws IOException {
+        Path file = createFile("App.java");
+
+        for (int parallelism : new int[]{1, 4}) {
+            ProjectFileWalker walker = new ProjectFileWalker(ProjectFileWalker.DEFAULT_EXCLUDED_DIRECTORIES, true,
+                    parallelism);
+            assertThrows(NotDirectoryException.class, () -> walker.walk(file), "parallelism " + parallelism);
+        }
+    }
+
+    @Test
+    void shouldRejectNonPositiveParallelism() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ProjectFileWalker(ProjectFileWalker.DEFAULT_EXCLUDED_DIRECTORIES, true, 0));
+    }
+
+    private Path createFile(String relativePath) throws IOException {
+        Path file = tempDir.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        return Files.writeString(file, "content");
+    }
+}
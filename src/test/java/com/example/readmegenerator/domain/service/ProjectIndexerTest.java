@@ -0,0 +1,120 @@
+package com.example.readmegenerator.domain.service;
+
+import com.example.readmegenerator.domain.model.ProjectIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectIndexerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldProduceSameRootHashForUnchangedProject() throws IOException {
+        List<Path> files = List.of(createFile("src/App.java", "class App {}"), createFile("pom.xml", "<project/>"));
+
+        ProjectIndex first = ProjectIndexer.build(tempDir, files, null, "LEFT/BULLET");
+        ProjectIndex second = ProjectIndexer.build(tempDir, files, first, "LEFT/BULLET");
+
+        assertTrue(second.isUnchangedSince(first));
+        assertTrue(second.changedSince(first).isEmpty());
+    }
+
+    @Test
+    void shouldReportOnlyChangedAddedAndRemovedFiles() throws IOException {
+        Path app = createFile("api/src/App.java", "class App {}");
+        Path util = createFile("api/src/Util.java", "class Util {}");
+        Path web = createFile("web/index.js", "console.log(1)");
+        ProjectIndex first = ProjectIndexer.build(tempDir, List.of(app, util, web), null, "cfg");
+
+        Files.writeString(app, "class App { void run() {} }");
+        Path added = createFile("web/main.js", "export {}");
+        ProjectIndex second = ProjectIndexer.build(tempDir, List.of(app, web, added), first, "cfg");
+
+        assertFalse(second.isUnchangedSince(first));
+        assertEquals(List.of("api/src/App.java", "api/src/Util.java", "web/main.js"), second.changedSince(first));
+    }
+
+    @Test
+    void shouldUpdateOnlyTheReportedFiles() throws IOException {
+        Path app = createFile("api/src/App.java", "class App {}");
+        Path util = createFile("api/src/Util.java", "class Util {}");
+        Path web = createFile("web/index.js", "console.log(1)");
+        ProjectIndex first = ProjectIndexer.build(tempDir, List.of(app, util, web), null, "cfg");
+
+        Files.writeString(app, "class App { void run() {} }");
+        Files.delete(util);
+        Path added = createFile("web/main.js", "export {}");
+        ProjectIndex updated = ProjectIndexer.update(tempDir, first, List.of(app, util, added));
+
+        assertEquals(List.of("api/src/App.java", "api/src/Util.java", "web/main.js"), updated.changedSince(first));
+        assertEquals(ProjectIndexer.build(tempDir, List.of(app, web, added), null, "cfg").getRootHash(),
+                updated.getRootHash());
+        assertEquals(first.getIndexedAt(), updated.getIndexedAt());
+    }
+
+    @Test
+    void shouldKeepUnchangedSubtreeHashesStable() throws IOException {
+        Path api = createFile("api/App.java", "class App {}");
+        Path web = createFile("web/index.js", "console.log(1)");
+        ProjectIndex first = ProjectIndexer.build(tempDir, List.of(api, web), null, "cfg");
+
+        Files.writeString(web, "console.log(2)");
+        ProjectIndex second = ProjectIndexer.build(tempDir, List.of(api, web), first, "cfg");
+
+        assertEquals(first.getDirectoryHash("api"), second.getDirectoryHash("api"));
+        assertNotEquals(first.getDirectoryHash("web"), second.getDirectoryHash("web"));
+    }
+
+    @Test
+    void shouldReuseHashWhenSizeAndModificationTimeMatch() throws IOException {
+        Path app = createFile("App.java", "class A {}");
+        FileTime modified = FileTime.fromMillis(System.currentTimeMillis() - 60_000);
+        Files.setLastModifiedTime(app, modified);
+        ProjectIndex first = ProjectIndexer.build(tempDir, List.of(app), null, "cfg");
+
+        Files.writeString(app, "class B {}");
+        Files.setLastModifiedTime(app, modified);
+        ProjectIndex second = ProjectIndexer.build(tempDir, List.of(app), first, "cfg");
+
+        assertEquals(first.getRootHash(), second.getRootHash());
+    }
+
+    @Test
+    void shouldRehashRacilyCleanFileWhoseSizeAndModificationTimeMatch() throws IOException {
+        Path app = createFile("App.java", "class A {}");
+        FileTime modified = Files.getLastModifiedTime(app);
+        ProjectIndex first = ProjectIndexer.build(tempDir, List.of(app), null, "cfg");
+
+        // Same size, same modification time: an edit landing in the clock tick the index was built in.
+        Files.writeString(app, "class B {}");
+        Files.setLastModifiedTime(app, modified);
+        ProjectIndex second = ProjectIndexer.build(tempDir, List.of(app), first, "cfg");
+
+        assertEquals(List.of("App.java"), second.changedSince(first));
+    }
+
+    @Test
+    void shouldTreatConfigurationChangeAsModification() throws IOException {
+        List<Path> files = List.of(createFile("App.java", "class App {}"));
+
+        ProjectIndex first = ProjectIndexer.build(tempDir, files, null, "LEFT/BULLET");
+        ProjectIndex second = ProjectIndexer.build(tempDir, files, first, "CENTER/BULLET");
+
+        assertFalse(second.isUnchangedSince(first));
+    }
+
+    private Path createFile(String relativePath, String content) throws IOException {
+        Path file = tempDir.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        return Files.writeString(file, content);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.readmegenerator.domain.service;
+
+import com.example.readmegenerator.domain.model.SummarySection;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SummaryAssemblerTest {
+
+    @Test
+    void shouldKeepDeclaredOrderWhenEverythingFits() throws IOException {
+        List<SummarySection> sections = List.of(
+                new SummarySection("code", SummarySection.PRIORITY_CODE, 0.5, limit -> "code"),
+                new SummarySection("tests", SummarySection.PRIORITY_TESTS, 0.2, limit -> "tests"),
+                new SummarySection("empty", SummarySection.PRIORITY_BUILD, 0.2, limit -> null));
+
+        assertEquals("code\n\ntests", SummaryAssembler.assemble(sections, 1000));
+    }
+
+    @Test
+    void shouldReserveSharesForLowerPrioritySections() throws IOException {
+        String hugeCode = "class A {}\n".repeat(1000);
+        List<SummarySection> sections = List.of(
+                new SummarySection("code", SummarySection.PRIORITY_BUILD, 0.5, limit -> hugeCode),
+                new SummarySection("dependencies", SummarySection.PRIORITY_DEPENDENCIES, 0.2, limit -> "- express"));
+
+        String summary = SummaryAssembler.assemble(sections, 1000);
+
+        assertTrue(summary.length() <= 1000);
+        assertTrue(summary.endsWith("- express"), "Lower priority section should keep its reserved share");
+        assertTrue(summary.contains(SummaryAssembler.TRIM_MARKER));
+        assertTrue(summary.indexOf(SummaryAssembler.TRIM_MARKER) > 500, "Unused reservations should be given away");
+    }
+
+    @Test
+    void shouldNotRenderSectionsThatDoNotFit() throws IOException {
+        AtomicBoolean rendered = new AtomicBoolean();
+        List<SummarySection> sections = List.of(
+                new SummarySection("build", SummarySection.PRIORITY_BUILD, 1.0, limit -> "x".repeat(5000)),
+                new SummarySection("code", SummarySection.PRIORITY_CODE, 0.0, limit -> {
+                    rendered.set(true);
+                    return "code";
+                }));
+
+        String summary = SummaryAssembler.assemble(sections, 1000);
+
+        assertFalse(rendered.get());
+        assertTrue(summary.length() <= 1000);
+    }
+
+    @Test
+    void shouldTellEachSectionItsLimit() throws IOException {
+        List<Integer> limits = new ArrayList<>();
+        List<SummarySection> sections = List.of(
+                new SummarySection("build", SummarySection.PRIORITY_BUILD, 0.6, limit -> {
+                    limits.add(limit);
+                    return "x".repeat(limit);
+                }),
+                new SummarySection("code", SummarySection.PRIORITY_CODE, 0.4, limit -> {
+                    limits.add(limit);
+                    return "code";
+                }));
+
+        String summary = SummaryAssembler.assemble(sections, 1000);
+
+        assertEquals(List.of(600 - SummaryAssembler.SEPARATOR.length(), 400 - SummaryAssembler.SEPARATOR.length()),
+                limits);
+        assertFalse(summary.contains(SummaryAssembler.TRIM_MARKER), "Output within the limit should not be trimmed");
+    }
+
+    @Test
+    void shouldCutTrimmedSectionsAtLineBoundaries() throws IOException {
+        List<SummarySection> sections = List.of(new SummarySection("code", SummarySection.PRIORITY_CODE, 1.0,
+                limit -> "line one\nline two\nline three\n".repeat(20)));
+
+        String summary = SummaryAssembler.assemble(sections, 200);
+
+        String kept = summary.substring(0, summary.indexOf(SummaryAssembler.TRIM_MARKER));
+        assertTrue(kept.endsWith("line one") || kept.endsWith("line two") || kept.endsWith("line three"));
+    }
+
+    @Test
+    void shouldCloseCodeFenceLeftOpenByTrimming() throws IOException {
+        String snippet = "### OrderService.java\n```java\n" + "void place() {}\n".repeat(40) + "```\n";
+        List<SummarySection> sections = List.of(
+                new SummarySection("code", SummarySection.PRIORITY_CODE, 0.7, limit -> snippet),
+                new SummarySection("tests", SummarySection.PRIORITY_TESTS, 0.3, limit -> "- JUnit tests"));
+
+        String summary = SummaryAssembler.assemble(sections, 300);
+
+        assertTrue(summary.length() <= 300, summary);
+        String code = summary.substring(0, summary.indexOf(SummaryAssembler.TRIM_MARKER));
+        assertTrue(code.endsWith("void place() {}\n```"), code);
+        assertEquals(0, (code.split("```", -1).length - 1) % 2, "fences must be balanced");
+        assertTrue(summary.endsWith("- JUnit tests"));
+    }
+}
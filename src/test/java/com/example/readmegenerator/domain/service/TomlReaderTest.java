@@ -0,0 +1,86 @@
+package com.example.readmegenerator.domain.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TomlReaderTest {
+
+    private static Map<String, Object> readAll(String toml) throws IOException {
+        return TomlReader.read(new StringReader(toml), key -> true);
+    }
+
+    @Test
+    void shouldReadTablesArraysAndInlineTables() throws IOException {
+        Map<String, Object> toml = readAll("""
+                # leading comment
+                title = "demo" # trailing comment
+                [tool.poetry.dependencies]
+                python = "^3.11"
+                requests = { version = "^2.31", extras = ["socks", "security"] }
+                "quoted.key" = 'C:\\raw'
+
+                [project]
+                dependencies = [
+                  "a>=1",   # first
+                  # between items
+                  "b",
+                ]
+                nested = [[1, 2], ["x"]]
+                enabled = true
+                """);
+
+        assertEquals("demo", toml.get("title"));
+        Map<?, ?> poetry = (Map<?, ?>) ((Map<?, ?>) toml.get("tool")).get("poetry");
+        assertEquals(Map.of("python", "^3.11",
+                        "requests", Map.of("version", "^2.31", "extras", List.of("socks", "security")),
+                        "quoted.key", "C:\\raw"),
+                poetry.get("dependencies"));
+        Map<?, ?> project = (Map<?, ?>) toml.get("project");
+        assertEquals(List.of("a>=1", "b"), project.get("dependencies"));
+        assertEquals(List.of(List.of("1", "2"), List.of("x")), project.get("nested"));
+        assertEquals("true", project.get("enabled"));
+    }
+
+    @Test
+    void shouldReadMultilineAndEscapedStrings() throws IOException {
+        Map<String, Object> toml = readAll("basic = \"tab\\there \\u00e9\"\n"
+                + "multi = \"\"\"\nline one\nsays \"hi\"\"\"\"\n"
+                + "folded = \"\"\"one \\\n    two\"\"\"\n"
+                + "literal = '''\nkeep \\n as is'''\n");
+
+        assertEquals("tab\there \u00e9", toml.get("basic"));
+        assertEquals("line one\nsays \"hi\"", toml.get("multi"));
+        assertEquals("one two", toml.get("folded"));
+        assertEquals("keep \\n as is", toml.get("literal"));
+    }
+
+    @Test
+    void shouldOnlyMaterializeKeptKeys() throws IOException {
+        Map<String, Object> toml = TomlReader.read(new StringReader("""
+                [project]
+                name = "demo"
+                readme = { file = "README.md", content-type = "text/markdown" }
+                dependencies = ["flask"]
+
+                [tool.black]
+                line-length = 100
+                """), key -> key.equals(List.of("project", "dependencies")));
+
+        assertEquals(Map.of("project", Map.of("dependencies", List.of("flask"))), toml);
+    }
+
+    @Test
+    void shouldReportLineOfMalformedInput() {
+        IOException error = assertThrows(IOException.class, () -> readAll("a = 1\nb = \"unterminated\n"));
+        assertTrue(error.getMessage().contains("line 2"), error.getMessage());
+
+        assertThrows(IOException.class, () -> readAll("a = 1 2\n"));
+        assertThrows(IOException.class, () -> readAll("list = [1 2]\n"));
+    }
+}